@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import javax.xml.registry.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures saveOrganizations for batches of new Organizations. The saved
+ * Organizations are deleted after each iteration, outside the measurement.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class BulkSaveBenchmark {
+
+    @Param({"1", "100", "1000"})
+    public int batchSize;
+
+    private final List saved = new ArrayList();
+    private int next = 1000000;
+
+    @Benchmark
+    public Collection saveOrganizations(RegistryFixture fixture) throws JAXRException {
+        BusinessLifeCycleManager lifeCycleManager = fixture.lifeCycleManager;
+        List batch = new ArrayList(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            batch.add(RegistryFixture.createOrganization(lifeCycleManager, next++));
+        }
+        Collection keys = RegistryFixture.check(lifeCycleManager.saveOrganizations(batch));
+        saved.addAll(keys);
+        return keys;
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteSaved(RegistryFixture fixture) throws JAXRException {
+        if (!saved.isEmpty()) {
+            fixture.lifeCycleManager.deleteOrganizations(saved);
+            saved.clear();
+        }
+    }
+}
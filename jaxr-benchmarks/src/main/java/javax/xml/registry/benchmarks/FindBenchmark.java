@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures findOrganizations with each FindQualifier, and findConceptByPath.
+ * <p>
+ * With EXACT_NAME_MATCH the name pattern is the full name of one
+ * Organization; otherwise it is a prefix pattern matching ten of them.
+ * The <code>none</code> parameter runs the query without qualifiers.
+ * The qualifiers that combine keys query by Classifications of the
+ * fixture's scheme instead, so that each takes its own path:
+ * <ul>
+ * <li>AND_ALL_KEYS - the two Concepts of one Organization
+ * <li>OR_ALL_KEYS - three Concepts, matching their union
+ * <li>OR_LIKE_KEYS - three Concepts of the same scheme as alternatives,
+ * and three name patterns
+ * <li>COMBINE_CLASSIFICATIONS - one Concept, matched on Organizations and their Services
+ * <li>SERVICE_SUBSET - one Concept, matched on Services only
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class FindBenchmark {
+
+    @Param({
+        "none",
+        FindQualifier.EXACT_NAME_MATCH,
+        FindQualifier.CASE_SENSITIVE_MATCH,
+        FindQualifier.SORT_BY_NAME_ASC,
+        FindQualifier.SORT_BY_NAME_DESC,
+        FindQualifier.SORT_BY_DATE_ASC,
+        FindQualifier.SORT_BY_DATE_DESC,
+        FindQualifier.OR_LIKE_KEYS,
+        FindQualifier.OR_ALL_KEYS,
+        FindQualifier.COMBINE_CLASSIFICATIONS,
+        FindQualifier.SERVICE_SUBSET,
+        FindQualifier.AND_ALL_KEYS,
+        FindQualifier.SOUNDEX
+    })
+    public String qualifier;
+
+    private Collection findQualifiers;
+    private Collection namePatterns;
+    private Collection classifications;
+    private String conceptPath;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp(RegistryFixture fixture) throws JAXRException {
+        findQualifiers = "none".equals(qualifier) ? null : Collections.singleton(qualifier);
+        int target = fixture.organizations / 2;
+        namePatterns = null;
+        classifications = null;
+        if (FindQualifier.AND_ALL_KEYS.equals(qualifier)) {
+            classifications = classifications(fixture, new Concept[] {
+                fixture.primaryConcept(target), fixture.secondaryConcept(target)});
+        } else if (FindQualifier.OR_ALL_KEYS.equals(qualifier)) {
+            classifications = classifications(fixture, new Concept[] {
+                fixture.primaryConcept(target), fixture.primaryConcept(target + 1),
+                fixture.secondaryConcept(target)});
+        } else if (FindQualifier.OR_LIKE_KEYS.equals(qualifier)) {
+            classifications = classifications(fixture, new Concept[] {
+                fixture.primaryConcept(target), fixture.primaryConcept(target + 1),
+                fixture.primaryConcept(target + 2)});
+            namePatterns = new ArrayList();
+            for (int i = 0; i < 3; i++) {
+                namePatterns.add(prefixPattern(target + 10 * i));
+            }
+        } else if (FindQualifier.COMBINE_CLASSIFICATIONS.equals(qualifier)
+        || FindQualifier.SERVICE_SUBSET.equals(qualifier)) {
+            classifications = classifications(fixture, new Concept[] {fixture.primaryConcept(target)});
+        } else if (FindQualifier.EXACT_NAME_MATCH.equals(qualifier)) {
+            namePatterns = Collections.singleton(RegistryFixture.organizationName(target));
+        } else {
+            namePatterns = Collections.singleton(prefixPattern(target));
+        }
+        conceptPath = fixture.conceptPaths.isEmpty() ? null
+        : (String) fixture.conceptPaths.get(fixture.conceptPaths.size() / 2);
+    }
+
+    @Benchmark
+    public Collection findOrganizations(RegistryFixture fixture) throws JAXRException {
+        return fixture.queryManager.findOrganizations(
+        findQualifiers, namePatterns, classifications, null, null, null).getCollection();
+    }
+
+    @Benchmark
+    public Object findConceptByPath(RegistryFixture fixture) throws JAXRException {
+        return conceptPath == null ? null : fixture.queryManager.findConceptByPath(conceptPath);
+    }
+
+    /**
+     * Gets the pattern matching the names of the ten Organizations that
+     * differ from the i-th one in the last digit.
+     */
+    private static String prefixPattern(int i) {
+        String name = RegistryFixture.organizationName(i);
+        return name.substring(0, name.length() - 1) + "%";
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Collection classifications(RegistryFixture fixture, Concept[] concepts)
+    throws JAXRException {
+        Collection classifications = new ArrayList(concepts.length);
+        for (int i = 0; i < concepts.length; i++) {
+            classifications.add(fixture.lifeCycleManager.createClassification(concepts[i]));
+        }
+        return classifications;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures InternationalString.getValue(Locale) for an exact match, for a
+ * Locale that falls back to its language, and for a Locale that is not
+ * present, with a varying number of localizations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class InternationalStringBenchmark {
+
+    @Param({"1", "4", "16"})
+    public int locales;
+
+    private InternationalString value;
+    private Locale present;
+    private Locale fallback;
+    private Locale absent;
+
+    @Setup(Level.Trial)
+    public void setUp(RegistryFixture fixture) throws JAXRException {
+        Locale[] available = Locale.getAvailableLocales();
+        Arrays.sort(available, new Comparator() {
+            public int compare(Object a, Object b) {
+                return a.toString().compareTo(b.toString());
+            }
+        });
+        value = fixture.lifeCycleManager.createInternationalString();
+        int added = 0;
+        for (int i = 0; i < available.length && added < locales; i++) {
+            if (available[i].getCountry().length() > 0) {
+                value.setValue(available[i], "Value in " + available[i]);
+                present = available[i];
+                added++;
+            }
+        }
+        value.setValue(new Locale(present.getLanguage()), "Value in " + present.getLanguage());
+        fallback = new Locale(present.getLanguage(), "ZZ");
+        absent = new Locale("zz", "ZZ");
+    }
+
+    @Benchmark
+    public String getValuePresent() throws JAXRException {
+        return value.getValue(present);
+    }
+
+    @Benchmark
+    public String getValueFallback() throws JAXRException {
+        return value.getValue(fallback);
+    }
+
+    @Benchmark
+    public String getValueAbsent() throws JAXRException {
+        return value.getValue(absent);
+    }
+}
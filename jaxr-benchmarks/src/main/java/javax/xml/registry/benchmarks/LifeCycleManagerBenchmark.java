@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import javax.xml.registry.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures creation of unsaved information model objects through the
+ * LifeCycleManager factory methods.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class LifeCycleManagerBenchmark {
+
+    @Param({
+        LifeCycleManager.ORGANIZATION,
+        LifeCycleManager.SERVICE,
+        LifeCycleManager.SERVICE_BINDING,
+        LifeCycleManager.CONCEPT,
+        LifeCycleManager.CLASSIFICATION_SCHEME,
+        LifeCycleManager.USER,
+        LifeCycleManager.INTERNATIONAL_STRING
+    })
+    public String objectType;
+
+    @Benchmark
+    public Object createObject(RegistryFixture fixture) throws JAXRException {
+        return fixture.lifeCycleManager.createObject(objectType);
+    }
+
+    @Benchmark
+    public Object createOrganization(RegistryFixture fixture) throws JAXRException {
+        return RegistryFixture.createOrganization(fixture.lifeCycleManager, 42);
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.benchmarks;
+
+import java.util.*;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * A Connection to the provider under test, seeded with a fixed data set.
+ * <p>
+ * The provider is selected by the <code>javax.xml.registry.ConnectionFactoryClass</code>
+ * system property, as described in ConnectionFactory.newInstance, and
+ * defaults to the in-memory reference provider MemoryConnectionFactory,
+ * which this module registers as a service provider. All other
+ * system properties starting with <code>javax.xml.registry.</code> are passed
+ * to the ConnectionFactory as connection properties, so that the same
+ * benchmarks can be run against any provider and provider version.
+ * <p>
+ * The data set consists of <code>organizations</code> Organizations named
+ * <code>Org-000000</code>, <code>Org-000001</code> and so on, each with one
+ * Service, and a ClassificationScheme <code>Benchmark</code> with
+ * <code>concepts</code> Concepts in a two level hierarchy. Organization
+ * <code>i</code> is classified by the Concepts returned by
+ * primaryConcept(i) and secondaryConcept(i), and its Service by
+ * serviceConcept(i).
+ */
+@State(Scope.Benchmark)
+public class RegistryFixture {
+
+    public static final String SCHEME_NAME = "Benchmark";
+
+    @Param("1000")
+    public int organizations;
+
+    @Param("100")
+    public int concepts;
+
+    public Connection connection;
+    public RegistryService registryService;
+    public BusinessLifeCycleManager lifeCycleManager;
+    public BusinessQueryManager queryManager;
+    public ClassificationScheme scheme;
+    public List conceptPaths = new ArrayList();
+    public List conceptList = new ArrayList();
+    public List organizationKeys = new ArrayList();
+
+    private final List savedKeys = new ArrayList();
+
+    @Setup(Level.Trial)
+    public void setUp() throws JAXRException {
+        connection = createConnection();
+        registryService = connection.getRegistryService();
+        lifeCycleManager = registryService.getBusinessLifeCycleManager();
+        queryManager = registryService.getBusinessQueryManager();
+
+        scheme = lifeCycleManager.createClassificationScheme(SCHEME_NAME, "Benchmark scheme");
+        List parents = new ArrayList();
+        int roots = Math.max(1, (int) Math.sqrt(concepts));
+        for (int i = 0; i < concepts; i++) {
+            Concept concept;
+            if (i < roots) {
+                concept = lifeCycleManager.createConcept(scheme, "Concept-" + i, String.valueOf(i));
+                scheme.addChildConcept(concept);
+                parents.add(concept);
+            } else {
+                Concept parent = (Concept) parents.get(i % roots);
+                concept = lifeCycleManager.createConcept(parent, "Concept-" + i, String.valueOf(i));
+                parent.addChildConcept(concept);
+            }
+            conceptList.add(concept);
+        }
+        savedKeys.addAll(check(lifeCycleManager.saveClassificationSchemes(Collections.singleton(scheme))));
+        Collection all = scheme.getDescendantConcepts();
+        for (Iterator i = all.iterator(); i.hasNext();) {
+            String path = ((Concept) i.next()).getPath();
+            if (path != null) {
+                conceptPaths.add(path);
+            }
+        }
+
+        List orgs = new ArrayList(organizations);
+        for (int i = 0; i < organizations; i++) {
+            Organization org = createOrganization(lifeCycleManager, i);
+            org.addClassification(lifeCycleManager.createClassification(primaryConcept(i)));
+            org.addClassification(lifeCycleManager.createClassification(secondaryConcept(i)));
+            Service service = lifeCycleManager.createService("Service-" + i);
+            service.addClassification(lifeCycleManager.createClassification(serviceConcept(i)));
+            org.addService(service);
+            orgs.add(org);
+        }
+        Collection keys = check(lifeCycleManager.saveOrganizations(orgs));
+        organizationKeys.addAll(keys);
+        savedKeys.addAll(keys);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws JAXRException {
+        try {
+            if (!savedKeys.isEmpty()) {
+                lifeCycleManager.deleteObjects(savedKeys);
+            }
+        } finally {
+            connection.close();
+        }
+    }
+
+    /**
+     * Gets the first Concept classifying the i-th Organization, which is
+     * shared by every <code>concepts</code>-th Organization.
+     */
+    public Concept primaryConcept(int i) {
+        return (Concept) conceptList.get(i % conceptList.size());
+    }
+
+    /**
+     * Gets the second Concept classifying the i-th Organization, which is
+     * shared by runs of <code>concepts</code> consecutive Organizations.
+     */
+    public Concept secondaryConcept(int i) {
+        return (Concept) conceptList.get((i / conceptList.size()) % conceptList.size());
+    }
+
+    /**
+     * Gets the Concept classifying the Service of the i-th Organization.
+     */
+    public Concept serviceConcept(int i) {
+        return (Concept) conceptList.get((i + 1) % conceptList.size());
+    }
+
+    /**
+     * Gets the name of the i-th Organization of the data set.
+     */
+    public static String organizationName(int i) {
+        String digits = String.valueOf(i);
+        return "Org-000000".substring(0, 10 - digits.length()) + digits;
+    }
+
+    static Organization createOrganization(BusinessLifeCycleManager lifeCycleManager, int i)
+    throws JAXRException {
+        Organization org = lifeCycleManager.createOrganization(organizationName(i));
+        org.setDescription(lifeCycleManager.createInternationalString(
+        Locale.ENGLISH, "Benchmark organization " + i));
+        return org;
+    }
+
+    /**
+     * Creates a Connection to the provider under test.
+     */
+    static Connection createConnection() throws JAXRException {
+        Properties properties = new Properties();
+        for (Iterator i = System.getProperties().entrySet().iterator(); i.hasNext();) {
+            Map.Entry entry = (Map.Entry) i.next();
+            String name = (String) entry.getKey();
+            if (name.startsWith("javax.xml.registry.")) {
+                properties.setProperty(name, (String) entry.getValue());
+            }
+        }
+        ConnectionFactory factory = ConnectionFactory.newInstance();
+        factory.setProperties(properties);
+        return factory.createConnection();
+    }
+
+    static Collection check(BulkResponse response) throws JAXRException {
+        Collection exceptions = response.getExceptions();
+        if (exceptions != null && !exceptions.isEmpty()) {
+            throw (JAXRException) exceptions.iterator().next();
+        }
+        return response.getCollection();
+    }
+}
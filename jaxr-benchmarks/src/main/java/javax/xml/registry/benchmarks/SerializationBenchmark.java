@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.benchmarks;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+import javax.xml.registry.xml.RegistryObjectWriter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures RegistryObject.toXML for a saved Organization and for a
+ * ClassificationScheme with its Concepts, and streaming the same objects
+ * with RegistryObjectWriter to an OutputStream that discards its output.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class SerializationBenchmark {
+
+    private RegistryObject organization;
+    private RegistryObject scheme;
+
+    @Setup(Level.Trial)
+    public void setUp(RegistryFixture fixture) throws JAXRException {
+        Key key = (Key) fixture.organizationKeys.get(0);
+        organization = fixture.queryManager.getRegistryObject(key.getId(), LifeCycleManager.ORGANIZATION);
+        scheme = fixture.scheme;
+    }
+
+    @Benchmark
+    public String organizationToXML() throws JAXRException {
+        return organization.toXML();
+    }
+
+    @Benchmark
+    public String classificationSchemeToXML() throws JAXRException {
+        return scheme.toXML();
+    }
+
+    @Benchmark
+    public void organizationToStream(Blackhole blackhole) throws JAXRException {
+        RegistryObjectWriter.write(organization, new NullOutputStream(blackhole));
+    }
+
+    @Benchmark
+    public void classificationSchemeToStream(Blackhole blackhole) throws JAXRException {
+        RegistryObjectWriter.write(scheme, new NullOutputStream(blackhole));
+    }
+
+    private static final class NullOutputStream extends OutputStream {
+
+        private final Blackhole blackhole;
+
+        NullOutputStream(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        public void write(int b) {
+            blackhole.consume(b);
+        }
+
+        public void write(byte[] b, int off, int len) {
+            blackhole.consume(b);
+        }
+    }
+}
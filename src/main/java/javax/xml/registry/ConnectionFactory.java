@@ -18,6 +18,9 @@ package javax.xml.registry;
 
 import java.util.*;
 import java.io.*;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
 
 /**
  * This is the abstract base class for factory classes for creating a JAXR connection.
@@ -104,6 +107,13 @@ public abstract class ConnectionFactory {
 
     /**
      * Creates a default <code>ConnectionFactory</code> object.
+     * <p>
+     * The provider class is resolved once per context class loader and
+     * remembered for subsequent calls, together with its constructor, so
+     * that repeated calls do not repeat the configuration file and service
+     * resource lookups or the reflective constructor lookup. The resolution is
+     * redone if the <code>javax.xml.registry.ConnectionFactoryClass</code>
+     * system property changes.
      *
      * @return a new instance of a <code>ConnectionFactory</code>
      * @throws JAXRException	If the JAXR provider encounters an internal error
@@ -120,23 +130,37 @@ public abstract class ConnectionFactory {
         }
     }
 
-    private static Object newInstance(String className,
-    ClassLoader classLoader)
+    private static Class loadClass(String className, ClassLoader classLoader)
     throws JAXRException {
         try {
-            Class spiClass;
             if (classLoader == null) {
-                spiClass = Class.forName(className);
+                return Class.forName(className);
             } else {
-                spiClass = classLoader.loadClass(className);
+                return classLoader.loadClass(className);
             }
-            return spiClass.newInstance();
         } catch (ClassNotFoundException x) {
             throw new JAXRException(
             "Provider " + className + " not found", x);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object newInstance(Class spiClass)
+    throws JAXRException {
+        try {
+            Constructor constructor = (Constructor) constructors.get(spiClass);
+            if (constructor == null) {
+                throw new NoSuchMethodException(spiClass.getName() + ".<init>()");
+            }
+            return constructor.newInstance();
+        } catch (InvocationTargetException x) {
+            Throwable cause = x.getCause() != null ? x.getCause() : x;
+            throw new JAXRException(
+            "Provider " + spiClass.getName() + " could not be instantiated: " + cause,
+            cause);
         } catch (Exception x) {
             throw new JAXRException(
-            "Provider " + className + " could not be instantiated: " + x,
+            "Provider " + spiClass.getName() + " could not be instantiated: " + x,
             x);
         }
     }
@@ -148,6 +172,10 @@ public abstract class ConnectionFactory {
      * used in order. If using the first argument is successful, the second
      * one will not be used.
      * <P>
+     * The resolved <code>Class</code> is cached per context class loader.
+     * The cache holds class loaders weakly so that it does not prevent
+     * an application class loader from being collected when it is discarded.
+     * <P>
      * This method is package private so that this code can be shared.
      *
      * @return the <code>Class</code> object of the specified message factory;
@@ -162,6 +190,7 @@ public abstract class ConnectionFactory {
      * @throws JAXRException	If the JAXR provider encounters an internal error
      *
      */
+    @SuppressWarnings("unchecked")
     static Object find(String factoryId, String fallbackClassName)
     throws JAXRException {
         ClassLoader classLoader;
@@ -171,16 +200,47 @@ public abstract class ConnectionFactory {
             throw new JAXRException(x.toString(), x);
         }
 
-        // Use the system property first
+        String systemProp = null;
         try {
-            String systemProp =
-            System.getProperty( factoryId );
-            if( systemProp!=null) {
-                return newInstance(systemProp, classLoader);
-            }
+            systemProp = System.getProperty( factoryId );
         } catch (SecurityException se) {
         }
 
+        ProviderEntry entry;
+        synchronized (providerCache) {
+            entry = (ProviderEntry) providerCache.get(classLoader);
+        }
+        if (entry != null && entry.matches(factoryId, systemProp)) {
+            Class spiClass = (Class) entry.providerClass.get();
+            if (spiClass != null) {
+                return newInstance(spiClass);
+            }
+        }
+
+        Object provider = lookup(factoryId, fallbackClassName, systemProp, classLoader);
+        synchronized (providerCache) {
+            providerCache.put(classLoader,
+            new ProviderEntry(factoryId, systemProp, provider.getClass()));
+        }
+        return provider;
+    }
+
+    /**
+     * Performs the actual provider lookup, in order: the system property,
+     * <code>$java.home/lib/jaxr.properties</code>, the
+     * <code>java.util.ServiceLoader</code> registrations for
+     * <code>javax.xml.registry.ConnectionFactory</code>, the legacy
+     * <code>META-INF/services/javax.xml.registry.ConnectionFactoryClass</code>
+     * resource and finally the fallback class name.
+     */
+    private static Object lookup(String factoryId, String fallbackClassName,
+    String systemProp, ClassLoader classLoader)
+    throws JAXRException {
+        // Use the system property first
+        if( systemProp!=null) {
+            return newInstance(loadClass(systemProp, classLoader));
+        }
+
         // try to read from $java.home/lib/jaxr.properties
         try {
             String javah=System.getProperty( "java.home" );
@@ -189,13 +249,28 @@ public abstract class ConnectionFactory {
             File f=new File( configFile );
             if( f.exists()) {
                 Properties props=new Properties();
-                props.load( new FileInputStream(f));
+                InputStream in = new FileInputStream(f);
+                try {
+                    props.load(in);
+                } finally {
+                    in.close();
+                }
                 String factoryClassName = props.getProperty(factoryId);
-                return newInstance(factoryClassName, classLoader);
+                return newInstance(loadClass(factoryClassName, classLoader));
             }
         } catch(Exception ex ) {
         }
 
+        // try the standard service provider mechanism
+        try {
+            ServiceLoader loader = ServiceLoader.load(ConnectionFactory.class, classLoader);
+            Iterator providers = loader.iterator();
+            if (providers.hasNext()) {
+                return providers.next();
+            }
+        } catch (ServiceConfigurationError err) {
+        }
+
         String serviceId = "META-INF/services/" + factoryId;
         // try to find services in CLASSPATH
         try {
@@ -215,7 +290,7 @@ public abstract class ConnectionFactory {
 
                 if (factoryClassName != null &&
                 ! "".equals(factoryClassName)) {
-                    return newInstance(factoryClassName, classLoader);
+                    return newInstance(loadClass(factoryClassName, classLoader));
                 }
             }
         } catch( Exception ex ) {
@@ -226,9 +301,49 @@ public abstract class ConnectionFactory {
             "Provider for " + factoryId + " cannot be found", null);
         }
 
-        return newInstance(fallbackClassName, classLoader);
+        return newInstance(loadClass(fallbackClassName, classLoader));
     }
 
+    /**
+     * A resolved provider. The provider class is only weakly referenced since
+     * it is usually defined by the very class loader that keys the cache.
+     */
+    private static final class ProviderEntry {
+        final String factoryId;
+        final String systemProp;
+        final WeakReference providerClass;
+
+        @SuppressWarnings("unchecked")
+        ProviderEntry(String factoryId, String systemProp, Class providerClass) {
+            this.factoryId = factoryId;
+            this.systemProp = systemProp;
+            this.providerClass = new WeakReference(providerClass);
+        }
+
+        boolean matches(String factoryId, String systemProp) {
+            return this.factoryId.equals(factoryId) &&
+            (this.systemProp == null ? systemProp == null : this.systemProp.equals(systemProp));
+        }
+    }
+
+    private static final Map providerCache = new WeakHashMap();
+
+    /**
+     * The public no-argument constructor of each provider class, or
+     * <code>null</code> if it has none. A ClassValue is kept with the class
+     * and does not prevent its class loader from being collected.
+     */
+    @SuppressWarnings("unchecked")
+    private static final ClassValue constructors = new ClassValue() {
+        protected Object computeValue(Class type) {
+            try {
+                return type.getConstructor();
+            } catch (NoSuchMethodException x) {
+                return null;
+            }
+        }
+    };
+
     static private final String CONNECTION_FACTORY_CLASS
     = "javax.xml.registry.ConnectionFactoryClass";
 
@@ -0,0 +1,414 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.async;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * Exposes the BusinessQueryManager find methods and the
+ * BusinessLifeCycleManager save methods of a Connection as
+ * <code>CompletableFuture</code>s.
+ * <p>
+ * The Connection is switched to asynchronous mode, so each call returns
+ * as soon as the provider has accepted the request. The returned future is
+ * completed when the BulkResponse becomes available, which is detected by a
+ * shared poller rather than by a thread blocked per request.
+ * A BulkResponse with STATUS_FAILURE completes the future exceptionally with
+ * its first exception; STATUS_SUCCESS and STATUS_WARNING complete it normally.
+ * <p>
+ * Cancelling a returned future stops tracking the request. The provider
+ * is not told about the cancellation since the JAXR API has no means to do so.
+ * Closing the AsyncRegistry cancels every future that is still pending in
+ * the same way.
+ * Callbacks registered with the non-async CompletableFuture methods
+ * run on the poller thread and should not block.
+ *
+ * @see Connection#setSynchronous(boolean)
+ * @see JAXRResponse#isAvailable()
+ */
+public class AsyncRegistry {
+
+    private final RegistryService registryService;
+    private final ScheduledExecutorService scheduler;
+    private final boolean ownsScheduler;
+    private final ResponsePoller poller;
+    private volatile long timeoutNanos;
+    private volatile boolean closed;
+
+    /**
+     * Creates an AsyncRegistry with its own single poller thread,
+     * polling every 10 milliseconds.
+     *
+     * @param connection the Connection to issue requests on; it is made asynchronous
+     * @throws JAXRException	If the JAXR provider encounters an internal error
+     */
+    public AsyncRegistry(Connection connection) throws JAXRException {
+        this(connection, Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "jaxr-async-poller");
+                t.setDaemon(true);
+                return t;
+            }
+        }), 10, TimeUnit.MILLISECONDS, true);
+    }
+
+    /**
+     * Creates an AsyncRegistry that polls outstanding responses on the given scheduler.
+     *
+     * @param connection the Connection to issue requests on; it is made asynchronous
+     * @param scheduler the scheduler running the poller and timeouts
+     * @param pollInterval the delay between two polls of the outstanding responses
+     * @param unit the unit of pollInterval
+     * @throws JAXRException	If the JAXR provider encounters an internal error
+     */
+    public AsyncRegistry(Connection connection, ScheduledExecutorService scheduler,
+    long pollInterval, TimeUnit unit) throws JAXRException {
+        this(connection, scheduler, pollInterval, unit, false);
+    }
+
+    private AsyncRegistry(Connection connection, ScheduledExecutorService scheduler,
+    long pollInterval, TimeUnit unit, boolean ownsScheduler) throws JAXRException {
+        connection.setSynchronous(false);
+        this.registryService = connection.getRegistryService();
+        this.scheduler = scheduler;
+        this.ownsScheduler = ownsScheduler;
+        this.poller = new ResponsePoller(scheduler, pollInterval, unit);
+    }
+
+    /**
+     * Sets a timeout applied to every future returned from now on.
+     * A future that times out is completed exceptionally with a
+     * <code>java.util.concurrent.TimeoutException</code>.
+     *
+     * @param timeout the timeout; 0 or negative for none
+     * @param unit the unit of timeout
+     */
+    public void setTimeout(long timeout, TimeUnit unit) {
+        this.timeoutNanos = timeout <= 0 ? 0 : unit.toNanos(timeout);
+    }
+
+    /**
+     * Adapts a BulkResponse obtained elsewhere, for instance from
+     * RegistryService.getBulkResponse, to a CompletableFuture.
+     *
+     * @param response the possibly unavailable response
+     * @return a future completed when the response is available
+     */
+    public CompletableFuture<BulkResponse> toCompletableFuture(BulkResponse response) {
+        return withDefaultTimeout(poller.watch(response));
+    }
+
+    /**
+     * Completes the given future exceptionally with a
+     * <code>java.util.concurrent.TimeoutException</code> unless it
+     * completes within the given time.
+     *
+     * @param future the future to guard
+     * @param timeout the timeout
+     * @param unit the unit of timeout
+     * @return the given future
+     */
+    public <T> CompletableFuture<T> withTimeout(final CompletableFuture<T> future, final long timeout, final TimeUnit unit) {
+        if (future.isDone()) {
+            return future;
+        }
+        final ScheduledFuture<?> timer = scheduler.schedule(new Runnable() {
+            public void run() {
+                future.completeExceptionally(new TimeoutException(
+                "Registry request did not complete within " + timeout + " " + unit));
+            }
+        }, timeout, unit);
+        future.whenComplete(new BiConsumer<T, Throwable>() {
+            public void accept(T result, Throwable failure) {
+                timer.cancel(false);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Gets the number of requests whose response is not yet available.
+     *
+     * @return the number of outstanding requests
+     */
+    public int getPendingCount() {
+        return poller.getPendingCount();
+    }
+
+    /**
+     * Completes every outstanding future exceptionally with a
+     * <code>java.util.concurrent.CancellationException</code> and stops the
+     * poller thread if this AsyncRegistry created it. Requests made after
+     * close fail with a JAXRException without reaching the provider.
+     */
+    public void close() {
+        closed = true;
+        poller.close();
+        if (ownsScheduler) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Asynchronous variant of BusinessQueryManager.findAssociations.
+     *
+     * @see BusinessQueryManager#findAssociations(Collection, String, String, Collection)
+     */
+    public CompletableFuture<BulkResponse> findAssociations(final Collection findQualifiers,
+    final String sourceObjectId, final String targetObjectId, final Collection associationTypes) {
+        return submit(new RegistryCall() {
+            public BulkResponse call() throws JAXRException {
+                return query().findAssociations(findQualifiers, sourceObjectId, targetObjectId, associationTypes);
+            }
+        });
+    }
+
+    /**
+     * Asynchronous variant of BusinessQueryManager.findCallerAssociations.
+     *
+     * @see BusinessQueryManager#findCallerAssociations(Collection, Boolean, Boolean, Collection)
+     */
+    public CompletableFuture<BulkResponse> findCallerAssociations(final Collection findQualifiers,
+    final Boolean confirmedByCaller, final Boolean confirmedByOtherParty, final Collection associationTypes) {
+        return submit(new RegistryCall() {
+            public BulkResponse call() throws JAXRException {
+                return query().findCallerAssociations(findQualifiers, confirmedByCaller, confirmedByOtherParty, associationTypes);
+            }
+        });
+    }
+
+    /**
+     * Asynchronous variant of BusinessQueryManager.findOrganizations.
+     *
+     * @see BusinessQueryManager#findOrganizations(Collection, Collection, Collection, Collection, Collection, Collection)
+     */
+    public CompletableFuture<BulkResponse> findOrganizations(final Collection findQualifiers,
+    final Collection namePatterns, final Collection classifications, final Collection specifications,
+    final Collection externalIdentifiers, final Collection externalLinks) {
+        return submit(new RegistryCall() {
+            public BulkResponse call() throws JAXRException {
+                return query().findOrganizations(findQualifiers, namePatterns, classifications,
+                specifications, externalIdentifiers, externalLinks);
+            }
+        });
+    }
+
+    /**
+     * Asynchronous variant of BusinessQueryManager.findServices.
+     *
+     * @see BusinessQueryManager#findServices(Key, Collection, Collection, Collection, Collection)
+     */
+    public CompletableFuture<BulkResponse> findServices(final Key orgKey, final Collection findQualifiers,
+    final Collection namePatterns, final Collection classifications, final Collection specifications) {
+        return submit(new RegistryCall() {
+            public BulkResponse call() throws JAXRException {
+                return query().findServices(orgKey, findQualifiers, namePatterns, classifications, specifications);
+            }
+        });
+    }
+
+    /**
+     * Asynchronous variant of BusinessQueryManager.findServiceBindings.
+     *
+     * @see BusinessQueryManager#findServiceBindings(Key, Collection, Collection, Collection)
+     */
+    public CompletableFuture<BulkResponse> findServiceBindings(final Key serviceKey, final Collection findQualifiers,
+    final Collection classifications, final Collection specifications) {
+        return submit(new RegistryCall() {
+            public BulkResponse call() throws JAXRException {
+                return query().findServiceBindings(serviceKey, findQualifiers, classifications, specifications);
+            }
+        });
+    }
+
+    /**
+     * Asynchronous variant of BusinessQueryManager.findClassificationSchemes.
+     *
+     * @see BusinessQueryManager#findClassificationSchemes(Collection, Collection, Collection, Collection)
+     */
+    public CompletableFuture<BulkResponse> findClassificationSchemes(final Collection findQualifiers,
+    final Collection namePatterns, final Collection classifications, final Collection externalLinks) {
+        return submit(new RegistryCall() {
+            public BulkResponse call() throws JAXRException {
+                return query().findClassificationSchemes(findQualifiers, namePatterns, classifications, externalLinks);
+            }
+        });
+    }
+
+    /**
+     * Asynchronous variant of BusinessQueryManager.findConcepts.
+     *
+     * @see BusinessQueryManager#findConcepts(Collection, Collection, Collection, Collection, Collection)
+     */
+    public CompletableFuture<BulkResponse> findConcepts(final Collection findQualifiers,
+    final Collection namePatterns, final Collection classifications,
+    final Collection externalIdentifiers, final Collection externalLinks) {
+        return submit(new RegistryCall() {
+            public BulkResponse call() throws JAXRException {
+                return query().findConcepts(findQualifiers, namePatterns, classifications,
+                externalIdentifiers, externalLinks);
+            }
+        });
+    }
+
+    /**
+     * Asynchronous variant of BusinessQueryManager.findRegistryPackages.
+     *
+     * @see BusinessQueryManager#findRegistryPackages(Collection, Collection, Collection, Collection)
+     */
+    public CompletableFuture<BulkResponse> findRegistryPackages(final Collection findQualifiers,
+    final Collection namePatterns, final Collection classifications, final Collection externalLinks) {
+        return submit(new RegistryCall() {
+            public BulkResponse call() throws JAXRException {
+                return query().findRegistryPackages(findQualifiers, namePatterns, classifications, externalLinks);
+            }
+        });
+    }
+
+    /**
+     * Asynchronous variant of LifeCycleManager.saveObjects.
+     *
+     * @see LifeCycleManager#saveObjects(Collection)
+     */
+    public CompletableFuture<BulkResponse> saveObjects(final Collection objects) {
+        return submit(new RegistryCall() {
+            public BulkResponse call() throws JAXRException {
+                return lifeCycle().saveObjects(objects);
+            }
+        });
+    }
+
+    /**
+     * Asynchronous variant of BusinessLifeCycleManager.saveOrganizations.
+     *
+     * @see BusinessLifeCycleManager#saveOrganizations(Collection)
+     */
+    public CompletableFuture<BulkResponse> saveOrganizations(final Collection organizations) {
+        return submit(new RegistryCall() {
+            public BulkResponse call() throws JAXRException {
+                return lifeCycle().saveOrganizations(organizations);
+            }
+        });
+    }
+
+    /**
+     * Asynchronous variant of BusinessLifeCycleManager.saveServices.
+     *
+     * @see BusinessLifeCycleManager#saveServices(Collection)
+     */
+    public CompletableFuture<BulkResponse> saveServices(final Collection services) {
+        return submit(new RegistryCall() {
+            public BulkResponse call() throws JAXRException {
+                return lifeCycle().saveServices(services);
+            }
+        });
+    }
+
+    /**
+     * Asynchronous variant of BusinessLifeCycleManager.saveServiceBindings.
+     *
+     * @see BusinessLifeCycleManager#saveServiceBindings(Collection)
+     */
+    public CompletableFuture<BulkResponse> saveServiceBindings(final Collection bindings) {
+        return submit(new RegistryCall() {
+            public BulkResponse call() throws JAXRException {
+                return lifeCycle().saveServiceBindings(bindings);
+            }
+        });
+    }
+
+    /**
+     * Asynchronous variant of BusinessLifeCycleManager.saveConcepts.
+     *
+     * @see BusinessLifeCycleManager#saveConcepts(Collection)
+     */
+    public CompletableFuture<BulkResponse> saveConcepts(final Collection concepts) {
+        return submit(new RegistryCall() {
+            public BulkResponse call() throws JAXRException {
+                return lifeCycle().saveConcepts(concepts);
+            }
+        });
+    }
+
+    /**
+     * Asynchronous variant of BusinessLifeCycleManager.saveClassificationSchemes.
+     *
+     * @see BusinessLifeCycleManager#saveClassificationSchemes(Collection)
+     */
+    public CompletableFuture<BulkResponse> saveClassificationSchemes(final Collection schemes) {
+        return submit(new RegistryCall() {
+            public BulkResponse call() throws JAXRException {
+                return lifeCycle().saveClassificationSchemes(schemes);
+            }
+        });
+    }
+
+    /**
+     * Asynchronous variant of BusinessLifeCycleManager.saveAssociations.
+     *
+     * @see BusinessLifeCycleManager#saveAssociations(Collection, boolean)
+     */
+    public CompletableFuture<BulkResponse> saveAssociations(final Collection associations, final boolean replace) {
+        return submit(new RegistryCall() {
+            public BulkResponse call() throws JAXRException {
+                return lifeCycle().saveAssociations(associations, replace);
+            }
+        });
+    }
+
+    private BusinessQueryManager query() throws JAXRException {
+        return registryService.getBusinessQueryManager();
+    }
+
+    private BusinessLifeCycleManager lifeCycle() throws JAXRException {
+        return registryService.getBusinessLifeCycleManager();
+    }
+
+    private CompletableFuture<BulkResponse> submit(RegistryCall call) {
+        BulkResponse response;
+        try {
+            if (closed) {
+                throw new JAXRException("AsyncRegistry is closed");
+            }
+            response = call.call();
+        } catch (JAXRException e) {
+            CompletableFuture<BulkResponse> failed = new CompletableFuture<BulkResponse>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+        return toCompletableFuture(response);
+    }
+
+    private CompletableFuture<BulkResponse> withDefaultTimeout(CompletableFuture<BulkResponse> future) {
+        long timeout = timeoutNanos;
+        return timeout > 0 ? withTimeout(future, timeout, TimeUnit.NANOSECONDS) : future;
+    }
+
+    private interface RegistryCall {
+        BulkResponse call() throws JAXRException;
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.async;
+
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.xml.registry.*;
+
+/**
+ * Completes futures for outstanding asynchronous BulkResponses.
+ * <p>
+ * All outstanding responses are checked with the non-blocking
+ * JAXRResponse.isAvailable() in a single pass that is scheduled on the
+ * given executor while there is anything to check. No thread is parked
+ * per request, so any number of requests can be outstanding at once.
+ */
+final class ResponsePoller {
+
+    private final ScheduledExecutorService scheduler;
+    private final long intervalNanos;
+    private final Queue<Pending> pending = new ConcurrentLinkedQueue<Pending>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private volatile boolean closed;
+
+    ResponsePoller(ScheduledExecutorService scheduler, long interval, TimeUnit unit) {
+        this.scheduler = scheduler;
+        this.intervalNanos = unit.toNanos(interval);
+    }
+
+    /**
+     * Returns a future that is completed when the response becomes available.
+     */
+    CompletableFuture<BulkResponse> watch(BulkResponse response) {
+        CompletableFuture<BulkResponse> future = new CompletableFuture<BulkResponse>();
+        try {
+            if (response.isAvailable()) {
+                complete(response, future);
+                return future;
+            }
+        } catch (JAXRException e) {
+            future.completeExceptionally(e);
+            return future;
+        }
+        pending.add(new Pending(response, future));
+        if (closed) {
+            // close may have drained the queue before the add
+            failAll(closedException());
+        } else {
+            schedule();
+        }
+        return future;
+    }
+
+    /**
+     * Stops polling and completes every outstanding future exceptionally
+     * with a CancellationException. Futures returned by later calls to
+     * watch for unavailable responses fail the same way.
+     */
+    void close() {
+        closed = true;
+        failAll(closedException());
+    }
+
+    int getPendingCount() {
+        return pending.size();
+    }
+
+    private void schedule() {
+        if (!closed && scheduled.compareAndSet(false, true)) {
+            try {
+                scheduler.schedule(new Runnable() {
+                    public void run() {
+                        poll();
+                    }
+                }, intervalNanos, TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                scheduled.set(false);
+                failAll(e);
+            }
+        }
+    }
+
+    private void poll() {
+        try {
+            for (Iterator<Pending> i = pending.iterator(); i.hasNext();) {
+                Pending p = i.next();
+                if (p.future.isDone()) {
+                    // cancelled or timed out by the caller
+                    i.remove();
+                    continue;
+                }
+                try {
+                    if (p.response.isAvailable()) {
+                        i.remove();
+                        complete(p.response, p.future);
+                    }
+                } catch (JAXRException e) {
+                    i.remove();
+                    p.future.completeExceptionally(e);
+                } catch (RuntimeException e) {
+                    i.remove();
+                    p.future.completeExceptionally(e);
+                }
+            }
+        } finally {
+            scheduled.set(false);
+            if (!pending.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+
+    private static CancellationException closedException() {
+        return new CancellationException("AsyncRegistry was closed before the response became available");
+    }
+
+    private void failAll(Throwable cause) {
+        Pending p;
+        while ((p = pending.poll()) != null) {
+            p.future.completeExceptionally(cause);
+        }
+    }
+
+    /**
+     * A response with STATUS_FAILURE completes the future exceptionally with
+     * its first exception; any other available response completes it normally.
+     */
+    private static void complete(BulkResponse response, CompletableFuture<BulkResponse> future) {
+        try {
+            if (response.getStatus() == JAXRResponse.STATUS_FAILURE) {
+                future.completeExceptionally(failure(response));
+            } else {
+                future.complete(response);
+            }
+        } catch (JAXRException e) {
+            future.completeExceptionally(e);
+        }
+    }
+
+    private static Throwable failure(BulkResponse response) throws JAXRException {
+        java.util.Collection exceptions = response.getExceptions();
+        if (exceptions != null && !exceptions.isEmpty()) {
+            Object first = exceptions.iterator().next();
+            if (first instanceof Throwable) {
+                return (Throwable) first;
+            }
+        }
+        return new JAXRException("Request " + response.getRequestId() + " failed");
+    }
+
+    private static final class Pending {
+        final BulkResponse response;
+        final CompletableFuture<BulkResponse> future;
+
+        Pending(BulkResponse response, CompletableFuture<BulkResponse> future) {
+            this.response = response;
+            this.future = future;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.bulk;
+
+import java.util.Collection;
+import javax.xml.registry.*;
+
+/**
+ * Receives the outcome of each batch of a BulkLoader as it completes, for
+ * instance to record the Keys of a load from an Iterator, whose
+ * BulkLoadResponse only keeps counts.
+ * <p>
+ * With an Executor, the methods are called from the threads running the
+ * batches, possibly at the same time.
+ *
+ * @see BulkLoader#setListener(BulkLoadListener)
+ */
+public interface BulkLoadListener {
+
+    /**
+     * Called with the Keys of the objects a batch saved.
+     *
+     * @param keys Collection of Key instances
+     */
+    void saved(Collection keys);
+
+    /**
+     * Called for each object that was not saved.
+     *
+     * @param object the RegistryObject
+     * @param cause the exception that explains why
+     */
+    void failed(Object object, JAXRException cause);
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.bulk;
+
+import java.util.*;
+import javax.xml.registry.*;
+
+/**
+ * The aggregated result of a BulkLoader run. It merges the BulkResponses
+ * of all batches: getCollection returns the Keys of all saved objects and
+ * getExceptions all exceptions reported by the provider, plus one
+ * SaveException for each batch that failed as a whole.
+ * <p>
+ * In addition, getFailures attributes a failure to each object that was
+ * not saved: the provider's exception for that object, or a SaveException
+ * if the object was not processed because its batch stopped or failed.
+ * <p>
+ * A load from an Iterator may be larger than memory, so its response does
+ * not keep the Keys of saved objects, and keeps only the first failures
+ * and exceptions up to a limit; the counts are always complete. A
+ * BulkLoadListener receives every outcome.
+ *
+ * @see BulkLoader
+ */
+public class BulkLoadResponse implements BulkResponse {
+
+    private final String requestId = UUID.randomUUID().toString();
+    private final List savedKeys;
+    private final int maxRetained;
+    private final List exceptions = new ArrayList();
+    private final Map failures = new LinkedHashMap();
+    private long savedCount;
+    private long exceptionCount;
+    private long failureCount;
+    private int batchCount;
+
+    /**
+     * Creates a response that keeps the Keys of saved objects and all failures.
+     */
+    BulkLoadResponse() {
+        this.savedKeys = new ArrayList();
+        this.maxRetained = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Creates a response that only counts saved objects and keeps at most
+     * maxRetained failures and exceptions.
+     */
+    BulkLoadResponse(int maxRetained) {
+        this.savedKeys = null;
+        this.maxRetained = maxRetained;
+    }
+
+    /**
+     * Gets the Keys of all objects that were saved.
+     *
+     * @return Collection of Key instances, empty for a load from an Iterator.
+     * The Collection may be empty but not null.
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized Collection getCollection() throws JAXRException {
+        return savedKeys == null ? new ArrayList() : new ArrayList(savedKeys);
+    }
+
+    /**
+     * Gets the exceptions reported for all batches.
+     *
+     * @return Collection of JAXRException instances, or <code>null</code> if there were none
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized Collection getExceptions() throws JAXRException {
+        return exceptions.isEmpty() ? null : new ArrayList(exceptions);
+    }
+
+    /**
+     * Gets the objects that were not saved, each mapped to the exception
+     * that explains why. Objects of one batch are in input order; batches are
+     * in the order they completed.
+     *
+     * @return Map from RegistryObject to JAXRException. The Map may be empty but not null.
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized Map getFailures() {
+        return new LinkedHashMap(failures);
+    }
+
+    /**
+     * Gets the number of objects that were saved.
+     *
+     * @return the saved object count
+     */
+    public synchronized long getSavedCount() {
+        return savedCount;
+    }
+
+    /**
+     * Gets the number of objects that were not saved, including those
+     * getFailures no longer holds.
+     *
+     * @return the failure count
+     */
+    public synchronized long getFailureCount() {
+        return failureCount;
+    }
+
+    /**
+     * Gets the number of exceptions reported, including those
+     * getExceptions no longer holds.
+     *
+     * @return the exception count
+     */
+    public synchronized long getExceptionCount() {
+        return exceptionCount;
+    }
+
+    /**
+     * Gets the number of batches the input was split into.
+     *
+     * @return the batch count
+     */
+    public synchronized int getBatchCount() {
+        return batchCount;
+    }
+
+    /**
+     * Determines whether any batch reported a partial response.
+     *
+     * @return <code>false</code>, a bulk load always waits for all batches
+     */
+    public boolean isPartialResponse() throws JAXRException {
+        return false;
+    }
+
+    public String getRequestId() throws JAXRException {
+        return requestId;
+    }
+
+    /**
+     * Returns STATUS_SUCCESS if every object was saved, STATUS_FAILURE if none
+     * was, and STATUS_WARNING otherwise.
+     */
+    public synchronized int getStatus() throws JAXRException {
+        if (failureCount == 0 && exceptionCount == 0) {
+            return STATUS_SUCCESS;
+        }
+        return savedCount == 0 ? STATUS_FAILURE : STATUS_WARNING;
+    }
+
+    public boolean isAvailable() throws JAXRException {
+        return true;
+    }
+
+    synchronized void batchSubmitted() {
+        batchCount++;
+    }
+
+    @SuppressWarnings("unchecked")
+    synchronized void addSaved(Collection keys) {
+        savedCount += keys.size();
+        if (savedKeys != null) {
+            savedKeys.addAll(keys);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    synchronized void addExceptions(Collection batchExceptions) {
+        exceptionCount += batchExceptions.size();
+        for (Iterator i = batchExceptions.iterator(); i.hasNext() && exceptions.size() < maxRetained;) {
+            exceptions.add(i.next());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    synchronized void addFailure(Object object, JAXRException cause) {
+        failureCount++;
+        if (failures.size() < maxRetained) {
+            failures.put(object, cause);
+        }
+    }
+}
@@ -0,0 +1,481 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.bulk;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import javax.xml.registry.*;
+import javax.xml.registry.cache.Weigher;
+import javax.xml.registry.cursor.UncheckedJAXRException;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * Saves a large, heterogeneous Collection of RegistryObjects in batches.
+ * <p>
+ * The input is first ordered so that objects are saved after the objects
+ * they refer to: ClassificationSchemes, then Concepts, Organizations,
+ * Services, ServiceBindings, all other objects, and finally Associations.
+ * Concepts and Organizations are further ordered by their depth in their
+ * hierarchy. Each of these groups is split into batches bounded both by
+ * object count and by estimated size, and the batches of a group are
+ * submitted in parallel, with at most maxInFlight batches outstanding.
+ * A group is only started once all batches of the previous group completed.
+ * <p>
+ * Each batch is saved with the typed BusinessLifeCycleManager method for
+ * its object type, or saveObjects for other types. The per-batch
+ * BulkResponses are merged into one BulkLoadResponse.
+ * <p>
+ * Input that does not fit in memory, such as the objects of a
+ * RegistryCursor or a RegistryObjectReader, is saved from an Iterator in
+ * chunks: each chunk is ordered and saved as above before the next one is
+ * read, so objects must follow the objects they refer to across chunks.
+ * The response of such a load only counts the saved objects and keeps a
+ * bounded number of failures; a BulkLoadListener receives every outcome.
+ *
+ * @see BulkLoadResponse
+ */
+public class BulkLoader {
+
+    private static final int SCHEMES = 0;
+    private static final int CONCEPTS = 1;
+    private static final int ORGANIZATIONS = 2;
+    private static final int SERVICES = 3;
+    private static final int BINDINGS = 4;
+    private static final int OTHERS = 5;
+    private static final int ASSOCIATIONS = 6;
+
+    private final BusinessLifeCycleManager lifeCycleManager;
+    private final Executor executor;
+    private int batchSize = 100;
+    private long maxBatchWeight = 4 * 1024 * 1024;
+    private int maxInFlight = 4;
+    private Weigher weigher = Weigher.ESTIMATED_SIZE;
+    private int maxRetainedFailures = 1000;
+    private volatile BulkLoadListener listener;
+
+    /**
+     * Creates a BulkLoader that saves all batches in the calling thread.
+     *
+     * @param lifeCycleManager the BusinessLifeCycleManager to save with
+     */
+    public BulkLoader(BusinessLifeCycleManager lifeCycleManager) {
+        this(lifeCycleManager, null);
+    }
+
+    /**
+     * Creates a BulkLoader that saves batches on the given Executor.
+     *
+     * @param lifeCycleManager the BusinessLifeCycleManager to save with
+     * @param executor the Executor running the batches, or <code>null</code> to use the calling thread
+     */
+    public BulkLoader(BusinessLifeCycleManager lifeCycleManager, Executor executor) {
+        if (lifeCycleManager == null) {
+            throw new IllegalArgumentException("lifeCycleManager must not be null");
+        }
+        this.lifeCycleManager = lifeCycleManager;
+        this.executor = executor;
+    }
+
+    /**
+     * Sets the maximum number of objects per batch. Default 100.
+     *
+     * @param batchSize the maximum batch size
+     */
+    public void setBatchSize(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Sets the maximum total estimated size of a batch. A single object
+     * larger than this is saved in a batch of its own. Default 4 MB.
+     *
+     * @param maxBatchWeight the maximum batch weight, as computed by the Weigher
+     */
+    public void setMaxBatchWeight(long maxBatchWeight) {
+        if (maxBatchWeight <= 0) {
+            throw new IllegalArgumentException("maxBatchWeight must be positive: " + maxBatchWeight);
+        }
+        this.maxBatchWeight = maxBatchWeight;
+    }
+
+    /**
+     * Sets the maximum number of batches submitted at the same time. Default 4.
+     *
+     * @param maxInFlight the concurrency cap
+     */
+    public void setMaxInFlight(int maxInFlight) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("maxInFlight must be positive: " + maxInFlight);
+        }
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Sets the Weigher estimating the size of each object.
+     *
+     * @param weigher the Weigher
+     */
+    public void setWeigher(Weigher weigher) {
+        if (weigher == null) {
+            throw new IllegalArgumentException("weigher must not be null");
+        }
+        this.weigher = weigher;
+    }
+
+    /**
+     * Sets the maximum number of failures, and of exceptions, kept by the
+     * response of a load from an Iterator. Default 1000.
+     *
+     * @param maxRetainedFailures the maximum number of failures kept
+     */
+    public void setMaxRetainedFailures(int maxRetainedFailures) {
+        if (maxRetainedFailures < 0) {
+            throw new IllegalArgumentException("maxRetainedFailures must not be negative: " + maxRetainedFailures);
+        }
+        this.maxRetainedFailures = maxRetainedFailures;
+    }
+
+    /**
+     * Sets the BulkLoadListener that receives the outcome of each batch.
+     *
+     * @param listener the listener, or <code>null</code> for none
+     */
+    public void setListener(BulkLoadListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Saves the given objects and waits for all batches to complete.
+     *
+     * @param objects a potentially heterogeneous Collection of RegistryObject instances
+     * @return the aggregated response
+     * @throws JAXRException	If an object cannot be classified or the loader is interrupted
+     *
+     */
+    public BulkLoadResponse save(Collection objects) throws JAXRException {
+        BulkLoadResponse response = new BulkLoadResponse();
+        save(objects, response, new Semaphore(maxInFlight));
+        return response;
+    }
+
+    /**
+     * Saves the objects of an Iterator in chunks, holding only one chunk in
+     * memory, and waits for all batches to complete. The response does not
+     * keep the Keys of saved objects and keeps at most maxRetainedFailures
+     * failures.
+     *
+     * @param objects an Iterator over RegistryObject instances. An UncheckedJAXRException
+     * it throws is rethrown as its cause.
+     * @param chunkSize the number of objects read and ordered at a time
+     * @return the aggregated response
+     * @throws JAXRException	If an object cannot be read or classified, or the loader is interrupted
+     *
+     */
+    @SuppressWarnings("unchecked")
+    public BulkLoadResponse save(Iterator objects, int chunkSize) throws JAXRException {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        BulkLoadResponse response = new BulkLoadResponse(maxRetainedFailures);
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        List chunk = new ArrayList(chunkSize);
+        try {
+            while (objects.hasNext()) {
+                chunk.add(objects.next());
+                if (chunk.size() == chunkSize) {
+                    save(chunk, response, inFlight);
+                    chunk = new ArrayList(chunkSize);
+                }
+            }
+        } catch (UncheckedJAXRException e) {
+            throw e.getCause();
+        }
+        save(chunk, response, inFlight);
+        return response;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void save(Collection objects, BulkLoadResponse response, Semaphore inFlight) throws JAXRException {
+        SortedMap groups = group(objects);
+        for (Iterator i = groups.entrySet().iterator(); i.hasNext();) {
+            Map.Entry entry = (Map.Entry) i.next();
+            int type = ((GroupKey) entry.getKey()).type;
+            List group = (List) entry.getValue();
+            List futures = new ArrayList();
+            List batch = new ArrayList();
+            long batchWeight = 0;
+            for (Iterator j = group.iterator(); j.hasNext();) {
+                RegistryObject object = (RegistryObject) j.next();
+                int w = weigher.weigh(object);
+                if (!batch.isEmpty() && (batch.size() >= batchSize || batchWeight + w > maxBatchWeight)) {
+                    futures.add(submit(type, batch, response, inFlight));
+                    batch = new ArrayList();
+                    batchWeight = 0;
+                }
+                batch.add(object);
+                batchWeight += w;
+            }
+            if (!batch.isEmpty()) {
+                futures.add(submit(type, batch, response, inFlight));
+            }
+            await(futures);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private FutureTask submit(final int type, final List batch, final BulkLoadResponse response,
+    final Semaphore inFlight) throws JAXRException {
+        response.batchSubmitted();
+        FutureTask task = new FutureTask(new Runnable() {
+            public void run() {
+                try {
+                    saveBatch(type, batch, response);
+                } finally {
+                    inFlight.release();
+                }
+            }
+        }, null);
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JAXRException("Interrupted while submitting a batch", e);
+        }
+        if (executor == null) {
+            task.run();
+        } else {
+            try {
+                executor.execute(task);
+            } catch (RuntimeException e) {
+                inFlight.release();
+                throw new JAXRException("Could not submit a batch", e);
+            }
+        }
+        return task;
+    }
+
+    private void await(List futures) throws JAXRException {
+        for (Iterator i = futures.iterator(); i.hasNext();) {
+            try {
+                ((FutureTask) i.next()).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new JAXRException("Interrupted while waiting for a batch", e);
+            } catch (ExecutionException e) {
+                // saveBatch records its own failures
+                throw new JAXRException("Batch failed unexpectedly", e.getCause());
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void saveBatch(int type, List batch, BulkLoadResponse response) {
+        BulkResponse result;
+        Collection savedKeys;
+        Collection exceptions;
+        try {
+            result = save(type, batch);
+            savedKeys = result.getCollection();
+            exceptions = result.getExceptions();
+        } catch (JAXRException e) {
+            failBatch(batch, response, e);
+            return;
+        } catch (RuntimeException e) {
+            failBatch(batch, response, e);
+            return;
+        }
+        if (savedKeys != null) {
+            response.addSaved(savedKeys);
+            if (listener != null) {
+                listener.saved(savedKeys);
+            }
+        }
+        if (exceptions == null || exceptions.isEmpty()) {
+            return;
+        }
+        response.addExceptions(exceptions);
+
+        Set savedIds = new HashSet();
+        if (savedKeys != null) {
+            for (Iterator i = savedKeys.iterator(); i.hasNext();) {
+                String id = idOf(i.next());
+                if (id != null) {
+                    savedIds.add(id);
+                }
+            }
+        }
+        Map exceptionsById = new HashMap();
+        for (Iterator i = exceptions.iterator(); i.hasNext();) {
+            Object e = i.next();
+            if (e instanceof RegistryException) {
+                try {
+                    String id = idOf(((RegistryException) e).getErrorObjectKey());
+                    if (id != null) {
+                        exceptionsById.put(id, e);
+                    }
+                } catch (JAXRException ignored) {
+                }
+            }
+        }
+        for (Iterator i = batch.iterator(); i.hasNext();) {
+            RegistryObject object = (RegistryObject) i.next();
+            String id;
+            try {
+                id = idOf(object.getKey());
+            } catch (JAXRException e) {
+                id = null;
+            }
+            JAXRException failure = id == null ? null : (JAXRException) exceptionsById.get(id);
+            if (failure == null && (id == null || !savedIds.contains(id))) {
+                failure = new SaveException("Object was not processed because its batch reported errors");
+                try {
+                    ((SaveException) failure).setErrorObjectKey(object.getKey());
+                } catch (JAXRException ignored) {
+                }
+            }
+            if (failure != null) {
+                fail(object, failure, response);
+            }
+        }
+    }
+
+    private void failBatch(List batch, BulkLoadResponse response, Exception cause) {
+        SaveException failure = new SaveException(
+        "Batch of " + batch.size() + " objects failed: " + cause.getMessage(), cause);
+        response.addExceptions(Collections.singletonList(failure));
+        for (Iterator i = batch.iterator(); i.hasNext();) {
+            fail(i.next(), failure, response);
+        }
+    }
+
+    private void fail(Object object, JAXRException cause, BulkLoadResponse response) {
+        response.addFailure(object, cause);
+        if (listener != null) {
+            listener.failed(object, cause);
+        }
+    }
+
+    private BulkResponse save(int type, List batch) throws JAXRException {
+        switch (type) {
+            case SCHEMES:
+                return lifeCycleManager.saveClassificationSchemes(batch);
+            case CONCEPTS:
+                return lifeCycleManager.saveConcepts(batch);
+            case ORGANIZATIONS:
+                return lifeCycleManager.saveOrganizations(batch);
+            case SERVICES:
+                return lifeCycleManager.saveServices(batch);
+            case BINDINGS:
+                return lifeCycleManager.saveServiceBindings(batch);
+            case ASSOCIATIONS:
+                return lifeCycleManager.saveAssociations(batch, false);
+            default:
+                return lifeCycleManager.saveObjects(batch);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SortedMap group(Collection objects) throws JAXRException {
+        SortedMap groups = new TreeMap();
+        for (Iterator i = objects.iterator(); i.hasNext();) {
+            Object o = i.next();
+            if (!(o instanceof RegistryObject)) {
+                throw new UnexpectedObjectException("Not a RegistryObject: " + o);
+            }
+            RegistryObject object = (RegistryObject) o;
+            GroupKey key = new GroupKey(typeOf(object), depthOf(object));
+            List group = (List) groups.get(key);
+            if (group == null) {
+                group = new ArrayList();
+                groups.put(key, group);
+            }
+            group.add(object);
+        }
+        return groups;
+    }
+
+    private static int typeOf(RegistryObject object) {
+        if (object instanceof ClassificationScheme) {
+            return SCHEMES;
+        } else if (object instanceof Concept) {
+            return CONCEPTS;
+        } else if (object instanceof Organization) {
+            return ORGANIZATIONS;
+        } else if (object instanceof Service) {
+            return SERVICES;
+        } else if (object instanceof ServiceBinding) {
+            return BINDINGS;
+        } else if (object instanceof Association) {
+            return ASSOCIATIONS;
+        }
+        return OTHERS;
+    }
+
+    private static int depthOf(RegistryObject object) throws JAXRException {
+        int depth = 0;
+        if (object instanceof Concept) {
+            for (Concept c = ((Concept) object).getParentConcept(); c != null; c = c.getParentConcept()) {
+                depth++;
+            }
+        } else if (object instanceof Organization) {
+            for (Organization o = ((Organization) object).getParentOrganization(); o != null; o = o.getParentOrganization()) {
+                depth++;
+            }
+        }
+        return depth;
+    }
+
+    private static String idOf(Object key) {
+        try {
+            return key instanceof Key ? ((Key) key).getId() : null;
+        } catch (JAXRException e) {
+            return null;
+        }
+    }
+
+    private static final class GroupKey implements Comparable {
+        final int type;
+        final int depth;
+
+        GroupKey(int type, int depth) {
+            this.type = type;
+            this.depth = depth;
+        }
+
+        public int compareTo(Object o) {
+            GroupKey other = (GroupKey) o;
+            if (type != other.type) {
+                return type < other.type ? -1 : 1;
+            }
+            return depth < other.depth ? -1 : depth == other.depth ? 0 : 1;
+        }
+
+        public boolean equals(Object o) {
+            return o instanceof GroupKey && compareTo(o) == 0;
+        }
+
+        public int hashCode() {
+            return type * 31 + depth;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of a RegistryCache.
+ *
+ * @see RegistryCache#getStats()
+ */
+public final class CacheStats {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    CacheStats() {
+    }
+
+    /**
+     * Gets the number of lookups answered from the cache.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the number of lookups that went to the registry.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the ratio of hits to lookups.
+     *
+     * @return the hit ratio, or 1.0 if there were no lookups
+     */
+    public double getHitRatio() {
+        long hitCount = getHitCount();
+        long total = hitCount + getMissCount();
+        return total == 0 ? 1.0 : (double) hitCount / total;
+    }
+
+    /**
+     * Gets the number of entries removed to keep the cache within its bounds.
+     *
+     * @return the eviction count
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Gets the number of entries dropped because their time to live had passed.
+     *
+     * @return the expiration count
+     */
+    public long getExpirationCount() {
+        return expirations.sum();
+    }
+
+    /**
+     * Gets the number of entries removed because the object was saved,
+     * deleted, deprecated or undeprecated.
+     *
+     * @return the invalidation count
+     */
+    public long getInvalidationCount() {
+        return invalidations.sum();
+    }
+
+    public String toString() {
+        return "CacheStats[hits=" + getHitCount() +
+        ", misses=" + getMissCount() +
+        ", evictions=" + getEvictionCount() +
+        ", expirations=" + getExpirationCount() +
+        ", invalidations=" + getInvalidationCount() + "]";
+    }
+
+    void hit() {
+        hits.increment();
+    }
+
+    void miss() {
+        misses.increment();
+    }
+
+    void evicted() {
+        evictions.increment();
+    }
+
+    void expired() {
+        expirations.increment();
+    }
+
+    void invalidated() {
+        invalidations.increment();
+    }
+}
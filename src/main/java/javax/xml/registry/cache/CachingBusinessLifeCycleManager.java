@@ -0,0 +1,441 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.cache;
+
+import java.util.*;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * A BusinessLifeCycleManager that removes objects from a RegistryCache
+ * whenever they are saved, deleted, deprecated or undeprecated through it.
+ * Entries are invalidated after the underlying call returns, whether it
+ * succeeded or not. Saving an Association also invalidates its source and
+ * target objects, whose associations it changes. Saving or deleting an
+ * object also invalidates the objects it composes, such as the Services and
+ * ServiceBindings of an Organization, and the object that composes it.
+ *
+ * @see CachingRegistryService
+ */
+class CachingBusinessLifeCycleManager implements BusinessLifeCycleManager {
+
+    private final BusinessLifeCycleManager manager;
+    private final RegistryCache cache;
+    private final RegistryService registryService;
+
+    CachingBusinessLifeCycleManager(BusinessLifeCycleManager manager, RegistryCache cache,
+    RegistryService registryService) {
+        this.manager = manager;
+        this.cache = cache;
+        this.registryService = registryService;
+    }
+
+    public BulkResponse saveObjects(Collection objects) throws JAXRException {
+        try {
+            return manager.saveObjects(objects);
+        } finally {
+            invalidateObjects(objects);
+        }
+    }
+
+    public BulkResponse deprecateObjects(Collection keys) throws JAXRException {
+        try {
+            return manager.deprecateObjects(keys);
+        } finally {
+            invalidateKeys(keys);
+        }
+    }
+
+    public BulkResponse unDeprecateObjects(Collection keys) throws JAXRException {
+        try {
+            return manager.unDeprecateObjects(keys);
+        } finally {
+            invalidateKeys(keys);
+        }
+    }
+
+    public BulkResponse deleteObjects(Collection keys) throws JAXRException {
+        try {
+            return manager.deleteObjects(keys);
+        } finally {
+            invalidateKeys(keys);
+        }
+    }
+
+    public BulkResponse deleteObjects(Collection keys, String objectType) throws JAXRException {
+        try {
+            return manager.deleteObjects(keys, objectType);
+        } finally {
+            invalidateKeys(keys);
+        }
+    }
+
+    public BulkResponse saveOrganizations(Collection organizations) throws JAXRException {
+        try {
+            return manager.saveOrganizations(organizations);
+        } finally {
+            invalidateObjects(organizations);
+        }
+    }
+
+    public BulkResponse saveServices(Collection services) throws JAXRException {
+        try {
+            return manager.saveServices(services);
+        } finally {
+            invalidateObjects(services);
+        }
+    }
+
+    public BulkResponse saveServiceBindings(Collection bindings) throws JAXRException {
+        try {
+            return manager.saveServiceBindings(bindings);
+        } finally {
+            invalidateObjects(bindings);
+        }
+    }
+
+    public BulkResponse saveConcepts(Collection concepts) throws JAXRException {
+        try {
+            return manager.saveConcepts(concepts);
+        } finally {
+            invalidateObjects(concepts);
+        }
+    }
+
+    public BulkResponse saveClassificationSchemes(Collection schemes) throws JAXRException {
+        try {
+            return manager.saveClassificationSchemes(schemes);
+        } finally {
+            invalidateObjects(schemes);
+        }
+    }
+
+    public BulkResponse saveAssociations(Collection associations, boolean replace) throws JAXRException {
+        try {
+            return manager.saveAssociations(associations, replace);
+        } finally {
+            invalidateObjects(associations);
+        }
+    }
+
+    public BulkResponse deleteOrganizations(Collection organizationKeys) throws JAXRException {
+        try {
+            return manager.deleteOrganizations(organizationKeys);
+        } finally {
+            invalidateKeys(organizationKeys);
+        }
+    }
+
+    public BulkResponse deleteServices(Collection serviceKeys) throws JAXRException {
+        try {
+            return manager.deleteServices(serviceKeys);
+        } finally {
+            invalidateKeys(serviceKeys);
+        }
+    }
+
+    public BulkResponse deleteServiceBindings(Collection bindingKeys) throws JAXRException {
+        try {
+            return manager.deleteServiceBindings(bindingKeys);
+        } finally {
+            invalidateKeys(bindingKeys);
+        }
+    }
+
+    public BulkResponse deleteConcepts(Collection conceptKeys) throws JAXRException {
+        try {
+            return manager.deleteConcepts(conceptKeys);
+        } finally {
+            invalidateKeys(conceptKeys);
+        }
+    }
+
+    public BulkResponse deleteClassificationSchemes(Collection schemeKeys) throws JAXRException {
+        try {
+            return manager.deleteClassificationSchemes(schemeKeys);
+        } finally {
+            invalidateKeys(schemeKeys);
+        }
+    }
+
+    public BulkResponse deleteAssociations(Collection associationKeys) throws JAXRException {
+        try {
+            return manager.deleteAssociations(associationKeys);
+        } finally {
+            invalidateKeys(associationKeys);
+        }
+    }
+
+    public void confirmAssociation(Association assoc) throws JAXRException, InvalidRequestException {
+        try {
+            manager.confirmAssociation(assoc);
+        } finally {
+            invalidateObject(assoc);
+        }
+    }
+
+    public void unConfirmAssociation(Association assoc) throws JAXRException, InvalidRequestException {
+        try {
+            manager.unConfirmAssociation(assoc);
+        } finally {
+            invalidateObject(assoc);
+        }
+    }
+
+    public RegistryService getRegistryService() throws JAXRException {
+        return registryService;
+    }
+
+    public Object createObject(String interfaceName) throws JAXRException, InvalidRequestException, UnsupportedCapabilityException {
+        return manager.createObject(interfaceName);
+    }
+
+    public Association createAssociation(RegistryObject targetObject, Concept associationType) throws JAXRException {
+        return manager.createAssociation(targetObject, associationType);
+    }
+
+    public Classification createClassification(ClassificationScheme scheme, String name, String value) throws JAXRException {
+        return manager.createClassification(scheme, name, value);
+    }
+
+    public Classification createClassification(ClassificationScheme scheme, InternationalString name, String value) throws JAXRException {
+        return manager.createClassification(scheme, name, value);
+    }
+
+    public Classification createClassification(Concept concept) throws JAXRException, InvalidRequestException {
+        return manager.createClassification(concept);
+    }
+
+    public ClassificationScheme createClassificationScheme(String name, String description) throws JAXRException, InvalidRequestException {
+        return manager.createClassificationScheme(name, description);
+    }
+
+    public ClassificationScheme createClassificationScheme(InternationalString name, InternationalString description) throws JAXRException, InvalidRequestException {
+        return manager.createClassificationScheme(name, description);
+    }
+
+    public ClassificationScheme createClassificationScheme(Concept concept) throws JAXRException, InvalidRequestException {
+        return manager.createClassificationScheme(concept);
+    }
+
+    public Concept createConcept(RegistryObject parent, String name, String value) throws JAXRException {
+        return manager.createConcept(parent, name, value);
+    }
+
+    public Concept createConcept(RegistryObject parent, InternationalString name, String value) throws JAXRException {
+        return manager.createConcept(parent, name, value);
+    }
+
+    public EmailAddress createEmailAddress(String address) throws JAXRException {
+        return manager.createEmailAddress(address);
+    }
+
+    public EmailAddress createEmailAddress(String address, String type) throws JAXRException {
+        return manager.createEmailAddress(address, type);
+    }
+
+    public ExternalIdentifier createExternalIdentifier(ClassificationScheme identificationScheme, String name, String value) throws JAXRException {
+        return manager.createExternalIdentifier(identificationScheme, name, value);
+    }
+
+    public ExternalIdentifier createExternalIdentifier(ClassificationScheme identificationScheme, InternationalString name, String value) throws JAXRException {
+        return manager.createExternalIdentifier(identificationScheme, name, value);
+    }
+
+    public ExternalLink createExternalLink(String externalURI, String description) throws JAXRException {
+        return manager.createExternalLink(externalURI, description);
+    }
+
+    public ExternalLink createExternalLink(String externalURI, InternationalString description) throws JAXRException {
+        return manager.createExternalLink(externalURI, description);
+    }
+
+    public ExtrinsicObject createExtrinsicObject(javax.activation.DataHandler repositoryItem) throws JAXRException {
+        return manager.createExtrinsicObject(repositoryItem);
+    }
+
+    public InternationalString createInternationalString() throws JAXRException {
+        return manager.createInternationalString();
+    }
+
+    public InternationalString createInternationalString(String s) throws JAXRException {
+        return manager.createInternationalString(s);
+    }
+
+    public InternationalString createInternationalString(Locale l, String s) throws JAXRException {
+        return manager.createInternationalString(l, s);
+    }
+
+    public Key createKey(String id) throws JAXRException {
+        return manager.createKey(id);
+    }
+
+    public LocalizedString createLocalizedString(Locale l, String s) throws JAXRException {
+        return manager.createLocalizedString(l, s);
+    }
+
+    public LocalizedString createLocalizedString(Locale l, String s, String charSetName) throws JAXRException {
+        return manager.createLocalizedString(l, s, charSetName);
+    }
+
+    public Organization createOrganization(String name) throws JAXRException {
+        return manager.createOrganization(name);
+    }
+
+    public Organization createOrganization(InternationalString name) throws JAXRException {
+        return manager.createOrganization(name);
+    }
+
+    public PersonName createPersonName(String firstName, String middleName, String lastName) throws JAXRException {
+        return manager.createPersonName(firstName, middleName, lastName);
+    }
+
+    public PersonName createPersonName(String fullName) throws JAXRException {
+        return manager.createPersonName(fullName);
+    }
+
+    public PostalAddress createPostalAddress(String streetNumber, String street, String city, String stateOrProvince, String country, String postalCode, String type) throws JAXRException {
+        return manager.createPostalAddress(streetNumber, street, city, stateOrProvince, country, postalCode, type);
+    }
+
+    public RegistryPackage createRegistryPackage(String name) throws JAXRException {
+        return manager.createRegistryPackage(name);
+    }
+
+    public RegistryPackage createRegistryPackage(InternationalString name) throws JAXRException {
+        return manager.createRegistryPackage(name);
+    }
+
+    public Service createService(String name) throws JAXRException {
+        return manager.createService(name);
+    }
+
+    public Service createService(InternationalString name) throws JAXRException {
+        return manager.createService(name);
+    }
+
+    public ServiceBinding createServiceBinding() throws JAXRException {
+        return manager.createServiceBinding();
+    }
+
+    public Slot createSlot(String name, String value, String slotType) throws JAXRException {
+        return manager.createSlot(name, value, slotType);
+    }
+
+    public Slot createSlot(String name, Collection values, String slotType) throws JAXRException {
+        return manager.createSlot(name, values, slotType);
+    }
+
+    public SpecificationLink createSpecificationLink() throws JAXRException {
+        return manager.createSpecificationLink();
+    }
+
+    public TelephoneNumber createTelephoneNumber() throws JAXRException {
+        return manager.createTelephoneNumber();
+    }
+
+    public User createUser() throws JAXRException {
+        return manager.createUser();
+    }
+
+    private void invalidateKeys(Collection keys) {
+        if (keys == null) {
+            return;
+        }
+        for (Iterator i = keys.iterator(); i.hasNext();) {
+            Object key = i.next();
+            if (key instanceof Key) {
+                invalidate((Key) key);
+            }
+        }
+    }
+
+    private void invalidateObjects(Collection objects) {
+        if (objects == null) {
+            return;
+        }
+        for (Iterator i = objects.iterator(); i.hasNext();) {
+            Object object = i.next();
+            if (object instanceof RegistryObject) {
+                invalidateObject((RegistryObject) object);
+            }
+        }
+    }
+
+    private void invalidateObject(RegistryObject object) {
+        if (object == null) {
+            return;
+        }
+        try {
+            invalidate(object.getKey());
+            invalidateComposed(object);
+            String compositeId = RegistryCache.compositeIdOf(object);
+            if (compositeId != null) {
+                cache.invalidate(compositeId);
+            }
+            if (object instanceof Association) {
+                Association association = (Association) object;
+                RegistryObject source = association.getSourceObject();
+                RegistryObject target = association.getTargetObject();
+                if (source != null) {
+                    invalidate(source.getKey());
+                }
+                if (target != null) {
+                    invalidate(target.getKey());
+                }
+            }
+        } catch (JAXRException e) {
+            // without a key the object cannot be in the cache
+        }
+    }
+
+    /**
+     * Invalidates the objects a saved object composes now, which the cache
+     * may have recorded as composed by another object.
+     */
+    @SuppressWarnings("unchecked")
+    private void invalidateComposed(RegistryObject object) throws JAXRException {
+        Collection composed = new ArrayList();
+        if (object instanceof Organization) {
+            composed.addAll(((Organization) object).getServices());
+        } else if (object instanceof Service) {
+            composed.addAll(((Service) object).getServiceBindings());
+        } else if (object instanceof ServiceBinding) {
+            composed.addAll(((ServiceBinding) object).getSpecificationLinks());
+        }
+        composed.addAll(object.getClassifications());
+        composed.addAll(object.getExternalIdentifiers());
+        for (Iterator i = composed.iterator(); i.hasNext();) {
+            RegistryObject o = (RegistryObject) i.next();
+            invalidate(o.getKey());
+            invalidateComposed(o);
+        }
+    }
+
+    private void invalidate(Key key) {
+        if (key == null) {
+            return;
+        }
+        try {
+            String id = key.getId();
+            if (id != null) {
+                cache.invalidate(id);
+            }
+        } catch (JAXRException e) {
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.cache;
+
+import java.util.*;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * A BusinessQueryManager that answers getRegistryObject and
+ * findConceptByPath from a RegistryCache, reading through to the
+ * underlying BusinessQueryManager on a miss. All other queries are
+ * passed through unchanged. Objects returned from the cache are the
+ * instances shared with every other caller, as described in
+ * CachingRegistryService.
+ *
+ * @see CachingRegistryService
+ */
+class CachingBusinessQueryManager implements BusinessQueryManager {
+
+    private final BusinessQueryManager manager;
+    private final RegistryCache cache;
+    private final RegistryService registryService;
+
+    CachingBusinessQueryManager(BusinessQueryManager manager, RegistryCache cache,
+    RegistryService registryService) {
+        this.manager = manager;
+        this.cache = cache;
+        this.registryService = registryService;
+    }
+
+    public RegistryObject getRegistryObject(String id, String objectType) throws JAXRException {
+        CacheKey key = new CacheKey(CacheKey.BY_ID, id, objectType);
+        RegistryObject object = cache.get(key);
+        if (object == null) {
+            long stamp = cache.stamp();
+            object = manager.getRegistryObject(id, objectType);
+            if (object != null) {
+                cache.put(key, objectType, object, stamp);
+            }
+        }
+        return object;
+    }
+
+    public RegistryObject getRegistryObject(String id) throws JAXRException {
+        CacheKey key = new CacheKey(CacheKey.BY_ID, id, null);
+        RegistryObject object = cache.get(key);
+        if (object == null) {
+            long stamp = cache.stamp();
+            object = manager.getRegistryObject(id);
+            if (object != null) {
+                cache.put(key, null, object, stamp);
+            }
+        }
+        return object;
+    }
+
+    public Concept findConceptByPath(String path) throws JAXRException {
+        CacheKey key = new CacheKey(CacheKey.BY_PATH, path, LifeCycleManager.CONCEPT);
+        Concept concept = (Concept) cache.get(key);
+        if (concept == null) {
+            long stamp = cache.stamp();
+            concept = manager.findConceptByPath(path);
+            if (concept != null) {
+                cache.put(key, LifeCycleManager.CONCEPT, concept, stamp);
+            }
+        }
+        return concept;
+    }
+
+    public BulkResponse getRegistryObjects(Collection objectKeys) throws JAXRException {
+        return manager.getRegistryObjects(objectKeys);
+    }
+
+    public BulkResponse getRegistryObjects(Collection objectKeys, String objectTypes) throws JAXRException {
+        return manager.getRegistryObjects(objectKeys, objectTypes);
+    }
+
+    public BulkResponse getRegistryObjects() throws JAXRException {
+        return manager.getRegistryObjects();
+    }
+
+    public BulkResponse getRegistryObjects(String objectType) throws JAXRException {
+        return manager.getRegistryObjects(objectType);
+    }
+
+    public RegistryService getRegistryService() throws JAXRException {
+        return registryService;
+    }
+
+    public BulkResponse findAssociations(Collection findQualifiers, String sourceObjectId,
+    String targetObjectId, Collection associationTypes) throws JAXRException {
+        return manager.findAssociations(findQualifiers, sourceObjectId, targetObjectId, associationTypes);
+    }
+
+    public BulkResponse findCallerAssociations(Collection findQualifiers, Boolean confirmedByCaller,
+    Boolean confirmedByOtherParty, Collection associationTypes) throws JAXRException {
+        return manager.findCallerAssociations(findQualifiers, confirmedByCaller, confirmedByOtherParty, associationTypes);
+    }
+
+    public BulkResponse findOrganizations(Collection findQualifiers, Collection namePatterns,
+    Collection classifications, Collection specifications, Collection externalIdentifiers,
+    Collection externalLinks) throws JAXRException {
+        return manager.findOrganizations(findQualifiers, namePatterns, classifications, specifications,
+        externalIdentifiers, externalLinks);
+    }
+
+    public BulkResponse findServices(Key orgKey, Collection findQualifiers, Collection namePatterns,
+    Collection classifications, Collection specifications) throws JAXRException {
+        return manager.findServices(orgKey, findQualifiers, namePatterns, classifications, specifications);
+    }
+
+    public BulkResponse findServiceBindings(Key serviceKey, Collection findQualifiers,
+    Collection classifications, Collection specifications) throws JAXRException {
+        return manager.findServiceBindings(serviceKey, findQualifiers, classifications, specifications);
+    }
+
+    public BulkResponse findClassificationSchemes(Collection findQualifiers, Collection namePatterns,
+    Collection classifications, Collection externalLinks) throws JAXRException {
+        return manager.findClassificationSchemes(findQualifiers, namePatterns, classifications, externalLinks);
+    }
+
+    public ClassificationScheme findClassificationSchemeByName(Collection findQualifiers,
+    String namePattern) throws JAXRException {
+        return manager.findClassificationSchemeByName(findQualifiers, namePattern);
+    }
+
+    public BulkResponse findConcepts(Collection findQualifiers, Collection namePatterns,
+    Collection classifications, Collection externalIdentifiers, Collection externalLinks)
+    throws JAXRException {
+        return manager.findConcepts(findQualifiers, namePatterns, classifications, externalIdentifiers,
+        externalLinks);
+    }
+
+    public BulkResponse findRegistryPackages(Collection findQualifiers, Collection namePatterns,
+    Collection classifications, Collection externalLinks) throws JAXRException {
+        return manager.findRegistryPackages(findQualifiers, namePatterns, classifications, externalLinks);
+    }
+
+    /**
+     * The key of a cache entry: the lookup kind, the id or path, and the requested object type.
+     */
+    static final class CacheKey {
+        static final int BY_ID = 0;
+        static final int BY_PATH = 1;
+
+        private final int kind;
+        private final String value;
+        private final String objectType;
+        private final int hash;
+
+        CacheKey(int kind, String value, String objectType) {
+            this.kind = kind;
+            this.value = value;
+            this.objectType = objectType;
+            int h = kind;
+            h = 31 * h + (value == null ? 0 : value.hashCode());
+            h = 31 * h + (objectType == null ? 0 : objectType.hashCode());
+            this.hash = h;
+        }
+
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey other = (CacheKey) o;
+            return kind == other.kind && hash == other.hash
+            && (value == null ? other.value == null : value.equals(other.value))
+            && (objectType == null ? other.objectType == null : objectType.equals(other.objectType));
+        }
+
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.cache;
+
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * A RegistryService whose BusinessQueryManager answers
+ * getRegistryObject and findConceptByPath from a read-through RegistryCache.
+ * <p>
+ * Objects are cached by id and requested object type, and concepts
+ * additionally by path. The BusinessLifeCycleManager of this service
+ * invalidates the cached entries of every object it saves, deletes,
+ * deprecates or undeprecates. Changes made through other Connections, or
+ * through the LifeCycleManager returned by RegistryObject.getLifeCycleManager,
+ * are only picked up when the entries expire.
+ * <p>
+ * Cached objects are not copied: every caller that looks up the same id or
+ * path gets the same instance, together with the objects it references.
+ * A change made to it is seen by all callers until the object is saved
+ * through this service or its entry is evicted or expires, and callers
+ * changing it from several threads must synchronize. Cached objects should
+ * therefore be treated as read only; to change one, modify and save it
+ * right away through the BusinessLifeCycleManager of this service, which
+ * invalidates it.
+ *
+ * @see RegistryCache
+ */
+public class CachingRegistryService implements RegistryService {
+
+    private final RegistryService registryService;
+    private final RegistryCache cache;
+    private BusinessQueryManager queryManager;
+    private BusinessLifeCycleManager lifeCycleManager;
+
+    /**
+     * Creates a caching view of a RegistryService.
+     *
+     * @param registryService the RegistryService of the Connection to cache for
+     * @param cache the cache to use
+     */
+    public CachingRegistryService(RegistryService registryService, RegistryCache cache) {
+        if (registryService == null || cache == null) {
+            throw new IllegalArgumentException("registryService and cache must not be null");
+        }
+        this.registryService = registryService;
+        this.cache = cache;
+    }
+
+    /**
+     * Gets the cache of this service.
+     *
+     * @return the RegistryCache
+     */
+    public RegistryCache getCache() {
+        return cache;
+    }
+
+    public CapabilityProfile getCapabilityProfile() throws JAXRException {
+        return registryService.getCapabilityProfile();
+    }
+
+    public synchronized BusinessLifeCycleManager getBusinessLifeCycleManager() throws JAXRException {
+        if (lifeCycleManager == null) {
+            lifeCycleManager = new CachingBusinessLifeCycleManager(
+            registryService.getBusinessLifeCycleManager(), cache, this);
+        }
+        return lifeCycleManager;
+    }
+
+    public synchronized BusinessQueryManager getBusinessQueryManager() throws JAXRException {
+        if (queryManager == null) {
+            queryManager = new CachingBusinessQueryManager(
+            registryService.getBusinessQueryManager(), cache, this);
+        }
+        return queryManager;
+    }
+
+    public DeclarativeQueryManager getDeclarativeQueryManager() throws JAXRException, UnsupportedCapabilityException {
+        return registryService.getDeclarativeQueryManager();
+    }
+
+    public BulkResponse getBulkResponse(String requestId) throws InvalidRequestException, JAXRException {
+        return registryService.getBulkResponse(requestId);
+    }
+
+    public ClassificationScheme getDefaultPostalScheme() throws JAXRException {
+        return registryService.getDefaultPostalScheme();
+    }
+
+    public String makeRegistrySpecificRequest(String request) throws JAXRException {
+        return registryService.makeRegistrySpecificRequest(request);
+    }
+}
@@ -0,0 +1,485 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.cache;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * A bounded cache of RegistryObjects used by CachingRegistryService.
+ * <p>
+ * Eviction follows a segmented LRU policy. New entries enter a probationary
+ * segment and are promoted to a protected segment, holding up to 80% of
+ * the entries, on their second hit. Entries are evicted from the
+ * probationary segment first, so keys that are read only once cannot flush
+ * the frequently used ones. The cache is bounded both by entry count and
+ * by the total weight computed by its Weigher.
+ * <p>
+ * Lookups read a concurrent map and never lock. A hit is recorded in a
+ * small ring buffer instead of reordering the segments; the buffer is
+ * drained under the lock before the next entry is cached, which is when
+ * the order decides what to evict. Hits recorded while the buffer is full
+ * are dropped, so the order is approximate under heavy reads.
+ * <p>
+ * Entries expire after a time to live that can be set per object type,
+ * using the type names defined in LifeCycleManager.
+ * <p>
+ * The cache records which cached objects are composed by which others, as
+ * Services by their Organization or Classifications by their classified
+ * object. Invalidating an object also invalidates the objects it composes,
+ * since saving or deleting it may save or delete them, and the object that
+ * composes it, whose composed objects it changes.
+ *
+ * @see CachingRegistryService
+ */
+public class RegistryCache {
+
+    private static final long NO_EXPIRY = Long.MAX_VALUE;
+    private static final int READ_BUFFER_SIZE = 128;
+
+    private final long maxEntries;
+    private final long maxWeight;
+    private final long maxProtected;
+    private final CacheStats stats = new CacheStats();
+
+    private final ConcurrentMap entries = new ConcurrentHashMap();
+    private final AtomicReferenceArray readBuffer = new AtomicReferenceArray(READ_BUFFER_SIZE);
+    private final AtomicLong reads = new AtomicLong();
+    private long drained;
+    private final LinkedHashMap probation = new LinkedHashMap();
+    private final LinkedHashMap protectedSegment = new LinkedHashMap();
+    private final Map keysById = new HashMap();
+    private final Map composedById = new HashMap();
+    private final Map timeToLive = new HashMap();
+    private long defaultTimeToLive = NO_EXPIRY;
+    private volatile Weigher weigher = Weigher.ESTIMATED_SIZE;
+    private long weight;
+    private volatile long generation;
+
+    /**
+     * Creates a cache bounded by entry count and total weight.
+     *
+     * @param maxEntries the maximum number of cached objects
+     * @param maxWeight the maximum total weight of the cached objects
+     */
+    public RegistryCache(long maxEntries, long maxWeight) {
+        if (maxEntries <= 0 || maxWeight <= 0) {
+            throw new IllegalArgumentException("maxEntries and maxWeight must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+        this.maxProtected = Math.max(1, maxEntries * 4 / 5);
+    }
+
+    /**
+     * Sets the Weigher used for objects cached from now on.
+     *
+     * @param weigher the Weigher
+     */
+    public void setWeigher(Weigher weigher) {
+        if (weigher == null) {
+            throw new IllegalArgumentException("weigher must not be null");
+        }
+        this.weigher = weigher;
+    }
+
+    /**
+     * Sets the time to live of objects whose type has no specific time to live.
+     *
+     * @param duration the time to live; 0 or negative for no expiry
+     * @param unit the unit of duration
+     */
+    public synchronized void setDefaultTimeToLive(long duration, TimeUnit unit) {
+        defaultTimeToLive = duration <= 0 ? NO_EXPIRY : unit.toNanos(duration);
+    }
+
+    /**
+     * Sets the time to live of objects of one type.
+     *
+     * @param objectType an object type defined in LifeCycleManager, such as LifeCycleManager.CONCEPT
+     * @param duration the time to live; 0 or negative for no expiry
+     * @param unit the unit of duration
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized void setTimeToLive(String objectType, long duration, TimeUnit unit) {
+        timeToLive.put(objectType, Long.valueOf(duration <= 0 ? NO_EXPIRY : unit.toNanos(duration)));
+    }
+
+    /**
+     * Gets the counters of this cache.
+     *
+     * @return the live cache counters
+     */
+    public CacheStats getStats() {
+        return stats;
+    }
+
+    /**
+     * Gets the number of cached entries.
+     *
+     * @return the entry count
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Gets the total weight of the cached entries.
+     *
+     * @return the total weight
+     */
+    public synchronized long weight() {
+        return weight;
+    }
+
+    /**
+     * Removes all entries for the object with the given id, for the cached
+     * objects it composes, directly or not, and for the object that composes it.
+     *
+     * @param id the id of the object's Key
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized void invalidate(String id) {
+        generation++;
+        Set composites = remove(id);
+        List ids = new ArrayList();
+        Set seen = new HashSet();
+        ids.add(id);
+        seen.add(id);
+        for (int i = 0; i < ids.size(); i++) {
+            Set composed = (Set) composedById.remove(ids.get(i));
+            if (composed == null) {
+                continue;
+            }
+            for (Iterator j = composed.iterator(); j.hasNext();) {
+                Object next = j.next();
+                if (seen.add(next)) {
+                    remove((String) next);
+                    ids.add(next);
+                }
+            }
+        }
+        for (Iterator i = composites.iterator(); i.hasNext();) {
+            remove((String) i.next());
+        }
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public synchronized void invalidateAll() {
+        generation++;
+        entries.clear();
+        probation.clear();
+        protectedSegment.clear();
+        keysById.clear();
+        composedById.clear();
+        weight = 0;
+    }
+
+    /**
+     * Returns a stamp to be passed to put once the object has been loaded.
+     * Objects loaded while an invalidation happened are not cached.
+     */
+    long stamp() {
+        return generation;
+    }
+
+    /**
+     * Returns the cached object for the key, counting a hit or a miss.
+     */
+    @SuppressWarnings("unchecked")
+    RegistryObject get(Object key) {
+        Entry entry = (Entry) entries.get(key);
+        if (entry == null) {
+            stats.miss();
+            return null;
+        }
+        if (entry.expiresAt != NO_EXPIRY && System.nanoTime() - entry.expiresAt >= 0) {
+            expire(entry);
+            stats.miss();
+            return null;
+        }
+        readBuffer.lazySet((int) (reads.getAndIncrement() & (READ_BUFFER_SIZE - 1)), entry);
+        stats.hit();
+        return entry.value;
+    }
+
+    private synchronized void expire(Entry entry) {
+        if (entries.get(entry.key) == entry) {
+            detach(entry.key);
+            unindex(entry);
+            stats.expired();
+        }
+    }
+
+    /**
+     * Applies the hits recorded since the last drain, promoting entries
+     * from the probationary segment on their second hit.
+     */
+    @SuppressWarnings("unchecked")
+    private void drainReads() {
+        long end = reads.get();
+        for (long i = Math.max(drained, end - READ_BUFFER_SIZE); i < end; i++) {
+            Entry entry = (Entry) readBuffer.getAndSet((int) (i & (READ_BUFFER_SIZE - 1)), null);
+            if (entry == null || entries.get(entry.key) != entry) {
+                continue;
+            }
+            if (probation.remove(entry.key) != null) {
+                protectedSegment.put(entry.key, entry);
+                if (protectedSegment.size() > maxProtected) {
+                    Iterator j = protectedSegment.entrySet().iterator();
+                    Map.Entry eldest = (Map.Entry) j.next();
+                    j.remove();
+                    probation.put(eldest.getKey(), eldest.getValue());
+                }
+            } else if (protectedSegment.remove(entry.key) != null) {
+                protectedSegment.put(entry.key, entry);
+            }
+        }
+        drained = end;
+    }
+
+    /**
+     * Caches a loaded object, unless an invalidation happened after the stamp was taken.
+     */
+    @SuppressWarnings("unchecked")
+    void put(Object key, String objectType, RegistryObject value, long stamp) {
+        String id;
+        String type;
+        String compositeId;
+        try {
+            Key k = value.getKey();
+            id = k == null ? null : k.getId();
+            type = objectType != null ? objectType : typeOf(value);
+            compositeId = compositeIdOf(value);
+        } catch (JAXRException e) {
+            return;
+        }
+        if (id == null) {
+            return;
+        }
+        int w = weigher.weigh(value);
+        synchronized (this) {
+            if (stamp != generation) {
+                return;
+            }
+            drainReads();
+            Entry previous = detach(key);
+            if (previous != null) {
+                unindex(previous);
+            }
+            Long ttl = (Long) timeToLive.get(type);
+            long duration = ttl != null ? ttl.longValue() : defaultTimeToLive;
+            long expiresAt = duration == NO_EXPIRY ? NO_EXPIRY : System.nanoTime() + duration;
+            Entry entry = new Entry(key, id, compositeId, value, w, expiresAt);
+            entries.put(key, entry);
+            probation.put(key, entry);
+            weight += w;
+            List keys = (List) keysById.get(id);
+            if (keys == null) {
+                keys = new ArrayList(2);
+                keysById.put(id, keys);
+            }
+            keys.add(key);
+            if (compositeId != null) {
+                Set composed = (Set) composedById.get(compositeId);
+                if (composed == null) {
+                    composed = new HashSet(4);
+                    composedById.put(compositeId, composed);
+                }
+                composed.add(id);
+            }
+            evict();
+        }
+    }
+
+    private void evict() {
+        while (probation.size() + protectedSegment.size() > maxEntries || weight > maxWeight) {
+            LinkedHashMap segment = probation.isEmpty() ? protectedSegment : probation;
+            if (segment.isEmpty()) {
+                return;
+            }
+            Iterator i = segment.values().iterator();
+            Entry eldest = (Entry) i.next();
+            i.remove();
+            entries.remove(eldest.key);
+            weight -= eldest.weight;
+            unindex(eldest);
+            stats.evicted();
+        }
+    }
+
+    private Entry detach(Object key) {
+        Entry entry = (Entry) entries.remove(key);
+        if (entry != null) {
+            if (probation.remove(key) == null) {
+                protectedSegment.remove(key);
+            }
+            weight -= entry.weight;
+        }
+        return entry;
+    }
+
+    /**
+     * Removes the entries for one object.
+     *
+     * @return the ids of the objects that composed it in the removed entries
+     */
+    @SuppressWarnings("unchecked")
+    private Set remove(String id) {
+        List keys = (List) keysById.get(id);
+        if (keys == null) {
+            return Collections.EMPTY_SET;
+        }
+        Set composites = new HashSet(2);
+        Object[] removed = keys.toArray();
+        for (int i = 0; i < removed.length; i++) {
+            Entry entry = detach(removed[i]);
+            if (entry != null) {
+                unindex(entry);
+                if (entry.compositeId != null) {
+                    composites.add(entry.compositeId);
+                }
+                stats.invalidated();
+            }
+        }
+        return composites;
+    }
+
+    private void unindex(Entry entry) {
+        List keys = (List) keysById.get(entry.id);
+        if (keys != null) {
+            keys.remove(entry.key);
+            if (keys.isEmpty()) {
+                keysById.remove(entry.id);
+            }
+        }
+        if (entry.compositeId != null && !isComposedBy(entry.id, entry.compositeId)) {
+            Set composed = (Set) composedById.get(entry.compositeId);
+            if (composed != null) {
+                composed.remove(entry.id);
+                if (composed.isEmpty()) {
+                    composedById.remove(entry.compositeId);
+                }
+            }
+        }
+    }
+
+    /**
+     * Determines whether an entry that remains for an object records the composite.
+     */
+    private boolean isComposedBy(String id, String compositeId) {
+        List keys = (List) keysById.get(id);
+        if (keys != null) {
+            for (Iterator i = keys.iterator(); i.hasNext();) {
+                Entry entry = (Entry) entries.get(i.next());
+                if (entry != null && compositeId.equals(entry.compositeId)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the id of the object that composes an object, such as the
+     * Organization of a Service.
+     *
+     * @return the id, or <code>null</code> if the object is not composed by another
+     */
+    static String compositeIdOf(RegistryObject object) throws JAXRException {
+        RegistryObject composite = null;
+        if (object instanceof Service) {
+            composite = ((Service) object).getProvidingOrganization();
+        } else if (object instanceof ServiceBinding) {
+            composite = ((ServiceBinding) object).getService();
+        } else if (object instanceof SpecificationLink) {
+            composite = ((SpecificationLink) object).getServiceBinding();
+        } else if (object instanceof Classification) {
+            composite = ((Classification) object).getClassifiedObject();
+        } else if (object instanceof ExternalIdentifier) {
+            composite = ((ExternalIdentifier) object).getRegistryObject();
+        } else if (object instanceof Concept) {
+            composite = ((Concept) object).getParent();
+        } else if (object instanceof User) {
+            composite = ((User) object).getOrganization();
+        }
+        Key key = composite == null ? null : composite.getKey();
+        return key == null ? null : key.getId();
+    }
+
+    /**
+     * Returns the LifeCycleManager type name of an object.
+     */
+    static String typeOf(RegistryObject object) {
+        if (object instanceof Association) {
+            return LifeCycleManager.ASSOCIATION;
+        } else if (object instanceof AuditableEvent) {
+            return LifeCycleManager.AUDITABLE_EVENT;
+        } else if (object instanceof Classification) {
+            return LifeCycleManager.CLASSIFICATION;
+        } else if (object instanceof ClassificationScheme) {
+            return LifeCycleManager.CLASSIFICATION_SCHEME;
+        } else if (object instanceof Concept) {
+            return LifeCycleManager.CONCEPT;
+        } else if (object instanceof ExternalIdentifier) {
+            return LifeCycleManager.EXTERNAL_IDENTIFIER;
+        } else if (object instanceof ExternalLink) {
+            return LifeCycleManager.EXTERNAL_LINK;
+        } else if (object instanceof ExtrinsicObject) {
+            return LifeCycleManager.EXTRINSIC_OBJECT;
+        } else if (object instanceof Organization) {
+            return LifeCycleManager.ORGANIZATION;
+        } else if (object instanceof RegistryPackage) {
+            return LifeCycleManager.REGISTRY_PACKAGE;
+        } else if (object instanceof ServiceBinding) {
+            return LifeCycleManager.SERVICE_BINDING;
+        } else if (object instanceof Service) {
+            return LifeCycleManager.SERVICE;
+        } else if (object instanceof SpecificationLink) {
+            return LifeCycleManager.SPECIFICATION_LINK;
+        } else if (object instanceof User) {
+            return LifeCycleManager.USER;
+        }
+        return null;
+    }
+
+    private static final class Entry {
+        final Object key;
+        final String id;
+        final String compositeId;
+        final RegistryObject value;
+        final int weight;
+        final long expiresAt;
+
+        Entry(Object key, String id, String compositeId, RegistryObject value, int weight, long expiresAt) {
+            this.key = key;
+            this.id = id;
+            this.compositeId = compositeId;
+            this.value = value;
+            this.weight = weight;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.cache;
+
+import java.util.Collection;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * Estimates the memory cost of a cached RegistryObject. The weights
+ * of all entries are bounded by the maximum weight of a RegistryCache.
+ *
+ * @see RegistryCache#setWeigher(Weigher)
+ */
+public interface Weigher {
+
+    /**
+     * A Weigher giving each object a rough size in bytes, based on the
+     * length of its name and description and the number of its
+     * classifications, external identifiers and slots.
+     */
+    Weigher ESTIMATED_SIZE = new Weigher() {
+        public int weigh(RegistryObject object) {
+            int weight = 128;
+            try {
+                weight += length(object.getName()) * 2;
+                weight += length(object.getDescription()) * 2;
+                weight += size(object.getClassifications()) * 96;
+                weight += size(object.getExternalIdentifiers()) * 96;
+                weight += size(object.getSlots()) * 64;
+            } catch (JAXRException e) {
+            } catch (RuntimeException e) {
+            }
+            return weight;
+        }
+
+        private int length(InternationalString s) throws JAXRException {
+            if (s == null) {
+                return 0;
+            }
+            String value = s.getValue();
+            return value == null ? 0 : value.length();
+        }
+
+        private int size(Collection c) {
+            return c == null ? 0 : c.size();
+        }
+    };
+
+    /**
+     * Returns the weight of an object.
+     *
+     * @param object the object about to be cached
+     * @return the weight; must not be negative
+     */
+    int weigh(RegistryObject object);
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.cursor;
+
+import java.util.*;
+import javax.xml.registry.*;
+
+/**
+ * An extension of BusinessQueryManager, implemented by providers that can
+ * keep a query result on the server and hand it out one page at a time.
+ * The PageSources returned here are typically consumed through a
+ * RegistryCursor:
+ * <pre>
+ * RegistryCursor cursor = new RegistryCursor(queryManager.findOrganizationPages(
+ *     null, namePatterns, null, null, null, null), 100);
+ * </pre>
+ * With providers that do not implement this interface, a KeyPageSource
+ * pages through the Keys of an ordinary query result.
+ *
+ * @see RegistryCursor
+ * @see KeyPageSource
+ */
+public interface CursorQueryManager extends BusinessQueryManager {
+
+    /**
+     * Finds the Organizations that match the criteria of
+     * BusinessQueryManager.findOrganizations, as a paged result.
+     *
+     * @param findQualifiers Collection of FindQualifiers
+     * @param namePatterns Collection of name patterns
+     * @param classifications Collection of Classifications
+     * @param specifications Collection of RegistryObjects
+     * @param externalIdentifiers Collection of ExternalIdentifiers
+     * @param externalLinks Collection of ExternalLinks
+     * @return PageSource of Organizations
+     * @throws JAXRException	If the JAXR provider encounters an internal error
+     *
+     */
+    PageSource findOrganizationPages(Collection findQualifiers, Collection namePatterns,
+    Collection classifications, Collection specifications, Collection externalIdentifiers,
+    Collection externalLinks) throws JAXRException;
+
+    /**
+     * Gets the objects of a type owned by the caller, as a paged result.
+     *
+     * @param objectType the type of the objects, one of the type constants
+     * of LifeCycleManager, or <code>null</code> for objects of any type
+     * @return PageSource of RegistryObjects
+     * @throws JAXRException	If the JAXR provider encounters an internal error
+     *
+     */
+    PageSource getRegistryObjectPages(String objectType) throws JAXRException;
+}
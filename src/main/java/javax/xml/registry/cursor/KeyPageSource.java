@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.cursor;
+
+import java.util.*;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * A PageSource for providers without server-side cursors. It pages
+ * through a list of Keys and hydrates each page with
+ * QueryManager.getRegistryObjects, so that only the Keys of the whole
+ * result and the RegistryObjects of one page are held in memory.
+ * The continuation token is the offset of the next page in the Key list.
+ *
+ * @see QueryManager#getRegistryObjects(Collection, String)
+ */
+public class KeyPageSource implements PageSource {
+
+    private final QueryManager queryManager;
+    private final List keys;
+    private final String objectType;
+
+    /**
+     * Creates a KeyPageSource.
+     *
+     * @param queryManager the QueryManager used to hydrate each page
+     * @param keys the Keys of the result, in result order
+     * @param objectType the type of the objects, as accepted by
+     * QueryManager.getRegistryObjects, or <code>null</code> if the Keys are of mixed type
+     */
+    public KeyPageSource(QueryManager queryManager, List keys, String objectType) {
+        if (queryManager == null || keys == null) {
+            throw new IllegalArgumentException("queryManager and keys must not be null");
+        }
+        this.queryManager = queryManager;
+        this.keys = keys;
+        this.objectType = objectType;
+    }
+
+    @SuppressWarnings("unchecked")
+    public Page fetch(String continuationToken, int fetchSize) throws JAXRException {
+        int from = offsetOf(continuationToken);
+        int to = (int) Math.min((long) from + fetchSize, keys.size());
+        Collection pageKeys = new ArrayList(keys.subList(from, to));
+        BulkResponse response = objectType == null
+        ? queryManager.getRegistryObjects(pageKeys)
+        : queryManager.getRegistryObjects(pageKeys, objectType);
+        Collection exceptions = response.getExceptions();
+        if (exceptions != null && !exceptions.isEmpty()) {
+            Object first = exceptions.iterator().next();
+            if (first instanceof JAXRException) {
+                throw (JAXRException) first;
+            }
+            throw new JAXRException("Could not fetch registry objects " + from + " to " + to);
+        }
+        List objects = new ArrayList(response.getCollection());
+        return new Page(objects, to < keys.size() ? Integer.toString(to) : null);
+    }
+
+    public void close() throws JAXRException {
+    }
+
+    private int offsetOf(String continuationToken) throws InvalidRequestException {
+        if (continuationToken == null) {
+            return 0;
+        }
+        try {
+            int offset = Integer.parseInt(continuationToken);
+            if (offset < 0 || offset > keys.size()) {
+                throw new InvalidRequestException("Continuation token out of range: " + continuationToken);
+            }
+            return offset;
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestException("Malformed continuation token: " + continuationToken, e);
+        }
+    }
+}
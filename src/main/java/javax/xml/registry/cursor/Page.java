@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.cursor;
+
+import java.util.*;
+
+/**
+ * One page of a paged query result, as returned by a PageSource.
+ *
+ * @see PageSource
+ */
+public final class Page {
+
+    private final List objects;
+    private final String continuationToken;
+
+    /**
+     * Creates a Page.
+     *
+     * @param objects the objects of this page; may be empty but not null
+     * @param continuationToken the token for the next page, or <code>null</code> if this is the last page
+     */
+    public Page(List objects, String continuationToken) {
+        if (objects == null) {
+            throw new IllegalArgumentException("objects must not be null");
+        }
+        this.objects = objects;
+        this.continuationToken = continuationToken;
+    }
+
+    /**
+     * Gets the objects of this page.
+     *
+     * @return List of objects. The List may be empty but not null.
+     */
+    public List getObjects() {
+        return objects;
+    }
+
+    /**
+     * Gets the token that fetches the page following this one.
+     *
+     * @return the continuation token, or <code>null</code> if this is the last page
+     */
+    public String getContinuationToken() {
+        return continuationToken;
+    }
+
+    /**
+     * Determines whether more pages follow this one.
+     *
+     * @return <code>true</code> if this is the last page; <code>false</code> otherwise
+     */
+    public boolean isLast() {
+        return continuationToken == null;
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.cursor;
+
+import javax.xml.registry.*;
+
+/**
+ * A query result that can be fetched one page at a time.
+ * This is the interface a JAXR provider implements to support
+ * server-side cursors. Continuation tokens are opaque to the client and
+ * must stay valid for as long as the provider keeps the cursor open.
+ *
+ * @see RegistryCursor
+ * @see KeyPageSource
+ */
+public interface PageSource {
+
+    /**
+     * Fetches one page of the result.
+     *
+     * @param continuationToken	the token of a previous Page, or <code>null</code> for the first page
+     * @param fetchSize	the maximum number of objects the page may contain
+     * @return the Page
+     * @throws InvalidRequestException	If the continuation token is unknown or has expired
+     * @throws JAXRException	If the JAXR provider encounters an internal error
+     *
+     */
+    Page fetch(String continuationToken, int fetchSize) throws JAXRException;
+
+    /**
+     * Releases any server-side state held for this result.
+     *
+     * @throws JAXRException	If the JAXR provider encounters an internal error
+     *
+     */
+    void close() throws JAXRException;
+}
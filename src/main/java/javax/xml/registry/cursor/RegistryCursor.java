@@ -0,0 +1,328 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.cursor;
+
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import javax.xml.registry.*;
+
+/**
+ * A BulkResponse that fetches its result one page at a time from a
+ * PageSource, so that only the current page is held in memory.
+ * <p>
+ * Objects are consumed with next, iterator or stream. The continuation
+ * token identifies the position of the next unconsumed object; passing it
+ * to a new RegistryCursor over the same PageSource resumes from there.
+ * isPartialResponse returns <code>true</code> as long as objects are known
+ * to remain, from the current page or the continuation token of the last
+ * page fetched, without fetching anything itself.
+ * <p>
+ * A RegistryCursor is not thread safe.
+ *
+ * @see PageSource
+ */
+public class RegistryCursor implements BulkResponse {
+
+    /**
+     * The fetch size used when none is specified.
+     */
+    public static final int DEFAULT_FETCH_SIZE = 500;
+
+    private final PageSource source;
+    private final int fetchSize;
+    private final String requestId = UUID.randomUUID().toString();
+
+    private String pageToken;
+    private int skip;
+    private List page;
+    private int index;
+    private String nextPageToken;
+    private boolean exhausted;
+    private boolean closed;
+
+    /**
+     * Creates a cursor positioned before the first object of the result,
+     * using the default fetch size.
+     *
+     * @param source the paged result
+     */
+    public RegistryCursor(PageSource source) {
+        this(source, DEFAULT_FETCH_SIZE);
+    }
+
+    /**
+     * Creates a cursor positioned before the first object of the result.
+     *
+     * @param source the paged result
+     * @param fetchSize the maximum number of objects fetched per page
+     */
+    public RegistryCursor(PageSource source, int fetchSize) {
+        this(source, fetchSize, 0, null);
+    }
+
+    /**
+     * Creates a cursor that resumes at a position returned by
+     * getContinuationToken of an earlier cursor over the same PageSource.
+     *
+     * @param source the paged result
+     * @param fetchSize the maximum number of objects fetched per page
+     * @param continuationToken the position to resume from
+     * @throws InvalidRequestException	If the continuation token is malformed
+     */
+    public RegistryCursor(PageSource source, int fetchSize, String continuationToken)
+    throws InvalidRequestException {
+        this(source, fetchSize, skipOf(continuationToken), pageTokenOf(continuationToken));
+    }
+
+    private RegistryCursor(PageSource source, int fetchSize, int skip, String pageToken) {
+        if (source == null) {
+            throw new IllegalArgumentException("source must not be null");
+        }
+        if (fetchSize <= 0) {
+            throw new IllegalArgumentException("fetchSize must be positive: " + fetchSize);
+        }
+        this.source = source;
+        this.fetchSize = fetchSize;
+        this.skip = skip;
+        this.pageToken = pageToken;
+    }
+
+    /**
+     * Gets the maximum number of objects fetched per page.
+     *
+     * @return the fetch size
+     */
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    /**
+     * Determines whether more objects are available, fetching the next
+     * page if the current one is consumed.
+     *
+     * @return <code>true</code> if next will return an object; <code>false</code> otherwise
+     * @throws JAXRException	If the JAXR provider encounters an internal error
+     *
+     */
+    public boolean hasNext() throws JAXRException {
+        while (!exhausted && (page == null || index >= page.size())) {
+            if (page != null) {
+                if (nextPageToken == null) {
+                    exhausted = true;
+                    page = null;
+                    break;
+                }
+                pageToken = nextPageToken;
+                skip = 0;
+            }
+            fetch();
+        }
+        return !exhausted;
+    }
+
+    /**
+     * Returns the next object of the result.
+     *
+     * @return the next object
+     * @throws NoSuchElementException	If the cursor is exhausted
+     * @throws JAXRException	If the JAXR provider encounters an internal error
+     *
+     */
+    public Object next() throws JAXRException {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return page.get(index++);
+    }
+
+    /**
+     * Returns the position of the next unconsumed object.
+     *
+     * @return an opaque continuation token, or <code>null</code> if the cursor is exhausted
+     * @throws JAXRException	If the JAXR provider encounters an internal error
+     *
+     */
+    public String getContinuationToken() throws JAXRException {
+        if (!hasNext()) {
+            return null;
+        }
+        return (skip + index) + ":" + (pageToken == null ? "-" : "=" + pageToken);
+    }
+
+    /**
+     * Returns an Iterator over the remaining objects. JAXRExceptions are
+     * rethrown wrapped in an UncheckedJAXRException.
+     *
+     * @return an Iterator over the remaining objects
+     */
+    public Iterator<Object> iterator() {
+        return new Iterator<Object>() {
+            public boolean hasNext() {
+                try {
+                    return RegistryCursor.this.hasNext();
+                } catch (JAXRException e) {
+                    throw new UncheckedJAXRException(e);
+                }
+            }
+
+            public Object next() {
+                try {
+                    return RegistryCursor.this.next();
+                } catch (JAXRException e) {
+                    throw new UncheckedJAXRException(e);
+                }
+            }
+
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    /**
+     * Returns a sequential Stream over the remaining objects. Closing the
+     * Stream closes this cursor. JAXRExceptions are rethrown wrapped in an
+     * UncheckedJAXRException.
+     *
+     * @return a Stream over the remaining objects
+     */
+    public Stream<Object> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator(),
+        Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(new Runnable() {
+            public void run() {
+                try {
+                    close();
+                } catch (JAXRException e) {
+                    throw new UncheckedJAXRException(e);
+                }
+            }
+        });
+    }
+
+    /**
+     * Releases the server-side cursor. Further calls to next fail.
+     *
+     * @throws JAXRException	If the JAXR provider encounters an internal error
+     *
+     */
+    public void close() throws JAXRException {
+        if (!closed) {
+            closed = true;
+            exhausted = true;
+            page = null;
+            source.close();
+        }
+    }
+
+    /**
+     * Fetches all remaining objects into a Collection. This defeats the purpose
+     * of the cursor for large results; prefer iterator or stream.
+     *
+     * @return Collection of the remaining objects. The Collection may be empty but not null.
+     * @throws JAXRException	If the JAXR provider encounters an internal error
+     *
+     */
+    @SuppressWarnings("unchecked")
+    public Collection getCollection() throws JAXRException {
+        List all = new ArrayList();
+        while (hasNext()) {
+            all.add(next());
+        }
+        return all;
+    }
+
+    /**
+     * A cursor reports failures by throwing from next, so there are no
+     * partial commit exceptions.
+     *
+     * @return <code>null</code>
+     */
+    public Collection getExceptions() throws JAXRException {
+        return null;
+    }
+
+    /**
+     * Determines whether objects may remain to be consumed from this cursor,
+     * without fetching a page. This is the case before the first page is
+     * fetched, while the current page has unconsumed objects, and while the
+     * last page fetched has a continuation token. The page that token leads
+     * to may turn out to be empty.
+     *
+     * @return <code>true</code> if the cursor is not known to be exhausted; <code>false</code> otherwise
+     * @throws JAXRException	If the JAXR provider encounters an internal error
+     *
+     */
+    public boolean isPartialResponse() throws JAXRException {
+        if (exhausted) {
+            return false;
+        }
+        return page == null || index < page.size() || nextPageToken != null;
+    }
+
+    public String getRequestId() throws JAXRException {
+        return requestId;
+    }
+
+    public int getStatus() throws JAXRException {
+        return JAXRResponse.STATUS_SUCCESS;
+    }
+
+    public boolean isAvailable() throws JAXRException {
+        return true;
+    }
+
+    private void fetch() throws JAXRException {
+        if (closed) {
+            throw new JAXRException("Cursor is closed");
+        }
+        Page p = source.fetch(pageToken, fetchSize);
+        List objects = p.getObjects();
+        nextPageToken = p.getContinuationToken();
+        // when resuming, skip is the number of objects of this page consumed earlier
+        skip = Math.min(skip, objects.size());
+        page = skip == 0 ? objects : objects.subList(skip, objects.size());
+        index = 0;
+    }
+
+    private static int skipOf(String token) throws InvalidRequestException {
+        int colon = token == null ? -1 : token.indexOf(':');
+        if (colon <= 0) {
+            throw new InvalidRequestException("Malformed continuation token: " + token);
+        }
+        try {
+            int skip = Integer.parseInt(token.substring(0, colon));
+            if (skip < 0) {
+                throw new InvalidRequestException("Malformed continuation token: " + token);
+            }
+            return skip;
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestException("Malformed continuation token: " + token, e);
+        }
+    }
+
+    private static String pageTokenOf(String token) throws InvalidRequestException {
+        String rest = token.substring(token.indexOf(':') + 1);
+        if (rest.equals("-")) {
+            return null;
+        }
+        if (rest.startsWith("=")) {
+            return rest.substring(1);
+        }
+        throw new InvalidRequestException("Malformed continuation token: " + token);
+    }
+}
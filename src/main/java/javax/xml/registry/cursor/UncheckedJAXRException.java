@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.cursor;
+
+import javax.xml.registry.*;
+
+/**
+ * Wraps a JAXRException thrown while iterating or streaming over a
+ * RegistryCursor, since <code>java.util.Iterator</code> and
+ * <code>java.util.stream.Stream</code> cannot throw checked exceptions.
+ *
+ * @see RegistryCursor#iterator()
+ */
+public class UncheckedJAXRException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs an UncheckedJAXRException wrapping the given JAXRException.
+     *
+     * @param cause the JAXRException being wrapped
+     */
+    public UncheckedJAXRException(JAXRException cause) {
+        super(cause.getMessage(), cause);
+    }
+
+    /**
+     * Returns the wrapped JAXRException.
+     *
+     * @return the JAXRException
+     */
+    public JAXRException getCause() {
+        return (JAXRException) super.getCause();
+    }
+}
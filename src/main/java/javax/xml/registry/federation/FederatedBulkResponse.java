@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.federation;
+
+import java.util.*;
+import javax.xml.registry.*;
+
+/**
+ * The merged BulkResponse of a federated query, complete when it is created.
+ */
+final class FederatedBulkResponse implements BulkResponse {
+
+    private final String requestId = "urn:uuid:" + UUID.randomUUID();
+    private final Collection collection;
+    private final Collection exceptions;
+    private final boolean partial;
+
+    FederatedBulkResponse(Collection collection, Collection exceptions, boolean partial) {
+        this.collection = collection;
+        this.exceptions = exceptions.isEmpty() ? null : exceptions;
+        this.partial = partial;
+    }
+
+    public Collection getCollection() throws JAXRException {
+        return collection;
+    }
+
+    public Collection getExceptions() throws JAXRException {
+        return exceptions;
+    }
+
+    /**
+     * Returns <code>true</code> if a member timed out or returned a partial response.
+     */
+    public boolean isPartialResponse() throws JAXRException {
+        return partial;
+    }
+
+    public String getRequestId() throws JAXRException {
+        return requestId;
+    }
+
+    public int getStatus() throws JAXRException {
+        if (exceptions == null) {
+            return partial ? STATUS_WARNING : STATUS_SUCCESS;
+        }
+        return collection.isEmpty() ? STATUS_FAILURE : STATUS_WARNING;
+    }
+
+    public boolean isAvailable() throws JAXRException {
+        return true;
+    }
+}
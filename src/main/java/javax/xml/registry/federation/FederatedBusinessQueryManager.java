@@ -0,0 +1,346 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.federation;
+
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * A BusinessQueryManager that runs each query on all members of a
+ * ParallelFederatedConnection in parallel.
+ * <p>
+ * Methods returning a BulkResponse merge the member results as described
+ * in ParallelFederatedConnection. Methods returning a single object return
+ * the result of the first member, in member order, that found one; if no
+ * member found one and a member failed or timed out, the failure is thrown
+ * rather than reporting that there is no match.
+ *
+ * @see ParallelFederatedConnection
+ */
+class FederatedBusinessQueryManager implements BusinessQueryManager {
+
+    private static final Object NOT_FOUND = new Object();
+
+    private final ParallelFederatedConnection connection;
+    private final RegistryService registryService;
+
+    FederatedBusinessQueryManager(ParallelFederatedConnection connection, RegistryService registryService) {
+        this.connection = connection;
+        this.registryService = registryService;
+    }
+
+    public BulkResponse findAssociations(Collection findQualifiers, final String sourceObjectId,
+    final String targetObjectId, final Collection associationTypes) throws JAXRException {
+        return findAll(findQualifiers, new MemberQuery() {
+            public Object query(BusinessQueryManager manager, Collection qualifiers) throws JAXRException {
+                return manager.findAssociations(qualifiers, sourceObjectId, targetObjectId, associationTypes);
+            }
+        });
+    }
+
+    public BulkResponse findCallerAssociations(Collection findQualifiers, final Boolean confirmedByCaller,
+    final Boolean confirmedByOtherParty, final Collection associationTypes) throws JAXRException {
+        return findAll(findQualifiers, new MemberQuery() {
+            public Object query(BusinessQueryManager manager, Collection qualifiers) throws JAXRException {
+                return manager.findCallerAssociations(qualifiers, confirmedByCaller, confirmedByOtherParty,
+                associationTypes);
+            }
+        });
+    }
+
+    public BulkResponse findOrganizations(Collection findQualifiers, final Collection namePatterns,
+    final Collection classifications, final Collection specifications, final Collection externalIdentifiers,
+    final Collection externalLinks) throws JAXRException {
+        return findAll(findQualifiers, new MemberQuery() {
+            public Object query(BusinessQueryManager manager, Collection qualifiers) throws JAXRException {
+                return manager.findOrganizations(qualifiers, namePatterns, classifications, specifications,
+                externalIdentifiers, externalLinks);
+            }
+        });
+    }
+
+    public BulkResponse findServices(final Key orgKey, Collection findQualifiers, final Collection namePatterns,
+    final Collection classifications, final Collection specifications) throws JAXRException {
+        return findAll(findQualifiers, new MemberQuery() {
+            public Object query(BusinessQueryManager manager, Collection qualifiers) throws JAXRException {
+                return manager.findServices(orgKey, qualifiers, namePatterns, classifications, specifications);
+            }
+        });
+    }
+
+    public BulkResponse findServiceBindings(final Key serviceKey, Collection findQualifiers,
+    final Collection classifications, final Collection specifications) throws JAXRException {
+        return findAll(findQualifiers, new MemberQuery() {
+            public Object query(BusinessQueryManager manager, Collection qualifiers) throws JAXRException {
+                return manager.findServiceBindings(serviceKey, qualifiers, classifications, specifications);
+            }
+        });
+    }
+
+    public BulkResponse findClassificationSchemes(Collection findQualifiers, final Collection namePatterns,
+    final Collection classifications, final Collection externalLinks) throws JAXRException {
+        return findAll(findQualifiers, new MemberQuery() {
+            public Object query(BusinessQueryManager manager, Collection qualifiers) throws JAXRException {
+                return manager.findClassificationSchemes(qualifiers, namePatterns, classifications, externalLinks);
+            }
+        });
+    }
+
+    /**
+     * Finds a ClassificationScheme by name in all members. The same scheme
+     * found in several members counts as one match.
+     *
+     * @throws InvalidRequestException if the members found different schemes
+     */
+    public ClassificationScheme findClassificationSchemeByName(Collection findQualifiers, final String namePattern)
+    throws JAXRException {
+        Object[] results = fanOut(findQualifiers, new MemberQuery() {
+            public Object query(BusinessQueryManager manager, Collection qualifiers) throws JAXRException {
+                return manager.findClassificationSchemeByName(qualifiers, namePattern);
+            }
+        });
+        ClassificationScheme scheme = (ClassificationScheme) first(results);
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] instanceof RegistryObject && results[i] != scheme) {
+                String id = ResultMerger.idOf(results[i]);
+                if (id == null || !id.equals(ResultMerger.idOf(scheme))) {
+                    throw new InvalidRequestException("More than one ClassificationScheme matches " + namePattern);
+                }
+            }
+        }
+        return scheme;
+    }
+
+    public BulkResponse findConcepts(Collection findQualifiers, final Collection namePatterns,
+    final Collection classifications, final Collection externalIdentifiers, final Collection externalLinks)
+    throws JAXRException {
+        return findAll(findQualifiers, new MemberQuery() {
+            public Object query(BusinessQueryManager manager, Collection qualifiers) throws JAXRException {
+                return manager.findConcepts(qualifiers, namePatterns, classifications, externalIdentifiers,
+                externalLinks);
+            }
+        });
+    }
+
+    public Concept findConceptByPath(final String path) throws JAXRException {
+        return (Concept) first(fanOut(null, new MemberQuery() {
+            public Object query(BusinessQueryManager manager, Collection qualifiers) throws JAXRException {
+                return manager.findConceptByPath(path);
+            }
+        }));
+    }
+
+    public BulkResponse findRegistryPackages(Collection findQualifiers, final Collection namePatterns,
+    final Collection classifications, final Collection externalLinks) throws JAXRException {
+        return findAll(findQualifiers, new MemberQuery() {
+            public Object query(BusinessQueryManager manager, Collection qualifiers) throws JAXRException {
+                return manager.findRegistryPackages(qualifiers, namePatterns, classifications, externalLinks);
+            }
+        });
+    }
+
+    public RegistryObject getRegistryObject(final String id, final String objectType) throws JAXRException {
+        return (RegistryObject) first(fanOut(null, new MemberQuery() {
+            public Object query(BusinessQueryManager manager, Collection qualifiers) throws JAXRException {
+                return manager.getRegistryObject(id, objectType);
+            }
+        }));
+    }
+
+    public RegistryObject getRegistryObject(final String id) throws JAXRException {
+        return (RegistryObject) first(fanOut(null, new MemberQuery() {
+            public Object query(BusinessQueryManager manager, Collection qualifiers) throws JAXRException {
+                return manager.getRegistryObject(id);
+            }
+        }));
+    }
+
+    public BulkResponse getRegistryObjects(final Collection objectKeys) throws JAXRException {
+        return findAll(null, new MemberQuery() {
+            public Object query(BusinessQueryManager manager, Collection qualifiers) throws JAXRException {
+                return manager.getRegistryObjects(objectKeys);
+            }
+        });
+    }
+
+    public BulkResponse getRegistryObjects(final Collection objectKeys, final String objectTypes)
+    throws JAXRException {
+        return findAll(null, new MemberQuery() {
+            public Object query(BusinessQueryManager manager, Collection qualifiers) throws JAXRException {
+                return manager.getRegistryObjects(objectKeys, objectTypes);
+            }
+        });
+    }
+
+    public BulkResponse getRegistryObjects() throws JAXRException {
+        return findAll(null, new MemberQuery() {
+            public Object query(BusinessQueryManager manager, Collection qualifiers) throws JAXRException {
+                return manager.getRegistryObjects();
+            }
+        });
+    }
+
+    public BulkResponse getRegistryObjects(final String objectType) throws JAXRException {
+        return findAll(null, new MemberQuery() {
+            public Object query(BusinessQueryManager manager, Collection qualifiers) throws JAXRException {
+                return manager.getRegistryObjects(objectType);
+            }
+        });
+    }
+
+    public RegistryService getRegistryService() throws JAXRException {
+        return registryService;
+    }
+
+    /**
+     * Runs a query returning a BulkResponse on all members and merges the results.
+     */
+    @SuppressWarnings("unchecked")
+    private BulkResponse findAll(Collection findQualifiers, MemberQuery query) throws JAXRException {
+        Object[] results = fanOut(findQualifiers, query);
+        List collections = new ArrayList(results.length);
+        List exceptions = new ArrayList();
+        boolean partial = false;
+        for (int i = 0; i < results.length; i++) {
+            Object result = results[i];
+            if (result == null) {
+                partial = true;
+            } else if (result instanceof JAXRException) {
+                exceptions.add(result);
+            } else {
+                MemberResponse response = (MemberResponse) result;
+                collections.add(response.entries);
+                exceptions.addAll(response.exceptions);
+                partial |= response.partial;
+            }
+        }
+        List merged = ResultMerger.merge(collections, ResultMerger.sortOrder(findQualifiers));
+        return new FederatedBulkResponse(merged, exceptions, partial);
+    }
+
+    /**
+     * Gets the first object found, in member order. If there is none and
+     * a member failed or timed out, throws that failure instead.
+     */
+    private static Object first(Object[] results) throws JAXRException {
+        JAXRException failure = null;
+        for (int i = 0; i < results.length; i++) {
+            Object result = results[i];
+            if (result == null) {
+                if (failure == null) {
+                    failure = new JAXRException("A member of the federation did not answer in time");
+                }
+            } else if (result instanceof JAXRException) {
+                if (failure == null) {
+                    failure = (JAXRException) result;
+                }
+            } else if (result != NOT_FOUND) {
+                return result;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return null;
+    }
+
+    /**
+     * Runs a query on all members in parallel and waits for each of them
+     * until its timeout has passed since the query was submitted.
+     *
+     * @return for each member, in member order, its result, NOT_FOUND for a
+     * null result, a MemberResponse for a BulkResponse, the JAXRException it
+     * failed with, or null if it timed out
+     */
+    @SuppressWarnings("unchecked")
+    private Object[] fanOut(final Collection findQualifiers, final MemberQuery query) throws JAXRException {
+        connection.checkOpen();
+        List members = connection.getMembers();
+        Future[] futures = new Future[members.size()];
+        long start = System.nanoTime();
+        for (int i = 0; i < futures.length; i++) {
+            final Connection member = (Connection) members.get(i);
+            futures[i] = connection.getExecutor().submit(new Callable() {
+                public Object call() throws JAXRException {
+                    BusinessQueryManager manager = member.getRegistryService().getBusinessQueryManager();
+                    Object result = query.query(manager, findQualifiers);
+                    if (result instanceof BulkResponse) {
+                        return new MemberResponse((BulkResponse) result, ResultMerger.sortOrder(findQualifiers));
+                    }
+                    return result == null ? NOT_FOUND : result;
+                }
+            });
+        }
+        Object[] results = new Object[futures.length];
+        for (int i = 0; i < futures.length; i++) {
+            long timeout = connection.getMemberTimeoutNanos((Connection) members.get(i));
+            try {
+                if (timeout == 0) {
+                    results[i] = futures[i].get();
+                } else {
+                    results[i] = futures[i].get(Math.max(0, start + timeout - System.nanoTime()), TimeUnit.NANOSECONDS);
+                }
+            } catch (TimeoutException e) {
+                futures[i].cancel(true);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                results[i] = cause instanceof JAXRException ? cause : new JAXRException(cause);
+            } catch (InterruptedException e) {
+                for (int j = i; j < futures.length; j++) {
+                    futures[j].cancel(true);
+                }
+                Thread.currentThread().interrupt();
+                throw new JAXRException("Interrupted while waiting for the members of the federation", e);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * A query to run on one member.
+     */
+    private interface MemberQuery {
+        Object query(BusinessQueryManager manager, Collection findQualifiers) throws JAXRException;
+    }
+
+    /**
+     * The contents of a member's BulkResponse, read and sorted on the
+     * member's thread so that waiting for an asynchronous response, and
+     * reading the names or dates to sort by, count against its timeout.
+     */
+    private static final class MemberResponse {
+        final ResultMerger.Entry[] entries;
+        final Collection exceptions;
+        final boolean partial;
+
+        @SuppressWarnings("unchecked")
+        MemberResponse(BulkResponse response, String sortOrder) throws JAXRException {
+            Collection collection = response.getCollection();
+            this.entries = ResultMerger.sortKeys(
+            collection == null ? Collections.EMPTY_LIST : new ArrayList(collection), sortOrder);
+            Collection exceptions = response.getExceptions();
+            this.exceptions = exceptions == null ? Collections.EMPTY_LIST : exceptions;
+            this.partial = response.isPartialResponse();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.federation;
+
+import java.util.*;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * The query only RegistryService of a ParallelFederatedConnection.
+ */
+class FederatedRegistryService implements RegistryService {
+
+    private final ParallelFederatedConnection connection;
+    private final FederatedBusinessQueryManager queryManager;
+
+    FederatedRegistryService(ParallelFederatedConnection connection) {
+        this.connection = connection;
+        this.queryManager = new FederatedBusinessQueryManager(connection, this);
+    }
+
+    /**
+     * Gets a profile with the lowest capability level of all members and the
+     * version of the first member.
+     */
+    public CapabilityProfile getCapabilityProfile() throws JAXRException {
+        List members = connection.getMembers();
+        final String version = ((Connection) members.get(0)).getRegistryService().getCapabilityProfile().getVersion();
+        int level = Integer.MAX_VALUE;
+        for (Iterator i = members.iterator(); i.hasNext();) {
+            CapabilityProfile profile = ((Connection) i.next()).getRegistryService().getCapabilityProfile();
+            level = Math.min(level, profile.getCapabilityLevel());
+        }
+        final int capabilityLevel = level;
+        return new CapabilityProfile() {
+            public String getVersion() {
+                return version;
+            }
+
+            public int getCapabilityLevel() {
+                return capabilityLevel;
+            }
+        };
+    }
+
+    public BusinessLifeCycleManager getBusinessLifeCycleManager() throws JAXRException {
+        throw new UnsupportedCapabilityException("A federated connection only supports queries");
+    }
+
+    public BusinessQueryManager getBusinessQueryManager() throws JAXRException {
+        connection.checkOpen();
+        return queryManager;
+    }
+
+    public DeclarativeQueryManager getDeclarativeQueryManager() throws JAXRException, UnsupportedCapabilityException {
+        throw new UnsupportedCapabilityException("Declarative queries are not supported by a federated connection");
+    }
+
+    /**
+     * Always throws InvalidRequestException, since federated responses are
+     * complete when they are returned.
+     */
+    public BulkResponse getBulkResponse(String requestId) throws InvalidRequestException, JAXRException {
+        throw new InvalidRequestException("No outstanding response with id " + requestId);
+    }
+
+    public ClassificationScheme getDefaultPostalScheme() throws JAXRException {
+        return ((Connection) connection.getMembers().get(0)).getRegistryService().getDefaultPostalScheme();
+    }
+
+    public String makeRegistrySpecificRequest(String request) throws JAXRException {
+        throw new UnsupportedCapabilityException("Registry specific requests are not supported by a federated connection");
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.federation;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import javax.xml.registry.*;
+
+/**
+ * A FederatedConnection that sends each query to all of its member
+ * Connections in parallel and merges their results.
+ * <p>
+ * The results of a find method are deduplicated by Key id, the first
+ * occurrence winning. If one of the SORT_BY_NAME or SORT_BY_DATE find
+ * qualifiers is given, the sorted member results are merged into one
+ * sorted result; otherwise the results are concatenated in member order.
+ * <p>
+ * A member that does not answer within its timeout is abandoned and the
+ * returned BulkResponse is marked as partial. A member that fails
+ * contributes its exception to BulkResponse.getExceptions. The federation
+ * only supports queries: getBusinessLifeCycleManager and
+ * getDeclarativeQueryManager of its RegistryService throw
+ * UnsupportedCapabilityException.
+ *
+ * @see ConnectionFactory#createFederatedConnection(Collection)
+ */
+public class ParallelFederatedConnection implements FederatedConnection {
+
+    private final List members;
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+    private final Map memberTimeouts = new ConcurrentHashMap();
+    private final FederatedRegistryService registryService;
+    private volatile long timeoutNanos;
+    private volatile boolean synchronous = true;
+    private volatile boolean closed;
+    private volatile Set credentials = Collections.EMPTY_SET;
+
+    /**
+     * Creates a federation with its own pool of daemon threads.
+     *
+     * @param connections the member Connections, queried in this order
+     */
+    public ParallelFederatedConnection(Collection connections) {
+        this(connections, Executors.newCachedThreadPool(new ThreadFactory() {
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "jaxr-federation");
+                t.setDaemon(true);
+                return t;
+            }
+        }), true);
+    }
+
+    /**
+     * Creates a federation that queries its members on the given executor.
+     * The executor needs one thread per member for the queries to run in parallel.
+     *
+     * @param connections the member Connections, queried in this order
+     * @param executor the executor running the member queries
+     */
+    public ParallelFederatedConnection(Collection connections, ExecutorService executor) {
+        this(connections, executor, false);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ParallelFederatedConnection(Collection connections, ExecutorService executor, boolean ownsExecutor) {
+        if (connections == null || connections.isEmpty() || executor == null) {
+            throw new IllegalArgumentException("connections must not be empty and executor must not be null");
+        }
+        this.members = Collections.unmodifiableList(new ArrayList(connections));
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+        this.registryService = new FederatedRegistryService(this);
+    }
+
+    /**
+     * Gets the member Connections.
+     *
+     * @return List of Connection instances, in query order
+     */
+    public List getMembers() {
+        return members;
+    }
+
+    /**
+     * Sets the time each member has to answer a query.
+     *
+     * @param timeout the timeout; 0 or negative for none
+     * @param unit the unit of timeout
+     */
+    public void setMemberTimeout(long timeout, TimeUnit unit) {
+        this.timeoutNanos = timeout <= 0 ? 0 : unit.toNanos(timeout);
+    }
+
+    /**
+     * Sets the time one member has to answer a query, overriding the
+     * timeout set for all members.
+     *
+     * @param member one of the member Connections
+     * @param timeout the timeout; 0 or negative for none
+     * @param unit the unit of timeout
+     */
+    @SuppressWarnings("unchecked")
+    public void setMemberTimeout(Connection member, long timeout, TimeUnit unit) {
+        if (!members.contains(member)) {
+            throw new IllegalArgumentException("Not a member of this federation: " + member);
+        }
+        memberTimeouts.put(member, Long.valueOf(timeout <= 0 ? 0 : unit.toNanos(timeout)));
+    }
+
+    /**
+     * Gets the timeout of a member in nanoseconds, 0 for none.
+     */
+    long getMemberTimeoutNanos(Connection member) {
+        Long timeout = (Long) memberTimeouts.get(member);
+        return timeout == null ? timeoutNanos : timeout.longValue();
+    }
+
+    ExecutorService getExecutor() {
+        return executor;
+    }
+
+    public RegistryService getRegistryService() throws JAXRException {
+        checkOpen();
+        return registryService;
+    }
+
+    /**
+     * Closes all member Connections.
+     */
+    public void close() throws JAXRException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        JAXRException failure = null;
+        for (Iterator i = members.iterator(); i.hasNext();) {
+            try {
+                ((Connection) i.next()).close();
+            } catch (JAXRException e) {
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+        }
+        if (ownsExecutor) {
+            executor.shutdownNow();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    public boolean isClosed() throws JAXRException {
+        return closed;
+    }
+
+    public boolean isSynchronous() throws JAXRException {
+        return synchronous;
+    }
+
+    /**
+     * Sets the mode of all member Connections. Whatever the mode, a find
+     * method returns once all members have answered or timed out, and its
+     * BulkResponse is available when it is returned.
+     */
+    public void setSynchronous(boolean sync) throws JAXRException {
+        for (Iterator i = members.iterator(); i.hasNext();) {
+            ((Connection) i.next()).setSynchronous(sync);
+        }
+        this.synchronous = sync;
+    }
+
+    /**
+     * Sets the credentials of all member Connections.
+     */
+    public void setCredentials(Set credentials) throws JAXRException {
+        for (Iterator i = members.iterator(); i.hasNext();) {
+            ((Connection) i.next()).setCredentials(credentials);
+        }
+        this.credentials = credentials == null ? Collections.EMPTY_SET : credentials;
+    }
+
+    public Set getCredentials() throws JAXRException {
+        return credentials;
+    }
+
+    void checkOpen() throws JAXRException {
+        if (closed) {
+            throw new InvalidRequestException("Connection is closed");
+        }
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.federation;
+
+import java.sql.Timestamp;
+import java.util.*;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * Merges the results of the members of a federation, deduplicating them by Key id.
+ */
+final class ResultMerger {
+
+    private ResultMerger() {
+    }
+
+    /**
+     * Gets the first sort qualifier in findQualifiers, or null if there is none.
+     */
+    static String sortOrder(Collection findQualifiers) {
+        if (findQualifiers == null) {
+            return null;
+        }
+        for (Iterator i = findQualifiers.iterator(); i.hasNext();) {
+            Object qualifier = i.next();
+            if (FindQualifier.SORT_BY_NAME_ASC.equals(qualifier) || FindQualifier.SORT_BY_NAME_DESC.equals(qualifier)
+            || FindQualifier.SORT_BY_DATE_ASC.equals(qualifier) || FindQualifier.SORT_BY_DATE_DESC.equals(qualifier)) {
+                return (String) qualifier;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Merges member results. Without a sort order the results are
+     * concatenated in member order. With a sort order each member result
+     * has been sorted by sortKeys, and the results are merged through a
+     * priority queue of member heads, so that merging n objects from k
+     * members takes O(n log k) comparisons. Ties are broken by member order.
+     *
+     * @param results List of member results as returned by sortKeys, in member order
+     * @param sortOrder one of the SORT_BY FindQualifiers, or null
+     * @return the merged objects, each id occurring once
+     */
+    @SuppressWarnings("unchecked")
+    static List merge(List results, String sortOrder) throws JAXRException {
+        int size = 0;
+        for (Iterator i = results.iterator(); i.hasNext();) {
+            size += ((Entry[]) i.next()).length;
+        }
+        List merged = new ArrayList(size);
+        Set ids = new HashSet();
+        if (sortOrder == null) {
+            for (Iterator i = results.iterator(); i.hasNext();) {
+                Entry[] entries = (Entry[]) i.next();
+                for (int j = 0; j < entries.length; j++) {
+                    add(merged, ids, entries[j].object);
+                }
+            }
+            return merged;
+        }
+        final Comparator order = comparator(sortOrder);
+        PriorityQueue heads = new PriorityQueue(Math.max(1, results.size()), new Comparator() {
+            public int compare(Object a, Object b) {
+                Run x = (Run) a;
+                Run y = (Run) b;
+                int c = order.compare(x.entries[x.position], y.entries[y.position]);
+                return c != 0 ? c : x.member - y.member;
+            }
+        });
+        int member = 0;
+        for (Iterator i = results.iterator(); i.hasNext(); member++) {
+            Run run = new Run(member, (Entry[]) i.next());
+            if (run.entries.length > 0) {
+                heads.add(run);
+            }
+        }
+        while (!heads.isEmpty()) {
+            Run run = (Run) heads.poll();
+            add(merged, ids, run.entries[run.position].object);
+            if (++run.position < run.entries.length) {
+                heads.add(run);
+            }
+        }
+        return merged;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void add(List merged, Set ids, Object object) throws JAXRException {
+        String id = idOf(object);
+        if (id == null || ids.add(id)) {
+            merged.add(object);
+        }
+    }
+
+    static String idOf(Object object) throws JAXRException {
+        if (object instanceof RegistryObject) {
+            Key key = ((RegistryObject) object).getKey();
+            return key == null ? null : key.getId();
+        }
+        return null;
+    }
+
+    /**
+     * Gets the sort keys of the result of one member and sorts it by them,
+     * unless it already is. This reads the name or audit trail of each
+     * object, which may call the member, so it runs on the thread that
+     * queried the member, where it counts against the member's timeout.
+     *
+     * @param objects the objects of the member result
+     * @param sortOrder one of the SORT_BY FindQualifiers, or null to keep the order
+     * @return the objects with their sort keys, in sort order
+     */
+    @SuppressWarnings("unchecked")
+    static Entry[] sortKeys(List objects, String sortOrder) throws JAXRException {
+        boolean byName = FindQualifier.SORT_BY_NAME_ASC.equals(sortOrder)
+        || FindQualifier.SORT_BY_NAME_DESC.equals(sortOrder);
+        Entry[] entries = new Entry[objects.size()];
+        for (int i = 0; i < entries.length; i++) {
+            Object object = objects.get(i);
+            Comparable key = null;
+            if (sortOrder != null) {
+                key = byName ? (Comparable) nameOf(object) : (Comparable) Long.valueOf(dateOf(object));
+            }
+            entries[i] = new Entry(object, key);
+        }
+        if (sortOrder != null) {
+            Comparator order = comparator(sortOrder);
+            for (int i = 1; i < entries.length; i++) {
+                if (order.compare(entries[i - 1], entries[i]) > 0) {
+                    Arrays.sort(entries, order);
+                    break;
+                }
+            }
+        }
+        return entries;
+    }
+
+    private static String nameOf(Object object) throws JAXRException {
+        InternationalString name = object instanceof RegistryObject ? ((RegistryObject) object).getName() : null;
+        String value = name == null ? null : name.getValue();
+        return value == null ? "" : value;
+    }
+
+    /**
+     * Gets the time of the last event in the audit trail of an object, or 0 if it has none.
+     */
+    private static long dateOf(Object object) throws JAXRException {
+        if (!(object instanceof RegistryObject)) {
+            return 0;
+        }
+        Collection trail = ((RegistryObject) object).getAuditTrail();
+        long date = 0;
+        if (trail != null) {
+            for (Iterator i = trail.iterator(); i.hasNext();) {
+                Timestamp timestamp = ((AuditableEvent) i.next()).getTimestamp();
+                if (timestamp != null) {
+                    date = Math.max(date, timestamp.getTime());
+                }
+            }
+        }
+        return date;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparator comparator(String sortOrder) {
+        final boolean byName = FindQualifier.SORT_BY_NAME_ASC.equals(sortOrder)
+        || FindQualifier.SORT_BY_NAME_DESC.equals(sortOrder);
+        final int sign = FindQualifier.SORT_BY_NAME_DESC.equals(sortOrder)
+        || FindQualifier.SORT_BY_DATE_DESC.equals(sortOrder) ? -1 : 1;
+        return new Comparator() {
+            public int compare(Object a, Object b) {
+                Comparable x = ((Entry) a).key;
+                Comparable y = ((Entry) b).key;
+                int c = byName ? String.CASE_INSENSITIVE_ORDER.compare((String) x, (String) y) : x.compareTo(y);
+                return sign * c;
+            }
+        };
+    }
+
+    /**
+     * An object of a member result with its sort key.
+     */
+    static final class Entry {
+        final Object object;
+        final Comparable key;
+
+        Entry(Object object, Comparable key) {
+            this.object = object;
+            this.key = key;
+        }
+    }
+
+    /**
+     * The sorted result of one member and the position of its head.
+     */
+    private static final class Run {
+        final int member;
+        final Entry[] entries;
+        int position;
+
+        Run(int member, Entry[] entries) {
+            this.member = member;
+            this.entries = entries;
+        }
+    }
+}
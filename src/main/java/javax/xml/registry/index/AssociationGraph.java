@@ -0,0 +1,634 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.index;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * An adjacency index over Associations, for traversals of more than one
+ * hop without a query per hop.
+ * <p>
+ * Objects and Associations are identified by their ids, which KeyTables
+ * map to int handles. The edges are partitioned by association type: each
+ * type keeps, for every object, an array of outgoing and an array of
+ * incoming edges, holding the handle of the other object and of the
+ * Association in consecutive ints. Handles are reused after removal, so
+ * the arrays grow with the size of the graph, not with its history. An edge array is replaced as a whole on
+ * every change, so reads never lock and always see a consistent array for
+ * each object; concurrent writers must be serialized by the caller.
+ * <p>
+ * A traversal is a breadth first search from one object, limited in depth
+ * and to a set of association types. Every object is visited at most once,
+ * so cycles in the graph end the search rather than repeat it.
+ *
+ * @see Association
+ * @see AssociationQueryManager
+ */
+public final class AssociationGraph {
+
+    /**
+     * Follow Associations from their source to their target object.
+     */
+    public static final int OUTGOING = 1;
+
+    /**
+     * Follow Associations from their target to their source object.
+     */
+    public static final int INCOMING = 2;
+
+    /**
+     * Follow Associations in both directions.
+     */
+    public static final int BOTH = OUTGOING | INCOMING;
+
+    private static final int[] NO_EDGES = new int[0];
+
+    private final KeyTable handles = new KeyTable();
+    private volatile String[] ids = new String[64];
+    private int[] degrees = new int[64];
+
+    private final KeyTable edges = new KeyTable();
+    private volatile String[] edgeIds = new String[64];
+    private int[] edgeEnds = new int[3 * 64];
+
+    private final ConcurrentMap typeIndex = new ConcurrentHashMap();
+    private volatile Partition[] partitions = new Partition[0];
+
+    /**
+     * Adds an Association. An Association already in the graph under the
+     * same id is replaced.
+     *
+     * @param associationId the id of the Association
+     * @param sourceId the id of the source object
+     * @param targetId the id of the target object
+     * @param associationType the id of the association type Concept, or <code>null</code>
+     */
+    public void add(String associationId, String sourceId, String targetId, String associationType) {
+        if (associationId == null || sourceId == null || targetId == null) {
+            throw new IllegalArgumentException("Association, source and target id must not be null");
+        }
+        remove(associationId);
+        int source = handleOf(sourceId);
+        int target = handleOf(targetId);
+        int type = partitionOf(associationType == null ? "" : associationType);
+        int edge = edges.intern(associationId);
+        if (edge >= edgeIds.length) {
+            edgeIds = Arrays.copyOf(edgeIds, edgeIds.length * 2);
+            edgeEnds = Arrays.copyOf(edgeEnds, edgeIds.length * 3);
+        }
+        edgeIds[edge] = associationId;
+        edgeEnds[3 * edge] = source;
+        edgeEnds[3 * edge + 1] = target;
+        edgeEnds[3 * edge + 2] = type;
+        Partition partition = partitions[type];
+        partition.out = append(partition.out, source, target, edge);
+        partition.in = append(partition.in, target, source, edge);
+        degrees[source]++;
+        degrees[target]++;
+    }
+
+    /**
+     * Adds an Association, identified by the ids of its Key, source and
+     * target object and association type.
+     *
+     * @param association the Association
+     * @throws JAXRException	If the JAXR provider encounters an internal error
+     *
+     */
+    public void add(Association association) throws JAXRException {
+        Concept type = association.getAssociationType();
+        add(idOf(association), idOf(association.getSourceObject()), idOf(association.getTargetObject()),
+        type == null ? null : idOf(type));
+    }
+
+    /**
+     * Removes an Association.
+     *
+     * @param associationId the id of the Association
+     * @return <code>true</code> if the Association was in the graph
+     */
+    @SuppressWarnings("unchecked")
+    public boolean remove(String associationId) {
+        int edge = edges.get(associationId);
+        if (edge < 0) {
+            return false;
+        }
+        edges.remove(associationId);
+        int source = edgeEnds[3 * edge];
+        int target = edgeEnds[3 * edge + 1];
+        Partition partition = partitions[edgeEnds[3 * edge + 2]];
+        partition.out.set(source, without((int[]) partition.out.get(source), edge));
+        partition.in.set(target, without((int[]) partition.in.get(target), edge));
+        edgeIds[edge] = null;
+        release(source);
+        release(target);
+        return true;
+    }
+
+    /**
+     * Gets the number of Associations.
+     *
+     * @return the Association count
+     */
+    public int size() {
+        return edges.size();
+    }
+
+    /**
+     * Gets the association types of the Associations in the graph.
+     *
+     * @return Collection of association type ids. Associations without a type
+     * are kept under the empty String.
+     */
+    @SuppressWarnings("unchecked")
+    public Collection getAssociationTypes() {
+        return new ArrayList(typeIndex.keySet());
+    }
+
+    /**
+     * Removes all Associations.
+     */
+    public void clear() {
+        handles.clear();
+        ids = new String[64];
+        degrees = new int[64];
+        edges.clear();
+        edgeIds = new String[64];
+        edgeEnds = new int[3 * 64];
+        typeIndex.clear();
+        partitions = new Partition[0];
+    }
+
+    /**
+     * Gets the Associations of one object.
+     *
+     * @param id the id of the object
+     * @param direction OUTGOING, INCOMING or BOTH
+     * @param associationTypes Collection of association type ids, or <code>null</code> for all types
+     * @return List of Association ids. The List may be empty but not null.
+     */
+    public List getAssociationIds(String id, int direction, Collection associationTypes) {
+        checkDirection(direction);
+        List result = new ArrayList();
+        int reader = edges.enter();
+        try {
+            int node = handles.get(id);
+            if (node < 0) {
+                return result;
+            }
+            Partition[] selected = select(associationTypes);
+            String[] names = edgeIds;
+            for (int p = 0; p < selected.length; p++) {
+                if ((direction & OUTGOING) != 0) {
+                    addEdgeIds(row(selected[p].out, node), names, result);
+                }
+                if ((direction & INCOMING) != 0) {
+                    addEdgeIds(row(selected[p].in, node), names, result);
+                }
+            }
+            return result;
+        } finally {
+            edges.exit(reader);
+        }
+    }
+
+    /**
+     * Finds the objects reachable from an object within a number of hops.
+     *
+     * @param id the id of the object to start from
+     * @param direction OUTGOING, INCOMING or BOTH
+     * @param maxDepth the maximum number of Associations on a path, or
+     * <code>Integer.MAX_VALUE</code> for no limit
+     * @param associationTypes Collection of association type ids, or <code>null</code> for all types
+     * @return the result of the traversal
+     */
+    public Traversal traverse(String id, int direction, int maxDepth, Collection associationTypes) {
+        if (id == null) {
+            throw new IllegalArgumentException("id must not be null");
+        }
+        int nodeReader = handles.enter();
+        int edgeReader = edges.enter();
+        try {
+            Search search = new Search(id, direction, maxDepth, associationTypes);
+            search.run(-1);
+            return new Traversal(search);
+        } finally {
+            edges.exit(edgeReader);
+            handles.exit(nodeReader);
+        }
+    }
+
+    /**
+     * Determines whether one object can be reached from another within a
+     * number of hops. The search stops as soon as the object is found.
+     *
+     * @param fromId the id of the object to start from
+     * @param toId the id of the object to find
+     * @param direction OUTGOING, INCOMING or BOTH
+     * @param maxDepth the maximum number of Associations on a path, or
+     * <code>Integer.MAX_VALUE</code> for no limit
+     * @param associationTypes Collection of association type ids, or <code>null</code> for all types
+     * @return <code>true</code> if there is such a path
+     */
+    public boolean isReachable(String fromId, String toId, int direction, int maxDepth,
+    Collection associationTypes) {
+        if (fromId == null || toId == null) {
+            throw new IllegalArgumentException("ids must not be null");
+        }
+        if (fromId.equals(toId)) {
+            return true;
+        }
+        int reader = handles.enter();
+        try {
+            int to = handles.get(toId);
+            if (to < 0) {
+                return false;
+            }
+            Search search = new Search(fromId, direction, maxDepth, associationTypes);
+            return search.run(to);
+        } finally {
+            handles.exit(reader);
+        }
+    }
+
+    /**
+     * Determines whether an Association from one object to another would
+     * close a cycle, that is whether the source can already be reached from
+     * the target by following Associations of the given types.
+     *
+     * @param sourceId the id of the source object
+     * @param targetId the id of the target object
+     * @param associationTypes Collection of association type ids, or <code>null</code> for all types
+     * @return <code>true</code> if the Association would close a cycle
+     */
+    public boolean createsCycle(String sourceId, String targetId, Collection associationTypes) {
+        return isReachable(targetId, sourceId, OUTGOING, Integer.MAX_VALUE, associationTypes);
+    }
+
+    /**
+     * The result of a traversal: the objects reached, each with its distance
+     * from the start and the shortest path to it.
+     */
+    public static final class Traversal {
+
+        private final String[] objectIds;
+        private final int[] depths;
+        private final int[] parents;
+        private final String[] via;
+        private final List associationIds;
+        private Map positions;
+
+        @SuppressWarnings("unchecked")
+        Traversal(Search search) {
+            String[] names = search.ids;
+            String[] edgeNames = search.edgeIds;
+            int n = search.count;
+            objectIds = new String[n];
+            depths = Arrays.copyOf(search.depths, n);
+            parents = Arrays.copyOf(search.parents, n);
+            via = new String[n];
+            objectIds[0] = search.startId;
+            for (int i = 1; i < n; i++) {
+                objectIds[i] = name(names, search.nodes[i]);
+                via[i] = name(edgeNames, search.edges[i]);
+            }
+            associationIds = new ArrayList(search.followedCount);
+            for (int i = 0; i < search.followedCount; i++) {
+                String name = name(edgeNames, search.followed[i]);
+                if (name != null) {
+                    associationIds.add(name);
+                }
+            }
+        }
+
+        /**
+         * Gets the objects reached, not including the start object, in order
+         * of increasing depth.
+         *
+         * @return List of object ids. The List may be empty but not null.
+         */
+        @SuppressWarnings("unchecked")
+        public List getObjectIds() {
+            List result = new ArrayList(objectIds.length);
+            for (int i = 1; i < objectIds.length; i++) {
+                if (objectIds[i] != null) {
+                    result.add(objectIds[i]);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Gets the Associations that were followed, including those that led
+         * to an object reached before, in the order they were followed.
+         *
+         * @return List of Association ids. The List may be empty but not null.
+         */
+        @SuppressWarnings("unchecked")
+        public List getAssociationIds() {
+            return new ArrayList(associationIds);
+        }
+
+        /**
+         * Gets the number of Associations on the shortest path to an object.
+         *
+         * @param id the id of the object
+         * @return the depth, 0 for the start object, or -1 if the object was not reached
+         */
+        public int getDepth(String id) {
+            int i = position(id);
+            return i < 0 ? -1 : depths[i];
+        }
+
+        /**
+         * Gets the shortest path to an object.
+         *
+         * @param id the id of the object
+         * @return List of the ids of the Associations followed from the start
+         * object, or <code>null</code> if the object was not reached
+         */
+        @SuppressWarnings("unchecked")
+        public List getPath(String id) {
+            int i = position(id);
+            if (i < 0) {
+                return null;
+            }
+            LinkedList path = new LinkedList();
+            for (; i > 0; i = parents[i]) {
+                path.addFirst(via[i]);
+            }
+            return path;
+        }
+
+        @SuppressWarnings("unchecked")
+        private synchronized int position(String id) {
+            if (positions == null) {
+                positions = new HashMap(objectIds.length * 2);
+                for (int i = 0; i < objectIds.length; i++) {
+                    if (objectIds[i] != null) {
+                        positions.put(objectIds[i], Integer.valueOf(i));
+                    }
+                }
+            }
+            Integer i = (Integer) positions.get(id);
+            return i == null ? -1 : i.intValue();
+        }
+
+        private static String name(String[] names, int handle) {
+            return handle < names.length ? names[handle] : null;
+        }
+    }
+
+    /**
+     * The state of one breadth first search. The queue holds, for each
+     * object reached, its handle, depth, queue position of its parent and
+     * the edge it was reached by.
+     */
+    private final class Search {
+
+        final String startId;
+        final int direction;
+        final int maxDepth;
+        final Partition[] selected;
+        final String[] ids = AssociationGraph.this.ids;
+        final String[] edgeIds = AssociationGraph.this.edgeIds;
+        final BitSet visited = new BitSet();
+        final BitSet seen = new BitSet();
+        int[] nodes = new int[16];
+        int[] depths = new int[16];
+        int[] parents = new int[16];
+        int[] edges = new int[16];
+        int count;
+        int[] followed = new int[16];
+        int followedCount;
+
+        Search(String startId, int direction, int maxDepth, Collection associationTypes) {
+            checkDirection(direction);
+            if (maxDepth < 0) {
+                throw new IllegalArgumentException("maxDepth must not be negative: " + maxDepth);
+            }
+            this.startId = startId;
+            this.direction = direction;
+            this.maxDepth = maxDepth;
+            this.selected = select(associationTypes);
+        }
+
+        /**
+         * Runs the search until the target is reached or the graph is exhausted.
+         *
+         * @param target the handle of the object to find, or -1 to visit all
+         * @return <code>true</code> if the target was reached
+         */
+        boolean run(int target) {
+            int start = handles.get(startId);
+            enqueue(start, 0, -1, -1);
+            if (start < 0) {
+                return false;
+            }
+            for (int head = 0; head < count; head++) {
+                if (depths[head] >= maxDepth) {
+                    continue;
+                }
+                for (int p = 0; p < selected.length; p++) {
+                    if ((direction & OUTGOING) != 0
+                    && follow(row(selected[p].out, nodes[head]), head, target)) {
+                        return true;
+                    }
+                    if ((direction & INCOMING) != 0
+                    && follow(row(selected[p].in, nodes[head]), head, target)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private boolean follow(int[] row, int head, int target) {
+            for (int i = 0; i < row.length; i += 2) {
+                int node = row[i];
+                int edge = row[i + 1];
+                // an edge is in the rows of both its objects
+                if (seen.get(edge)) {
+                    continue;
+                }
+                seen.set(edge);
+                if (followedCount == followed.length) {
+                    followed = Arrays.copyOf(followed, followedCount * 2);
+                }
+                followed[followedCount++] = edge;
+                if (!visited.get(node)) {
+                    enqueue(node, depths[head] + 1, head, edge);
+                    if (node == target) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private void enqueue(int node, int depth, int parent, int edge) {
+            if (count == nodes.length) {
+                nodes = Arrays.copyOf(nodes, count * 2);
+                depths = Arrays.copyOf(depths, count * 2);
+                parents = Arrays.copyOf(parents, count * 2);
+                edges = Arrays.copyOf(edges, count * 2);
+            }
+            if (node >= 0) {
+                visited.set(node);
+            }
+            nodes[count] = node;
+            depths[count] = depth;
+            parents[count] = parent;
+            edges[count] = edge;
+            count++;
+        }
+    }
+
+    /**
+     * The edges of one association type, indexed by object handle.
+     */
+    private static final class Partition {
+        volatile AtomicReferenceArray out;
+        volatile AtomicReferenceArray in;
+
+        Partition(int capacity) {
+            out = new AtomicReferenceArray(capacity);
+            in = new AtomicReferenceArray(capacity);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Partition[] select(Collection associationTypes) {
+        Partition[] all = partitions;
+        if (associationTypes == null) {
+            return all;
+        }
+        List selected = new ArrayList(associationTypes.size());
+        for (Iterator i = associationTypes.iterator(); i.hasNext();) {
+            Object type = i.next();
+            Integer index = (Integer) typeIndex.get(type == null ? "" : type);
+            if (index != null && index.intValue() < all.length) {
+                selected.add(all[index.intValue()]);
+            }
+        }
+        return (Partition[]) selected.toArray(new Partition[selected.size()]);
+    }
+
+    @SuppressWarnings("unchecked")
+    private int partitionOf(String type) {
+        Integer index = (Integer) typeIndex.get(type);
+        if (index == null) {
+            Partition[] grown = Arrays.copyOf(partitions, partitions.length + 1);
+            grown[partitions.length] = new Partition(ids.length);
+            partitions = grown;
+            index = Integer.valueOf(partitions.length - 1);
+            typeIndex.put(type, index);
+        }
+        return index.intValue();
+    }
+
+    /**
+     * Gets the handle of an object, assigning the next one if it has none.
+     * Readers register with the KeyTables, so a handle a concurrent
+     * traversal holds is not assigned to another object.
+     */
+    private int handleOf(String id) {
+        int handle = handles.intern(id);
+        if (handle >= ids.length) {
+            ids = Arrays.copyOf(ids, ids.length * 2);
+            degrees = Arrays.copyOf(degrees, ids.length);
+        }
+        ids[handle] = id;
+        return handle;
+    }
+
+    /**
+     * Forgets an object when its last Association is removed.
+     */
+    private void release(int handle) {
+        if (--degrees[handle] == 0) {
+            handles.remove(ids[handle]);
+            ids[handle] = null;
+        }
+    }
+
+    /**
+     * Adds an edge to the row of an object, growing the table if needed.
+     */
+    @SuppressWarnings("unchecked")
+    private AtomicReferenceArray append(AtomicReferenceArray table, int node, int other, int edge) {
+        if (node >= table.length()) {
+            AtomicReferenceArray grown = new AtomicReferenceArray(Math.max(ids.length, node + 1));
+            for (int i = 0; i < table.length(); i++) {
+                grown.set(i, table.get(i));
+            }
+            table = grown;
+        }
+        int[] row = (int[]) table.get(node);
+        int[] appended = row == null ? new int[2] : Arrays.copyOf(row, row.length + 2);
+        appended[appended.length - 2] = other;
+        appended[appended.length - 1] = edge;
+        table.set(node, appended);
+        return table;
+    }
+
+    private static int[] without(int[] row, int edge) {
+        for (int i = 0; i < row.length; i += 2) {
+            if (row[i + 1] == edge) {
+                if (row.length == 2) {
+                    return null;
+                }
+                int[] removed = new int[row.length - 2];
+                System.arraycopy(row, 0, removed, 0, i);
+                System.arraycopy(row, i + 2, removed, i, row.length - i - 2);
+                return removed;
+            }
+        }
+        return row;
+    }
+
+    private static int[] row(AtomicReferenceArray table, int node) {
+        int[] row = node < table.length() ? (int[]) table.get(node) : null;
+        return row == null ? NO_EDGES : row;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void addEdgeIds(int[] row, String[] names, List result) {
+        for (int i = 1; i < row.length; i += 2) {
+            String name = row[i] < names.length ? names[row[i]] : null;
+            if (name != null) {
+                result.add(name);
+            }
+        }
+    }
+
+    private static void checkDirection(int direction) {
+        if (direction < OUTGOING || direction > BOTH) {
+            throw new IllegalArgumentException("Invalid direction: " + direction);
+        }
+    }
+
+    private static String idOf(RegistryObject object) throws JAXRException {
+        Key key = object == null ? null : object.getKey();
+        return key == null ? null : key.getId();
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.index;
+
+import java.util.*;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * An extension of BusinessQueryManager, implemented by providers that can
+ * follow Associations over more than one hop in a single call, for
+ * instance to find every object an Organization is related to through at
+ * most three Associations.
+ * <p>
+ * A provider may answer these calls from an AssociationGraph over the
+ * saved Associations. Association types are given as Collections of
+ * association type Concepts, or of Strings holding the ids of such
+ * Concepts; <code>null</code> follows Associations of any type.
+ *
+ * @see AssociationGraph
+ */
+public interface AssociationQueryManager extends BusinessQueryManager {
+
+    /**
+     * Follow Associations from their source to their target object.
+     */
+    int OUTGOING = AssociationGraph.OUTGOING;
+
+    /**
+     * Follow Associations from their target to their source object.
+     */
+    int INCOMING = AssociationGraph.INCOMING;
+
+    /**
+     * Follow Associations in both directions.
+     */
+    int BOTH = AssociationGraph.BOTH;
+
+    /**
+     * Finds the objects reachable from an object within a number of hops.
+     *
+     * @param objectKey the Key of the object to start from
+     * @param direction OUTGOING, INCOMING or BOTH
+     * @param maxDepth the maximum number of Associations on a path, or
+     * <code>Integer.MAX_VALUE</code> for no limit
+     * @param associationTypes Collection of association types, or <code>null</code> for all types
+     * @return BulkResponse containing Collection of RegistryObjects, not
+     * including the start object, in order of increasing distance
+     * @throws JAXRException	If the JAXR provider encounters an internal error
+     *
+     */
+    BulkResponse findAssociatedObjects(Key objectKey, int direction, int maxDepth,
+    Collection associationTypes) throws JAXRException;
+
+    /**
+     * Finds the shortest chain of Associations from one object to another.
+     *
+     * @param fromKey the Key of the object to start from
+     * @param toKey the Key of the object to find
+     * @param direction OUTGOING, INCOMING or BOTH
+     * @param maxDepth the maximum number of Associations on the path, or
+     * <code>Integer.MAX_VALUE</code> for no limit
+     * @param associationTypes Collection of association types, or <code>null</code> for all types
+     * @return BulkResponse containing Collection of the Associations on
+     * the path, in order. The Collection is empty if the object is not
+     * reached or is the start object.
+     * @throws JAXRException	If the JAXR provider encounters an internal error
+     *
+     */
+    BulkResponse findAssociationPath(Key fromKey, Key toKey, int direction, int maxDepth,
+    Collection associationTypes) throws JAXRException;
+
+    /**
+     * Determines whether one object can be reached from another within a
+     * number of hops.
+     *
+     * @param fromKey the Key of the object to start from
+     * @param toKey the Key of the object to find
+     * @param direction OUTGOING, INCOMING or BOTH
+     * @param maxDepth the maximum number of Associations on a path, or
+     * <code>Integer.MAX_VALUE</code> for no limit
+     * @param associationTypes Collection of association types, or <code>null</code> for all types
+     * @return <code>true</code> if there is such a path
+     * @throws JAXRException	If the JAXR provider encounters an internal error
+     *
+     */
+    boolean isReachable(Key fromKey, Key toKey, int direction, int maxDepth,
+    Collection associationTypes) throws JAXRException;
+
+    /**
+     * Determines whether saving an Association from one object to another
+     * would close a cycle of Associations of the given types.
+     *
+     * @param sourceKey the Key of the source object
+     * @param targetKey the Key of the target object
+     * @param associationTypes Collection of association types, or <code>null</code> for all types
+     * @return <code>true</code> if the Association would close a cycle
+     * @throws JAXRException	If the JAXR provider encounters an internal error
+     *
+     */
+    boolean createsCycle(Key sourceKey, Key targetKey, Collection associationTypes)
+    throws JAXRException;
+}
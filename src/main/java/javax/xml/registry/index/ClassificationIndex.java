@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.index;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * An inverted index from Classification keys to the objects classified
+ * with them.
+ * <p>
+ * Keys are opaque Strings that identify a Concept, or a
+ * ClassificationScheme together with a value for an external
+ * Classification. Objects are identified by int handles assigned by the
+ * caller, and the objects of a key are kept as a CompressedBitmap. A
+ * posting list is replaced as a whole on every change, so reads never lock
+ * and always see a consistent posting list for each key; concurrent writers
+ * must be serialized by the caller.
+ * <p>
+ * Queries are given in conjunctive normal form, as a List of clauses that
+ * must all match, each an array of keys of which any must match. The
+ * posting lists of a clause are united and the clauses are intersected,
+ * smallest first.
+ *
+ * @see CompressedBitmap
+ */
+public final class ClassificationIndex {
+
+    private final ConcurrentMap postings = new ConcurrentHashMap();
+
+    /**
+     * Adds an object under a key.
+     *
+     * @param key the Classification key
+     * @param handle the handle of the object
+     */
+    @SuppressWarnings("unchecked")
+    public void add(String key, int handle) {
+        postings.put(key, get(key).with(handle));
+    }
+
+    /**
+     * Removes an object from a key.
+     *
+     * @param key the Classification key
+     * @param handle the handle of the object
+     */
+    @SuppressWarnings("unchecked")
+    public void remove(String key, int handle) {
+        CompressedBitmap handles = (CompressedBitmap) postings.get(key);
+        if (handles != null) {
+            handles = handles.without(handle);
+            if (handles.isEmpty()) {
+                postings.remove(key);
+            } else {
+                postings.put(key, handles);
+            }
+        }
+    }
+
+    /**
+     * Gets the objects classified with a key.
+     *
+     * @param key the Classification key
+     * @return the handles of the objects. The bitmap may be empty but not null.
+     */
+    public CompressedBitmap get(String key) {
+        CompressedBitmap handles = key == null ? null : (CompressedBitmap) postings.get(key);
+        return handles == null ? CompressedBitmap.EMPTY : handles;
+    }
+
+    /**
+     * Gets the objects classified with any of the given keys.
+     *
+     * @param keys the Classification keys
+     * @return the handles of the objects. The bitmap may be empty but not null.
+     */
+    public CompressedBitmap any(String[] keys) {
+        if (keys.length == 1) {
+            return get(keys[0]);
+        }
+        CompressedBitmap[] handles = new CompressedBitmap[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            handles[i] = get(keys[i]);
+        }
+        return CompressedBitmap.or(handles);
+    }
+
+    /**
+     * Gets the objects that match all clauses.
+     *
+     * @param clauses List of String arrays, each holding alternative keys
+     * @return the handles of the objects. The bitmap may be empty but not null.
+     */
+    public CompressedBitmap match(List clauses) {
+        CompressedBitmap[] handles = new CompressedBitmap[clauses.size()];
+        for (int i = 0; i < handles.length; i++) {
+            handles[i] = any((String[]) clauses.get(i));
+            if (handles[i].isEmpty()) {
+                return CompressedBitmap.EMPTY;
+            }
+        }
+        return CompressedBitmap.and(handles);
+    }
+
+    /**
+     * Gets the number of keys.
+     *
+     * @return the key count
+     */
+    public int size() {
+        return postings.size();
+    }
+
+    /**
+     * Removes all keys.
+     */
+    public void clear() {
+        postings.clear();
+    }
+}
@@ -0,0 +1,635 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.index;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.IntConsumer;
+
+/**
+ * An immutable compressed set of ints, organized like a Roaring bitmap.
+ * <p>
+ * Values are split into their high and low 16 bits. The low bits of all
+ * values sharing the same high bits are kept in one container: a sorted
+ * array of up to 4096 values, or a bitmap of 65536 bits when there are
+ * more. Intersections and unions are computed container by container, so
+ * their cost depends on the number of containers and their density rather
+ * than on the number of values.
+ * <p>
+ * Values are ordered as unsigned ints. A bitmap is never modified; with
+ * and without return a new bitmap that shares all containers but the one
+ * that changed, so a bitmap can be published to concurrent readers
+ * without locking.
+ */
+public final class CompressedBitmap {
+
+    /**
+     * The empty bitmap.
+     */
+    public static final CompressedBitmap EMPTY = new CompressedBitmap(new char[0], new Container[0], 0);
+
+    private static final int MAX_ARRAY = 4096;
+
+    private static final Comparator BY_CARDINALITY = new Comparator() {
+        public int compare(Object a, Object b) {
+            return Integer.compare(((CompressedBitmap) a).cardinality, ((CompressedBitmap) b).cardinality);
+        }
+    };
+
+    private final char[] keys;
+    private final Container[] containers;
+    private final int cardinality;
+
+    private CompressedBitmap(char[] keys, Container[] containers, int cardinality) {
+        this.keys = keys;
+        this.containers = containers;
+        this.cardinality = cardinality;
+    }
+
+    /**
+     * Creates a bitmap of the given values.
+     *
+     * @param values the values, in any order and possibly repeated
+     * @param length the number of values to take from the array
+     * @return the bitmap
+     */
+    public static CompressedBitmap of(int[] values, int length) {
+        if (length == 0) {
+            return EMPTY;
+        }
+        int[] sorted = new int[length];
+        for (int i = 0; i < length; i++) {
+            sorted[i] = values[i] ^ Integer.MIN_VALUE;
+        }
+        Arrays.sort(sorted);
+        char[] keys = new char[length];
+        Container[] containers = new Container[length];
+        char[] lows = new char[Math.min(length, 65536)];
+        int count = 0;
+        int total = 0;
+        int i = 0;
+        while (i < length) {
+            int high = (sorted[i] ^ Integer.MIN_VALUE) >>> 16;
+            int n = 0;
+            for (; i < length && (sorted[i] ^ Integer.MIN_VALUE) >>> 16 == high; i++) {
+                char low = (char) sorted[i];
+                if (n == 0 || lows[n - 1] != low) {
+                    lows[n++] = low;
+                }
+            }
+            keys[count] = (char) high;
+            containers[count++] = container(lows, n);
+            total += n;
+        }
+        return new CompressedBitmap(Arrays.copyOf(keys, count), Arrays.copyOf(containers, count), total);
+    }
+
+    /**
+     * Gets the number of values.
+     *
+     * @return the cardinality
+     */
+    public int cardinality() {
+        return cardinality;
+    }
+
+    /**
+     * Determines whether the bitmap has no values.
+     *
+     * @return <code>true</code> if the bitmap is empty
+     */
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    /**
+     * Determines whether the bitmap contains a value.
+     *
+     * @param value the value
+     * @return <code>true</code> if the value is contained
+     */
+    public boolean contains(int value) {
+        int i = Arrays.binarySearch(keys, (char) (value >>> 16));
+        return i >= 0 && containers[i].contains((char) value);
+    }
+
+    /**
+     * Returns a bitmap that also contains a value.
+     *
+     * @param value the value to add
+     * @return the new bitmap, or this bitmap if it already contains the value
+     */
+    public CompressedBitmap with(int value) {
+        char high = (char) (value >>> 16);
+        int i = Arrays.binarySearch(keys, high);
+        if (i >= 0) {
+            Container container = containers[i].add((char) value);
+            if (container == containers[i]) {
+                return this;
+            }
+            Container[] copy = containers.clone();
+            copy[i] = container;
+            return new CompressedBitmap(keys, copy, cardinality + 1);
+        }
+        i = -i - 1;
+        char[] k = new char[keys.length + 1];
+        Container[] c = new Container[keys.length + 1];
+        System.arraycopy(keys, 0, k, 0, i);
+        System.arraycopy(containers, 0, c, 0, i);
+        k[i] = high;
+        c[i] = new ArrayContainer(new char[] { (char) value });
+        System.arraycopy(keys, i, k, i + 1, keys.length - i);
+        System.arraycopy(containers, i, c, i + 1, keys.length - i);
+        return new CompressedBitmap(k, c, cardinality + 1);
+    }
+
+    /**
+     * Returns a bitmap that does not contain a value.
+     *
+     * @param value the value to remove
+     * @return the new bitmap, or this bitmap if it does not contain the value
+     */
+    public CompressedBitmap without(int value) {
+        int i = Arrays.binarySearch(keys, (char) (value >>> 16));
+        if (i < 0) {
+            return this;
+        }
+        Container container = containers[i].remove((char) value);
+        if (container == containers[i]) {
+            return this;
+        }
+        if (container != null) {
+            Container[] copy = containers.clone();
+            copy[i] = container;
+            return new CompressedBitmap(keys, copy, cardinality - 1);
+        }
+        if (cardinality == 1) {
+            return EMPTY;
+        }
+        char[] k = new char[keys.length - 1];
+        Container[] c = new Container[keys.length - 1];
+        System.arraycopy(keys, 0, k, 0, i);
+        System.arraycopy(containers, 0, c, 0, i);
+        System.arraycopy(keys, i + 1, k, i, k.length - i);
+        System.arraycopy(containers, i + 1, c, i, c.length - i);
+        return new CompressedBitmap(k, c, cardinality - 1);
+    }
+
+    /**
+     * Computes the intersection of two bitmaps.
+     *
+     * @param a a bitmap
+     * @param b another bitmap
+     * @return the values contained in both
+     */
+    public static CompressedBitmap and(CompressedBitmap a, CompressedBitmap b) {
+        if (a.isEmpty() || b.isEmpty()) {
+            return EMPTY;
+        }
+        int size = Math.min(a.keys.length, b.keys.length);
+        char[] keys = new char[size];
+        Container[] containers = new Container[size];
+        int count = 0;
+        int total = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.keys.length && j < b.keys.length) {
+            if (a.keys[i] < b.keys[j]) {
+                i++;
+            } else if (a.keys[i] > b.keys[j]) {
+                j++;
+            } else {
+                Container container = a.containers[i].and(b.containers[j]);
+                if (container != null) {
+                    keys[count] = a.keys[i];
+                    containers[count++] = container;
+                    total += container.cardinality();
+                }
+                i++;
+                j++;
+            }
+        }
+        return create(keys, containers, count, total);
+    }
+
+    /**
+     * Computes the intersection of any number of bitmaps. The smallest
+     * bitmaps are intersected first, and the computation stops as soon as
+     * the intersection is empty.
+     *
+     * @param bitmaps the bitmaps
+     * @return the values contained in all bitmaps, or EMPTY if there are no bitmaps
+     */
+    @SuppressWarnings("unchecked")
+    public static CompressedBitmap and(CompressedBitmap[] bitmaps) {
+        if (bitmaps.length == 0) {
+            return EMPTY;
+        }
+        CompressedBitmap[] sorted = bitmaps.clone();
+        Arrays.sort(sorted, BY_CARDINALITY);
+        CompressedBitmap result = sorted[0];
+        for (int i = 1; i < sorted.length && !result.isEmpty(); i++) {
+            result = and(result, sorted[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Computes the union of two bitmaps.
+     *
+     * @param a a bitmap
+     * @param b another bitmap
+     * @return the values contained in either
+     */
+    public static CompressedBitmap or(CompressedBitmap a, CompressedBitmap b) {
+        if (a.isEmpty()) {
+            return b;
+        }
+        if (b.isEmpty()) {
+            return a;
+        }
+        int size = a.keys.length + b.keys.length;
+        char[] keys = new char[size];
+        Container[] containers = new Container[size];
+        int count = 0;
+        int total = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.keys.length || j < b.keys.length) {
+            Container container;
+            if (j == b.keys.length || i < a.keys.length && a.keys[i] < b.keys[j]) {
+                keys[count] = a.keys[i];
+                container = a.containers[i++];
+            } else if (i == a.keys.length || a.keys[i] > b.keys[j]) {
+                keys[count] = b.keys[j];
+                container = b.containers[j++];
+            } else {
+                keys[count] = a.keys[i];
+                container = a.containers[i++].or(b.containers[j++]);
+            }
+            containers[count++] = container;
+            total += container.cardinality();
+        }
+        return create(keys, containers, count, total);
+    }
+
+    /**
+     * Computes the union of any number of bitmaps, merging them pairwise
+     * so that every value is copied a logarithmic number of times.
+     *
+     * @param bitmaps the bitmaps
+     * @return the values contained in any bitmap, or EMPTY if there are no bitmaps
+     */
+    public static CompressedBitmap or(CompressedBitmap[] bitmaps) {
+        if (bitmaps.length == 0) {
+            return EMPTY;
+        }
+        CompressedBitmap[] level = bitmaps.clone();
+        for (int n = level.length; n > 1; n = (n + 1) / 2) {
+            for (int i = 0; i < n / 2; i++) {
+                level[i] = or(level[2 * i], level[2 * i + 1]);
+            }
+            if (n % 2 == 1) {
+                level[n / 2] = level[n - 1];
+            }
+        }
+        return level[0];
+    }
+
+    /**
+     * Calls an action for each value, in ascending unsigned order.
+     *
+     * @param action the action
+     */
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < keys.length; i++) {
+            containers[i].forEach(keys[i] << 16, action);
+        }
+    }
+
+    /**
+     * Gets the values as an array, in ascending unsigned order.
+     *
+     * @return a new array of cardinality values
+     */
+    public int[] toArray() {
+        int[] values = new int[cardinality];
+        int offset = 0;
+        for (int i = 0; i < keys.length; i++) {
+            offset = containers[i].copyTo(keys[i] << 16, values, offset);
+        }
+        return values;
+    }
+
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CompressedBitmap)) {
+            return false;
+        }
+        CompressedBitmap other = (CompressedBitmap) o;
+        return cardinality == other.cardinality && Arrays.equals(toArray(), other.toArray());
+    }
+
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    public String toString() {
+        return "CompressedBitmap[" + cardinality + " values in " + keys.length + " containers]";
+    }
+
+    private static CompressedBitmap create(char[] keys, Container[] containers, int count, int total) {
+        if (count == 0) {
+            return EMPTY;
+        }
+        return new CompressedBitmap(count == keys.length ? keys : Arrays.copyOf(keys, count),
+        count == containers.length ? containers : Arrays.copyOf(containers, count), total);
+    }
+
+    private static Container container(char[] lows, int n) {
+        if (n <= MAX_ARRAY) {
+            return new ArrayContainer(Arrays.copyOf(lows, n));
+        }
+        long[] words = new long[1024];
+        for (int i = 0; i < n; i++) {
+            words[lows[i] >>> 6] |= 1L << lows[i];
+        }
+        return new BitmapContainer(words, n);
+    }
+
+    /**
+     * The low 16 bits of the values sharing the same high 16 bits.
+     * Containers are immutable; add and remove return this container if
+     * nothing changes, and remove and and return <code>null</code> for an
+     * empty result.
+     */
+    private abstract static class Container {
+
+        abstract int cardinality();
+
+        abstract boolean contains(char low);
+
+        abstract Container add(char low);
+
+        abstract Container remove(char low);
+
+        abstract Container and(Container other);
+
+        abstract Container or(Container other);
+
+        abstract void forEach(int high, IntConsumer action);
+
+        abstract int copyTo(int high, int[] values, int offset);
+    }
+
+    private static final class ArrayContainer extends Container {
+
+        private final char[] values;
+
+        ArrayContainer(char[] values) {
+            this.values = values;
+        }
+
+        int cardinality() {
+            return values.length;
+        }
+
+        boolean contains(char low) {
+            return Arrays.binarySearch(values, low) >= 0;
+        }
+
+        Container add(char low) {
+            int i = Arrays.binarySearch(values, low);
+            if (i >= 0) {
+                return this;
+            }
+            if (values.length == MAX_ARRAY) {
+                return container(values, values.length).or(new ArrayContainer(new char[] { low }));
+            }
+            i = -i - 1;
+            char[] copy = new char[values.length + 1];
+            System.arraycopy(values, 0, copy, 0, i);
+            copy[i] = low;
+            System.arraycopy(values, i, copy, i + 1, values.length - i);
+            return new ArrayContainer(copy);
+        }
+
+        Container remove(char low) {
+            int i = Arrays.binarySearch(values, low);
+            if (i < 0) {
+                return this;
+            }
+            if (values.length == 1) {
+                return null;
+            }
+            char[] copy = new char[values.length - 1];
+            System.arraycopy(values, 0, copy, 0, i);
+            System.arraycopy(values, i + 1, copy, i, copy.length - i);
+            return new ArrayContainer(copy);
+        }
+
+        Container and(Container other) {
+            char[] result = new char[Math.min(values.length, other.cardinality())];
+            int n = 0;
+            if (other instanceof BitmapContainer) {
+                BitmapContainer bitmap = (BitmapContainer) other;
+                for (int i = 0; i < values.length; i++) {
+                    if (bitmap.contains(values[i])) {
+                        result[n++] = values[i];
+                    }
+                }
+            } else {
+                char[] small = values;
+                char[] large = ((ArrayContainer) other).values;
+                if (small.length > large.length) {
+                    small = large;
+                    large = values;
+                }
+                if (small.length * 32 < large.length) {
+                    // galloping: look up the few values of the small array in the large one
+                    int from = 0;
+                    for (int i = 0; i < small.length && from < large.length; i++) {
+                        int j = Arrays.binarySearch(large, from, large.length, small[i]);
+                        if (j >= 0) {
+                            result[n++] = small[i];
+                            from = j + 1;
+                        } else {
+                            from = -j - 1;
+                        }
+                    }
+                } else {
+                    int i = 0;
+                    int j = 0;
+                    while (i < small.length && j < large.length) {
+                        if (small[i] < large[j]) {
+                            i++;
+                        } else if (small[i] > large[j]) {
+                            j++;
+                        } else {
+                            result[n++] = small[i++];
+                            j++;
+                        }
+                    }
+                }
+            }
+            return n == 0 ? null : new ArrayContainer(n == result.length ? result : Arrays.copyOf(result, n));
+        }
+
+        Container or(Container other) {
+            if (other instanceof BitmapContainer) {
+                return other.or(this);
+            }
+            char[] b = ((ArrayContainer) other).values;
+            char[] result = new char[values.length + b.length];
+            int n = 0;
+            int i = 0;
+            int j = 0;
+            while (i < values.length || j < b.length) {
+                if (j == b.length || i < values.length && values[i] < b[j]) {
+                    result[n++] = values[i++];
+                } else if (i == values.length || values[i] > b[j]) {
+                    result[n++] = b[j++];
+                } else {
+                    result[n++] = values[i++];
+                    j++;
+                }
+            }
+            return n > MAX_ARRAY ? container(result, n) : new ArrayContainer(n == result.length ? result : Arrays.copyOf(result, n));
+        }
+
+        void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < values.length; i++) {
+                action.accept(high | values[i]);
+            }
+        }
+
+        int copyTo(int high, int[] result, int offset) {
+            for (int i = 0; i < values.length; i++) {
+                result[offset++] = high | values[i];
+            }
+            return offset;
+        }
+    }
+
+    private static final class BitmapContainer extends Container {
+
+        private final long[] words;
+        private final int cardinality;
+
+        BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        int cardinality() {
+            return cardinality;
+        }
+
+        boolean contains(char low) {
+            return (words[low >>> 6] & 1L << low) != 0;
+        }
+
+        Container add(char low) {
+            if (contains(low)) {
+                return this;
+            }
+            long[] copy = words.clone();
+            copy[low >>> 6] |= 1L << low;
+            return new BitmapContainer(copy, cardinality + 1);
+        }
+
+        Container remove(char low) {
+            if (!contains(low)) {
+                return this;
+            }
+            long[] copy = words.clone();
+            copy[low >>> 6] &= ~(1L << low);
+            return shrink(copy, cardinality - 1);
+        }
+
+        Container and(Container other) {
+            if (other instanceof ArrayContainer) {
+                return other.and(this);
+            }
+            long[] b = ((BitmapContainer) other).words;
+            long[] result = new long[1024];
+            int n = 0;
+            for (int i = 0; i < 1024; i++) {
+                result[i] = words[i] & b[i];
+                n += Long.bitCount(result[i]);
+            }
+            return n == 0 ? null : shrink(result, n);
+        }
+
+        Container or(Container other) {
+            long[] result = words.clone();
+            int n;
+            if (other instanceof ArrayContainer) {
+                n = cardinality;
+                char[] values = ((ArrayContainer) other).values;
+                for (int i = 0; i < values.length; i++) {
+                    long bit = 1L << values[i];
+                    if ((result[values[i] >>> 6] & bit) == 0) {
+                        result[values[i] >>> 6] |= bit;
+                        n++;
+                    }
+                }
+            } else {
+                long[] b = ((BitmapContainer) other).words;
+                n = 0;
+                for (int i = 0; i < 1024; i++) {
+                    result[i] |= b[i];
+                    n += Long.bitCount(result[i]);
+                }
+            }
+            return new BitmapContainer(result, n);
+        }
+
+        void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < 1024; i++) {
+                for (long word = words[i]; word != 0; word &= word - 1) {
+                    action.accept(high | i << 6 | Long.numberOfTrailingZeros(word));
+                }
+            }
+        }
+
+        int copyTo(int high, int[] result, int offset) {
+            for (int i = 0; i < 1024; i++) {
+                for (long word = words[i]; word != 0; word &= word - 1) {
+                    result[offset++] = high | i << 6 | Long.numberOfTrailingZeros(word);
+                }
+            }
+            return offset;
+        }
+
+        private static Container shrink(long[] words, int cardinality) {
+            if (cardinality > MAX_ARRAY) {
+                return new BitmapContainer(words, cardinality);
+            }
+            char[] values = new char[cardinality];
+            int n = 0;
+            for (int i = 0; i < 1024; i++) {
+                for (long word = words[i]; word != 0; word &= word - 1) {
+                    values[n++] = (char) (i << 6 | Long.numberOfTrailingZeros(word));
+                }
+            }
+            return new ArrayContainer(values);
+        }
+    }
+}
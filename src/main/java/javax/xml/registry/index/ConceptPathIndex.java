@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.index;
+
+import java.util.*;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * An immutable path trie over the Concepts of one or more ClassificationSchemes.
+ * <p>
+ * Each level of the trie corresponds to one segment of the canonical
+ * Concept path, for instance <code>/schemeId/31/311/3111</code>. The children
+ * of a node are kept in a sorted array and found by binary search, comparing
+ * the segments in place so that a lookup does not allocate. An index is
+ * safe for use by any number of threads without locking.
+ *
+ * @see ConceptPathResolver
+ * @see Concept#getPath()
+ */
+public final class ConceptPathIndex {
+
+    private static final String[] NO_SEGMENTS = new String[0];
+    private static final Node[] NO_NODES = new Node[0];
+
+    private final Node root;
+    private final int size;
+    private final Set schemeIds;
+
+    private ConceptPathIndex(Node root, int size, Set schemeIds) {
+        this.root = root;
+        this.size = size;
+        this.schemeIds = schemeIds;
+    }
+
+    /**
+     * Builds an index over the descendant Concepts of the given schemes.
+     *
+     * @param schemes a Collection of ClassificationScheme instances
+     * @return the index
+     * @throws JAXRException	If the JAXR provider encounters an internal error
+     *
+     */
+    @SuppressWarnings("unchecked")
+    public static ConceptPathIndex build(Collection schemes) throws JAXRException {
+        Builder root = new Builder();
+        Set ids = new HashSet();
+        int count = 0;
+        for (Iterator i = schemes.iterator(); i.hasNext();) {
+            ClassificationScheme scheme = (ClassificationScheme) i.next();
+            Key key = scheme.getKey();
+            if (key != null && key.getId() != null) {
+                ids.add(key.getId());
+            }
+            Collection concepts = scheme.getDescendantConcepts();
+            if (concepts == null) {
+                continue;
+            }
+            for (Iterator j = concepts.iterator(); j.hasNext();) {
+                Concept concept = (Concept) j.next();
+                String path = concept.getPath();
+                if (path == null) {
+                    path = pathOf(concept);
+                }
+                if (path != null && root.add(path, concept)) {
+                    count++;
+                }
+            }
+        }
+        return new ConceptPathIndex(root.freeze(), count, Collections.unmodifiableSet(ids));
+    }
+
+    /**
+     * Builds an index over the descendant Concepts of a single scheme.
+     *
+     * @param scheme the ClassificationScheme
+     * @return the index
+     * @throws JAXRException	If the JAXR provider encounters an internal error
+     *
+     */
+    public static ConceptPathIndex build(ClassificationScheme scheme) throws JAXRException {
+        return build(Collections.singleton(scheme));
+    }
+
+    /**
+     * Finds the Concept with the given canonical path.
+     *
+     * @param path the canonical path of the Concept
+     * @return the Concept, or <code>null</code> if the index holds no Concept with that path
+     */
+    public Concept findConceptByPath(String path) {
+        Node node = root;
+        int length = path.length();
+        int start = 0;
+        while (start < length) {
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = length;
+            }
+            if (end > start) {
+                node = node.child(path, start, end);
+                if (node == null) {
+                    return null;
+                }
+            }
+            start = end + 1;
+        }
+        return node == root ? null : node.concept;
+    }
+
+    /**
+     * Determines whether the index covers the scheme with the given id,
+     * so that a failed lookup of a path below it is authoritative.
+     *
+     * @param schemeId the id of the ClassificationScheme's Key
+     * @return <code>true</code> if the scheme was indexed; <code>false</code> otherwise
+     */
+    public boolean containsScheme(String schemeId) {
+        return schemeIds.contains(schemeId);
+    }
+
+    /**
+     * Gets the ids of the indexed schemes.
+     *
+     * @return Set of scheme ids
+     */
+    public Set getSchemeIds() {
+        return schemeIds;
+    }
+
+    /**
+     * Gets the number of indexed Concepts.
+     *
+     * @return the Concept count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Computes the canonical path of a Concept from its ancestors, for
+     * providers that do not implement Concept.getPath.
+     */
+    @SuppressWarnings("unchecked")
+    private static String pathOf(Concept concept) throws JAXRException {
+        LinkedList segments = new LinkedList();
+        Concept c = concept;
+        while (c != null) {
+            if (c.getValue() == null) {
+                return null;
+            }
+            segments.addFirst(c.getValue());
+            Concept parent = c.getParentConcept();
+            if (parent == null) {
+                ClassificationScheme scheme = c.getClassificationScheme();
+                if (scheme == null || scheme.getKey() == null) {
+                    return null;
+                }
+                segments.addFirst(scheme.getKey().getId());
+            }
+            c = parent;
+        }
+        StringBuilder path = new StringBuilder();
+        for (Iterator i = segments.iterator(); i.hasNext();) {
+            path.append('/').append(i.next());
+        }
+        return path.toString();
+    }
+
+    /**
+     * Compares the region [from, to) of path with s, consistent with String.compareTo.
+     */
+    private static int compare(String path, int from, int to, String s) {
+        int len1 = to - from;
+        int len2 = s.length();
+        int n = Math.min(len1, len2);
+        for (int i = 0; i < n; i++) {
+            char c1 = path.charAt(from + i);
+            char c2 = s.charAt(i);
+            if (c1 != c2) {
+                return c1 - c2;
+            }
+        }
+        return len1 - len2;
+    }
+
+    private static final class Node {
+        final String[] segments;
+        final Node[] children;
+        final Concept concept;
+
+        Node(String[] segments, Node[] children, Concept concept) {
+            this.segments = segments;
+            this.children = children;
+            this.concept = concept;
+        }
+
+        Node child(String path, int from, int to) {
+            int low = 0;
+            int high = segments.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int cmp = compare(path, from, to, segments[mid]);
+                if (cmp > 0) {
+                    low = mid + 1;
+                } else if (cmp < 0) {
+                    high = mid - 1;
+                } else {
+                    return children[mid];
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final class Builder {
+        final TreeMap children = new TreeMap();
+        Concept concept;
+
+        /**
+         * Adds a Concept; returns false if another Concept already has the same path.
+         */
+        @SuppressWarnings("unchecked")
+        boolean add(String path, Concept value) {
+            Builder node = this;
+            StringTokenizer tokens = new StringTokenizer(path, "/");
+            while (tokens.hasMoreTokens()) {
+                String segment = tokens.nextToken();
+                Builder child = (Builder) node.children.get(segment);
+                if (child == null) {
+                    child = new Builder();
+                    node.children.put(segment, child);
+                }
+                node = child;
+            }
+            if (node == this || node.concept != null) {
+                return false;
+            }
+            node.concept = value;
+            return true;
+        }
+
+        Node freeze() {
+            if (children.isEmpty()) {
+                return new Node(NO_SEGMENTS, NO_NODES, concept);
+            }
+            String[] segments = new String[children.size()];
+            Node[] nodes = new Node[children.size()];
+            int i = 0;
+            for (Iterator it = children.entrySet().iterator(); it.hasNext(); i++) {
+                Map.Entry entry = (Map.Entry) it.next();
+                segments[i] = (String) entry.getKey();
+                nodes[i] = ((Builder) entry.getValue()).freeze();
+            }
+            return new Node(segments, nodes, concept);
+        }
+    }
+}
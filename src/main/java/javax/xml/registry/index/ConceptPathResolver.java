@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.index;
+
+import java.util.*;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * Resolves Concept paths against a local ConceptPathIndex of selected
+ * ClassificationSchemes, such as NAICS or UNSPSC, without a registry round trip.
+ * <p>
+ * Paths below an indexed scheme are answered from the index only. Paths
+ * below any other scheme are passed on to the BusinessQueryManager.
+ * Calling refresh reloads the schemes from the registry, builds a new index
+ * and publishes it atomically; lookups running concurrently keep using
+ * the previous index.
+ *
+ * @see ConceptPathIndex
+ */
+public class ConceptPathResolver {
+
+    private final BusinessQueryManager queryManager;
+    private final List schemeIds;
+    private volatile ConceptPathIndex index;
+
+    /**
+     * Creates a resolver over the given schemes and builds its first index.
+     *
+     * @param queryManager the BusinessQueryManager used to load the schemes and to resolve other paths
+     * @param schemeIds the ids of the ClassificationSchemes to index
+     * @throws JAXRException	If the JAXR provider encounters an internal error
+     *
+     */
+    @SuppressWarnings("unchecked")
+    public ConceptPathResolver(BusinessQueryManager queryManager, Collection schemeIds)
+    throws JAXRException {
+        if (queryManager == null || schemeIds == null) {
+            throw new IllegalArgumentException("queryManager and schemeIds must not be null");
+        }
+        this.queryManager = queryManager;
+        this.schemeIds = new ArrayList(schemeIds);
+        refresh();
+    }
+
+    /**
+     * Finds a Concept by its canonical path.
+     *
+     * @param path a canonical path expression that identifies the Concept
+     * @return the Concept found, or <code>null</code> if no match is found
+     * @throws JAXRException	If the path belongs to a scheme that is not indexed and the JAXR provider encounters an internal error
+     *
+     */
+    public Concept findConceptByPath(String path) throws JAXRException {
+        ConceptPathIndex current = index;
+        Concept concept = current.findConceptByPath(path);
+        if (concept != null || current.containsScheme(schemeOf(path))) {
+            return concept;
+        }
+        return queryManager.findConceptByPath(path);
+    }
+
+    /**
+     * Reloads the indexed schemes from the registry and replaces the index.
+     *
+     * @throws JAXRException	If the JAXR provider encounters an internal error; the previous index stays in use
+     *
+     */
+    @SuppressWarnings("unchecked")
+    public void refresh() throws JAXRException {
+        List schemes = new ArrayList(schemeIds.size());
+        for (Iterator i = schemeIds.iterator(); i.hasNext();) {
+            String id = (String) i.next();
+            RegistryObject scheme = queryManager.getRegistryObject(id, LifeCycleManager.CLASSIFICATION_SCHEME);
+            if (scheme == null) {
+                throw new InvalidRequestException("ClassificationScheme " + id + " not found");
+            }
+            schemes.add(scheme);
+        }
+        index = ConceptPathIndex.build(schemes);
+    }
+
+    /**
+     * Gets the index currently in use.
+     *
+     * @return the current ConceptPathIndex
+     */
+    public ConceptPathIndex getIndex() {
+        return index;
+    }
+
+    private static String schemeOf(String path) {
+        int start = 0;
+        while (start < path.length() && path.charAt(start) == '/') {
+            start++;
+        }
+        int end = path.indexOf('/', start);
+        return path.substring(start, end < 0 ? path.length() : end);
+    }
+}
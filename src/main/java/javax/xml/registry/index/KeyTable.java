@@ -0,0 +1,488 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.index;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * A table of registry object ids, each mapped to a dense int handle, so that
+ * indexes can refer to objects by handle instead of by id.
+ * <p>
+ * Ids that are UUIDs in canonical lower case form, bare or with a
+ * <code>uuid:</code> or <code>urn:uuid:</code> prefix, are not kept as
+ * Strings: the UUID is stored as two longs in a direct buffer outside the
+ * heap, indexed by handle, and found through an open addressing hash table
+ * that is also kept outside the heap. Other ids are kept in a hash map.
+ * <p>
+ * A UUID id costs about 25 bytes outside the heap. Only an index that
+ * refers to objects by handle, such as a ClassificationIndex, SlotIndex or
+ * AssociationGraph, holds 4 bytes per reference instead of an id String;
+ * structures that still key or refer to objects by id, such as the records
+ * of the in-memory registry, keep the id Strings on the heap as before.
+ * <p>
+ * Handles are assigned in order. The handle of a removed id is assigned
+ * again, so that the table and the arrays callers keep by handle grow with
+ * the number of live ids rather than with the number of changes, but only
+ * after every reader that was registered with enter when the id was
+ * removed has exited. A reader that holds handles read from an index and
+ * maps them back to ids or records must register, so that a handle it holds
+ * never names another object. Reads never lock and see every completed
+ * change; concurrent writers must be serialized by the caller.
+ */
+public final class KeyTable {
+
+    private static final byte FREE = 0;
+    private static final byte OTHER = 1;
+    private static final byte BARE = 2;
+    private static final String[] PREFIXES = {null, null, "", "uuid:", "urn:uuid:"};
+    private static final int UUID_LENGTH = 36;
+    private static final int DELETED = -1;
+    private static final byte[] DIGITS = new byte[128];
+
+    static {
+        Arrays.fill(DIGITS, (byte) -1);
+        for (int i = 0; i < 10; i++) {
+            DIGITS['0' + i] = (byte) i;
+        }
+        for (int i = 0; i < 6; i++) {
+            DIGITS['a' + i] = (byte) (10 + i);
+        }
+    }
+
+    private final ConcurrentMap others = new ConcurrentHashMap();
+    private final ConcurrentMap otherIds = new ConcurrentHashMap();
+    private volatile ByteBuffer keys;
+    private volatile byte[] kinds;
+    private volatile IntBuffer slots;
+    private int handleCount;
+    private int live;
+    private int used;
+    private volatile int published;
+
+    /**
+     * Readers are counted by the parity of the epoch they entered in. A
+     * handle removed in epoch <i>e</i> is free once the epoch has advanced to
+     * <i>e</i> + 2, which requires that the readers of epoch <i>e</i> have
+     * exited.
+     */
+    private final AtomicIntegerArray readers = new AtomicIntegerArray(2);
+    private volatile long epoch;
+    private int[] retired = new int[16];
+    private long[] retiredEpochs = new long[16];
+    private int retiredCount;
+    private int[] free = new int[16];
+    private int freeCount;
+
+    /**
+     * Creates an empty table.
+     */
+    public KeyTable() {
+        this(64);
+    }
+
+    /**
+     * Creates an empty table with room for the given number of ids.
+     *
+     * @param expectedSize the number of ids the table holds before it grows
+     */
+    public KeyTable(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize must not be negative: " + expectedSize);
+        }
+        allocate(Math.max(expectedSize, 16));
+    }
+
+    /**
+     * Gets the handle of an id, assigning the next handle if it has none.
+     *
+     * @param id the id
+     * @return the handle
+     */
+    @SuppressWarnings("unchecked")
+    public int intern(String id) {
+        int handle = get(id);
+        if (handle >= 0) {
+            return handle;
+        }
+        handle = reclaim();
+        if (handle < 0) {
+            handle = handleCount;
+            if (handle == kinds.length) {
+                grow();
+            }
+        }
+        byte kind = kindOf(id);
+        if (kind == OTHER) {
+            Integer h = Integer.valueOf(handle);
+            otherIds.put(h, id);
+            others.put(id, h);
+        } else {
+            int offset = PREFIXES[kind].length();
+            long msb = mostSignificantBits(id, offset);
+            long lsb = leastSignificantBits(id, offset);
+            keys.putLong(handle * 16, msb);
+            keys.putLong(handle * 16 + 8, lsb);
+            if (2 * (used + 1) > slots.capacity()) {
+                rehash(Math.max(slots.capacity(), Integer.highestOneBit(4 * (live + 1))));
+            }
+            insert(slots, handle, msb, lsb);
+            used++;
+        }
+        kinds[handle] = kind;
+        if (handle == handleCount) {
+            handleCount++;
+        }
+        live++;
+        published = handleCount;
+        return handle;
+    }
+
+    /**
+     * Gets the handle of an id.
+     *
+     * @param id the id
+     * @return the handle, or -1 if the id is not in the table
+     */
+    public int get(String id) {
+        // reading the handle count first makes all completed changes visible
+        if (id == null || published == 0) {
+            return -1;
+        }
+        byte kind = kindOf(id);
+        if (kind == OTHER) {
+            Integer handle = (Integer) others.get(id);
+            return handle == null ? -1 : handle.intValue();
+        }
+        int offset = PREFIXES[kind].length();
+        return find(mostSignificantBits(id, offset), leastSignificantBits(id, offset), kind, false);
+    }
+
+    /**
+     * Gets the handle of the id of a Key.
+     *
+     * @param key the Key
+     * @return the handle, or -1 if the Key or its id is not in the table
+     * @throws JAXRException	If the JAXR provider encounters an internal error
+     *
+     */
+    public int get(Key key) throws JAXRException {
+        return key == null ? -1 : get(key.getId());
+    }
+
+    /**
+     * Gets the id of a handle.
+     *
+     * @param handle the handle
+     * @return the id, or <code>null</code> if the handle was not assigned or
+     * its id was removed
+     */
+    public String getId(int handle) {
+        if (handle < 0 || handle >= published) {
+            return null;
+        }
+        byte kind = kinds[handle];
+        if (kind == FREE) {
+            return null;
+        }
+        if (kind == OTHER) {
+            return (String) otherIds.get(Integer.valueOf(handle));
+        }
+        ByteBuffer k = keys;
+        String uuid = new UUID(k.getLong(handle * 16), k.getLong(handle * 16 + 8)).toString();
+        return kind == BARE ? uuid : PREFIXES[kind] + uuid;
+    }
+
+    /**
+     * Removes an id. Its handle is assigned again once the readers registered
+     * now have exited.
+     *
+     * @param id the id
+     * @return <code>true</code> if the id was in the table
+     */
+    public boolean remove(String id) {
+        int handle = get(id);
+        if (handle < 0) {
+            return false;
+        }
+        byte kind = kinds[handle];
+        if (kind == OTHER) {
+            others.remove(id);
+            otherIds.remove(Integer.valueOf(handle));
+        } else {
+            int offset = PREFIXES[kind].length();
+            find(mostSignificantBits(id, offset), leastSignificantBits(id, offset), kind, true);
+        }
+        kinds[handle] = FREE;
+        if (retiredCount == retired.length) {
+            retired = Arrays.copyOf(retired, retiredCount * 2);
+            retiredEpochs = Arrays.copyOf(retiredEpochs, retiredCount * 2);
+        }
+        retired[retiredCount] = handle;
+        retiredEpochs[retiredCount] = epoch;
+        retiredCount++;
+        live--;
+        published = handleCount;
+        return true;
+    }
+
+    /**
+     * Registers a reader that maps handles read from an index back to ids
+     * or records. Handles of ids removed while the reader is registered are
+     * not assigned again before it exits.
+     *
+     * @return the token to pass to exit
+     */
+    public int enter() {
+        for (;;) {
+            long e = epoch;
+            int parity = (int) (e & 1);
+            readers.incrementAndGet(parity);
+            if (epoch == e) {
+                return parity;
+            }
+            // the epoch advanced before the reader was counted
+            readers.decrementAndGet(parity);
+        }
+    }
+
+    /**
+     * Unregisters a reader.
+     *
+     * @param token the token returned by enter
+     */
+    public void exit(int token) {
+        readers.decrementAndGet(token);
+    }
+
+    /**
+     * Determines whether an id is in the table.
+     *
+     * @param id the id
+     * @return <code>true</code> if the id has a handle
+     */
+    public boolean contains(String id) {
+        return get(id) >= 0;
+    }
+
+    /**
+     * Gets the number of ids in the table.
+     *
+     * @return the id count
+     */
+    public int size() {
+        return live;
+    }
+
+    /**
+     * Gets the number of handles assigned so far, which is one more than the
+     * largest handle. It grows with the largest number of ids the table held
+     * at once, not with the number of ids ever added.
+     *
+     * @return the handle count
+     */
+    public int getHandleCount() {
+        return published;
+    }
+
+    /**
+     * Removes all ids. Handles are assigned from 0 again, regardless of
+     * registered readers.
+     */
+    public void clear() {
+        others.clear();
+        otherIds.clear();
+        allocate(16);
+        retiredCount = 0;
+        freeCount = 0;
+        handleCount = 0;
+        live = 0;
+        used = 0;
+        published = 0;
+    }
+
+    private void allocate(int capacity) {
+        keys = ByteBuffer.allocateDirect(16 * capacity).order(ByteOrder.nativeOrder());
+        kinds = new byte[capacity];
+        slots = ByteBuffer.allocateDirect(4 * Integer.highestOneBit(4 * capacity - 1))
+        .order(ByteOrder.nativeOrder()).asIntBuffer();
+    }
+
+    private void grow() {
+        int capacity = kinds.length * 2;
+        ByteBuffer grown = ByteBuffer.allocateDirect(16 * capacity).order(ByteOrder.nativeOrder());
+        ByteBuffer old = keys.duplicate();
+        old.clear();
+        grown.put(old);
+        grown.clear();
+        keys = grown;
+        kinds = Arrays.copyOf(kinds, capacity);
+    }
+
+    /**
+     * Gets the handle of a removed id that no registered reader can still
+     * hold, advancing the epoch past the readers that have exited.
+     *
+     * @return the handle, or -1 if there is none
+     */
+    private int reclaim() {
+        if (freeCount == 0 && retiredCount > 0) {
+            for (int n = 0; n < 2 && retiredEpochs[0] + 2 > epoch
+            && readers.get((int) ((epoch + 1) & 1)) == 0; n++) {
+                epoch++;
+            }
+            int n = 0;
+            while (n < retiredCount && retiredEpochs[n] + 2 <= epoch) {
+                n++;
+            }
+            if (n > free.length) {
+                free = Arrays.copyOf(free, Math.max(n, free.length * 2));
+            }
+            System.arraycopy(retired, 0, free, 0, n);
+            freeCount = n;
+            retiredCount -= n;
+            System.arraycopy(retired, n, retired, 0, retiredCount);
+            System.arraycopy(retiredEpochs, n, retiredEpochs, 0, retiredCount);
+        }
+        return freeCount == 0 ? -1 : free[--freeCount];
+    }
+
+    /**
+     * Rebuilds the hash table without the entries of removed ids.
+     */
+    private void rehash(int capacity) {
+        IntBuffer rehashed = ByteBuffer.allocateDirect(4 * capacity).order(ByteOrder.nativeOrder()).asIntBuffer();
+        ByteBuffer k = keys;
+        int n = 0;
+        for (int handle = 0; handle < handleCount; handle++) {
+            if (kinds[handle] > OTHER) {
+                insert(rehashed, handle, k.getLong(handle * 16), k.getLong(handle * 16 + 8));
+                n++;
+            }
+        }
+        slots = rehashed;
+        used = n;
+    }
+
+    private static void insert(IntBuffer table, int handle, long msb, long lsb) {
+        int mask = table.capacity() - 1;
+        int i = hash(msb, lsb) & mask;
+        while (table.get(i) > 0) {
+            i = (i + 1) & mask;
+        }
+        table.put(i, handle + 1);
+    }
+
+    /**
+     * Probes the hash table for a UUID id.
+     *
+     * @param delete whether to mark the entry found as deleted
+     * @return the handle, or -1 if the id is not in the table
+     */
+    private int find(long msb, long lsb, byte kind, boolean delete) {
+        IntBuffer table = slots;
+        ByteBuffer k = keys;
+        byte[] types = kinds;
+        int mask = table.capacity() - 1;
+        for (int i = hash(msb, lsb) & mask;; i = (i + 1) & mask) {
+            int slot = table.get(i);
+            if (slot == 0) {
+                return -1;
+            }
+            int handle = slot - 1;
+            if (slot != DELETED && handle < types.length && types[handle] == kind
+            && k.getLong(handle * 16) == msb && k.getLong(handle * 16 + 8) == lsb) {
+                if (delete) {
+                    table.put(i, DELETED);
+                }
+                return handle;
+            }
+        }
+    }
+
+    private static int hash(long msb, long lsb) {
+        long h = msb * 31 + lsb;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+
+    /**
+     * Classifies an id as a canonical UUID with one of the known prefixes,
+     * or as another id.
+     *
+     * @return the index of the prefix in PREFIXES, or OTHER
+     */
+    private static byte kindOf(String id) {
+        for (byte kind = BARE; kind < PREFIXES.length; kind++) {
+            String prefix = PREFIXES[kind];
+            if (id.length() == prefix.length() + UUID_LENGTH && id.startsWith(prefix)
+            && isUUID(id, prefix.length())) {
+                return kind;
+            }
+        }
+        return OTHER;
+    }
+
+    private static boolean isUUID(String id, int offset) {
+        return id.charAt(offset + 8) == '-' && id.charAt(offset + 13) == '-'
+        && id.charAt(offset + 18) == '-' && id.charAt(offset + 23) == '-'
+        && (digits(id, offset, offset + 8) | digits(id, offset + 9, offset + 13)
+        | digits(id, offset + 14, offset + 18) | digits(id, offset + 19, offset + 23)
+        | digits(id, offset + 24, offset + 36)) >= 0;
+    }
+
+    /**
+     * Checks a range of hex digits.
+     *
+     * @return a negative number if a character is not a lower case hex digit
+     */
+    private static int digits(String id, int from, int to) {
+        int digits = 0;
+        for (int i = from; i < to; i++) {
+            char c = id.charAt(i);
+            digits |= c < 128 ? DIGITS[c] : -1;
+        }
+        return digits;
+    }
+
+    private static long mostSignificantBits(String id, int offset) {
+        return hex(id, offset, offset + 8) << 32 | hex(id, offset + 9, offset + 13) << 16
+        | hex(id, offset + 14, offset + 18);
+    }
+
+    private static long leastSignificantBits(String id, int offset) {
+        return hex(id, offset + 19, offset + 23) << 48 | hex(id, offset + 24, offset + 36);
+    }
+
+    private static long hex(String id, int from, int to) {
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            char c = id.charAt(i);
+            value = value << 4 | DIGITS[c];
+        }
+        return value;
+    }
+}
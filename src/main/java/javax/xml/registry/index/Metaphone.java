@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.index;
+
+/**
+ * The original Metaphone encoding by Lawrence Philips, with codes
+ * truncated to a maximum length. <code>0</code> stands for <i>th</i>
+ * and <code>X</code> for <i>sh</i>.
+ */
+final class Metaphone implements PhoneticEncoder {
+
+    private final int maxLength;
+
+    Metaphone(int maxLength) {
+        this.maxLength = maxLength;
+    }
+
+    public String encode(String name) {
+        StringBuilder letters = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = Soundex.upper(name.charAt(i));
+            if (c != 0) {
+                letters.append(c);
+            }
+        }
+        String word = letters.toString();
+        int length = word.length();
+        if (length <= 1) {
+            return word;
+        }
+        StringBuilder code = new StringBuilder(maxLength + 1);
+        int start = 0;
+        char first = word.charAt(0);
+        char second = word.charAt(1);
+        if ((first == 'K' || first == 'G' || first == 'P') && second == 'N') {
+            start = 1;
+        } else if (first == 'A' && second == 'E') {
+            code.append('E');
+            start = 2;
+        } else if (first == 'W' && second == 'R') {
+            start = 1;
+        } else if (first == 'W' && second == 'H') {
+            code.append('W');
+            start = 2;
+        } else if (first == 'X') {
+            code.append('S');
+            start = 1;
+        }
+        for (int n = start; n < length && code.length() < maxLength; n++) {
+            char c = word.charAt(n);
+            if (c != 'C' && n > 0 && word.charAt(n - 1) == c) {
+                continue;
+            }
+            char next = n + 1 < length ? word.charAt(n + 1) : 0;
+            switch (c) {
+            case 'A':
+            case 'E':
+            case 'I':
+            case 'O':
+            case 'U':
+                if (n == 0) {
+                    code.append(c);
+                }
+                break;
+            case 'B':
+                if (!(n == length - 1 && word.charAt(n - 1) == 'M')) {
+                    code.append('B');
+                }
+                break;
+            case 'C':
+                if (n > 0 && word.charAt(n - 1) == 'S' && isFrontVowel(next)) {
+                    break;
+                }
+                if (word.startsWith("CIA", n)) {
+                    code.append('X');
+                } else if (isFrontVowel(next)) {
+                    code.append('S');
+                } else if (next == 'H') {
+                    boolean hard = n > 0 && word.charAt(n - 1) == 'S'
+                    || n == 0 && length > 2 && !isVowel(word.charAt(2));
+                    code.append(hard ? 'K' : 'X');
+                } else {
+                    code.append('K');
+                }
+                break;
+            case 'D':
+                if (next == 'G' && n + 2 < length && isFrontVowel(word.charAt(n + 2))) {
+                    code.append('J');
+                    n += 2;
+                } else {
+                    code.append('T');
+                }
+                break;
+            case 'G':
+                if (next == 'H' && (n + 2 == length || !isVowel(word.charAt(n + 2)))) {
+                    break;
+                }
+                if (next == 'N' && (n + 2 == length || word.startsWith("NED", n + 1) && n + 4 == length)) {
+                    break;
+                }
+                code.append(isFrontVowel(next) && (n == 0 || word.charAt(n - 1) != 'G') ? 'J' : 'K');
+                break;
+            case 'H':
+                if (next == 0 || n > 0 && "CSPTG".indexOf(word.charAt(n - 1)) >= 0) {
+                    break;
+                }
+                if (isVowel(next)) {
+                    code.append('H');
+                }
+                break;
+            case 'K':
+                if (n == 0 || word.charAt(n - 1) != 'C') {
+                    code.append('K');
+                }
+                break;
+            case 'P':
+                code.append(next == 'H' ? 'F' : 'P');
+                break;
+            case 'Q':
+                code.append('K');
+                break;
+            case 'S':
+                if (next == 'H' || word.startsWith("SIO", n) || word.startsWith("SIA", n)) {
+                    code.append('X');
+                } else {
+                    code.append('S');
+                }
+                break;
+            case 'T':
+                if (word.startsWith("TIA", n) || word.startsWith("TIO", n)) {
+                    code.append('X');
+                } else if (next == 'H') {
+                    code.append('0');
+                } else if (!word.startsWith("TCH", n)) {
+                    code.append('T');
+                }
+                break;
+            case 'V':
+                code.append('F');
+                break;
+            case 'W':
+            case 'Y':
+                if (isVowel(next)) {
+                    code.append(c);
+                }
+                break;
+            case 'X':
+                code.append('K').append('S');
+                break;
+            case 'Z':
+                code.append('S');
+                break;
+            default:
+                code.append(c);
+                break;
+            }
+        }
+        if (code.length() > maxLength) {
+            code.setLength(maxLength);
+        }
+        return code.toString();
+    }
+
+    private static boolean isVowel(char c) {
+        return c == 'A' || c == 'E' || c == 'I' || c == 'O' || c == 'U';
+    }
+
+    private static boolean isFrontVowel(char c) {
+        return c == 'E' || c == 'I' || c == 'Y';
+    }
+
+    public String toString() {
+        return "METAPHONE";
+    }
+}
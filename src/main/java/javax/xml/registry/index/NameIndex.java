@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.index;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * A sorted index from names to the ids of the objects carrying them.
+ * <p>
+ * Names are kept case folded in a skip list, so that a NamePatternMatcher
+ * can answer an exact pattern with a single lookup and a pattern with a
+ * literal prefix, such as <code>Acme%</code>, with a range scan. Reads
+ * never lock and may run concurrently with one writer; concurrent writers
+ * must be serialized by the caller.
+ *
+ * @see NamePatternMatcher#select(NameIndex)
+ */
+public final class NameIndex {
+
+    private final ConcurrentNavigableMap names = new ConcurrentSkipListMap();
+
+    /**
+     * Adds an id under a name.
+     *
+     * @param name the name, in any case
+     * @param id the id of the object
+     */
+    @SuppressWarnings("unchecked")
+    public void add(String name, Object id) {
+        String key = fold(name);
+        Set ids = (Set) names.get(key);
+        if (ids == null) {
+            ids = ConcurrentHashMap.newKeySet();
+            names.put(key, ids);
+        }
+        ids.add(id);
+    }
+
+    /**
+     * Removes an id from a name.
+     *
+     * @param name the name, in any case
+     * @param id the id of the object
+     */
+    public void remove(String name, Object id) {
+        String key = fold(name);
+        Set ids = (Set) names.get(key);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                names.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Gets the ids of the objects with a name, compared case insensitively.
+     *
+     * @param name the name
+     * @return an unmodifiable Set of ids. The Set may be empty but not null.
+     */
+    @SuppressWarnings("unchecked")
+    public Set get(String name) {
+        Set ids = (Set) names.get(fold(name));
+        return ids == null ? Collections.EMPTY_SET : Collections.unmodifiableSet(ids);
+    }
+
+    /**
+     * Gets the number of distinct case folded names.
+     *
+     * @return the name count
+     */
+    public int size() {
+        return names.size();
+    }
+
+    /**
+     * Removes all names.
+     */
+    public void clear() {
+        names.clear();
+    }
+
+    /**
+     * Gets the entries whose folded name starts with a folded prefix,
+     * or all entries for an empty prefix.
+     */
+    @SuppressWarnings("unchecked")
+    SortedMap withPrefix(String foldedPrefix) {
+        if (foldedPrefix.length() == 0) {
+            return names;
+        }
+        char last = foldedPrefix.charAt(foldedPrefix.length() - 1);
+        if (last == Character.MAX_VALUE) {
+            return names.tailMap(foldedPrefix);
+        }
+        String end = foldedPrefix.substring(0, foldedPrefix.length() - 1) + (char) (last + 1);
+        return names.subMap(foldedPrefix, end);
+    }
+
+    /**
+     * Folds the case of a name. Two names that are equal ignoring case in
+     * the sense of String.equalsIgnoreCase fold to the same String.
+     *
+     * @param name the name
+     * @return the folded name
+     */
+    public static String fold(String name) {
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (fold(c) != c) {
+                char[] chars = name.toCharArray();
+                for (int j = i; j < chars.length; j++) {
+                    chars[j] = fold(chars[j]);
+                }
+                return new String(chars);
+            }
+        }
+        return name;
+    }
+
+    static char fold(char c) {
+        if (c < 0x80) {
+            return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+        }
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    public String toString() {
+        return "NameIndex[" + names.size() + " names]";
+    }
+}
@@ -0,0 +1,610 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.index;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * The compiled form of the namePatterns of a BusinessQueryManager find
+ * call, such as findOrganizations or findServices, together with the find
+ * qualifiers that affect name matching.
+ * <p>
+ * Patterns are SQL-92 LIKE patterns, where <code>%</code> matches any
+ * sequence of characters, <code>_</code> any single character and a
+ * backslash escapes the next character. They are matched case
+ * insensitively unless CASE_SENSITIVE_MATCH is given, and compared
+ * literally with EXACT_NAME_MATCH. A LocalizedString pattern only matches
+ * names in its Locale. A name matches if it matches any of the patterns;
+ * OR_LIKE_KEYS therefore makes no difference for names.
+ * <p>
+ * Patterns are grouped by shape when they are compiled. Literal patterns
+ * are looked up in a hash table, and patterns with a literal prefix are
+ * checked only against names with that prefix. All other patterns share one
+ * Aho-Corasick automaton over their longest literal fragment, so that a
+ * name is scanned once to find the few patterns that may match it. Against
+ * a NameIndex, literal and prefixed patterns are answered by lookups and
+ * range scans of the sorted names.
+ * <p>
+ * Compiled matchers are immutable, safe for use by any number of threads,
+ * and cached by patterns and qualifiers, so that repeated queries skip the
+ * compile step.
+ *
+ * @see NameIndex
+ * @see BusinessQueryManager#findOrganizations
+ */
+public final class NamePatternMatcher {
+
+    private static final int CACHE_SIZE = 512;
+
+    /**
+     * Compiled matchers by patterns and qualifiers. Lookups do not lock;
+     * once the cache is full, an arbitrary matcher is evicted for each one
+     * added, which only costs a compile if it is used again.
+     */
+    private static final ConcurrentMap cache = new ConcurrentHashMap();
+
+    private static final Pattern[] NO_PATTERNS = new Pattern[0];
+
+    private final boolean caseSensitive;
+    private final Map literals;
+    private final Pattern[] literalPatterns;
+    private final Pattern[] prefixed;
+    private final Pattern[] unanchored;
+    private final Automaton automaton;
+    private final Pattern[] unfiltered;
+
+    @SuppressWarnings("unchecked")
+    private NamePatternMatcher(List patterns, boolean caseSensitive) {
+        this.caseSensitive = caseSensitive;
+        Map literals = new HashMap();
+        List literalList = new ArrayList();
+        List prefixedList = new ArrayList();
+        List unanchoredList = new ArrayList();
+        List fragments = new ArrayList();
+        List unfilteredList = new ArrayList();
+        for (Iterator i = patterns.iterator(); i.hasNext();) {
+            Pattern pattern = (Pattern) i.next();
+            if (pattern.literal != null) {
+                String key = caseSensitive ? pattern.literal : pattern.foldedLiteral;
+                Pattern[] same = (Pattern[]) literals.get(key);
+                literals.put(key, append(same == null ? NO_PATTERNS : same, pattern));
+                literalList.add(pattern);
+            } else if (pattern.prefix.length() > 0) {
+                prefixedList.add(pattern);
+            } else if (pattern.fragment.length() > 0) {
+                unanchoredList.add(pattern);
+                fragments.add(pattern.fragment);
+            } else {
+                unfilteredList.add(pattern);
+            }
+        }
+        this.literals = literals;
+        this.literalPatterns = (Pattern[]) literalList.toArray(NO_PATTERNS);
+        this.prefixed = (Pattern[]) prefixedList.toArray(NO_PATTERNS);
+        this.unanchored = (Pattern[]) unanchoredList.toArray(NO_PATTERNS);
+        this.automaton = fragments.isEmpty() ? null
+        : Automaton.build((String[]) fragments.toArray(new String[fragments.size()]));
+        this.unfiltered = (Pattern[]) unfilteredList.toArray(NO_PATTERNS);
+    }
+
+    /**
+     * Compiles name patterns, or returns the cached matcher compiled from
+     * equal patterns and qualifiers.
+     *
+     * @param namePatterns a Collection of String or LocalizedString patterns
+     * @param findQualifiers the find qualifiers of the call, or <code>null</code>
+     * @return the matcher, or <code>null</code> if namePatterns is null or empty, so that names are not restricted
+     * @throws JAXRException	If the value of a LocalizedString cannot be read
+     *
+     */
+    @SuppressWarnings("unchecked")
+    public static NamePatternMatcher compile(Collection namePatterns, Collection findQualifiers)
+    throws JAXRException {
+        if (namePatterns == null || namePatterns.isEmpty()) {
+            return null;
+        }
+        boolean exact = findQualifiers != null && findQualifiers.contains(FindQualifier.EXACT_NAME_MATCH);
+        boolean caseSensitive = findQualifiers != null && findQualifiers.contains(FindQualifier.CASE_SENSITIVE_MATCH);
+        List specs = new ArrayList(namePatterns.size() + 2);
+        for (Iterator i = namePatterns.iterator(); i.hasNext();) {
+            Object p = i.next();
+            if (p instanceof LocalizedString) {
+                LocalizedString s = (LocalizedString) p;
+                if (s.getValue() != null) {
+                    specs.add(Arrays.asList(new Object[] {s.getValue(), s.getLocale()}));
+                }
+            } else if (p != null) {
+                specs.add(Arrays.asList(new Object[] {p.toString(), null}));
+            }
+        }
+        specs.add(Boolean.valueOf(exact));
+        specs.add(Boolean.valueOf(caseSensitive));
+        NamePatternMatcher matcher = (NamePatternMatcher) cache.get(specs);
+        if (matcher == null) {
+            List patterns = new ArrayList(specs.size() - 2);
+            for (int i = 0; i < specs.size() - 2; i++) {
+                List spec = (List) specs.get(i);
+                patterns.add(new Pattern((String) spec.get(0), (Locale) spec.get(1), exact, caseSensitive));
+            }
+            matcher = new NamePatternMatcher(patterns, caseSensitive);
+            cache(specs, matcher);
+        }
+        return matcher;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void cache(List specs, NamePatternMatcher matcher) {
+        if (cache.putIfAbsent(specs, matcher) == null) {
+            Iterator i = cache.keySet().iterator();
+            while (cache.size() > CACHE_SIZE && i.hasNext()) {
+                Object evicted = i.next();
+                if (!evicted.equals(specs)) {
+                    i.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Determines whether any localization of a name matches.
+     *
+     * @param name the name of a RegistryObject
+     * @return <code>true</code> if a LocalizedString of name matches a pattern
+     * @throws JAXRException	If the JAXR provider encounters an internal error
+     *
+     */
+    public boolean matches(InternationalString name) throws JAXRException {
+        if (name == null) {
+            return false;
+        }
+        for (Iterator i = name.getLocalizedStrings().iterator(); i.hasNext();) {
+            if (matches((LocalizedString) i.next())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Determines whether a localized name matches.
+     *
+     * @param name the localized name
+     * @return <code>true</code> if the name matches a pattern without Locale or with the Locale of name
+     * @throws JAXRException	If the JAXR provider encounters an internal error
+     *
+     */
+    public boolean matches(LocalizedString name) throws JAXRException {
+        String value = name.getValue();
+        return value != null && matches(value, name.getLocale());
+    }
+
+    /**
+     * Determines whether a name matches one of the patterns that are not
+     * restricted to a Locale.
+     *
+     * @param name the name
+     * @return <code>true</code> if the name matches
+     */
+    public boolean matches(String name) {
+        return matches(name, null);
+    }
+
+    private boolean matches(String value, Locale locale) {
+        String folded = NameIndex.fold(value);
+        String subject = caseSensitive ? value : folded;
+        Pattern[] same = (Pattern[]) literals.get(subject);
+        if (same != null) {
+            for (int i = 0; i < same.length; i++) {
+                if (same[i].accepts(locale)) {
+                    return true;
+                }
+            }
+        }
+        for (int i = 0; i < prefixed.length; i++) {
+            Pattern p = prefixed[i];
+            if (p.accepts(locale) && folded.startsWith(p.prefix) && p.like.matches(subject)) {
+                return true;
+            }
+        }
+        if (automaton != null) {
+            boolean[] hits = automaton.scan(folded);
+            for (int i = 0; i < unanchored.length; i++) {
+                if (hits[i] && unanchored[i].accepts(locale) && unanchored[i].like.matches(subject)) {
+                    return true;
+                }
+            }
+        }
+        for (int i = 0; i < unfiltered.length; i++) {
+            if (unfiltered[i].accepts(locale) && unfiltered[i].like.matches(subject)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Determines whether every pattern is literal or has a literal prefix,
+     * so that select only visits the matching part of a NameIndex.
+     *
+     * @return <code>true</code> if select does not scan the whole index
+     */
+    public boolean isAnchored() {
+        return unanchored.length == 0 && unfiltered.length == 0;
+    }
+
+    /**
+     * Selects from a NameIndex the ids of the objects with a name that
+     * matches a pattern, ignoring case and Locale. The result is a superset
+     * of the matching objects; candidates must still be checked with
+     * matches, which honours CASE_SENSITIVE_MATCH and pattern Locales.
+     *
+     * @param index the index of the names of the objects
+     * @return the candidate ids. The Set may be empty but not null.
+     */
+    @SuppressWarnings("unchecked")
+    public Set select(NameIndex index) {
+        Set ids = new HashSet();
+        for (int i = 0; i < literalPatterns.length; i++) {
+            ids.addAll(index.get(literalPatterns[i].foldedLiteral));
+        }
+        for (int i = 0; i < prefixed.length; i++) {
+            Pattern p = prefixed[i];
+            for (Iterator j = index.withPrefix(p.prefix).entrySet().iterator(); j.hasNext();) {
+                Map.Entry entry = (Map.Entry) j.next();
+                if (p.foldedLike.matches((String) entry.getKey())) {
+                    ids.addAll((Set) entry.getValue());
+                }
+            }
+        }
+        if (!isAnchored()) {
+            for (Iterator j = index.withPrefix("").entrySet().iterator(); j.hasNext();) {
+                Map.Entry entry = (Map.Entry) j.next();
+                if (matchesUnanchored((String) entry.getKey())) {
+                    ids.addAll((Set) entry.getValue());
+                }
+            }
+        }
+        return ids;
+    }
+
+    private boolean matchesUnanchored(String folded) {
+        if (automaton != null) {
+            boolean[] hits = automaton.scan(folded);
+            for (int i = 0; i < unanchored.length; i++) {
+                if (hits[i] && unanchored[i].foldedLike.matches(folded)) {
+                    return true;
+                }
+            }
+        }
+        for (int i = 0; i < unfiltered.length; i++) {
+            if (unfiltered[i].foldedLike.matches(folded)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Pattern[] append(Pattern[] patterns, Pattern pattern) {
+        Pattern[] result = new Pattern[patterns.length + 1];
+        System.arraycopy(patterns, 0, result, 0, patterns.length);
+        result[patterns.length] = pattern;
+        return result;
+    }
+
+    /**
+     * One compiled pattern.
+     */
+    private static final class Pattern {
+        final Locale locale;
+        /** the literal value of a pattern without wildcards, else null */
+        final String literal;
+        final String foldedLiteral;
+        /** the folded literal prefix up to the first wildcard */
+        final String prefix;
+        /** the longest folded literal run, used by the automaton */
+        final String fragment;
+        /** matches subjects in the case of the matcher */
+        final Like like;
+        /** matches folded subjects */
+        final Like foldedLike;
+
+        Pattern(String value, Locale locale, boolean exact, boolean caseSensitive) {
+            this.locale = locale;
+            if (exact) {
+                this.literal = value;
+            } else {
+                Like parsed = new Like(value, false);
+                this.literal = parsed.literal();
+            }
+            if (literal != null) {
+                this.foldedLiteral = NameIndex.fold(literal);
+                this.prefix = foldedLiteral;
+                this.fragment = foldedLiteral;
+                this.like = null;
+                this.foldedLike = null;
+            } else {
+                this.foldedLiteral = null;
+                this.foldedLike = new Like(value, true);
+                this.like = caseSensitive ? new Like(value, false) : foldedLike;
+                this.prefix = foldedLike.prefix();
+                this.fragment = foldedLike.longestFragment();
+            }
+        }
+
+        boolean accepts(Locale l) {
+            return locale == null || locale.equals(l);
+        }
+    }
+
+    /**
+     * A SQL-92 LIKE pattern, split at <code>%</code> into segments of
+     * literal characters and <code>_</code> wildcards. A value matches if
+     * the first segment matches at its start, the last at its end and the
+     * others, leftmost first, in between.
+     */
+    private static final class Like {
+        final char[][] segments;
+        final boolean[][] wildcards;
+        final int minLength;
+
+        @SuppressWarnings("unchecked")
+        Like(String pattern, boolean fold) {
+            List segmentList = new ArrayList();
+            List wildcardList = new ArrayList();
+            StringBuilder chars = new StringBuilder();
+            StringBuilder any = new StringBuilder();
+            int length = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                if (c == '%') {
+                    segmentList.add(chars.toString().toCharArray());
+                    wildcardList.add(toBooleans(any));
+                    chars.setLength(0);
+                    any.setLength(0);
+                    continue;
+                }
+                boolean wildcard = false;
+                if (c == '\\' && i + 1 < pattern.length()) {
+                    c = pattern.charAt(++i);
+                } else if (c == '_') {
+                    wildcard = true;
+                }
+                chars.append(fold ? NameIndex.fold(c) : c);
+                any.append(wildcard ? '1' : '0');
+                length++;
+            }
+            segmentList.add(chars.toString().toCharArray());
+            wildcardList.add(toBooleans(any));
+            this.segments = (char[][]) segmentList.toArray(new char[segmentList.size()][]);
+            this.wildcards = (boolean[][]) wildcardList.toArray(new boolean[wildcardList.size()][]);
+            this.minLength = length;
+        }
+
+        /**
+         * Gets the unescaped value if the pattern has no wildcard, else null.
+         */
+        String literal() {
+            if (segments.length > 1) {
+                return null;
+            }
+            for (int i = 0; i < wildcards[0].length; i++) {
+                if (wildcards[0][i]) {
+                    return null;
+                }
+            }
+            return new String(segments[0]);
+        }
+
+        String prefix() {
+            return run(0, 0);
+        }
+
+        String longestFragment() {
+            String longest = "";
+            for (int s = 0; s < segments.length; s++) {
+                for (int i = 0; i < segments[s].length; i++) {
+                    String run = run(s, i);
+                    if (run.length() > longest.length()) {
+                        longest = run;
+                    }
+                    i += run.length();
+                }
+            }
+            return longest;
+        }
+
+        private String run(int segment, int from) {
+            int end = from;
+            while (end < segments[segment].length && !wildcards[segment][end]) {
+                end++;
+            }
+            return new String(segments[segment], from, end - from);
+        }
+
+        boolean matches(String value) {
+            int length = value.length();
+            if (length < minLength) {
+                return false;
+            }
+            int last = segments.length - 1;
+            if (last == 0) {
+                return length == segments[0].length && matchesAt(0, value, 0);
+            }
+            if (!matchesAt(0, value, 0)) {
+                return false;
+            }
+            int end = length - segments[last].length;
+            if (!matchesAt(last, value, end)) {
+                return false;
+            }
+            int position = segments[0].length;
+            for (int s = 1; s < last; s++) {
+                int found = indexOf(s, value, position, end);
+                if (found < 0) {
+                    return false;
+                }
+                position = found + segments[s].length;
+            }
+            return true;
+        }
+
+        private int indexOf(int segment, String value, int from, int end) {
+            int max = end - segments[segment].length;
+            for (int i = from; i <= max; i++) {
+                if (matchesAt(segment, value, i)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private boolean matchesAt(int segment, String value, int offset) {
+            char[] chars = segments[segment];
+            boolean[] any = wildcards[segment];
+            for (int i = 0; i < chars.length; i++) {
+                if (!any[i] && chars[i] != value.charAt(offset + i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean[] toBooleans(CharSequence flags) {
+            boolean[] result = new boolean[flags.length()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = flags.charAt(i) == '1';
+            }
+            return result;
+        }
+    }
+
+    /**
+     * An Aho-Corasick automaton reporting which of a set of fragments occur in a text.
+     */
+    private static final class Automaton {
+        final char[][] keys;
+        final int[][] next;
+        final int[] fail;
+        final int[][] outputs;
+        final int fragmentCount;
+
+        private Automaton(char[][] keys, int[][] next, int[] fail, int[][] outputs, int fragmentCount) {
+            this.keys = keys;
+            this.next = next;
+            this.fail = fail;
+            this.outputs = outputs;
+            this.fragmentCount = fragmentCount;
+        }
+
+        @SuppressWarnings("unchecked")
+        static Automaton build(String[] fragments) {
+            List children = new ArrayList();
+            List outputList = new ArrayList();
+            children.add(new TreeMap());
+            outputList.add(new TreeSet());
+            for (int f = 0; f < fragments.length; f++) {
+                int node = 0;
+                String fragment = fragments[f];
+                for (int i = 0; i < fragment.length(); i++) {
+                    Map map = (Map) children.get(node);
+                    Character c = Character.valueOf(fragment.charAt(i));
+                    Integer child = (Integer) map.get(c);
+                    if (child == null) {
+                        child = Integer.valueOf(children.size());
+                        map.put(c, child);
+                        children.add(new TreeMap());
+                        outputList.add(new TreeSet());
+                    }
+                    node = child.intValue();
+                }
+                ((Set) outputList.get(node)).add(Integer.valueOf(f));
+            }
+            int size = children.size();
+            char[][] keys = new char[size][];
+            int[][] next = new int[size][];
+            for (int n = 0; n < size; n++) {
+                Map map = (Map) children.get(n);
+                keys[n] = new char[map.size()];
+                next[n] = new int[map.size()];
+                int k = 0;
+                for (Iterator i = map.entrySet().iterator(); i.hasNext(); k++) {
+                    Map.Entry entry = (Map.Entry) i.next();
+                    keys[n][k] = ((Character) entry.getKey()).charValue();
+                    next[n][k] = ((Integer) entry.getValue()).intValue();
+                }
+            }
+            int[] fail = new int[size];
+            LinkedList queue = new LinkedList();
+            for (int k = 0; k < next[0].length; k++) {
+                queue.add(Integer.valueOf(next[0][k]));
+            }
+            while (!queue.isEmpty()) {
+                int node = ((Integer) queue.removeFirst()).intValue();
+                ((Set) outputList.get(node)).addAll((Set) outputList.get(fail[node]));
+                for (int k = 0; k < next[node].length; k++) {
+                    int child = next[node][k];
+                    int state = fail[node];
+                    int target = step(keys, next, state, keys[node][k]);
+                    while (target < 0 && state != 0) {
+                        state = fail[state];
+                        target = step(keys, next, state, keys[node][k]);
+                    }
+                    fail[child] = target < 0 ? 0 : target;
+                    queue.add(Integer.valueOf(child));
+                }
+            }
+            int[][] outputs = new int[size][];
+            for (int n = 0; n < size; n++) {
+                Set set = (Set) outputList.get(n);
+                outputs[n] = new int[set.size()];
+                int k = 0;
+                for (Iterator i = set.iterator(); i.hasNext();) {
+                    outputs[n][k++] = ((Integer) i.next()).intValue();
+                }
+            }
+            return new Automaton(keys, next, fail, outputs, fragments.length);
+        }
+
+        boolean[] scan(String text) {
+            boolean[] hits = new boolean[fragmentCount];
+            int state = 0;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                int target = step(keys, next, state, c);
+                while (target < 0 && state != 0) {
+                    state = fail[state];
+                    target = step(keys, next, state, c);
+                }
+                state = target < 0 ? 0 : target;
+                int[] out = outputs[state];
+                for (int k = 0; k < out.length; k++) {
+                    hits[out[k]] = true;
+                }
+            }
+            return hits;
+        }
+
+        private static int step(char[][] keys, int[][] next, int state, char c) {
+            int k = Arrays.binarySearch(keys[state], c);
+            return k < 0 ? -1 : next[state][k];
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.index;
+
+/**
+ * Encodes names into phonetic codes, so that names which sound alike
+ * get the same code. Characters other than the letters A to Z, in either
+ * case, are ignored.
+ *
+ * @see PhoneticIndex
+ * @see javax.xml.registry.FindQualifier#SOUNDEX
+ */
+public interface PhoneticEncoder {
+
+    /**
+     * American Soundex: the first letter followed by three digits, for
+     * instance <code>R163</code> for both Robert and Rupert.
+     */
+    PhoneticEncoder SOUNDEX = new Soundex();
+
+    /**
+     * Metaphone, which models English pronunciation more closely than
+     * Soundex; codes are at most four characters long.
+     */
+    PhoneticEncoder METAPHONE = new Metaphone(4);
+
+    /**
+     * Encodes a name.
+     *
+     * @param name the name
+     * @return the code, or an empty String if the name has no letters
+     */
+    String encode(String name);
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.index;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * An index from the phonetic codes of names to the ids of the objects
+ * carrying them, for find calls with the SOUNDEX find qualifier.
+ * <p>
+ * The index is maintained incrementally: add and remove are called with
+ * the names of each object as it is saved and deleted. Reads never lock
+ * and may run concurrently with one writer; concurrent writers must be
+ * serialized by the caller.
+ *
+ * @see PhoneticMatcher#select(PhoneticIndex)
+ * @see javax.xml.registry.FindQualifier#SOUNDEX
+ */
+public final class PhoneticIndex {
+
+    private final PhoneticEncoder encoder;
+    private final ConcurrentMap codes = new ConcurrentHashMap();
+
+    /**
+     * Creates an empty index.
+     *
+     * @param encoder the encoding of the names, such as PhoneticEncoder.SOUNDEX
+     */
+    public PhoneticIndex(PhoneticEncoder encoder) {
+        if (encoder == null) {
+            throw new IllegalArgumentException("encoder must not be null");
+        }
+        this.encoder = encoder;
+    }
+
+    /**
+     * Gets the encoding of the names.
+     *
+     * @return the PhoneticEncoder
+     */
+    public PhoneticEncoder getEncoder() {
+        return encoder;
+    }
+
+    /**
+     * Adds an id under the code of a name. Names without letters are ignored.
+     *
+     * @param name the name
+     * @param id the id of the object
+     */
+    @SuppressWarnings("unchecked")
+    public void add(String name, Object id) {
+        String code = encoder.encode(name);
+        if (code.length() == 0) {
+            return;
+        }
+        Set ids = (Set) codes.get(code);
+        if (ids == null) {
+            ids = ConcurrentHashMap.newKeySet();
+            codes.put(code, ids);
+        }
+        ids.add(id);
+    }
+
+    /**
+     * Removes an id from the code of a name.
+     *
+     * @param name the name
+     * @param id the id of the object
+     */
+    public void remove(String name, Object id) {
+        String code = encoder.encode(name);
+        Set ids = (Set) codes.get(code);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                codes.remove(code);
+            }
+        }
+    }
+
+    /**
+     * Gets the ids of the objects with a name of the given code.
+     *
+     * @param code a code computed by the encoder of this index
+     * @return an unmodifiable Set of ids. The Set may be empty but not null.
+     */
+    @SuppressWarnings("unchecked")
+    public Set get(String code) {
+        Set ids = (Set) codes.get(code);
+        return ids == null ? Collections.EMPTY_SET : Collections.unmodifiableSet(ids);
+    }
+
+    /**
+     * Gets the ids of the objects with a name that sounds like the given name.
+     *
+     * @param name the name
+     * @return an unmodifiable Set of ids. The Set may be empty but not null.
+     */
+    public Set find(String name) {
+        return get(encoder.encode(name));
+    }
+
+    /**
+     * Gets the number of distinct codes.
+     *
+     * @return the code count
+     */
+    public int size() {
+        return codes.size();
+    }
+
+    /**
+     * Removes all codes.
+     */
+    public void clear() {
+        codes.clear();
+    }
+
+    public String toString() {
+        return "PhoneticIndex[" + encoder + ", " + codes.size() + " codes]";
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.index;
+
+import java.util.*;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * The namePatterns of a find call with the SOUNDEX find qualifier,
+ * compiled to phonetic codes. A name matches if its code equals the code
+ * of one of the patterns; wildcards and other characters that are not
+ * letters are ignored. A LocalizedString pattern only matches names in
+ * its Locale.
+ *
+ * @see PhoneticIndex
+ * @see FindQualifier#SOUNDEX
+ */
+public final class PhoneticMatcher {
+
+    private final PhoneticEncoder encoder;
+    private final String[] codes;
+    private final Locale[] locales;
+
+    private PhoneticMatcher(PhoneticEncoder encoder, String[] codes, Locale[] locales) {
+        this.encoder = encoder;
+        this.codes = codes;
+        this.locales = locales;
+    }
+
+    /**
+     * Encodes name patterns.
+     *
+     * @param namePatterns a Collection of String or LocalizedString patterns
+     * @param encoder the encoding, which must be that of the PhoneticIndex searched
+     * @return the matcher, or <code>null</code> if namePatterns is null or empty, so that names are not restricted
+     * @throws JAXRException	If the value of a LocalizedString cannot be read
+     *
+     */
+    @SuppressWarnings("unchecked")
+    public static PhoneticMatcher compile(Collection namePatterns, PhoneticEncoder encoder) throws JAXRException {
+        if (namePatterns == null || namePatterns.isEmpty()) {
+            return null;
+        }
+        List codes = new ArrayList(namePatterns.size());
+        List locales = new ArrayList(namePatterns.size());
+        for (Iterator i = namePatterns.iterator(); i.hasNext();) {
+            Object p = i.next();
+            String value = null;
+            Locale locale = null;
+            if (p instanceof LocalizedString) {
+                value = ((LocalizedString) p).getValue();
+                locale = ((LocalizedString) p).getLocale();
+            } else if (p != null) {
+                value = p.toString();
+            }
+            if (value != null) {
+                codes.add(encoder.encode(value));
+                locales.add(locale);
+            }
+        }
+        return new PhoneticMatcher(encoder, (String[]) codes.toArray(new String[codes.size()]),
+        (Locale[]) locales.toArray(new Locale[locales.size()]));
+    }
+
+    /**
+     * Determines whether any localization of a name sounds like a pattern.
+     *
+     * @param name the name of a RegistryObject
+     * @return <code>true</code> if a LocalizedString of name matches a pattern
+     * @throws JAXRException	If the JAXR provider encounters an internal error
+     *
+     */
+    public boolean matches(InternationalString name) throws JAXRException {
+        if (name == null) {
+            return false;
+        }
+        for (Iterator i = name.getLocalizedStrings().iterator(); i.hasNext();) {
+            LocalizedString s = (LocalizedString) i.next();
+            if (s.getValue() != null && matches(encoder.encode(s.getValue()), s.getLocale())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Determines whether a name sounds like one of the patterns that are
+     * not restricted to a Locale.
+     *
+     * @param name the name
+     * @return <code>true</code> if the name matches
+     */
+    public boolean matches(String name) {
+        return matches(encoder.encode(name), null);
+    }
+
+    private boolean matches(String code, Locale locale) {
+        if (code.length() == 0) {
+            return false;
+        }
+        for (int i = 0; i < codes.length; i++) {
+            if (codes[i].equals(code) && (locales[i] == null || locales[i].equals(locale))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Selects from a PhoneticIndex the ids of the objects with a name of
+     * the code of a pattern. Candidates must still be checked with matches,
+     * which honours pattern Locales.
+     *
+     * @param index an index using the encoding of this matcher
+     * @return the candidate ids. The Set may be empty but not null.
+     */
+    @SuppressWarnings("unchecked")
+    public Set select(PhoneticIndex index) {
+        if (index.getEncoder() != encoder) {
+            throw new IllegalArgumentException("The index uses " + index.getEncoder() + ", not " + encoder);
+        }
+        Set ids = new HashSet();
+        for (int i = 0; i < codes.length; i++) {
+            ids.addAll(index.get(codes[i]));
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,301 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.index;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * A secondary index on the values of Slots with selected names.
+ * <p>
+ * Every value of an indexed Slot is kept in a hash index from slot name
+ * and value to the objects that have it, which answers equality
+ * conditions. The values of a Slot with a numeric slot type are also kept
+ * as doubles in a sorted index per slot name, which answers range
+ * conditions with a range scan. Objects are identified by int handles
+ * assigned by the caller and kept as CompressedBitmaps. Postings are
+ * replaced as a whole on every change, so reads never lock; concurrent
+ * writers must be serialized by the caller.
+ *
+ * @see SlotPredicate
+ * @see CompressedBitmap
+ */
+public final class SlotIndex {
+
+    private final Set slotNames;
+    private final ConcurrentMap values = new ConcurrentHashMap();
+    private final ConcurrentMap numbers = new ConcurrentHashMap();
+
+    /**
+     * Creates an empty index of the Slots with the given names.
+     *
+     * @param slotNames the names of the Slots to index
+     */
+    @SuppressWarnings("unchecked")
+    public SlotIndex(Collection slotNames) {
+        if (slotNames == null || slotNames.contains(null)) {
+            throw new IllegalArgumentException("slotNames must not be or contain null");
+        }
+        this.slotNames = Collections.unmodifiableSet(new LinkedHashSet(slotNames));
+        for (Iterator i = this.slotNames.iterator(); i.hasNext();) {
+            numbers.put(i.next(), new ConcurrentSkipListMap());
+        }
+    }
+
+    /**
+     * Gets the names of the indexed Slots.
+     *
+     * @return an unmodifiable Set of slot names
+     */
+    public Set getSlotNames() {
+        return slotNames;
+    }
+
+    /**
+     * Determines whether the Slots with a name are indexed.
+     *
+     * @param slotName the slot name
+     * @return <code>true</code> if the Slots are indexed
+     */
+    public boolean isIndexed(String slotName) {
+        return slotNames.contains(slotName);
+    }
+
+    /**
+     * Adds the values of an object's Slot. Slots whose name is not indexed
+     * are ignored.
+     *
+     * @param slotName the name of the Slot
+     * @param slotType the slot type, which decides whether values are also indexed as numbers
+     * @param values the values, as Strings or Numbers
+     * @param handle the handle of the object
+     */
+    @SuppressWarnings("unchecked")
+    public void add(String slotName, String slotType, Object[] values, int handle) {
+        if (!isIndexed(slotName)) {
+            return;
+        }
+        boolean numeric = SlotPredicate.isNumeric(slotType);
+        ConcurrentNavigableMap sorted = (ConcurrentNavigableMap) numbers.get(slotName);
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == null) {
+                continue;
+            }
+            String key = key(slotName, values[i].toString());
+            this.values.put(key, get(this.values, key).with(handle));
+            if (numeric) {
+                Double number = number(values[i]);
+                if (number != null) {
+                    sorted.put(number, get(sorted, number).with(handle));
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the values of an object's Slot, as they were added.
+     *
+     * @param slotName the name of the Slot
+     * @param slotType the slot type
+     * @param values the values, as Strings or Numbers
+     * @param handle the handle of the object
+     */
+    public void remove(String slotName, String slotType, Object[] values, int handle) {
+        if (!isIndexed(slotName)) {
+            return;
+        }
+        boolean numeric = SlotPredicate.isNumeric(slotType);
+        ConcurrentNavigableMap sorted = (ConcurrentNavigableMap) numbers.get(slotName);
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == null) {
+                continue;
+            }
+            remove(this.values, key(slotName, values[i].toString()), handle);
+            if (numeric) {
+                Double number = number(values[i]);
+                if (number != null) {
+                    remove(sorted, number, handle);
+                }
+            }
+        }
+    }
+
+    /**
+     * Replaces the values of an object's Slot. The new values are added
+     * before the old ones that are no longer present are removed, so that
+     * a concurrent reader finds the object by the values it has in either
+     * version.
+     *
+     * @param slotName the name of the Slot
+     * @param oldType the previous slot type
+     * @param oldValues the previous values, as Strings or Numbers
+     * @param newType the slot type
+     * @param newValues the values, as Strings or Numbers
+     * @param handle the handle of the object
+     */
+    @SuppressWarnings("unchecked")
+    public void replace(String slotName, String oldType, Object[] oldValues,
+    String newType, Object[] newValues, int handle) {
+        if (!isIndexed(slotName)) {
+            return;
+        }
+        add(slotName, newType, newValues, handle);
+        Set keys = new HashSet();
+        Set kept = new HashSet();
+        boolean numeric = SlotPredicate.isNumeric(newType);
+        for (int i = 0; i < newValues.length; i++) {
+            if (newValues[i] != null) {
+                keys.add(newValues[i].toString());
+                Double number = numeric ? number(newValues[i]) : null;
+                if (number != null) {
+                    kept.add(number);
+                }
+            }
+        }
+        boolean wasNumeric = SlotPredicate.isNumeric(oldType);
+        ConcurrentNavigableMap sorted = (ConcurrentNavigableMap) numbers.get(slotName);
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] == null) {
+                continue;
+            }
+            if (!keys.contains(oldValues[i].toString())) {
+                remove(this.values, key(slotName, oldValues[i].toString()), handle);
+            }
+            Double number = wasNumeric ? number(oldValues[i]) : null;
+            if (number != null && !kept.contains(number)) {
+                remove(sorted, number, handle);
+            }
+        }
+    }
+
+    /**
+     * Gets the objects that match a predicate on an indexed Slot.
+     *
+     * @param predicate the predicate
+     * @return the handles of the objects. The bitmap may be empty but not null.
+     */
+    @SuppressWarnings("unchecked")
+    public CompressedBitmap select(SlotPredicate predicate) {
+        String slotName = predicate.getSlotName();
+        if (!isIndexed(slotName)) {
+            throw new IllegalArgumentException("Slot " + slotName + " is not indexed");
+        }
+        if (!predicate.isRange()) {
+            return get(values, key(slotName, predicate.getValue()));
+        }
+        double min = normalize(predicate.getMin());
+        double max = normalize(predicate.getMax());
+        if (min > max || min == max && !(predicate.isMinInclusive() && predicate.isMaxInclusive())) {
+            return CompressedBitmap.EMPTY;
+        }
+        ConcurrentNavigableMap sorted = (ConcurrentNavigableMap) numbers.get(slotName);
+        Collection postings = sorted.subMap(Double.valueOf(min), predicate.isMinInclusive(),
+        Double.valueOf(max), predicate.isMaxInclusive()).values();
+        return CompressedBitmap.or((CompressedBitmap[]) postings.toArray(new CompressedBitmap[0]));
+    }
+
+    /**
+     * Gets the objects that match all predicates on indexed Slots;
+     * predicates on other Slots are ignored.
+     *
+     * @param predicates Collection of SlotPredicates
+     * @return the handles of the objects, or <code>null</code> if no predicate is on an indexed Slot
+     */
+    @SuppressWarnings("unchecked")
+    public CompressedBitmap match(Collection predicates) {
+        List handles = new ArrayList(predicates.size());
+        for (Iterator i = predicates.iterator(); i.hasNext();) {
+            SlotPredicate predicate = (SlotPredicate) i.next();
+            if (isIndexed(predicate.getSlotName())) {
+                CompressedBitmap selected = select(predicate);
+                if (selected.isEmpty()) {
+                    return CompressedBitmap.EMPTY;
+                }
+                handles.add(selected);
+            }
+        }
+        if (handles.isEmpty()) {
+            return null;
+        }
+        return CompressedBitmap.and((CompressedBitmap[]) handles.toArray(new CompressedBitmap[handles.size()]));
+    }
+
+    /**
+     * Gets the number of distinct indexed values.
+     *
+     * @return the value count
+     */
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * Removes all values.
+     */
+    public void clear() {
+        values.clear();
+        for (Iterator i = numbers.values().iterator(); i.hasNext();) {
+            ((Map) i.next()).clear();
+        }
+    }
+
+    private static String key(String slotName, String value) {
+        return slotName + '\u0000' + value;
+    }
+
+    /**
+     * Converts a value to the key of the sorted index.
+     *
+     * @return the number, or <code>null</code> if the value is not a number
+     */
+    private static Double number(Object value) {
+        double d = SlotPredicate.toDouble(value);
+        return Double.isNaN(d) ? null : Double.valueOf(normalize(d));
+    }
+
+    /**
+     * Replaces -0.0 by 0.0, which compare equal as numbers but not as Doubles.
+     */
+    private static double normalize(double d) {
+        return d == 0 ? 0.0 : d;
+    }
+
+    private static CompressedBitmap get(Map postings, Object key) {
+        CompressedBitmap handles = (CompressedBitmap) postings.get(key);
+        return handles == null ? CompressedBitmap.EMPTY : handles;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void remove(Map postings, Object key, int handle) {
+        CompressedBitmap handles = (CompressedBitmap) postings.get(key);
+        if (handles != null) {
+            handles = handles.without(handle);
+            if (handles.isEmpty()) {
+                postings.remove(key);
+            } else {
+                postings.put(key, handles);
+            }
+        }
+    }
+
+    public String toString() {
+        return "SlotIndex[" + slotNames + ", " + values.size() + " values]";
+    }
+}
@@ -0,0 +1,322 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.index;
+
+import java.util.*;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * A condition on the values of the Slot with a given name. A Slot matches
+ * if any of its values satisfies the condition; an object without the
+ * Slot never matches.
+ * <p>
+ * An equality condition compares values as Strings. A range condition
+ * only applies to Slots with a numeric slot type, such as
+ * <code>xs:int</code> or <code>xs:double</code>, whose values it compares
+ * as doubles; values that are not numbers are ignored.
+ *
+ * @see SlotIndex
+ * @see SlotQueryManager
+ */
+public final class SlotPredicate {
+
+    private final String slotName;
+    private final String value;
+    private final double min;
+    private final boolean minInclusive;
+    private final double max;
+    private final boolean maxInclusive;
+
+    private SlotPredicate(String slotName, String value, double min, boolean minInclusive,
+    double max, boolean maxInclusive) {
+        if (slotName == null) {
+            throw new IllegalArgumentException("slotName must not be null");
+        }
+        if (Double.isNaN(min) || Double.isNaN(max)) {
+            throw new IllegalArgumentException("Bounds must be numbers");
+        }
+        this.slotName = slotName;
+        this.value = value;
+        this.min = min;
+        this.minInclusive = minInclusive;
+        this.max = max;
+        this.maxInclusive = maxInclusive;
+    }
+
+    /**
+     * Creates a condition that a Slot has the given value.
+     *
+     * @param slotName the name of the Slot
+     * @param value the value
+     * @return the predicate
+     */
+    public static SlotPredicate equalTo(String slotName, String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("value must not be null");
+        }
+        return new SlotPredicate(slotName, value, 0, false, 0, false);
+    }
+
+    /**
+     * Creates a condition that a numeric Slot has a value greater than a bound.
+     *
+     * @param slotName the name of the Slot
+     * @param min the exclusive lower bound
+     * @return the predicate
+     */
+    public static SlotPredicate greaterThan(String slotName, double min) {
+        return range(slotName, min, false, Double.POSITIVE_INFINITY, true);
+    }
+
+    /**
+     * Creates a condition that a numeric Slot has a value less than a bound.
+     *
+     * @param slotName the name of the Slot
+     * @param max the exclusive upper bound
+     * @return the predicate
+     */
+    public static SlotPredicate lessThan(String slotName, double max) {
+        return range(slotName, Double.NEGATIVE_INFINITY, true, max, false);
+    }
+
+    /**
+     * Creates a condition that a numeric Slot has a value between two
+     * bounds, both included.
+     *
+     * @param slotName the name of the Slot
+     * @param min the inclusive lower bound
+     * @param max the inclusive upper bound
+     * @return the predicate
+     */
+    public static SlotPredicate between(String slotName, double min, double max) {
+        return range(slotName, min, true, max, true);
+    }
+
+    /**
+     * Creates a condition that a numeric Slot has a value in a range.
+     *
+     * @param slotName the name of the Slot
+     * @param min the lower bound, which may be Double.NEGATIVE_INFINITY
+     * @param minInclusive whether the lower bound is included
+     * @param max the upper bound, which may be Double.POSITIVE_INFINITY
+     * @param maxInclusive whether the upper bound is included
+     * @return the predicate
+     */
+    public static SlotPredicate range(String slotName, double min, boolean minInclusive,
+    double max, boolean maxInclusive) {
+        return new SlotPredicate(slotName, null, min, minInclusive, max, maxInclusive);
+    }
+
+    /**
+     * Gets the name of the Slot this predicate applies to.
+     *
+     * @return the slot name
+     */
+    public String getSlotName() {
+        return slotName;
+    }
+
+    /**
+     * Gets the value of an equality condition.
+     *
+     * @return the value, or <code>null</code> for a range condition
+     */
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Determines whether this is a range condition.
+     *
+     * @return <code>true</code> for a range condition, <code>false</code> for an equality condition
+     */
+    public boolean isRange() {
+        return value == null;
+    }
+
+    /**
+     * Gets the lower bound of a range condition.
+     *
+     * @return the lower bound, or Double.NEGATIVE_INFINITY if there is none
+     */
+    public double getMin() {
+        return min;
+    }
+
+    /**
+     * Determines whether the lower bound is included in the range.
+     *
+     * @return <code>true</code> if the lower bound is included
+     */
+    public boolean isMinInclusive() {
+        return minInclusive;
+    }
+
+    /**
+     * Gets the upper bound of a range condition.
+     *
+     * @return the upper bound, or Double.POSITIVE_INFINITY if there is none
+     */
+    public double getMax() {
+        return max;
+    }
+
+    /**
+     * Determines whether the upper bound is included in the range.
+     *
+     * @return <code>true</code> if the upper bound is included
+     */
+    public boolean isMaxInclusive() {
+        return maxInclusive;
+    }
+
+    /**
+     * Determines whether a Slot matches this predicate, regardless of its name.
+     *
+     * @param slot the Slot, or <code>null</code>
+     * @return <code>true</code> if the Slot matches
+     * @throws JAXRException	If the JAXR provider encounters an internal error
+     *
+     */
+    public boolean matches(Slot slot) throws JAXRException {
+        if (slot == null) {
+            return false;
+        }
+        Collection values = slot.getValues();
+        return values != null && matches(slot.getSlotType(), values.toArray());
+    }
+
+    /**
+     * Determines whether the values of a Slot match this predicate.
+     *
+     * @param slotType the slot type
+     * @param values the values, as Strings or Numbers
+     * @return <code>true</code> if any value matches
+     */
+    public boolean matches(String slotType, Object[] values) {
+        if (!isRange()) {
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] != null && value.equals(values[i].toString())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (!isNumeric(slotType)) {
+            return false;
+        }
+        for (int i = 0; i < values.length; i++) {
+            double d = toDouble(values[i]);
+            if (!Double.isNaN(d) && contains(d)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Determines whether a number lies in the range of this predicate.
+     */
+    boolean contains(double d) {
+        return (minInclusive ? d >= min : d > min) && (maxInclusive ? d <= max : d < max);
+    }
+
+    /**
+     * Gets the objects whose Slots match all of the given predicates, for
+     * providers that do not implement SlotQueryManager.
+     *
+     * @param objects the ExtensibleObjects to filter
+     * @param predicates Collection of SlotPredicates
+     * @return List of the matching objects, in their original order
+     * @throws JAXRException	If the JAXR provider encounters an internal error
+     *
+     */
+    @SuppressWarnings("unchecked")
+    public static List filter(Collection objects, Collection predicates) throws JAXRException {
+        List result = new ArrayList();
+        for (Iterator i = objects.iterator(); i.hasNext();) {
+            ExtensibleObject object = (ExtensibleObject) i.next();
+            boolean all = true;
+            for (Iterator j = predicates.iterator(); j.hasNext() && all;) {
+                SlotPredicate predicate = (SlotPredicate) j.next();
+                all = predicate.matches(object.getSlot(predicate.getSlotName()));
+            }
+            if (all) {
+                result.add(object);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Determines whether a slot type is numeric, ignoring case and an XML
+     * Schema namespace prefix such as <code>xs:</code>.
+     *
+     * @param slotType the slot type, or <code>null</code>
+     * @return <code>true</code> for the integer, decimal and floating point types
+     */
+    public static boolean isNumeric(String slotType) {
+        if (slotType == null) {
+            return false;
+        }
+        String local = slotType.substring(slotType.indexOf(':') + 1).toLowerCase(Locale.ENGLISH);
+        return local.equals("long") || local.equals("int") || local.equals("integer")
+        || local.equals("short") || local.equals("byte") || local.equals("double")
+        || local.equals("float") || local.equals("decimal");
+    }
+
+    /**
+     * Converts a slot value to a double.
+     *
+     * @return the number, or NaN if the value is not a number
+     */
+    static double toDouble(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        }
+        if (value == null) {
+            return Double.NaN;
+        }
+        try {
+            return Double.parseDouble(value.toString().trim());
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    public boolean equals(Object o) {
+        if (!(o instanceof SlotPredicate)) {
+            return false;
+        }
+        SlotPredicate p = (SlotPredicate) o;
+        return slotName.equals(p.slotName) && (value == null ? p.value == null : value.equals(p.value))
+        && Double.compare(min, p.min) == 0 && minInclusive == p.minInclusive
+        && Double.compare(max, p.max) == 0 && maxInclusive == p.maxInclusive;
+    }
+
+    public int hashCode() {
+        return slotName.hashCode() * 31 + (value == null ? Double.hashCode(min) ^ Double.hashCode(max) : value.hashCode());
+    }
+
+    public String toString() {
+        if (!isRange()) {
+            return slotName + " = " + value;
+        }
+        return slotName + " in " + (minInclusive ? "[" : "(") + min + ", " + max + (maxInclusive ? "]" : ")");
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.index;
+
+import java.util.*;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * An extension of BusinessQueryManager, implemented by providers that can
+ * find objects by the values of their Slots, for instance the
+ * ServiceBindings whose <code>region</code> Slot is <code>eu-west</code>
+ * and whose <code>weight</code> Slot is greater than 50.
+ * <p>
+ * A provider may answer predicates on some Slots from a SlotIndex and
+ * evaluate the others on each candidate; the result is the same. With
+ * providers that do not implement this interface, SlotPredicate.filter
+ * evaluates the predicates on the result of a BusinessQueryManager call.
+ *
+ * @see SlotPredicate
+ * @see SlotIndex
+ */
+public interface SlotQueryManager extends BusinessQueryManager {
+
+    /**
+     * Finds the ServiceBindings that match the criteria of
+     * BusinessQueryManager.findServiceBindings and all of the given
+     * SlotPredicates.
+     *
+     * @param serviceKey the Key of the parent Service, or <code>null</code> for the ServiceBindings of any Service
+     * @param findQualifiers Collection of FindQualifiers
+     * @param classifications Collection of Classifications
+     * @param specifications Collection of RegistryObjects
+     * @param slotPredicates Collection of SlotPredicates that must all match
+     * @return BulkResponse containing Collection of ServiceBindings
+     * @throws JAXRException	If the JAXR provider encounters an internal error
+     *
+     */
+    BulkResponse findServiceBindings(Key serviceKey, Collection findQualifiers,
+    Collection classifications, Collection specifications, Collection slotPredicates)
+    throws JAXRException;
+
+    /**
+     * Finds the objects of a type that match all of the given SlotPredicates.
+     *
+     * @param objectType the type of the objects, one of the type constants of LifeCycleManager
+     * @param findQualifiers Collection of FindQualifiers, of which the sort qualifiers apply
+     * @param slotPredicates Collection of SlotPredicates that must all match
+     * @return BulkResponse containing Collection of RegistryObjects
+     * @throws JAXRException	If the JAXR provider encounters an internal error
+     *
+     */
+    BulkResponse findObjectsBySlots(String objectType, Collection findQualifiers, Collection slotPredicates)
+    throws JAXRException;
+
+    /**
+     * Gets the names of the Slots the provider keeps an index of.
+     *
+     * @return Set of slot names
+     * @throws JAXRException	If the JAXR provider encounters an internal error
+     *
+     */
+    Set getIndexedSlotNames() throws JAXRException;
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.index;
+
+/**
+ * The American Soundex encoding.
+ */
+final class Soundex implements PhoneticEncoder {
+
+    // codes of the letters A to Z; '0' for vowels and Y, '-' for H and W
+    private static final String CODES = "0123012-02245501262301-202";
+
+    public String encode(String name) {
+        char[] code = new char[4];
+        int length = 0;
+        char last = 0;
+        for (int i = 0; i < name.length() && length < code.length; i++) {
+            char c = upper(name.charAt(i));
+            if (c == 0) {
+                continue;
+            }
+            char digit = CODES.charAt(c - 'A');
+            if (length == 0) {
+                code[length++] = c;
+                last = digit;
+            } else if (digit == '-') {
+                // H and W do not separate letters with the same code
+            } else {
+                if (digit != '0' && digit != last) {
+                    code[length++] = digit;
+                }
+                last = digit;
+            }
+        }
+        if (length == 0) {
+            return "";
+        }
+        while (length < code.length) {
+            code[length++] = '0';
+        }
+        return new String(code);
+    }
+
+    /**
+     * Gets the upper case of an ASCII letter, or 0 for any other character.
+     */
+    static char upper(char c) {
+        if (c >= 'a' && c <= 'z') {
+            return (char) (c - ('a' - 'A'));
+        }
+        return c >= 'A' && c <= 'Z' ? c : 0;
+    }
+
+    public String toString() {
+        return "SOUNDEX";
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.memory;
+
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * Association implementation. The confirmation state is maintained by the
+ * MemoryRegistry from the owners of the source and target objects.
+ */
+final class AssociationImpl extends RegistryObjectImpl implements Association {
+
+    private RegistryObject sourceObject;
+    private RegistryObject targetObject;
+    private Concept associationType;
+    private boolean extramural;
+    private boolean confirmedBySourceOwner;
+    private boolean confirmedByTargetOwner;
+
+    AssociationImpl(MemoryBusinessLifeCycleManager lifeCycleManager) {
+        super(lifeCycleManager);
+    }
+
+    String getObjectTypeName() {
+        return LifeCycleManager.ASSOCIATION;
+    }
+
+    public RegistryObject getSourceObject() throws JAXRException {
+        resolve();
+        return sourceObject;
+    }
+
+    public void setSourceObject(RegistryObject srcObject) throws JAXRException {
+        resolve();
+        this.sourceObject = srcObject;
+    }
+
+    public RegistryObject getTargetObject() throws JAXRException {
+        resolve();
+        return targetObject;
+    }
+
+    public void setTargetObject(RegistryObject targetObject) throws JAXRException {
+        resolve();
+        lifeCycleManager.checkReference(targetObject);
+        this.targetObject = targetObject;
+    }
+
+    public Concept getAssociationType() throws JAXRException {
+        resolve();
+        return associationType;
+    }
+
+    public void setAssociationType(Concept associationType) throws JAXRException {
+        resolve();
+        this.associationType = associationType;
+    }
+
+    public boolean isExtramural() throws JAXRException {
+        return extramural;
+    }
+
+    public boolean isConfirmedBySourceOwner() throws JAXRException {
+        return confirmedBySourceOwner;
+    }
+
+    public boolean isConfirmedByTargetOwner() throws JAXRException {
+        return confirmedByTargetOwner;
+    }
+
+    public boolean isConfirmed() throws JAXRException {
+        return confirmedBySourceOwner && confirmedByTargetOwner;
+    }
+
+    void setConfirmation(boolean extramural, boolean bySource, boolean byTarget) {
+        this.extramural = extramural;
+        this.confirmedBySourceOwner = bySource;
+        this.confirmedByTargetOwner = byTarget;
+    }
+
+    void copyValues(RegistryObjectImpl copy) throws JAXRException {
+        super.copyValues(copy);
+        AssociationImpl c = (AssociationImpl) copy;
+        c.extramural = extramural;
+        c.confirmedBySourceOwner = confirmedBySourceOwner;
+        c.confirmedByTargetOwner = confirmedByTargetOwner;
+    }
+
+    void copyReferences(RegistryObjectImpl copy, ObjectCopier copier) throws JAXRException {
+        super.copyReferences(copy, copier);
+        AssociationImpl c = (AssociationImpl) copy;
+        c.sourceObject = (RegistryObject) copier.map(sourceObject);
+        c.targetObject = (RegistryObject) copier.map(targetObject);
+        c.associationType = (Concept) copier.map(associationType);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.memory;
+
+import java.sql.Timestamp;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * AuditableEvent implementation, created by the MemoryRegistry. The events
+ * in an audit trail are saved objects, of which callers get copies.
+ */
+final class AuditableEventImpl extends RegistryObjectImpl implements AuditableEvent {
+
+    private User user;
+    private final Timestamp timestamp;
+    private final int eventType;
+    private RegistryObject registryObject;
+
+    AuditableEventImpl(MemoryBusinessLifeCycleManager lifeCycleManager, User user,
+    long time, int eventType, RegistryObject registryObject) {
+        super(lifeCycleManager);
+        this.user = user;
+        this.timestamp = new Timestamp(time);
+        this.eventType = eventType;
+        this.registryObject = registryObject;
+    }
+
+    String getObjectTypeName() {
+        return LifeCycleManager.AUDITABLE_EVENT;
+    }
+
+    RegistryObjectImpl newInstance(MemoryBusinessLifeCycleManager lifeCycleManager) {
+        return new AuditableEventImpl(lifeCycleManager, null, timestamp.getTime(), eventType, null);
+    }
+
+    public User getUser() throws JAXRException {
+        resolve();
+        return user;
+    }
+
+    public Timestamp getTimestamp() throws JAXRException {
+        return new Timestamp(timestamp.getTime());
+    }
+
+    public int getEventType() throws JAXRException {
+        return eventType;
+    }
+
+    public RegistryObject getRegistryObject() throws JAXRException {
+        resolve();
+        return registryObject;
+    }
+
+    void copyReferences(RegistryObjectImpl copy, ObjectCopier copier) throws JAXRException {
+        super.copyReferences(copy, copier);
+        AuditableEventImpl c = (AuditableEventImpl) copy;
+        c.user = (User) copier.map(user);
+        c.registryObject = (RegistryObject) copier.map(registryObject);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.memory;
+
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * Classification implementation. An internal Classification refers to a
+ * Concept; an external one to a ClassificationScheme and a value.
+ */
+final class ClassificationImpl extends RegistryObjectImpl implements Classification {
+
+    private Concept concept;
+    private ClassificationScheme scheme;
+    private String value;
+    private RegistryObject classifiedObject;
+
+    ClassificationImpl(MemoryBusinessLifeCycleManager lifeCycleManager) {
+        super(lifeCycleManager);
+    }
+
+    String getObjectTypeName() {
+        return LifeCycleManager.CLASSIFICATION;
+    }
+
+    public Concept getConcept() throws JAXRException {
+        resolve();
+        return concept;
+    }
+
+    public void setConcept(Concept concept) throws JAXRException {
+        resolve();
+        lifeCycleManager.checkReference(concept);
+        this.concept = concept;
+    }
+
+    public ClassificationScheme getClassificationScheme() throws JAXRException {
+        resolve();
+        return concept != null ? concept.getClassificationScheme() : scheme;
+    }
+
+    public void setClassificationScheme(ClassificationScheme classificationScheme) throws JAXRException {
+        resolve();
+        lifeCycleManager.checkReference(classificationScheme);
+        this.scheme = classificationScheme;
+    }
+
+    public String getValue() throws JAXRException {
+        resolve();
+        return concept != null ? concept.getValue() : value;
+    }
+
+    public void setValue(String value) throws JAXRException {
+        this.value = value;
+    }
+
+    public RegistryObject getClassifiedObject() throws JAXRException {
+        resolve();
+        return classifiedObject;
+    }
+
+    public void setClassifiedObject(RegistryObject classifiedObject) throws JAXRException {
+        resolve();
+        this.classifiedObject = classifiedObject;
+    }
+
+    public boolean isExternal() throws JAXRException {
+        resolve();
+        return concept == null;
+    }
+
+    void copyValues(RegistryObjectImpl copy) throws JAXRException {
+        super.copyValues(copy);
+        ClassificationImpl c = (ClassificationImpl) copy;
+        c.value = value;
+    }
+
+    void copyReferences(RegistryObjectImpl copy, ObjectCopier copier) throws JAXRException {
+        super.copyReferences(copy, copier);
+        ClassificationImpl c = (ClassificationImpl) copy;
+        c.concept = (Concept) copier.map(concept);
+        c.scheme = (ClassificationScheme) copier.map(scheme);
+        c.classifiedObject = (RegistryObject) copier.map(classifiedObject);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.memory;
+
+import java.util.*;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * ClassificationScheme implementation. Its Concepts are composed objects;
+ * a scheme without Concepts is external.
+ */
+final class ClassificationSchemeImpl extends RegistryEntryImpl implements ClassificationScheme {
+
+    private final List children = new ArrayList(0);
+    private int valueType = VALUE_TYPE_UNIQUE;
+
+    ClassificationSchemeImpl(MemoryBusinessLifeCycleManager lifeCycleManager) {
+        super(lifeCycleManager);
+    }
+
+    String getObjectTypeName() {
+        return LifeCycleManager.CLASSIFICATION_SCHEME;
+    }
+
+    public void addChildConcept(Concept concept) throws JAXRException {
+        resolve();
+        ConceptImpl.addChild(this, children, concept);
+    }
+
+    public void addChildConcepts(Collection concepts) throws JAXRException {
+        for (Iterator i = concepts.iterator(); i.hasNext();) {
+            addChildConcept((Concept) i.next());
+        }
+    }
+
+    public void removeChildConcept(Concept concept) throws JAXRException {
+        resolve();
+        ConceptImpl.removeChild(children, concept);
+    }
+
+    public void removeChildConcepts(Collection concepts) throws JAXRException {
+        for (Iterator i = concepts.iterator(); i.hasNext();) {
+            removeChildConcept((Concept) i.next());
+        }
+    }
+
+    public int getChildConceptCount() throws JAXRException {
+        resolve();
+        return children.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    public Collection getChildrenConcepts() throws JAXRException {
+        resolve();
+        return new ArrayList(children);
+    }
+
+    public Collection getDescendantConcepts() throws JAXRException {
+        resolve();
+        List descendants = new ArrayList();
+        ConceptImpl.addDescendants(children, descendants);
+        return descendants;
+    }
+
+    public boolean isExternal() throws JAXRException {
+        resolve();
+        return children.isEmpty();
+    }
+
+    public int getValueType() throws JAXRException {
+        return valueType;
+    }
+
+    public void setValueType(int valueType) throws JAXRException {
+        this.valueType = valueType;
+    }
+
+    @SuppressWarnings("unchecked")
+    void getComposedObjects(Collection objects) throws JAXRException {
+        resolve();
+        super.getComposedObjects(objects);
+        objects.addAll(children);
+    }
+
+    void copyValues(RegistryObjectImpl copy) throws JAXRException {
+        super.copyValues(copy);
+        ClassificationSchemeImpl c = (ClassificationSchemeImpl) copy;
+        c.valueType = valueType;
+    }
+
+    void copyReferences(RegistryObjectImpl copy, ObjectCopier copier) throws JAXRException {
+        super.copyReferences(copy, copier);
+        ClassificationSchemeImpl c = (ClassificationSchemeImpl) copy;
+        copier.mapAll(children, c.children);
+    }
+}
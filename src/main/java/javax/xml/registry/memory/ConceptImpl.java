@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.memory;
+
+import java.util.*;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * Concept implementation. Child Concepts are composed objects.
+ */
+final class ConceptImpl extends RegistryObjectImpl implements Concept {
+
+    private String value;
+    private final List children = new ArrayList(0);
+    private RegistryObject parent;
+
+    ConceptImpl(MemoryBusinessLifeCycleManager lifeCycleManager) {
+        super(lifeCycleManager);
+    }
+
+    String getObjectTypeName() {
+        return LifeCycleManager.CONCEPT;
+    }
+
+    public String getValue() throws JAXRException {
+        return value;
+    }
+
+    public void setValue(String value) throws JAXRException {
+        this.value = value;
+    }
+
+    public void addChildConcept(Concept concept) throws JAXRException {
+        resolve();
+        addChild(this, children, concept);
+    }
+
+    public void addChildConcepts(Collection concepts) throws JAXRException {
+        for (Iterator i = concepts.iterator(); i.hasNext();) {
+            addChildConcept((Concept) i.next());
+        }
+    }
+
+    public void removeChildConcept(Concept concept) throws JAXRException {
+        resolve();
+        removeChild(children, concept);
+    }
+
+    public void removeChildConcepts(Collection concepts) throws JAXRException {
+        for (Iterator i = concepts.iterator(); i.hasNext();) {
+            removeChildConcept((Concept) i.next());
+        }
+    }
+
+    public int getChildConceptCount() throws JAXRException {
+        resolve();
+        return children.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    public Collection getChildrenConcepts() throws JAXRException {
+        resolve();
+        return new ArrayList(children);
+    }
+
+    public Collection getDescendantConcepts() throws JAXRException {
+        resolve();
+        List descendants = new ArrayList();
+        addDescendants(children, descendants);
+        return descendants;
+    }
+
+    public Concept getParentConcept() throws JAXRException {
+        resolve();
+        return parent instanceof Concept ? (Concept) parent : null;
+    }
+
+    public ClassificationScheme getClassificationScheme() throws JAXRException {
+        resolve();
+        RegistryObject p = parent;
+        while (p instanceof Concept) {
+            p = ((Concept) p).getParent();
+        }
+        return (ClassificationScheme) p;
+    }
+
+    /**
+     * Returns the path of values from the ClassificationScheme, for instance
+     * <code>/schemeId/31/311</code>, or <code>null</code> if the Concept is not
+     * below a ClassificationScheme with a Key.
+     */
+    public String getPath() throws JAXRException {
+        resolve();
+        StringBuilder path = new StringBuilder();
+        RegistryObject p = this;
+        while (p instanceof Concept) {
+            path.insert(0, ((Concept) p).getValue()).insert(0, '/');
+            p = ((Concept) p).getParent();
+        }
+        if (p == null || p.getKey() == null || p.getKey().getId() == null) {
+            return null;
+        }
+        return path.insert(0, p.getKey().getId()).insert(0, '/').toString();
+    }
+
+    public RegistryObject getParent() throws JAXRException {
+        resolve();
+        return parent;
+    }
+
+    void setParent(RegistryObject parent) throws JAXRException {
+        resolve();
+        this.parent = parent;
+    }
+
+    @SuppressWarnings("unchecked")
+    void getComposedObjects(Collection objects) throws JAXRException {
+        resolve();
+        super.getComposedObjects(objects);
+        objects.addAll(children);
+    }
+
+    @SuppressWarnings("unchecked")
+    static void addChild(RegistryObject parent, List children, Concept concept) throws JAXRException {
+        ConceptImpl child = (ConceptImpl) concept;
+        child.resolve();
+        if (child.parent != null && child.parent != parent) {
+            if (child.parent instanceof Concept) {
+                ((Concept) child.parent).removeChildConcept(child);
+            } else {
+                ((ClassificationScheme) child.parent).removeChildConcept(child);
+            }
+        }
+        child.parent = parent;
+        if (!children.contains(child)) {
+            children.add(child);
+        }
+    }
+
+    static void removeChild(List children, Concept concept) throws JAXRException {
+        if (children.remove(concept)) {
+            ((ConceptImpl) concept).setParent(null);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static void addDescendants(List children, List descendants) throws JAXRException {
+        for (int i = 0; i < children.size(); i++) {
+            ConceptImpl child = (ConceptImpl) children.get(i);
+            child.resolve();
+            descendants.add(child);
+            addDescendants(child.children, descendants);
+        }
+    }
+
+    void copyValues(RegistryObjectImpl copy) throws JAXRException {
+        super.copyValues(copy);
+        ConceptImpl c = (ConceptImpl) copy;
+        c.value = value;
+    }
+
+    void copyReferences(RegistryObjectImpl copy, ObjectCopier copier) throws JAXRException {
+        super.copyReferences(copy, copier);
+        ConceptImpl c = (ConceptImpl) copy;
+        copier.mapAll(children, c.children);
+        c.parent = (RegistryObject) copier.map(parent);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.memory;
+
+import java.util.*;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * EmailAddress implementation.
+ */
+final class EmailAddressImpl implements EmailAddress {
+
+    private String address;
+    private String type;
+
+    EmailAddressImpl(String address, String type) {
+        this.address = address;
+        this.type = type;
+    }
+
+    public String getAddress() throws JAXRException {
+        return address;
+    }
+
+    public void setAddress(String address) throws JAXRException {
+        this.address = address;
+    }
+
+    public String getType() throws JAXRException {
+        return type;
+    }
+
+    public void setType(String type) throws JAXRException {
+        this.type = type;
+    }
+
+    /**
+     * Copies EmailAddresses of any provider.
+     */
+    @SuppressWarnings("unchecked")
+    static List copyAll(Collection addresses) throws JAXRException {
+        List copies = new ArrayList(addresses.size());
+        for (Iterator i = addresses.iterator(); i.hasNext();) {
+            EmailAddress address = (EmailAddress) i.next();
+            copies.add(new EmailAddressImpl(address.getAddress(), address.getType()));
+        }
+        return copies;
+    }
+}
@@ -0,0 +1,424 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.memory;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * Base class of all ExtensibleObjects, keeping the Slots by name.
+ * <p>
+ * Slots are not kept as Slot objects but in parallel arrays of names,
+ * slot types and values, in insertion order, and found by a scan of the
+ * names. Names and slot types are interned in dictionaries shared by all
+ * objects, which are bounded like the cache of slot type kinds. A slot with a single value keeps it inline. The values of a
+ * slot with a numeric slot type, such as <code>xs:int</code> or
+ * <code>xs:double</code>, are kept as longs or doubles when they convert
+ * back to the same String. A Slot returned by this class is a view of its
+ * entry, and one that is added is copied.
+ */
+abstract class ExtensibleObjectImpl implements ExtensibleObject {
+
+    static final int TEXT = 0;
+    static final int INTEGER = 1;
+    static final int DECIMAL = 2;
+
+    private static final ConcurrentMap NAMES = new ConcurrentHashMap();
+    private static final ConcurrentMap SLOT_TYPES = new ConcurrentHashMap();
+    private static final ConcurrentMap KINDS = new ConcurrentHashMap();
+    private static final int MAX_INTERNED = 1024;
+    private static final Object[] NO_VALUES = new Object[0];
+    private static final Object INLINE_INTEGER = new Object();
+    private static final Object INLINE_DECIMAL = new Object();
+
+    private int slotCount;
+    private String[] slotNames;
+    private String[] slotTypes;
+    private Object[] slotValues;
+    private long[] inlineValues;
+
+    public void addSlot(Slot slot) throws JAXRException {
+        String name = slot.getName();
+        int i = indexOf(name);
+        if (i < 0) {
+            i = slotCount;
+            if (slotNames == null) {
+                slotNames = new String[4];
+                slotTypes = new String[4];
+                slotValues = new Object[4];
+            } else if (i == slotNames.length) {
+                slotNames = Arrays.copyOf(slotNames, i * 2);
+                slotTypes = Arrays.copyOf(slotTypes, i * 2);
+                slotValues = Arrays.copyOf(slotValues, i * 2);
+                if (inlineValues != null) {
+                    inlineValues = Arrays.copyOf(inlineValues, i * 2);
+                }
+            }
+            slotNames[i] = intern(NAMES, name);
+            slotCount++;
+        }
+        slotTypes[i] = intern(SLOT_TYPES, slot.getSlotType());
+        encode(i, slot.getValues());
+    }
+
+    public void addSlots(Collection slots) throws JAXRException {
+        for (Iterator i = slots.iterator(); i.hasNext();) {
+            addSlot((Slot) i.next());
+        }
+    }
+
+    public void removeSlot(String slotName) throws JAXRException {
+        int i = indexOf(slotName);
+        if (i >= 0) {
+            removeSlotAt(i);
+        }
+    }
+
+    private void removeSlotAt(int i) {
+        int n = slotCount - 1 - i;
+        System.arraycopy(slotNames, i + 1, slotNames, i, n);
+        System.arraycopy(slotTypes, i + 1, slotTypes, i, n);
+        System.arraycopy(slotValues, i + 1, slotValues, i, n);
+        if (inlineValues != null) {
+            System.arraycopy(inlineValues, i + 1, inlineValues, i, n);
+        }
+        slotCount--;
+        slotNames[slotCount] = null;
+        slotTypes[slotCount] = null;
+        slotValues[slotCount] = null;
+        if (slotCount == 0) {
+            slotNames = null;
+            slotTypes = null;
+            slotValues = null;
+            inlineValues = null;
+        }
+    }
+
+    public void removeSlots(Collection slotNames) throws JAXRException {
+        for (Iterator i = slotNames.iterator(); i.hasNext();) {
+            removeSlot((String) i.next());
+        }
+    }
+
+    public Slot getSlot(String slotName) throws JAXRException {
+        int i = indexOf(slotName);
+        return i < 0 ? null : new SlotView(slotNames[i]);
+    }
+
+    @SuppressWarnings("unchecked")
+    public Collection getSlots() throws JAXRException {
+        List slots = new ArrayList(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            slots.add(new SlotView(slotNames[i]));
+        }
+        return slots;
+    }
+
+    /**
+     * Copies the Slots of this object to another object, replacing its Slots.
+     */
+    void copySlotsTo(ExtensibleObjectImpl copy) {
+        copy.slotCount = slotCount;
+        copy.slotNames = slotNames == null ? null : slotNames.clone();
+        copy.slotTypes = slotTypes == null ? null : slotTypes.clone();
+        // the value of a slot is replaced, never modified, so it can be shared
+        copy.slotValues = slotValues == null ? null : slotValues.clone();
+        copy.inlineValues = inlineValues == null ? null : inlineValues.clone();
+    }
+
+    int getSlotCount() {
+        return slotCount;
+    }
+
+    String getSlotName(int i) {
+        return slotNames[i];
+    }
+
+    String getSlotType(int i) {
+        return slotTypes[i];
+    }
+
+    /**
+     * Gets the values of the slot at an index without converting numbers to Strings.
+     *
+     * @return the values, as Strings, Longs or Doubles
+     */
+    Object[] getSlotValues(int i) {
+        return valuesAt(i);
+    }
+
+    private Object[] valuesAt(int i) {
+        Object v = slotValues[i];
+        if (v == INLINE_INTEGER) {
+            return new Object[] {Long.valueOf(inlineValues[i])};
+        }
+        if (v == INLINE_DECIMAL) {
+            return new Object[] {Double.valueOf(Double.longBitsToDouble(inlineValues[i]))};
+        }
+        if (v instanceof long[]) {
+            long[] a = (long[]) v;
+            Object[] values = new Object[a.length];
+            for (int j = 0; j < a.length; j++) {
+                values[j] = Long.valueOf(a[j]);
+            }
+            return values;
+        }
+        if (v instanceof double[]) {
+            double[] a = (double[]) v;
+            Object[] values = new Object[a.length];
+            for (int j = 0; j < a.length; j++) {
+                values[j] = Double.valueOf(a[j]);
+            }
+            return values;
+        }
+        return v instanceof Object[] ? ((Object[]) v).clone() : new Object[] {v};
+    }
+
+    /**
+     * Classifies a slot type as numeric, ignoring case and an XML Schema
+     * namespace prefix such as <code>xs:</code>.
+     *
+     * @return TEXT, INTEGER or DECIMAL
+     */
+    @SuppressWarnings("unchecked")
+    static int kindOf(String slotType) {
+        if (slotType == null) {
+            return TEXT;
+        }
+        Integer kind = (Integer) KINDS.get(slotType);
+        if (kind == null) {
+            String local = slotType.substring(slotType.indexOf(':') + 1).toLowerCase(Locale.ENGLISH);
+            if (local.equals("long") || local.equals("int") || local.equals("integer")
+            || local.equals("short") || local.equals("byte")) {
+                kind = Integer.valueOf(INTEGER);
+            } else if (local.equals("double") || local.equals("float") || local.equals("decimal")) {
+                kind = Integer.valueOf(DECIMAL);
+            } else {
+                kind = Integer.valueOf(TEXT);
+            }
+            if (KINDS.size() < MAX_INTERNED) {
+                KINDS.put(slotType, kind);
+            }
+        }
+        return kind.intValue();
+    }
+
+    private int indexOf(String slotName) {
+        for (int i = 0; i < slotCount; i++) {
+            String name = slotNames[i];
+            if (name == slotName || name != null && name.equals(slotName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void encode(int i, Collection values) {
+        Object[] strings = values == null || values.isEmpty() ? NO_VALUES : values.toArray();
+        int kind = kindOf(slotTypes[i]);
+        if (kind == INTEGER) {
+            long[] longs = new long[strings.length];
+            for (int j = 0; j < strings.length; j++) {
+                if (!isCanonicalLong(strings[j])) {
+                    kind = TEXT;
+                    break;
+                }
+                longs[j] = Long.parseLong((String) strings[j]);
+            }
+            if (kind == INTEGER && longs.length > 0) {
+                setInline(i, INLINE_INTEGER, longs[0], longs.length == 1 ? null : longs);
+                return;
+            }
+        } else if (kind == DECIMAL) {
+            double[] doubles = new double[strings.length];
+            for (int j = 0; j < strings.length; j++) {
+                if (!isCanonicalDouble(strings[j])) {
+                    kind = TEXT;
+                    break;
+                }
+                doubles[j] = Double.parseDouble((String) strings[j]);
+            }
+            if (kind == DECIMAL && doubles.length > 0) {
+                setInline(i, INLINE_DECIMAL, Double.doubleToRawLongBits(doubles[0]),
+                doubles.length == 1 ? null : doubles);
+                return;
+            }
+        }
+        Object v = strings.length == 1 ? strings[0] : strings;
+        // a single value that looks like an encoded one stays in an array
+        if (strings.length == 1 && (v == null || v instanceof Object[] || v instanceof long[]
+        || v instanceof double[])) {
+            v = strings;
+        }
+        slotValues[i] = v;
+    }
+
+    /**
+     * Stores a single number inline, or several numbers as an array.
+     */
+    private void setInline(int i, Object marker, long bits, Object array) {
+        if (array != null) {
+            slotValues[i] = array;
+            return;
+        }
+        if (inlineValues == null) {
+            inlineValues = new long[slotNames.length];
+        }
+        inlineValues[i] = bits;
+        slotValues[i] = marker;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List stringsAt(int i) {
+        Object[] values = valuesAt(i);
+        List strings = new ArrayList(values.length);
+        for (int j = 0; j < values.length; j++) {
+            Object v = values[j];
+            strings.add(v instanceof Long || v instanceof Double ? v.toString() : v);
+        }
+        return strings;
+    }
+
+    /**
+     * Renames a slot, replacing a slot that has the new name.
+     */
+    private void rename(int i, String name) {
+        int other = indexOf(name);
+        slotNames[i] = intern(NAMES, name);
+        if (other >= 0 && other != i) {
+            removeSlotAt(other);
+        }
+    }
+
+    private static boolean isCanonicalLong(Object value) {
+        if (!(value instanceof String)) {
+            return false;
+        }
+        String s = (String) value;
+        int length = s.length();
+        if (length == 0 || length > 20) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = s.charAt(i);
+            if (!(c >= '0' && c <= '9' || c == '-' && i == 0)) {
+                return false;
+            }
+        }
+        try {
+            return Long.toString(Long.parseLong(s)).equals(s);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static boolean isCanonicalDouble(Object value) {
+        if (!(value instanceof String)) {
+            return false;
+        }
+        String s = (String) value;
+        int length = s.length();
+        if (length == 0 || length > 32) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = s.charAt(i);
+            if (!(c >= '0' && c <= '9' || c == '.' || c == '-' || c == 'E')) {
+                return false;
+            }
+        }
+        try {
+            return Double.toString(Double.parseDouble(s)).equals(s);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Interns a String in a dictionary, unless the dictionary is full, in
+     * which case the String is kept as is; slot names and types are always
+     * compared with equals.
+     */
+    @SuppressWarnings("unchecked")
+    private static String intern(ConcurrentMap dictionary, String s) {
+        if (s == null) {
+            return null;
+        }
+        String interned = (String) dictionary.get(s);
+        if (interned != null) {
+            return interned;
+        }
+        if (dictionary.size() >= MAX_INTERNED) {
+            return s;
+        }
+        interned = (String) dictionary.putIfAbsent(s, s);
+        return interned == null ? s : interned;
+    }
+
+    /**
+     * A view of one slot, which follows the slot as long as it exists.
+     */
+    private final class SlotView implements Slot {
+
+        private String name;
+
+        SlotView(String name) {
+            this.name = name;
+        }
+
+        public String getName() throws JAXRException {
+            return name;
+        }
+
+        public void setName(String name) throws JAXRException {
+            int i = indexOf(this.name);
+            if (i >= 0) {
+                rename(i, name);
+            }
+            this.name = name;
+        }
+
+        public String getSlotType() throws JAXRException {
+            int i = indexOf(name);
+            return i < 0 ? null : slotTypes[i];
+        }
+
+        public void setSlotType(String slotType) throws JAXRException {
+            int i = indexOf(name);
+            if (i >= 0) {
+                List values = stringsAt(i);
+                slotTypes[i] = intern(SLOT_TYPES, slotType);
+                encode(i, values);
+            }
+        }
+
+        public Collection getValues() throws JAXRException {
+            int i = indexOf(name);
+            return i < 0 ? new ArrayList() : stringsAt(i);
+        }
+
+        public void setValues(Collection values) throws JAXRException {
+            int i = indexOf(name);
+            if (i >= 0) {
+                encode(i, values);
+            }
+        }
+    }
+}
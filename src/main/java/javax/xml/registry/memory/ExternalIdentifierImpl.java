@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.memory;
+
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * ExternalIdentifier implementation.
+ */
+final class ExternalIdentifierImpl extends RegistryObjectImpl implements ExternalIdentifier {
+
+    private RegistryObject registryObject;
+    private String value;
+    private ClassificationScheme identificationScheme;
+
+    ExternalIdentifierImpl(MemoryBusinessLifeCycleManager lifeCycleManager) {
+        super(lifeCycleManager);
+    }
+
+    String getObjectTypeName() {
+        return LifeCycleManager.EXTERNAL_IDENTIFIER;
+    }
+
+    public RegistryObject getRegistryObject() throws JAXRException {
+        resolve();
+        return registryObject;
+    }
+
+    void setRegistryObject(RegistryObject registryObject) throws JAXRException {
+        resolve();
+        this.registryObject = registryObject;
+    }
+
+    public String getValue() throws JAXRException {
+        return value;
+    }
+
+    public void setValue(String value) throws JAXRException {
+        this.value = value;
+    }
+
+    public ClassificationScheme getIdentificationScheme() throws JAXRException {
+        resolve();
+        return identificationScheme;
+    }
+
+    public void setIdentificationScheme(ClassificationScheme identificationScheme) throws JAXRException {
+        resolve();
+        lifeCycleManager.checkReference(identificationScheme);
+        this.identificationScheme = identificationScheme;
+    }
+
+    void copyValues(RegistryObjectImpl copy) throws JAXRException {
+        super.copyValues(copy);
+        ExternalIdentifierImpl c = (ExternalIdentifierImpl) copy;
+        c.value = value;
+    }
+
+    void copyReferences(RegistryObjectImpl copy, ObjectCopier copier) throws JAXRException {
+        super.copyReferences(copy, copier);
+        ExternalIdentifierImpl c = (ExternalIdentifierImpl) copy;
+        c.registryObject = (RegistryObject) copier.map(registryObject);
+        c.identificationScheme = (ClassificationScheme) copier.map(identificationScheme);
+    }
+}
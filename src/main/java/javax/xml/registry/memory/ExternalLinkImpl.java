@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.memory;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.*;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * ExternalLink implementation. If URI validation is enabled, the external
+ * URI must be a syntactically valid absolute URI; the provider does not
+ * attempt to connect to it.
+ */
+final class ExternalLinkImpl extends RegistryObjectImpl implements ExternalLink {
+
+    private String externalURI;
+    private boolean validateURI = true;
+    private final List linkedObjects = new ArrayList(1);
+
+    ExternalLinkImpl(MemoryBusinessLifeCycleManager lifeCycleManager) {
+        super(lifeCycleManager);
+    }
+
+    String getObjectTypeName() {
+        return LifeCycleManager.EXTERNAL_LINK;
+    }
+
+    @SuppressWarnings("unchecked")
+    public Collection getLinkedObjects() throws JAXRException {
+        resolve();
+        return new ArrayList(linkedObjects);
+    }
+
+    @SuppressWarnings("unchecked")
+    void addLinkedObject(RegistryObject object) throws JAXRException {
+        resolve();
+        if (!linkedObjects.contains(object)) {
+            linkedObjects.add(object);
+        }
+    }
+
+    void removeLinkedObject(RegistryObject object) throws JAXRException {
+        resolve();
+        linkedObjects.remove(object);
+    }
+
+    public String getExternalURI() throws JAXRException {
+        return externalURI;
+    }
+
+    public void setExternalURI(String uri) throws JAXRException {
+        if (uri != null && validateURI) {
+            validate(uri);
+        }
+        this.externalURI = uri;
+    }
+
+    public void setValidateURI(boolean validate) throws JAXRException {
+        this.validateURI = validate;
+    }
+
+    public boolean getValidateURI() throws JAXRException {
+        return validateURI;
+    }
+
+    static void validate(String uri) throws InvalidRequestException {
+        try {
+            if (!new URI(uri).isAbsolute()) {
+                throw new InvalidRequestException("Not an absolute URI: " + uri);
+            }
+        } catch (URISyntaxException e) {
+            throw new InvalidRequestException("Invalid URI: " + uri, e);
+        }
+    }
+
+    void copyValues(RegistryObjectImpl copy) throws JAXRException {
+        super.copyValues(copy);
+        ExternalLinkImpl c = (ExternalLinkImpl) copy;
+        c.externalURI = externalURI;
+        c.validateURI = validateURI;
+    }
+
+    void copyReferences(RegistryObjectImpl copy, ObjectCopier copier) throws JAXRException {
+        super.copyReferences(copy, copier);
+        ExternalLinkImpl c = (ExternalLinkImpl) copy;
+        copier.mapAll(linkedObjects, c.linkedObjects);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.memory;
+
+import javax.activation.DataHandler;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * ExtrinsicObject implementation. The repository item is kept by reference.
+ */
+final class ExtrinsicObjectImpl extends RegistryEntryImpl implements ExtrinsicObject {
+
+    private String mimeType = "application/octet-stream";
+    private boolean opaque;
+    private DataHandler repositoryItem;
+
+    ExtrinsicObjectImpl(MemoryBusinessLifeCycleManager lifeCycleManager) {
+        super(lifeCycleManager);
+    }
+
+    String getObjectTypeName() {
+        return LifeCycleManager.EXTRINSIC_OBJECT;
+    }
+
+    public String getMimeType() throws JAXRException {
+        return mimeType;
+    }
+
+    public void setMimeType(String mimeType) throws JAXRException {
+        this.mimeType = mimeType;
+    }
+
+    public boolean isOpaque() throws JAXRException {
+        return opaque;
+    }
+
+    public void setOpaque(boolean isOpaque) throws JAXRException {
+        this.opaque = isOpaque;
+    }
+
+    public DataHandler getRepositoryItem() throws JAXRException {
+        return repositoryItem;
+    }
+
+    public void setRepositoryItem(DataHandler repositoryItem) throws JAXRException {
+        this.repositoryItem = repositoryItem;
+        if (repositoryItem != null && repositoryItem.getContentType() != null) {
+            this.mimeType = repositoryItem.getContentType();
+        }
+    }
+
+    void copyValues(RegistryObjectImpl copy) throws JAXRException {
+        super.copyValues(copy);
+        ExtrinsicObjectImpl c = (ExtrinsicObjectImpl) copy;
+        c.mimeType = mimeType;
+        c.opaque = opaque;
+        c.repositoryItem = repositoryItem;
+    }
+}
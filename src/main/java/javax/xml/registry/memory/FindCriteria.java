@@ -0,0 +1,427 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.memory;
+
+import java.util.*;
+import javax.xml.registry.*;
+import javax.xml.registry.index.ClassificationIndex;
+import javax.xml.registry.index.CompressedBitmap;
+import javax.xml.registry.index.NameIndex;
+import javax.xml.registry.index.NamePatternMatcher;
+import javax.xml.registry.index.PhoneticIndex;
+import javax.xml.registry.index.PhoneticMatcher;
+import javax.xml.registry.index.SlotPredicate;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * The criteria of one BusinessQueryManager find call, evaluated against
+ * the saved copies of the objects of a MemoryRegistry, which callers
+ * cannot modify.
+ * <p>
+ * Name patterns are compiled to a NamePatternMatcher, which describes
+ * their syntax and selects candidates from the NameIndex of the registry.
+ * With SOUNDEX, names are instead compared by their phonetic codes
+ * through a PhoneticMatcher, using the PhoneticIndex of the registry for
+ * Organizations, Services and Concepts.
+ * <p>
+ * Classifications, ExternalIdentifiers, specifications and ExternalLinks
+ * must all match, as with AND_ALL_KEYS, unless OR_ALL_KEYS is given, in
+ * which case any of them is sufficient; with OR_LIKE_KEYS, Classifications
+ * of the same scheme are alternatives. AND_ALL_KEYS cannot be combined
+ * with OR_ALL_KEYS or OR_LIKE_KEYS. With COMBINE_CLASSIFICATIONS, Organizations also match the
+ * Classifications of their Services, and Services those of their
+ * ServiceBindings; with SERVICE_SUBSET, Organizations only match the
+ * Classifications of their Services. Classifications select candidates
+ * from the ClassificationIndex of the registry, evaluated as unions and
+ * intersections of bitmaps.
+ * <p>
+ * SlotPredicates must all match regardless of the find qualifiers. Those
+ * on indexed Slots select candidates from the SlotIndex of the registry;
+ * all are evaluated on the Slots of the saved copy, which the SlotIndex
+ * always matches: callers never hold the saved copy, so changes to their
+ * Slots reach neither until the object is saved again.
+ */
+final class FindCriteria {
+
+    private final MemoryRegistry registry;
+    private final String type;
+    private final Collection findQualifiers;
+    private final boolean andAllKeys;
+    private final boolean orAllKeys;
+    private final boolean orLikeKeys;
+    private final boolean combine;
+    private final boolean serviceSubset;
+    private final String sort;
+    private NamePatternMatcher nameMatcher;
+    private PhoneticMatcher phoneticMatcher;
+    private PhoneticIndex phoneticIndex;
+    private final List classificationClauses = new ArrayList();
+    private final List externalIdentifierKeys = new ArrayList();
+    private final List specificationIds = new ArrayList();
+    private final List externalURIs = new ArrayList();
+    private final List slotPredicates = new ArrayList();
+
+    FindCriteria(MemoryRegistry registry, String type, Collection findQualifiers)
+    throws InvalidRequestException {
+        this.registry = registry;
+        this.type = type;
+        Collection q = findQualifiers == null ? Collections.EMPTY_SET : findQualifiers;
+        this.findQualifiers = q;
+        this.orAllKeys = q.contains(FindQualifier.OR_ALL_KEYS);
+        this.orLikeKeys = q.contains(FindQualifier.OR_LIKE_KEYS);
+        this.andAllKeys = q.contains(FindQualifier.AND_ALL_KEYS);
+        if (andAllKeys && (orAllKeys || orLikeKeys)) {
+            throw new InvalidRequestException("AND_ALL_KEYS cannot be combined with "
+            + (orAllKeys ? "OR_ALL_KEYS" : "OR_LIKE_KEYS"));
+        }
+        this.combine = q.contains(FindQualifier.COMBINE_CLASSIFICATIONS);
+        this.serviceSubset = q.contains(FindQualifier.SERVICE_SUBSET);
+        String sort = null;
+        for (Iterator i = q.iterator(); i.hasNext() && sort == null;) {
+            Object qualifier = i.next();
+            if (FindQualifier.SORT_BY_NAME_ASC.equals(qualifier) || FindQualifier.SORT_BY_NAME_DESC.equals(qualifier)
+            || FindQualifier.SORT_BY_DATE_ASC.equals(qualifier) || FindQualifier.SORT_BY_DATE_DESC.equals(qualifier)) {
+                sort = (String) qualifier;
+            }
+        }
+        this.sort = sort;
+    }
+
+    void setNamePatterns(Collection patterns) throws JAXRException {
+        if (findQualifiers.contains(FindQualifier.SOUNDEX)) {
+            phoneticIndex = registry.getPhoneticIndex();
+            phoneticMatcher = PhoneticMatcher.compile(patterns, phoneticIndex.getEncoder());
+        } else {
+            nameMatcher = NamePatternMatcher.compile(patterns, findQualifiers);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    void setClassifications(Collection classifications) throws JAXRException {
+        if (classifications == null || classifications.isEmpty()) {
+            return;
+        }
+        Map bySchemeId = new LinkedHashMap();
+        List all = new ArrayList();
+        for (Iterator i = classifications.iterator(); i.hasNext();) {
+            Classification classification = (Classification) i.next();
+            String key = StoredObject.conceptKey(classification);
+            if (key == null) {
+                key = StoredObject.valueKey(classification);
+            }
+            if (key == null) {
+                throw new InvalidRequestException("Classification needs a saved Concept, or a saved scheme and a value");
+            }
+            all.add(key);
+            String schemeId = StoredObject.idOf(classification.getClassificationScheme());
+            List group = (List) bySchemeId.get(schemeId);
+            if (group == null) {
+                group = new ArrayList();
+                bySchemeId.put(schemeId, group);
+            }
+            group.add(key);
+        }
+        if (andAllKeys || !orAllKeys && !orLikeKeys) {
+            for (Iterator i = all.iterator(); i.hasNext();) {
+                classificationClauses.add(new String[] {(String) i.next()});
+            }
+        } else if (orAllKeys) {
+            classificationClauses.add(toArray(all));
+        } else {
+            for (Iterator i = bySchemeId.values().iterator(); i.hasNext();) {
+                classificationClauses.add(toArray((List) i.next()));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    void setExternalIdentifiers(Collection externalIdentifiers) throws JAXRException {
+        if (externalIdentifiers == null) {
+            return;
+        }
+        for (Iterator i = externalIdentifiers.iterator(); i.hasNext();) {
+            String key = StoredObject.externalIdentifierKey((ExternalIdentifier) i.next());
+            if (key == null) {
+                throw new InvalidRequestException("ExternalIdentifier needs a saved identification scheme and a value");
+            }
+            externalIdentifierKeys.add(key);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    void setSpecifications(Collection specifications) throws JAXRException {
+        if (specifications == null) {
+            return;
+        }
+        for (Iterator i = specifications.iterator(); i.hasNext();) {
+            String id = StoredObject.idOf((RegistryObject) i.next());
+            if (id == null) {
+                throw new InvalidRequestException("Specification objects must be saved");
+            }
+            specificationIds.add(id);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    void setExternalLinks(Collection externalLinks) throws JAXRException {
+        if (externalLinks == null) {
+            return;
+        }
+        for (Iterator i = externalLinks.iterator(); i.hasNext();) {
+            externalURIs.add(((ExternalLink) i.next()).getExternalURI());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    void setSlotPredicates(Collection predicates) throws JAXRException {
+        if (predicates == null) {
+            return;
+        }
+        for (Iterator i = predicates.iterator(); i.hasNext();) {
+            Object predicate = i.next();
+            if (!(predicate instanceof SlotPredicate)) {
+                throw new InvalidRequestException("Not a SlotPredicate: " + predicate);
+            }
+            slotPredicates.add(predicate);
+        }
+    }
+
+    /**
+     * Finds the matching objects, in the requested order.
+     *
+     * @param filter an additional condition, or <code>null</code>
+     * @return List of StoredObjects
+     */
+    @SuppressWarnings("unchecked")
+    List find(Filter filter) throws JAXRException {
+        Collection candidates;
+        int reader = registry.enter();
+        try {
+            candidates = candidates();
+        } finally {
+            registry.exit(reader);
+        }
+        List result = new ArrayList();
+        for (Iterator i = candidates.iterator(); i.hasNext();) {
+            StoredObject stored = registry.get((String) i.next());
+            if (stored != null && stored.type.equals(type) && matches(stored)
+            && (filter == null || filter.accept(stored))) {
+                result.add(stored);
+            }
+        }
+        sort(result);
+        return result;
+    }
+
+    /**
+     * Selects the smallest index posting that contains all matches.
+     */
+    private Collection candidates() throws JAXRException {
+        Collection best = registry.getIdsByType(type);
+        if (!classificationClauses.isEmpty()) {
+            CompressedBitmap classified = classified();
+            if (classified.cardinality() < best.size()) {
+                best = registry.getIds(classified);
+            }
+        }
+        if (!slotPredicates.isEmpty()) {
+            CompressedBitmap slotted = registry.getSlotIndex().match(slotPredicates);
+            if (slotted != null && slotted.cardinality() < best.size()) {
+                best = registry.getIds(slotted);
+            }
+        }
+        if (!orAllKeys) {
+            for (int i = 0; i < externalIdentifierKeys.size(); i++) {
+                best = smaller(best, registry.getIdsByExternalIdentifier((String) externalIdentifierKeys.get(i)));
+            }
+        }
+        // a pattern without literal prefix scans all names, which only pays off if there are fewer than candidates
+        NameIndex names = registry.getNameIndex();
+        if (nameMatcher != null && (nameMatcher.isAnchored() || names.size() < best.size())) {
+            best = smaller(best, nameMatcher.select(names));
+        }
+        if (phoneticMatcher != null && MemoryRegistry.isPhoneticallyIndexed(type)) {
+            best = smaller(best, phoneticMatcher.select(phoneticIndex));
+        }
+        return best;
+    }
+
+    /**
+     * Evaluates the Classification clauses on the ClassificationIndex. With
+     * COMBINE_CLASSIFICATIONS or SERVICE_SUBSET, the matches of each clause
+     * are lifted from Services and ServiceBindings to their parents before
+     * the clauses are intersected.
+     */
+    private CompressedBitmap classified() {
+        ClassificationIndex index = registry.getClassificationIndex();
+        if (!combine && !serviceSubset) {
+            return index.match(classificationClauses);
+        }
+        boolean own = !serviceSubset || !LifeCycleManager.ORGANIZATION.equals(type);
+        CompressedBitmap[] clauses = new CompressedBitmap[classificationClauses.size()];
+        for (int i = 0; i < clauses.length; i++) {
+            CompressedBitmap handles = index.any((String[]) classificationClauses.get(i));
+            CompressedBitmap parents = registry.getParents(handles);
+            clauses[i] = own ? CompressedBitmap.or(handles, parents) : parents;
+        }
+        return CompressedBitmap.and(clauses);
+    }
+
+    private boolean matches(StoredObject stored) throws JAXRException {
+        RegistryObject object = stored.object;
+        if (nameMatcher != null && !nameMatcher.matches(object.getName())) {
+            return false;
+        }
+        if (phoneticMatcher != null && !phoneticMatcher.matches(object.getName())) {
+            return false;
+        }
+        if (!classificationClauses.isEmpty() && !matchesClassifications(stored)) {
+            return false;
+        }
+        if (!externalIdentifierKeys.isEmpty()
+        && !matchesAll(externalIdentifierKeys, Arrays.asList(stored.externalIdentifierKeys))) {
+            return false;
+        }
+        if (!specificationIds.isEmpty() && !matchesAll(specificationIds, specificationIdsOf(object))) {
+            return false;
+        }
+        if (!externalURIs.isEmpty() && !matchesAll(externalURIs, externalURIsOf(object))) {
+            return false;
+        }
+        for (int i = 0; i < slotPredicates.size(); i++) {
+            SlotPredicate predicate = (SlotPredicate) slotPredicates.get(i);
+            int slot = stored.slotIndexOf(predicate.getSlotName());
+            if (slot < 0 || !predicate.matches(stored.slotTypes[slot], stored.slotValues[slot])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean matchesClassifications(StoredObject stored) throws JAXRException {
+        Set keys = new HashSet();
+        if (!serviceSubset || !(stored.object instanceof Organization)) {
+            keys.addAll(Arrays.asList(stored.classificationKeys));
+        }
+        if (combine || serviceSubset) {
+            for (int i = 0; i < stored.composedIds.length; i++) {
+                StoredObject composed = registry.get(stored.composedIds[i]);
+                if (composed != null && (composed.object instanceof Service || composed.object instanceof ServiceBinding)) {
+                    keys.addAll(Arrays.asList(composed.classificationKeys));
+                }
+            }
+        }
+        for (int i = 0; i < classificationClauses.size(); i++) {
+            String[] clause = (String[]) classificationClauses.get(i);
+            boolean any = false;
+            for (int j = 0; j < clause.length && !any; j++) {
+                any = keys.contains(clause[j]);
+            }
+            if (!any) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean matchesAll(List required, Collection present) {
+        if (orAllKeys) {
+            for (int i = 0; i < required.size(); i++) {
+                if (present.contains(required.get(i))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return present.containsAll(required);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Collection specificationIdsOf(RegistryObject object) throws JAXRException {
+        Set ids = new HashSet();
+        if (object instanceof Organization) {
+            for (Iterator i = ((Organization) object).getServices().iterator(); i.hasNext();) {
+                ids.addAll(specificationIdsOf((Service) i.next()));
+            }
+        } else if (object instanceof Service) {
+            for (Iterator i = ((Service) object).getServiceBindings().iterator(); i.hasNext();) {
+                ids.addAll(specificationIdsOf((ServiceBinding) i.next()));
+            }
+        } else if (object instanceof ServiceBinding) {
+            for (Iterator i = ((ServiceBinding) object).getSpecificationLinks().iterator(); i.hasNext();) {
+                String id = StoredObject.idOf(((SpecificationLink) i.next()).getSpecificationObject());
+                if (id != null) {
+                    ids.add(id);
+                }
+            }
+        }
+        return ids;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Collection externalURIsOf(RegistryObject object) throws JAXRException {
+        Set uris = new HashSet();
+        for (Iterator i = object.getExternalLinks().iterator(); i.hasNext();) {
+            uris.add(((ExternalLink) i.next()).getExternalURI());
+        }
+        return uris;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void sort(List result) throws JAXRException {
+        if (FindQualifier.SORT_BY_NAME_ASC.equals(sort) || FindQualifier.SORT_BY_NAME_DESC.equals(sort)) {
+            final Map names = new HashMap();
+            for (int i = 0; i < result.size(); i++) {
+                StoredObject stored = (StoredObject) result.get(i);
+                String name = stored.object.getName().getValue();
+                names.put(stored, name == null ? "" : name);
+            }
+            final int sign = FindQualifier.SORT_BY_NAME_ASC.equals(sort) ? 1 : -1;
+            Collections.sort(result, new Comparator() {
+                public int compare(Object a, Object b) {
+                    int c = String.CASE_INSENSITIVE_ORDER.compare((String) names.get(a), (String) names.get(b));
+                    return sign * (c != 0 ? c : Long.compare(((StoredObject) a).sequence, ((StoredObject) b).sequence));
+                }
+            });
+        } else {
+            final int sign = FindQualifier.SORT_BY_DATE_DESC.equals(sort) ? -1 : 1;
+            Collections.sort(result, new Comparator() {
+                public int compare(Object a, Object b) {
+                    return sign * Long.compare(((StoredObject) a).sequence, ((StoredObject) b).sequence);
+                }
+            });
+        }
+    }
+
+    private static Collection smaller(Collection a, Collection b) {
+        return b.size() < a.size() ? b : a;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String[] toArray(List keys) {
+        return (String[]) keys.toArray(new String[keys.size()]);
+    }
+
+    /**
+     * An additional condition of a find call.
+     */
+    interface Filter {
+        boolean accept(StoredObject stored) throws JAXRException;
+    }
+}
@@ -0,0 +1,452 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.memory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * InternationalString implementation keeping one value per Locale and
+ * charset name, in insertion order.
+ * <p>
+ * getValue(Locale) falls back from the requested Locale to its language,
+ * then to the default Locale and its language, and finally to any value.
+ * The fallback chain of each Locale is computed once and shared by all
+ * instances, and each instance remembers the entry it resolved for the
+ * last chain until an entry is added, removed or renamed.
+ * <p>
+ * The values are not kept as LocalizedString objects. The first entry is
+ * held in fields, so that the common case of a single Locale needs no
+ * array, and further entries in parallel arrays. The Locales and charset
+ * names of stored values are interned, and values that are Latin-1 are stored as one byte per
+ * character. A LocalizedString returned by this class is a view of its
+ * entry, and one that is added is copied.
+ */
+final class InternationalStringImpl implements InternationalString {
+
+    private static final ConcurrentMap LOCALES = new ConcurrentHashMap();
+    private static final ConcurrentMap CHARSET_NAMES = new ConcurrentHashMap();
+    private static final ConcurrentMap FALLBACKS = new ConcurrentHashMap();
+    private static final int MAX_FALLBACKS = 1024;
+    private static final AtomicInteger FALLBACK_IDS = new AtomicInteger();
+    private static final byte[] EMPTY = new byte[0];
+
+    private int size;
+    private Locale firstLocale;
+    private String firstCharsetName;
+    private Object firstValue;
+    private Locale[] locales;
+    private String[] charsetNames;
+    private Object[] values;
+    private volatile long resolved;
+
+    InternationalStringImpl() {
+    }
+
+    /**
+     * Copies an InternationalString of any provider.
+     *
+     * @param s the InternationalString, or <code>null</code> for an empty copy
+     */
+    static InternationalStringImpl copyOf(InternationalString s) throws JAXRException {
+        InternationalStringImpl copy = new InternationalStringImpl();
+        if (s instanceof InternationalStringImpl) {
+            InternationalStringImpl source = (InternationalStringImpl) s;
+            copy.size = source.size;
+            copy.firstLocale = source.firstLocale;
+            copy.firstCharsetName = source.firstCharsetName;
+            copy.firstValue = source.firstValue;
+            if (source.locales != null) {
+                copy.locales = source.locales.clone();
+                copy.charsetNames = source.charsetNames.clone();
+                copy.values = source.values.clone();
+            }
+        } else if (s != null) {
+            copy.addLocalizedStrings(s.getLocalizedStrings());
+        }
+        return copy;
+    }
+
+    public String getValue() throws JAXRException {
+        return getValue(Locale.getDefault());
+    }
+
+    public String getValue(Locale locale) throws JAXRException {
+        Fallback fallback = Fallback.of(locale);
+        long memo = resolved;
+        int i;
+        if ((int) (memo >>> 32) == fallback.id) {
+            i = (int) memo;
+        } else {
+            i = resolve(fallback.chain);
+            resolved = (long) fallback.id << 32 | i & 0xFFFFFFFFL;
+        }
+        return i < 0 ? null : valueAt(i);
+    }
+
+    public void setValue(String value) throws JAXRException {
+        setValue(Locale.getDefault(), value);
+    }
+
+    public void setValue(Locale locale, String value) throws JAXRException {
+        put(locale == null ? Locale.getDefault() : locale, LocalizedString.DEFAULT_CHARSET_NAME, value);
+    }
+
+    public void addLocalizedString(LocalizedString localizedString) throws JAXRException {
+        Locale locale = localizedString.getLocale();
+        String charsetName = localizedString.getCharsetName();
+        int i = indexOf(locale, charsetName);
+        if (i >= 0) {
+            removeAt(i);
+        }
+        add(locale, charsetName, localizedString.getValue());
+    }
+
+    public void addLocalizedStrings(Collection localizedStrings) throws JAXRException {
+        for (Iterator i = localizedStrings.iterator(); i.hasNext();) {
+            addLocalizedString((LocalizedString) i.next());
+        }
+    }
+
+    /**
+     * Removes the entry with the Locale, charset name and value of the given
+     * LocalizedString.
+     */
+    public void removeLocalizedString(LocalizedString localizedString) throws JAXRException {
+        int i = indexOf(localizedString.getLocale(), localizedString.getCharsetName());
+        if (i >= 0 && Objects.equals(valueAt(i), localizedString.getValue())) {
+            removeAt(i);
+        }
+    }
+
+    public void removeLocalizedStrings(Collection localizedStrings) throws JAXRException {
+        for (Iterator i = localizedStrings.iterator(); i.hasNext();) {
+            removeLocalizedString((LocalizedString) i.next());
+        }
+    }
+
+    public LocalizedString getLocalizedString(Locale locale, String charsetName) throws JAXRException {
+        int i = indexOf(locale, charsetName);
+        return i < 0 ? null : new Entry(localeAt(i), charsetNameAt(i));
+    }
+
+    @SuppressWarnings("unchecked")
+    public Collection getLocalizedStrings() throws JAXRException {
+        List result = new ArrayList(size);
+        for (int i = 0; i < size; i++) {
+            result.add(new Entry(localeAt(i), charsetNameAt(i)));
+        }
+        return result;
+    }
+
+    public String toString() {
+        StringBuilder s = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                s.append(", ");
+            }
+            s.append(localeAt(i)).append(':').append(valueAt(i));
+        }
+        return s.append(']').toString();
+    }
+
+    private Locale localeAt(int i) {
+        return i == 0 ? firstLocale : locales[i - 1];
+    }
+
+    private String charsetNameAt(int i) {
+        return i == 0 ? firstCharsetName : charsetNames[i - 1];
+    }
+
+    private String valueAt(int i) {
+        return decode(i == 0 ? firstValue : values[i - 1]);
+    }
+
+    /**
+     * Finds the first entry with the earliest Locale of a fallback chain,
+     * or else the first entry.
+     */
+    private int resolve(Locale[] chain) {
+        int best = -1;
+        int rank = chain.length;
+        for (int i = 0; i < size && rank > 0; i++) {
+            Locale l = localeAt(i);
+            for (int r = 0; r < rank; r++) {
+                if (chain[r] == l || chain[r].equals(l)) {
+                    best = i;
+                    rank = r;
+                    break;
+                }
+            }
+        }
+        return best < 0 && size > 0 ? 0 : best;
+    }
+
+    private int indexOf(Locale locale, String charsetName) {
+        for (int i = 0; i < size; i++) {
+            Locale l = localeAt(i);
+            String c = charsetNameAt(i);
+            if ((l == locale || l.equals(locale)) && (c == charsetName || c.equals(charsetName))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void put(Locale locale, String charsetName, String value) {
+        int i = indexOf(locale, charsetName);
+        if (i < 0) {
+            add(locale, charsetName, value);
+        } else if (i == 0) {
+            firstValue = encode(value);
+        } else {
+            values[i - 1] = encode(value);
+        }
+    }
+
+    private void add(Locale locale, String charsetName, String value) {
+        locale = intern(locale == null ? Locale.getDefault() : locale);
+        charsetName = intern(charsetName == null ? LocalizedString.DEFAULT_CHARSET_NAME : charsetName);
+        if (size == 0) {
+            firstLocale = locale;
+            firstCharsetName = charsetName;
+            firstValue = encode(value);
+        } else {
+            if (locales == null) {
+                locales = new Locale[1];
+                charsetNames = new String[1];
+                values = new Object[1];
+            } else if (size > locales.length) {
+                locales = Arrays.copyOf(locales, locales.length * 2);
+                charsetNames = Arrays.copyOf(charsetNames, locales.length);
+                values = Arrays.copyOf(values, locales.length);
+            }
+            locales[size - 1] = locale;
+            charsetNames[size - 1] = charsetName;
+            values[size - 1] = encode(value);
+        }
+        size++;
+        resolved = 0;
+    }
+
+    private void removeAt(int i) {
+        if (i == 0 && size > 1) {
+            firstLocale = locales[0];
+            firstCharsetName = charsetNames[0];
+            firstValue = values[0];
+            i = 1;
+        }
+        if (i > 0) {
+            int n = size - 1 - i;
+            System.arraycopy(locales, i, locales, i - 1, n);
+            System.arraycopy(charsetNames, i, charsetNames, i - 1, n);
+            System.arraycopy(values, i, values, i - 1, n);
+            locales[size - 2] = null;
+            charsetNames[size - 2] = null;
+            values[size - 2] = null;
+        } else {
+            firstLocale = null;
+            firstCharsetName = null;
+            firstValue = null;
+        }
+        size--;
+        resolved = 0;
+        if (size <= 1) {
+            locales = null;
+            charsetNames = null;
+            values = null;
+        }
+    }
+
+    /**
+     * Renames an entry, replacing an entry that has the new Locale and charset name.
+     */
+    private void rename(int i, Locale locale, String charsetName) {
+        locale = intern(locale);
+        charsetName = intern(charsetName);
+        int other = indexOf(locale, charsetName);
+        if (other >= 0 && other != i) {
+            removeAt(other);
+            if (other < i) {
+                i--;
+            }
+        }
+        if (i == 0) {
+            firstLocale = locale;
+            firstCharsetName = charsetName;
+        } else {
+            locales[i - 1] = locale;
+            charsetNames[i - 1] = charsetName;
+        }
+        resolved = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Locale intern(Locale locale) {
+        Locale interned = (Locale) LOCALES.putIfAbsent(locale, locale);
+        return interned == null ? locale : interned;
+    }
+
+    /**
+     * Gets the interned instance of a Locale if a value was ever stored
+     * under it, without interning requested Locales, which may come from
+     * clients.
+     */
+    private static Locale canonical(Locale locale) {
+        Locale interned = (Locale) LOCALES.get(locale);
+        return interned == null ? locale : interned;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String intern(String charsetName) {
+        if (charsetName.equals(LocalizedString.DEFAULT_CHARSET_NAME)) {
+            return LocalizedString.DEFAULT_CHARSET_NAME;
+        }
+        String interned = (String) CHARSET_NAMES.putIfAbsent(charsetName, charsetName);
+        return interned == null ? charsetName : interned;
+    }
+
+    /**
+     * Encodes a value as Latin-1 bytes if it has no other characters.
+     */
+    private static Object encode(String value) {
+        if (value == null || value.isEmpty()) {
+            return value == null ? null : EMPTY;
+        }
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) > 0xFF) {
+                return value;
+            }
+        }
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) value.charAt(i);
+        }
+        return bytes;
+    }
+
+    private static String decode(Object value) {
+        return value instanceof byte[] ? new String((byte[]) value, StandardCharsets.ISO_8859_1) : (String) value;
+    }
+
+    /**
+     * The fallback chain of a requested Locale under the default Locale it
+     * was computed for. Each chain has an id, which is never 0.
+     */
+    private static final class Fallback {
+
+        final int id = FALLBACK_IDS.incrementAndGet();
+        final Locale defaultLocale;
+        final Locale[] chain;
+
+        @SuppressWarnings("unchecked")
+        private Fallback(Locale locale, Locale defaultLocale) {
+            this.defaultLocale = defaultLocale;
+            Set chain = new LinkedHashSet(4);
+            chain.add(canonical(locale));
+            if (locale.getCountry().length() > 0) {
+                chain.add(canonical(new Locale(locale.getLanguage())));
+            }
+            chain.add(canonical(defaultLocale));
+            if (defaultLocale.getCountry().length() > 0) {
+                chain.add(canonical(new Locale(defaultLocale.getLanguage())));
+            }
+            this.chain = (Locale[]) chain.toArray(new Locale[chain.size()]);
+        }
+
+        @SuppressWarnings("unchecked")
+        static Fallback of(Locale locale) {
+            Locale defaultLocale = Locale.getDefault();
+            Fallback fallback = (Fallback) FALLBACKS.get(locale);
+            if (fallback == null || !fallback.defaultLocale.equals(defaultLocale)) {
+                // requested Locales may come from clients, so the cache is bounded
+                if (FALLBACKS.size() >= MAX_FALLBACKS) {
+                    FALLBACKS.clear();
+                }
+                fallback = new Fallback(locale, defaultLocale);
+                FALLBACKS.put(locale, fallback);
+            }
+            return fallback;
+        }
+    }
+
+    /**
+     * A view of one entry, which follows the entry as long as it exists.
+     */
+    private final class Entry implements LocalizedString {
+
+        private Locale locale;
+        private String charsetName;
+
+        Entry(Locale locale, String charsetName) {
+            this.locale = locale;
+            this.charsetName = charsetName;
+        }
+
+        public String getCharsetName() throws JAXRException {
+            return charsetName;
+        }
+
+        public Locale getLocale() throws JAXRException {
+            return locale;
+        }
+
+        public String getValue() throws JAXRException {
+            return value();
+        }
+
+        public void setCharsetName(String charsetName) throws JAXRException {
+            charsetName = charsetName == null ? DEFAULT_CHARSET_NAME : charsetName;
+            int i = indexOf(locale, this.charsetName);
+            if (i >= 0) {
+                rename(i, locale, charsetName);
+            }
+            this.charsetName = charsetName;
+        }
+
+        public void setLocale(Locale locale) throws JAXRException {
+            locale = locale == null ? Locale.getDefault() : locale;
+            int i = indexOf(this.locale, charsetName);
+            if (i >= 0) {
+                rename(i, locale, charsetName);
+            }
+            this.locale = locale;
+        }
+
+        public void setValue(String value) throws JAXRException {
+            int i = indexOf(locale, charsetName);
+            if (i >= 0) {
+                put(locale, charsetName, value);
+            }
+        }
+
+        public String toString() {
+            return locale + ":" + value();
+        }
+
+        private String value() {
+            int i = indexOf(locale, charsetName);
+            return i < 0 ? null : valueAt(i);
+        }
+    }
+}
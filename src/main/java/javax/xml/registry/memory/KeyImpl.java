@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.memory;
+
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * Key implementation. Keys are equal if their ids are equal.
+ */
+final class KeyImpl implements Key {
+
+    private String id;
+
+    KeyImpl(String id) {
+        this.id = id;
+    }
+
+    public String getId() throws JAXRException {
+        return id;
+    }
+
+    public void setId(String id) throws JAXRException {
+        this.id = id;
+    }
+
+    public boolean equals(Object o) {
+        return o instanceof KeyImpl && id != null && id.equals(((KeyImpl) o).id);
+    }
+
+    public int hashCode() {
+        return id == null ? 0 : id.hashCode();
+    }
+
+    public String toString() {
+        return id;
+    }
+}
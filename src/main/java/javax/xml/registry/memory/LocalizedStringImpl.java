@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.memory;
+
+import java.util.Locale;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * LocalizedString implementation.
+ */
+final class LocalizedStringImpl implements LocalizedString {
+
+    private Locale locale;
+    private String value;
+    private String charsetName;
+
+    LocalizedStringImpl(Locale locale, String value, String charsetName) {
+        this.locale = locale == null ? Locale.getDefault() : locale;
+        this.value = value;
+        this.charsetName = charsetName == null ? DEFAULT_CHARSET_NAME : charsetName;
+    }
+
+    public String getCharsetName() throws JAXRException {
+        return charsetName;
+    }
+
+    public Locale getLocale() throws JAXRException {
+        return locale;
+    }
+
+    public String getValue() throws JAXRException {
+        return value;
+    }
+
+    public void setCharsetName(String charsetName) throws JAXRException {
+        this.charsetName = charsetName == null ? DEFAULT_CHARSET_NAME : charsetName;
+    }
+
+    public void setLocale(Locale locale) throws JAXRException {
+        this.locale = locale == null ? Locale.getDefault() : locale;
+    }
+
+    public void setValue(String value) throws JAXRException {
+        this.value = value;
+    }
+
+    public String toString() {
+        return locale + ":" + value;
+    }
+}
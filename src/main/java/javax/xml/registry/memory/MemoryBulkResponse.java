@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.memory;
+
+import java.util.*;
+import javax.xml.registry.*;
+
+/**
+ * A BulkResponse that is complete when it is created.
+ */
+final class MemoryBulkResponse implements BulkResponse {
+
+    private final String requestId = "urn:uuid:" + UUID.randomUUID();
+    private final Collection collection;
+    private final Collection exceptions;
+
+    MemoryBulkResponse(Collection collection, Collection exceptions) {
+        this.collection = collection;
+        this.exceptions = exceptions == null || exceptions.isEmpty() ? null : exceptions;
+    }
+
+    MemoryBulkResponse(Collection collection) {
+        this(collection, null);
+    }
+
+    public Collection getCollection() throws JAXRException {
+        return collection;
+    }
+
+    public Collection getExceptions() throws JAXRException {
+        return exceptions;
+    }
+
+    public boolean isPartialResponse() throws JAXRException {
+        return false;
+    }
+
+    public String getRequestId() throws JAXRException {
+        return requestId;
+    }
+
+    public int getStatus() throws JAXRException {
+        return exceptions == null ? STATUS_SUCCESS : collection.isEmpty() ? STATUS_FAILURE : STATUS_WARNING;
+    }
+
+    public boolean isAvailable() throws JAXRException {
+        return true;
+    }
+}
@@ -0,0 +1,682 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.memory;
+
+import java.io.IOException;
+import java.util.*;
+import javax.activation.DataHandler;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+import javax.xml.registry.repository.ContentStore;
+
+/**
+ * BusinessLifeCycleManager of the in-memory provider.
+ * <p>
+ * Saving an object also saves the objects it composes: the Classifications,
+ * ExternalIdentifiers and Associations of any object, the Services and
+ * Users of an Organization, the ServiceBindings of a Service, the
+ * SpecificationLinks of a ServiceBinding and the child Concepts of a
+ * ClassificationScheme or Concept. Objects without a Key are given a new
+ * <code>urn:uuid:</code> id. Each object is stored atomically with the
+ * objects it composes; processing stops on the first SaveException.
+ * The registry stores a copy of each object, so changes made to an object
+ * after it is saved take effect when it is saved again.
+ * If the registry has a ContentStore, the repository item of a saved
+ * ExtrinsicObject is replaced by the stored copy of its content.
+ */
+final class MemoryBusinessLifeCycleManager implements BusinessLifeCycleManager {
+
+    private final MemoryRegistryService registryService;
+
+    MemoryBusinessLifeCycleManager(MemoryRegistryService registryService) {
+        this.registryService = registryService;
+    }
+
+    MemoryRegistry getRegistry() {
+        return registryService.getRegistry();
+    }
+
+    public RegistryService getRegistryService() throws JAXRException {
+        return registryService;
+    }
+
+    public Object createObject(String interfaceName)
+    throws JAXRException, InvalidRequestException, UnsupportedCapabilityException {
+        if (LifeCycleManager.ASSOCIATION.equals(interfaceName)) {
+            return new AssociationImpl(this);
+        } else if (LifeCycleManager.CLASSIFICATION.equals(interfaceName)) {
+            return new ClassificationImpl(this);
+        } else if (LifeCycleManager.CLASSIFICATION_SCHEME.equals(interfaceName)) {
+            return new ClassificationSchemeImpl(this);
+        } else if (LifeCycleManager.CONCEPT.equals(interfaceName)) {
+            return new ConceptImpl(this);
+        } else if (LifeCycleManager.EMAIL_ADDRESS.equals(interfaceName)) {
+            return new EmailAddressImpl(null, null);
+        } else if (LifeCycleManager.EXTERNAL_IDENTIFIER.equals(interfaceName)) {
+            return new ExternalIdentifierImpl(this);
+        } else if (LifeCycleManager.EXTERNAL_LINK.equals(interfaceName)) {
+            return new ExternalLinkImpl(this);
+        } else if (LifeCycleManager.EXTRINSIC_OBJECT.equals(interfaceName)) {
+            return new ExtrinsicObjectImpl(this);
+        } else if (LifeCycleManager.INTERNATIONAL_STRING.equals(interfaceName)) {
+            return new InternationalStringImpl();
+        } else if (LifeCycleManager.KEY.equals(interfaceName)) {
+            return new KeyImpl(null);
+        } else if (LifeCycleManager.LOCALIZED_STRING.equals(interfaceName)) {
+            return new LocalizedStringImpl(null, null, null);
+        } else if (LifeCycleManager.ORGANIZATION.equals(interfaceName)) {
+            return new OrganizationImpl(this);
+        } else if (LifeCycleManager.PERSON_NAME.equals(interfaceName)) {
+            return new PersonNameImpl();
+        } else if (LifeCycleManager.POSTAL_ADDRESS.equals(interfaceName)) {
+            return new PostalAddressImpl();
+        } else if (LifeCycleManager.REGISTRY_PACKAGE.equals(interfaceName)) {
+            return new RegistryPackageImpl(this);
+        } else if (LifeCycleManager.SERVICE.equals(interfaceName)) {
+            return new ServiceImpl(this);
+        } else if (LifeCycleManager.SERVICE_BINDING.equals(interfaceName)) {
+            return new ServiceBindingImpl(this);
+        } else if (LifeCycleManager.SLOT.equals(interfaceName)) {
+            return new SlotImpl(null, null, null);
+        } else if (LifeCycleManager.SPECIFICATION_LINK.equals(interfaceName)) {
+            return new SpecificationLinkImpl(this);
+        } else if (LifeCycleManager.TELEPHONE_NUMBER.equals(interfaceName)) {
+            return new TelephoneNumberImpl();
+        } else if (LifeCycleManager.USER.equals(interfaceName)) {
+            return new UserImpl(this);
+        }
+        throw new InvalidRequestException("Cannot create an instance of " + interfaceName);
+    }
+
+    public Association createAssociation(RegistryObject targetObject, Concept associationType)
+    throws JAXRException {
+        AssociationImpl association = new AssociationImpl(this);
+        association.setTargetObject(targetObject);
+        association.setAssociationType(associationType);
+        return association;
+    }
+
+    public Classification createClassification(ClassificationScheme scheme, String name, String value)
+    throws JAXRException {
+        return createClassification(scheme, createInternationalString(name), value);
+    }
+
+    public Classification createClassification(ClassificationScheme scheme, InternationalString name,
+    String value) throws JAXRException {
+        ClassificationImpl classification = new ClassificationImpl(this);
+        classification.setClassificationScheme(scheme);
+        classification.setName(name);
+        classification.setValue(value);
+        return classification;
+    }
+
+    public Classification createClassification(Concept concept) throws JAXRException, InvalidRequestException {
+        if (concept.getClassificationScheme() == null) {
+            throw new InvalidRequestException("Concept is not below a ClassificationScheme: " + concept);
+        }
+        ClassificationImpl classification = new ClassificationImpl(this);
+        classification.setConcept(concept);
+        classification.setName(InternationalStringImpl.copyOf(concept.getName()));
+        return classification;
+    }
+
+    public ClassificationScheme createClassificationScheme(String name, String description)
+    throws JAXRException, InvalidRequestException {
+        return createClassificationScheme(createInternationalString(name), createInternationalString(description));
+    }
+
+    public ClassificationScheme createClassificationScheme(InternationalString name,
+    InternationalString description) throws JAXRException, InvalidRequestException {
+        ClassificationSchemeImpl scheme = new ClassificationSchemeImpl(this);
+        scheme.setName(name);
+        scheme.setDescription(description);
+        return scheme;
+    }
+
+    public ClassificationScheme createClassificationScheme(Concept concept)
+    throws JAXRException, InvalidRequestException {
+        if (concept.getParent() != null) {
+            throw new InvalidRequestException("Concept has a parent: " + concept);
+        }
+        ClassificationSchemeImpl scheme = new ClassificationSchemeImpl(this);
+        scheme.setKey(concept.getKey());
+        scheme.setName(concept.getName());
+        scheme.setDescription(concept.getDescription());
+        scheme.addChildConcepts(concept.getChildrenConcepts());
+        return scheme;
+    }
+
+    public Concept createConcept(RegistryObject parent, String name, String value) throws JAXRException {
+        return createConcept(parent, createInternationalString(name), value);
+    }
+
+    /**
+     * Creates a Concept and adds it as a child of the parent, which may be
+     * a ClassificationScheme, a Concept or <code>null</code>.
+     */
+    public Concept createConcept(RegistryObject parent, InternationalString name, String value)
+    throws JAXRException {
+        ConceptImpl concept = new ConceptImpl(this);
+        concept.setName(name);
+        concept.setValue(value);
+        if (parent instanceof Concept) {
+            ((Concept) parent).addChildConcept(concept);
+        } else if (parent instanceof ClassificationScheme) {
+            ((ClassificationScheme) parent).addChildConcept(concept);
+        } else if (parent != null) {
+            throw new InvalidRequestException("Parent must be a ClassificationScheme or Concept: " + parent);
+        }
+        return concept;
+    }
+
+    public EmailAddress createEmailAddress(String address) throws JAXRException {
+        return new EmailAddressImpl(address, null);
+    }
+
+    public EmailAddress createEmailAddress(String address, String type) throws JAXRException {
+        return new EmailAddressImpl(address, type);
+    }
+
+    public ExternalIdentifier createExternalIdentifier(ClassificationScheme identificationScheme,
+    String name, String value) throws JAXRException {
+        return createExternalIdentifier(identificationScheme, createInternationalString(name), value);
+    }
+
+    public ExternalIdentifier createExternalIdentifier(ClassificationScheme identificationScheme,
+    InternationalString name, String value) throws JAXRException {
+        ExternalIdentifierImpl identifier = new ExternalIdentifierImpl(this);
+        identifier.setIdentificationScheme(identificationScheme);
+        identifier.setName(name);
+        identifier.setValue(value);
+        return identifier;
+    }
+
+    public ExternalLink createExternalLink(String externalURI, String description) throws JAXRException {
+        return createExternalLink(externalURI, createInternationalString(description));
+    }
+
+    public ExternalLink createExternalLink(String externalURI, InternationalString description)
+    throws JAXRException {
+        ExternalLinkImpl link = new ExternalLinkImpl(this);
+        link.setExternalURI(externalURI);
+        link.setDescription(description);
+        return link;
+    }
+
+    public ExtrinsicObject createExtrinsicObject(DataHandler repositoryItem) throws JAXRException {
+        ExtrinsicObjectImpl object = new ExtrinsicObjectImpl(this);
+        object.setRepositoryItem(repositoryItem);
+        return object;
+    }
+
+    public InternationalString createInternationalString() throws JAXRException {
+        return new InternationalStringImpl();
+    }
+
+    public InternationalString createInternationalString(String s) throws JAXRException {
+        return createInternationalString(Locale.getDefault(), s);
+    }
+
+    public InternationalString createInternationalString(Locale l, String s) throws JAXRException {
+        InternationalString is = new InternationalStringImpl();
+        if (s != null) {
+            is.setValue(l, s);
+        }
+        return is;
+    }
+
+    public Key createKey(String id) throws JAXRException {
+        return new KeyImpl(id);
+    }
+
+    public LocalizedString createLocalizedString(Locale l, String s) throws JAXRException {
+        return new LocalizedStringImpl(l, s, null);
+    }
+
+    public LocalizedString createLocalizedString(Locale l, String s, String charSetName)
+    throws JAXRException {
+        return new LocalizedStringImpl(l, s, charSetName);
+    }
+
+    public Organization createOrganization(String name) throws JAXRException {
+        return createOrganization(createInternationalString(name));
+    }
+
+    public Organization createOrganization(InternationalString name) throws JAXRException {
+        OrganizationImpl organization = new OrganizationImpl(this);
+        organization.setName(name);
+        return organization;
+    }
+
+    public PersonName createPersonName(String firstName, String middleName, String lastName)
+    throws JAXRException {
+        PersonNameImpl name = new PersonNameImpl();
+        name.setFirstName(firstName);
+        name.setMiddleName(middleName);
+        name.setLastName(lastName);
+        return name;
+    }
+
+    public PersonName createPersonName(String fullName) throws JAXRException {
+        PersonNameImpl name = new PersonNameImpl();
+        name.setFullName(fullName);
+        return name;
+    }
+
+    public PostalAddress createPostalAddress(String streetNumber, String street, String city,
+    String stateOrProvince, String country, String postalCode, String type) throws JAXRException {
+        PostalAddressImpl address = new PostalAddressImpl();
+        address.setStreetNumber(streetNumber);
+        address.setStreet(street);
+        address.setCity(city);
+        address.setStateOrProvince(stateOrProvince);
+        address.setCountry(country);
+        address.setPostalCode(postalCode);
+        address.setType(type);
+        return address;
+    }
+
+    public RegistryPackage createRegistryPackage(String name) throws JAXRException {
+        return createRegistryPackage(createInternationalString(name));
+    }
+
+    public RegistryPackage createRegistryPackage(InternationalString name) throws JAXRException {
+        RegistryPackageImpl registryPackage = new RegistryPackageImpl(this);
+        registryPackage.setName(name);
+        return registryPackage;
+    }
+
+    public Service createService(String name) throws JAXRException {
+        return createService(createInternationalString(name));
+    }
+
+    public Service createService(InternationalString name) throws JAXRException {
+        ServiceImpl service = new ServiceImpl(this);
+        service.setName(name);
+        return service;
+    }
+
+    public ServiceBinding createServiceBinding() throws JAXRException {
+        return new ServiceBindingImpl(this);
+    }
+
+    public Slot createSlot(String name, String value, String slotType) throws JAXRException {
+        return new SlotImpl(name, Collections.singletonList(value), slotType);
+    }
+
+    public Slot createSlot(String name, Collection values, String slotType) throws JAXRException {
+        return new SlotImpl(name, values, slotType);
+    }
+
+    public SpecificationLink createSpecificationLink() throws JAXRException {
+        return new SpecificationLinkImpl(this);
+    }
+
+    public TelephoneNumber createTelephoneNumber() throws JAXRException {
+        return new TelephoneNumberImpl();
+    }
+
+    public User createUser() throws JAXRException {
+        return new UserImpl(this);
+    }
+
+    public BulkResponse saveObjects(Collection objects) throws JAXRException {
+        return save(objects, RegistryObject.class);
+    }
+
+    public BulkResponse saveOrganizations(Collection organizations) throws JAXRException {
+        return save(organizations, Organization.class);
+    }
+
+    public BulkResponse saveServices(Collection services) throws JAXRException {
+        return save(services, Service.class);
+    }
+
+    public BulkResponse saveServiceBindings(Collection bindings) throws JAXRException {
+        return save(bindings, ServiceBinding.class);
+    }
+
+    public BulkResponse saveConcepts(Collection concepts) throws JAXRException {
+        return save(concepts, Concept.class);
+    }
+
+    public BulkResponse saveClassificationSchemes(Collection schemes) throws JAXRException {
+        return save(schemes, ClassificationScheme.class);
+    }
+
+    /**
+     * Saves Associations. If replace is <code>true</code>, the Associations
+     * owned by the caller that are not in the Collection are deleted first.
+     */
+    @SuppressWarnings("unchecked")
+    public BulkResponse saveAssociations(Collection associations, boolean replace) throws JAXRException {
+        if (replace) {
+            Set keep = new HashSet();
+            for (Iterator i = associations.iterator(); i.hasNext();) {
+                String id = StoredObject.idOf((RegistryObject) i.next());
+                if (id != null) {
+                    keep.add(id);
+                }
+            }
+            String caller = registryService.getCaller();
+            MemoryRegistry registry = getRegistry();
+            for (Iterator i = registry.getIdsByType(LifeCycleManager.ASSOCIATION).iterator(); i.hasNext();) {
+                String id = (String) i.next();
+                StoredObject stored = registry.get(id);
+                if (stored != null && !keep.contains(id) && caller.equals(stored.owner)) {
+                    registry.remove(id);
+                }
+            }
+        }
+        return save(associations, Association.class);
+    }
+
+    public BulkResponse deleteObjects(Collection keys) throws JAXRException {
+        return delete(keys, null);
+    }
+
+    public BulkResponse deleteObjects(Collection keys, String objectType) throws JAXRException {
+        return delete(keys, objectType);
+    }
+
+    public BulkResponse deleteOrganizations(Collection organizationKeys) throws JAXRException {
+        return delete(organizationKeys, LifeCycleManager.ORGANIZATION);
+    }
+
+    public BulkResponse deleteServices(Collection serviceKeys) throws JAXRException {
+        return delete(serviceKeys, LifeCycleManager.SERVICE);
+    }
+
+    public BulkResponse deleteServiceBindings(Collection bindingKeys) throws JAXRException {
+        return delete(bindingKeys, LifeCycleManager.SERVICE_BINDING);
+    }
+
+    public BulkResponse deleteConcepts(Collection conceptKeys) throws JAXRException {
+        return delete(conceptKeys, LifeCycleManager.CONCEPT);
+    }
+
+    public BulkResponse deleteClassificationSchemes(Collection schemeKeys) throws JAXRException {
+        return delete(schemeKeys, LifeCycleManager.CLASSIFICATION_SCHEME);
+    }
+
+    public BulkResponse deleteAssociations(Collection associationKeys) throws JAXRException {
+        return delete(associationKeys, LifeCycleManager.ASSOCIATION);
+    }
+
+    public BulkResponse deprecateObjects(Collection keys) throws JAXRException {
+        return setDeprecated(keys, true);
+    }
+
+    public BulkResponse unDeprecateObjects(Collection keys) throws JAXRException {
+        return setDeprecated(keys, false);
+    }
+
+    public void confirmAssociation(Association assoc) throws JAXRException, InvalidRequestException {
+        setConfirmed(assoc, true);
+    }
+
+    public void unConfirmAssociation(Association assoc) throws JAXRException, InvalidRequestException {
+        setConfirmed(assoc, false);
+    }
+
+    /**
+     * Throws a JAXRException wrapping an IllegalStateException if the
+     * object is a deprecated object, to which no new references may be made.
+     */
+    void checkReference(RegistryObject object) throws JAXRException {
+        StoredObject stored = getRegistry().get(StoredObject.idOf(object));
+        if (stored != null && stored.deprecated) {
+            throw new JAXRException("Cannot reference deprecated object " + stored.id,
+            new IllegalStateException("Object " + stored.id + " is deprecated"));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private BulkResponse save(Collection objects, Class type) throws JAXRException {
+        registryService.checkOpen();
+        for (Iterator i = objects.iterator(); i.hasNext();) {
+            Object o = i.next();
+            if (!type.isInstance(o) || !(o instanceof RegistryObjectImpl)) {
+                throw new UnexpectedObjectException("Cannot save " + o + " as " + type.getName());
+            }
+        }
+        List keys = new ArrayList(objects.size());
+        List exceptions = new ArrayList(1);
+        for (Iterator i = objects.iterator(); i.hasNext();) {
+            RegistryObjectImpl object = (RegistryObjectImpl) i.next();
+            try {
+                keys.add(save(object));
+            } catch (SaveException e) {
+                exceptions.add(e);
+                break;
+            }
+        }
+        return registryService.respond(new MemoryBulkResponse(keys, exceptions));
+    }
+
+    /**
+     * Saves one object with the objects it composes.
+     */
+    @SuppressWarnings("unchecked")
+    private Key save(RegistryObjectImpl object) throws JAXRException {
+        List objects = new ArrayList();
+        List parents = new ArrayList();
+        collect(object, null, objects, parents, new IdentityHashMap());
+        for (int i = 0; i < objects.size(); i++) {
+            validate((RegistryObjectImpl) objects.get(i));
+        }
+        for (int i = 0; i < objects.size(); i++) {
+            RegistryObjectImpl o = (RegistryObjectImpl) objects.get(i);
+            if (o.getKey() == null || o.getKey().getId() == null) {
+                o.setKey(createKey("urn:uuid:" + UUID.randomUUID()));
+            }
+        }
+
+        MemoryRegistry registry = getRegistry();
+        ContentStore contentStore = registry.getContentStore();
+        if (contentStore != null) {
+            for (int i = 0; i < objects.size(); i++) {
+                if (objects.get(i) instanceof ExtrinsicObjectImpl) {
+                    store(contentStore, (ExtrinsicObjectImpl) objects.get(i));
+                }
+            }
+        }
+        String caller = registryService.getCaller();
+        for (int i = 0; i < objects.size(); i++) {
+            if (objects.get(i) instanceof AssociationImpl) {
+                confirmOnSave((AssociationImpl) objects.get(i), caller);
+            }
+        }
+        List saved = ObjectCopier.forSave(this).save(objects);
+        long now = System.currentTimeMillis();
+        long sequence = registry.nextSequence();
+        List stored = new ArrayList(saved.size());
+        for (int i = 0; i < saved.size(); i++) {
+            RegistryObjectImpl o = (RegistryObjectImpl) saved.get(i);
+            List composed = new ArrayList();
+            o.getComposedObjects(composed);
+            String[] composedIds = new String[composed.size()];
+            for (int j = 0; j < composedIds.length; j++) {
+                composedIds[j] = ((RegistryObject) composed.get(j)).getKey().getId();
+            }
+            RegistryObject parent = (RegistryObject) parents.get(i);
+            stored.add(StoredObject.create(o, now, sequence, composedIds,
+            parent == null ? null : parent.getKey().getId()));
+        }
+        registry.put(stored, caller, this);
+        return object.getKey();
+    }
+
+    /**
+     * Replaces the repository item of an ExtrinsicObject by its stored copy.
+     */
+    private static void store(ContentStore contentStore, ExtrinsicObjectImpl object) throws JAXRException {
+        DataHandler item = object.getRepositoryItem();
+        if (item != null) {
+            try {
+                object.setRepositoryItem(contentStore.put(item));
+            } catch (IOException e) {
+                SaveException failure = new SaveException("Cannot store repository item: " + e.getMessage(), e);
+                failure.setErrorObjectKey(object.getKey());
+                throw failure;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void collect(RegistryObjectImpl object, RegistryObject parent, List objects, List parents,
+    Map seen) throws JAXRException {
+        if (seen.put(object, object) != null) {
+            return;
+        }
+        objects.add(object);
+        parents.add(parent);
+        List composed = new ArrayList();
+        object.getComposedObjects(composed);
+        for (int i = 0; i < composed.size(); i++) {
+            Object o = composed.get(i);
+            if (!(o instanceof RegistryObjectImpl)) {
+                throw saveException("Cannot save " + o + " of another provider", object);
+            }
+            collect((RegistryObjectImpl) o, object, objects, parents, seen);
+        }
+    }
+
+    private static void validate(RegistryObjectImpl object) throws JAXRException {
+        if (object instanceof Association) {
+            Association association = (Association) object;
+            if (association.getSourceObject() == null || association.getTargetObject() == null
+            || association.getAssociationType() == null) {
+                throw saveException("Association needs a source, a target and a type", object);
+            }
+        } else if (object instanceof Classification) {
+            Classification classification = (Classification) object;
+            if (classification.getConcept() == null
+            && (classification.getClassificationScheme() == null || classification.getValue() == null)) {
+                throw saveException("Classification needs a Concept, or a scheme and a value", object);
+            }
+        } else if (object instanceof ExternalIdentifier) {
+            ExternalIdentifier identifier = (ExternalIdentifier) object;
+            if (identifier.getIdentificationScheme() == null || identifier.getValue() == null) {
+                throw saveException("ExternalIdentifier needs an identification scheme and a value", object);
+            }
+        }
+    }
+
+    private static SaveException saveException(String message, RegistryObject object) throws JAXRException {
+        SaveException e = new SaveException(message);
+        e.setErrorObjectKey(object.getKey());
+        return e;
+    }
+
+    private void confirmOnSave(AssociationImpl association, String caller)
+    throws JAXRException {
+        String sourceOwner = ownerOf(association.getSourceObject(), caller);
+        String targetOwner = ownerOf(association.getTargetObject(), caller);
+        association.setConfirmation(!sourceOwner.equals(targetOwner),
+        caller.equals(sourceOwner) || association.isConfirmedBySourceOwner(),
+        caller.equals(targetOwner) || association.isConfirmedByTargetOwner());
+    }
+
+    private String ownerOf(RegistryObject object, String caller) throws JAXRException {
+        return ownerOf(StoredObject.idOf(object), caller);
+    }
+
+    private String ownerOf(String id, String caller) {
+        StoredObject stored = getRegistry().get(id);
+        return stored == null ? caller : stored.owner;
+    }
+
+    private void setConfirmed(Association assoc, boolean confirmed) throws JAXRException {
+        registryService.checkOpen();
+        StoredObject stored = getRegistry().get(StoredObject.idOf(assoc));
+        if (stored == null || !(stored.object instanceof AssociationImpl)) {
+            throw new InvalidRequestException("Association has not been saved: " + assoc);
+        }
+        String caller = registryService.getCaller();
+        boolean bySource = caller.equals(ownerOf(stored.sourceId, ""));
+        boolean byTarget = caller.equals(ownerOf(stored.targetId, ""));
+        if (!bySource && !byTarget) {
+            throw new InvalidRequestException("Caller owns neither the source nor the target of " + assoc);
+        }
+        if (bySource) {
+            stored.confirmedBySourceOwner = confirmed;
+        }
+        if (byTarget) {
+            stored.confirmedByTargetOwner = confirmed;
+        }
+        if (assoc instanceof AssociationImpl) {
+            ((AssociationImpl) assoc).setConfirmation(stored.extramural,
+            stored.confirmedBySourceOwner, stored.confirmedByTargetOwner);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private BulkResponse delete(Collection keys, String objectType) throws JAXRException {
+        registryService.checkOpen();
+        MemoryRegistry registry = getRegistry();
+        List deleted = new ArrayList(keys.size());
+        List exceptions = new ArrayList(1);
+        for (Iterator i = keys.iterator(); i.hasNext();) {
+            Key key = (Key) i.next();
+            StoredObject stored = registry.get(key.getId());
+            if (stored == null || !stored.isA(objectType)) {
+                DeleteException e = new DeleteException(objectType == null
+                ? "No object with id " + key.getId() : "No " + objectType + " with id " + key.getId());
+                e.setErrorObjectKey(key);
+                exceptions.add(e);
+                break;
+            }
+            registry.remove(key.getId());
+            stored.auditTrail.add(event(AuditableEvent.EVENT_TYPE_DELETED, stored));
+            deleted.add(key);
+        }
+        return registryService.respond(new MemoryBulkResponse(deleted, exceptions));
+    }
+
+    @SuppressWarnings("unchecked")
+    private BulkResponse setDeprecated(Collection keys, boolean deprecated) throws JAXRException {
+        registryService.checkOpen();
+        MemoryRegistry registry = getRegistry();
+        List done = new ArrayList(keys.size());
+        List exceptions = new ArrayList(1);
+        for (Iterator i = keys.iterator(); i.hasNext();) {
+            Key key = (Key) i.next();
+            StoredObject stored = registry.get(key.getId());
+            if (stored == null) {
+                InvalidRequestException e = new InvalidRequestException("No object with id " + key.getId());
+                exceptions.add(e);
+                break;
+            }
+            stored.deprecated = deprecated;
+            stored.auditTrail.add(event(
+            deprecated ? AuditableEvent.EVENT_TYPE_DEPRECATED : AuditableEvent.EVENT_TYPE_UNDEPRECATED, stored));
+            done.add(key);
+        }
+        return registryService.respond(new MemoryBulkResponse(done, exceptions));
+    }
+
+    /**
+     * Creates an event on a saved object for its audit trail.
+     */
+    private AuditableEvent event(int eventType, StoredObject stored) {
+        AuditableEventImpl event = new AuditableEventImpl(this, null, System.currentTimeMillis(),
+        eventType, stored.object);
+        event.setSaved();
+        return event;
+    }
+}
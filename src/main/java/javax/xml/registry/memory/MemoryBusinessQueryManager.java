@@ -0,0 +1,501 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.memory;
+
+import java.util.*;
+import javax.xml.registry.*;
+import javax.xml.registry.cursor.CursorQueryManager;
+import javax.xml.registry.cursor.PageSource;
+import javax.xml.registry.index.AssociationGraph;
+import javax.xml.registry.index.AssociationQueryManager;
+import javax.xml.registry.index.SlotQueryManager;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * BusinessQueryManager of the in-memory provider.
+ * <p>
+ * All queries are answered from the MemoryRegistry without locking, and
+ * return copies of the saved objects, which the caller may modify without
+ * affecting the registry until it saves them. The results are in the order the objects were last saved, unless a sort
+ * qualifier is given. Objects can also be found by their Slots, using the
+ * SlotIndex of the registry for the Slots it indexes, and by following
+ * Associations over several hops in the AssociationGraph of the registry.
+ * Results can also be paged through with a MemoryPageSource, which copies
+ * one page at a time.
+ *
+ * @see FindCriteria
+ * @see MemoryRegistry#setIndexedSlotNames
+ */
+final class MemoryBusinessQueryManager implements SlotQueryManager, AssociationQueryManager,
+CursorQueryManager {
+
+    private final MemoryRegistryService registryService;
+
+    MemoryBusinessQueryManager(MemoryRegistryService registryService) {
+        this.registryService = registryService;
+    }
+
+    public RegistryService getRegistryService() throws JAXRException {
+        return registryService;
+    }
+
+    public RegistryObject getRegistryObject(String id, String objectType) throws JAXRException {
+        registryService.checkOpen();
+        StoredObject stored = registryService.getRegistry().get(id);
+        return stored == null || !stored.isA(objectType) ? null : copier().copy(stored);
+    }
+
+    public RegistryObject getRegistryObject(String id) throws JAXRException {
+        return getRegistryObject(id, null);
+    }
+
+    public BulkResponse getRegistryObjects(Collection objectKeys) throws JAXRException {
+        return getRegistryObjects(objectKeys, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    public BulkResponse getRegistryObjects(Collection objectKeys, String objectTypes) throws JAXRException {
+        registryService.checkOpen();
+        MemoryRegistry registry = registryService.getRegistry();
+        List objects = new ArrayList(objectKeys.size());
+        for (Iterator i = objectKeys.iterator(); i.hasNext();) {
+            StoredObject stored = registry.get(((Key) i.next()).getId());
+            if (stored != null && stored.isA(objectTypes)) {
+                objects.add(stored);
+            }
+        }
+        return respondStored(objects);
+    }
+
+    /**
+     * Gets all objects owned by the caller.
+     */
+    public BulkResponse getRegistryObjects() throws JAXRException {
+        return getRegistryObjects((String) null);
+    }
+
+    /**
+     * Gets all objects of the given type owned by the caller.
+     */
+    public BulkResponse getRegistryObjects(String objectType) throws JAXRException {
+        return respondStored(owned(objectType));
+    }
+
+    public PageSource getRegistryObjectPages(String objectType) throws JAXRException {
+        return new MemoryPageSource(registryService, owned(objectType));
+    }
+
+    @SuppressWarnings("unchecked")
+    public BulkResponse findAssociations(Collection findQualifiers, String sourceObjectId,
+    String targetObjectId, Collection associationTypes) throws JAXRException {
+        registryService.checkOpen();
+        if (sourceObjectId == null && targetObjectId == null && associationTypes == null) {
+            return respond(new ArrayList());
+        }
+        MemoryRegistry registry = registryService.getRegistry();
+        Collection candidates;
+        if (sourceObjectId != null) {
+            candidates = registry.getIdsBySource(sourceObjectId, typeIds(associationTypes));
+        } else if (targetObjectId != null) {
+            candidates = registry.getIdsByTarget(targetObjectId, typeIds(associationTypes));
+        } else {
+            candidates = registry.getIdsByType(LifeCycleManager.ASSOCIATION);
+        }
+        List result = new ArrayList();
+        for (Iterator i = candidates.iterator(); i.hasNext();) {
+            StoredObject stored = registry.get((String) i.next());
+            if (stored != null && stored.sourceId != null
+            && (sourceObjectId == null || sourceObjectId.equals(stored.sourceId))
+            && (targetObjectId == null || targetObjectId.equals(stored.targetId))
+            && matchesType((Association) stored.object, associationTypes)) {
+                result.add(stored);
+            }
+        }
+        return respondStored(sort(findQualifiers, result));
+    }
+
+    @SuppressWarnings("unchecked")
+    public BulkResponse findCallerAssociations(Collection findQualifiers, Boolean confirmedByCaller,
+    Boolean confirmedByOtherParty, Collection associationTypes) throws JAXRException {
+        registryService.checkOpen();
+        if (confirmedByCaller == null && confirmedByOtherParty == null && associationTypes == null) {
+            return respond(new ArrayList());
+        }
+        MemoryRegistry registry = registryService.getRegistry();
+        String caller = registryService.getCaller();
+        List result = new ArrayList();
+        for (Iterator i = registry.getIdsByType(LifeCycleManager.ASSOCIATION).iterator(); i.hasNext();) {
+            StoredObject stored = registry.get((String) i.next());
+            if (stored == null) {
+                continue;
+            }
+            boolean ownsSource = caller.equals(ownerOf(registry, stored.sourceId, stored.owner));
+            boolean ownsTarget = caller.equals(ownerOf(registry, stored.targetId, stored.owner));
+            if (!ownsSource && !ownsTarget) {
+                continue;
+            }
+            boolean byCaller = ownsSource ? stored.confirmedBySourceOwner : stored.confirmedByTargetOwner;
+            boolean byOther = ownsSource ? stored.confirmedByTargetOwner : stored.confirmedBySourceOwner;
+            if ((confirmedByCaller == null || confirmedByCaller.booleanValue() == byCaller)
+            && (confirmedByOtherParty == null || confirmedByOtherParty.booleanValue() == byOther)
+            && matchesType((Association) stored.object, associationTypes)) {
+                result.add(stored);
+            }
+        }
+        return respondStored(sort(findQualifiers, result));
+    }
+
+    public BulkResponse findOrganizations(Collection findQualifiers, Collection namePatterns,
+    Collection classifications, Collection specifications, Collection externalIdentifiers,
+    Collection externalLinks) throws JAXRException {
+        return respondStored(organizations(findQualifiers, namePatterns, classifications,
+        specifications, externalIdentifiers, externalLinks));
+    }
+
+    public PageSource findOrganizationPages(Collection findQualifiers, Collection namePatterns,
+    Collection classifications, Collection specifications, Collection externalIdentifiers,
+    Collection externalLinks) throws JAXRException {
+        return new MemoryPageSource(registryService, organizations(findQualifiers, namePatterns,
+        classifications, specifications, externalIdentifiers, externalLinks));
+    }
+
+    public BulkResponse findServices(Key orgKey, Collection findQualifiers, Collection namePatterns,
+    Collection classifications, Collection specifications) throws JAXRException {
+        FindCriteria criteria = criteria(LifeCycleManager.SERVICE, findQualifiers);
+        criteria.setNamePatterns(namePatterns);
+        criteria.setClassifications(classifications);
+        criteria.setSpecifications(specifications);
+        final String orgId = orgKey == null ? null : orgKey.getId();
+        return respondStored(criteria.find(orgId == null ? null : new FindCriteria.Filter() {
+            public boolean accept(StoredObject stored) throws JAXRException {
+                return orgId.equals(stored.parentId)
+                || orgId.equals(StoredObject.idOf(((Service) stored.object).getProvidingOrganization()));
+            }
+        }));
+    }
+
+    public BulkResponse findServiceBindings(Key serviceKey, Collection findQualifiers,
+    Collection classifications, Collection specifications) throws JAXRException {
+        return findServiceBindings(serviceKey, findQualifiers, classifications, specifications, null);
+    }
+
+    public BulkResponse findServiceBindings(Key serviceKey, Collection findQualifiers,
+    Collection classifications, Collection specifications, Collection slotPredicates)
+    throws JAXRException {
+        FindCriteria criteria = criteria(LifeCycleManager.SERVICE_BINDING, findQualifiers);
+        criteria.setClassifications(classifications);
+        criteria.setSpecifications(specifications);
+        criteria.setSlotPredicates(slotPredicates);
+        final String serviceId = serviceKey == null ? null : serviceKey.getId();
+        return respondStored(criteria.find(serviceId == null ? null : new FindCriteria.Filter() {
+            public boolean accept(StoredObject stored) throws JAXRException {
+                return serviceId.equals(stored.parentId)
+                || serviceId.equals(StoredObject.idOf(((ServiceBinding) stored.object).getService()));
+            }
+        }));
+    }
+
+    public BulkResponse findObjectsBySlots(String objectType, Collection findQualifiers,
+    Collection slotPredicates) throws JAXRException {
+        if (objectType == null) {
+            throw new InvalidRequestException("objectType must not be null");
+        }
+        FindCriteria criteria = criteria(objectType, findQualifiers);
+        criteria.setSlotPredicates(slotPredicates);
+        return respondStored(criteria.find(null));
+    }
+
+    public Set getIndexedSlotNames() throws JAXRException {
+        return registryService.getRegistry().getIndexedSlotNames();
+    }
+
+    @SuppressWarnings("unchecked")
+    public BulkResponse findAssociatedObjects(Key objectKey, int direction, int maxDepth,
+    Collection associationTypes) throws JAXRException {
+        MemoryRegistry registry = graphRegistry(direction, maxDepth);
+        AssociationGraph.Traversal traversal = registry.getAssociationGraph()
+        .traverse(idOf(objectKey), direction, maxDepth, graphTypeIds(associationTypes));
+        List found = new ArrayList();
+        for (Iterator i = traversal.getObjectIds().iterator(); i.hasNext();) {
+            StoredObject stored = registry.get((String) i.next());
+            if (stored != null) {
+                found.add(stored);
+            }
+        }
+        return respondStored(found);
+    }
+
+    @SuppressWarnings("unchecked")
+    public BulkResponse findAssociationPath(Key fromKey, Key toKey, int direction, int maxDepth,
+    Collection associationTypes) throws JAXRException {
+        MemoryRegistry registry = graphRegistry(direction, maxDepth);
+        List path = registry.getAssociationGraph()
+        .traverse(idOf(fromKey), direction, maxDepth, graphTypeIds(associationTypes)).getPath(idOf(toKey));
+        List found = new ArrayList();
+        if (path != null) {
+            for (Iterator i = path.iterator(); i.hasNext();) {
+                StoredObject stored = registry.get((String) i.next());
+                if (stored == null) {
+                    // removed by a concurrent writer
+                    return respond(new ArrayList());
+                }
+                found.add(stored);
+            }
+        }
+        return respondStored(found);
+    }
+
+    public boolean isReachable(Key fromKey, Key toKey, int direction, int maxDepth,
+    Collection associationTypes) throws JAXRException {
+        return graphRegistry(direction, maxDepth).getAssociationGraph()
+        .isReachable(idOf(fromKey), idOf(toKey), direction, maxDepth, graphTypeIds(associationTypes));
+    }
+
+    public boolean createsCycle(Key sourceKey, Key targetKey, Collection associationTypes)
+    throws JAXRException {
+        return graphRegistry(OUTGOING, 0).getAssociationGraph()
+        .createsCycle(idOf(sourceKey), idOf(targetKey), graphTypeIds(associationTypes));
+    }
+
+    public BulkResponse findClassificationSchemes(Collection findQualifiers, Collection namePatterns,
+    Collection classifications, Collection externalLinks) throws JAXRException {
+        FindCriteria criteria = criteria(LifeCycleManager.CLASSIFICATION_SCHEME, findQualifiers);
+        criteria.setNamePatterns(namePatterns);
+        criteria.setClassifications(classifications);
+        criteria.setExternalLinks(externalLinks);
+        return respondStored(criteria.find(null));
+    }
+
+    public ClassificationScheme findClassificationSchemeByName(Collection findQualifiers, String namePattern)
+    throws JAXRException {
+        FindCriteria criteria = criteria(LifeCycleManager.CLASSIFICATION_SCHEME, findQualifiers);
+        criteria.setNamePatterns(Collections.singleton(namePattern));
+        List found = criteria.find(null);
+        if (found.size() > 1) {
+            throw new InvalidRequestException("More than one ClassificationScheme matches " + namePattern);
+        }
+        return found.isEmpty() ? null : (ClassificationScheme) copier().copy((StoredObject) found.get(0));
+    }
+
+    public BulkResponse findConcepts(Collection findQualifiers, Collection namePatterns,
+    Collection classifications, Collection externalIdentifiers, Collection externalLinks)
+    throws JAXRException {
+        FindCriteria criteria = criteria(LifeCycleManager.CONCEPT, findQualifiers);
+        criteria.setNamePatterns(namePatterns);
+        criteria.setClassifications(classifications);
+        criteria.setExternalIdentifiers(externalIdentifiers);
+        criteria.setExternalLinks(externalLinks);
+        return respondStored(criteria.find(null));
+    }
+
+    public Concept findConceptByPath(String path) throws JAXRException {
+        registryService.checkOpen();
+        String canonical = path;
+        while (canonical.length() > 1 && canonical.endsWith("/")) {
+            canonical = canonical.substring(0, canonical.length() - 1);
+        }
+        if (!canonical.startsWith("/")) {
+            canonical = "/" + canonical;
+        }
+        MemoryRegistry registry = registryService.getRegistry();
+        StoredObject stored = registry.get(registry.getIdByPath(canonical));
+        return stored == null ? null : (Concept) copier().copy(stored);
+    }
+
+    public BulkResponse findRegistryPackages(Collection findQualifiers, Collection namePatterns,
+    Collection classifications, Collection externalLinks) throws JAXRException {
+        FindCriteria criteria = criteria(LifeCycleManager.REGISTRY_PACKAGE, findQualifiers);
+        criteria.setNamePatterns(namePatterns);
+        criteria.setClassifications(classifications);
+        criteria.setExternalLinks(externalLinks);
+        return respondStored(criteria.find(null));
+    }
+
+    private List organizations(Collection findQualifiers, Collection namePatterns,
+    Collection classifications, Collection specifications, Collection externalIdentifiers,
+    Collection externalLinks) throws JAXRException {
+        FindCriteria criteria = criteria(LifeCycleManager.ORGANIZATION, findQualifiers);
+        criteria.setNamePatterns(namePatterns);
+        criteria.setClassifications(classifications);
+        criteria.setSpecifications(specifications);
+        criteria.setExternalIdentifiers(externalIdentifiers);
+        criteria.setExternalLinks(externalLinks);
+        return criteria.find(null);
+    }
+
+    /**
+     * Gets the saved copies of the objects of a type owned by the caller,
+     * in the order they were saved.
+     */
+    @SuppressWarnings("unchecked")
+    private List owned(String objectType) throws JAXRException {
+        registryService.checkOpen();
+        String caller = registryService.getCaller();
+        List owned = new ArrayList();
+        for (Iterator i = registryService.getRegistry().getAll().iterator(); i.hasNext();) {
+            StoredObject stored = (StoredObject) i.next();
+            if (caller.equals(stored.owner) && stored.isA(objectType)) {
+                owned.add(stored);
+            }
+        }
+        return sortBySequence(owned);
+    }
+
+    private FindCriteria criteria(String type, Collection findQualifiers) throws JAXRException {
+        registryService.checkOpen();
+        return new FindCriteria(registryService.getRegistry(), type, findQualifiers);
+    }
+
+    private MemoryRegistry graphRegistry(int direction, int maxDepth) throws JAXRException {
+        registryService.checkOpen();
+        if (direction < OUTGOING || direction > BOTH) {
+            throw new InvalidRequestException("Invalid direction: " + direction);
+        }
+        if (maxDepth < 0) {
+            throw new InvalidRequestException("maxDepth must not be negative: " + maxDepth);
+        }
+        return registryService.getRegistry();
+    }
+
+    private static String idOf(Key key) throws JAXRException {
+        if (key == null || key.getId() == null) {
+            throw new InvalidRequestException("Key must not be null");
+        }
+        return key.getId();
+    }
+
+    /**
+     * Gets the ids of association types given as Concepts or as ids, to
+     * traverse the AssociationGraph.
+     *
+     * @return the ids, or <code>null</code> for all types
+     */
+    @SuppressWarnings("unchecked")
+    private static Collection graphTypeIds(Collection associationTypes) throws JAXRException {
+        if (associationTypes == null) {
+            return null;
+        }
+        List ids = new ArrayList(associationTypes.size());
+        for (Iterator i = associationTypes.iterator(); i.hasNext();) {
+            Object type = i.next();
+            String id = type instanceof Concept ? StoredObject.idOf((Concept) type)
+            : type instanceof String ? (String) type : null;
+            if (id == null) {
+                throw new InvalidRequestException("Association type " + type + " is not a saved Concept or id");
+            }
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    /**
+     * Gets the ids of the given association type Concepts, to select
+     * candidates from the AssociationGraph.
+     *
+     * @return the ids, or <code>null</code> if a type is given by value or not at all
+     */
+    @SuppressWarnings("unchecked")
+    private static Collection typeIds(Collection associationTypes) throws JAXRException {
+        if (associationTypes == null) {
+            return null;
+        }
+        List ids = new ArrayList(associationTypes.size());
+        for (Iterator i = associationTypes.iterator(); i.hasNext();) {
+            Object type = i.next();
+            String id = type instanceof Concept ? StoredObject.idOf((Concept) type) : null;
+            if (id == null) {
+                return null;
+            }
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    /**
+     * Matches an association type against a Collection of Concepts, or of
+     * Strings naming a Concept by id or value.
+     */
+    private static boolean matchesType(Association association, Collection associationTypes)
+    throws JAXRException {
+        if (associationTypes == null) {
+            return true;
+        }
+        Concept type = association.getAssociationType();
+        if (type == null) {
+            return false;
+        }
+        String id = StoredObject.idOf(type);
+        String value = type.getValue();
+        for (Iterator i = associationTypes.iterator(); i.hasNext();) {
+            Object t = i.next();
+            if (t instanceof Concept) {
+                String tid = StoredObject.idOf((Concept) t);
+                if (tid != null ? tid.equals(id) : value != null && value.equals(((Concept) t).getValue())) {
+                    return true;
+                }
+            } else if (t != null && (t.equals(id) || t.equals(value))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String ownerOf(MemoryRegistry registry, String id, String defaultOwner) {
+        StoredObject stored = registry.get(id);
+        return stored == null ? defaultOwner : stored.owner;
+    }
+
+    private static List sort(Collection findQualifiers, List stored) {
+        if (findQualifiers != null && findQualifiers.contains(FindQualifier.SORT_BY_DATE_DESC)) {
+            Collections.reverse(sortBySequence(stored));
+            return stored;
+        }
+        return sortBySequence(stored);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List sortBySequence(List stored) {
+        Collections.sort(stored, new Comparator() {
+            public int compare(Object a, Object b) {
+                return Long.compare(((StoredObject) a).sequence, ((StoredObject) b).sequence);
+            }
+        });
+        return stored;
+    }
+
+    /**
+     * Responds with copies of saved objects, made by one session so that
+     * objects referenced by several results are copied once.
+     */
+    @SuppressWarnings("unchecked")
+    private BulkResponse respondStored(List stored) throws JAXRException {
+        ObjectCopier copier = copier();
+        List objects = new ArrayList(stored.size());
+        for (int i = 0; i < stored.size(); i++) {
+            objects.add(copier.copy((StoredObject) stored.get(i)));
+        }
+        return respond(objects);
+    }
+
+    private ObjectCopier copier() {
+        return ObjectCopier.forQuery(registryService.getLifeCycleManager());
+    }
+
+    private BulkResponse respond(List objects) throws JAXRException {
+        return registryService.respond(new MemoryBulkResponse(objects));
+    }
+}
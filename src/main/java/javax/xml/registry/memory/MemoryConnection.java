@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.memory;
+
+import java.net.PasswordAuthentication;
+import java.security.Principal;
+import java.util.*;
+import javax.xml.registry.*;
+
+/**
+ * Connection of the in-memory provider.
+ * <p>
+ * The credentials identify the caller, who owns the objects it saves: the
+ * user name of a PasswordAuthentication or the name of a Principal. A
+ * Connection without such credentials acts as the anonymous caller.
+ * Credentials are not verified.
+ */
+final class MemoryConnection implements Connection {
+
+    static final String ANONYMOUS = "anonymous";
+
+    private final MemoryRegistry registry;
+    private final Properties properties;
+    private final MemoryRegistryService registryService;
+    private volatile Set credentials = Collections.EMPTY_SET;
+    private volatile boolean synchronous = true;
+    private volatile boolean closed;
+
+    MemoryConnection(MemoryRegistry registry, Properties properties) {
+        this.registry = registry;
+        this.properties = properties;
+        this.registryService = new MemoryRegistryService(this);
+    }
+
+    MemoryRegistry getRegistry() {
+        return registry;
+    }
+
+    String getProperty(String name) {
+        return properties.getProperty(name);
+    }
+
+    String getCaller() {
+        for (Iterator i = credentials.iterator(); i.hasNext();) {
+            Object credential = i.next();
+            if (credential instanceof PasswordAuthentication) {
+                return ((PasswordAuthentication) credential).getUserName();
+            } else if (credential instanceof Principal) {
+                return ((Principal) credential).getName();
+            }
+        }
+        return ANONYMOUS;
+    }
+
+    public RegistryService getRegistryService() throws JAXRException {
+        if (closed) {
+            throw new InvalidRequestException("Connection is closed");
+        }
+        return registryService;
+    }
+
+    public void close() throws JAXRException {
+        closed = true;
+    }
+
+    public boolean isClosed() throws JAXRException {
+        return closed;
+    }
+
+    public boolean isSynchronous() throws JAXRException {
+        return synchronous;
+    }
+
+    public void setSynchronous(boolean sync) throws JAXRException {
+        this.synchronous = sync;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void setCredentials(Set credentials) throws JAXRException {
+        this.credentials = credentials == null ? Collections.EMPTY_SET
+        : Collections.unmodifiableSet(new HashSet(credentials));
+    }
+
+    public Set getCredentials() throws JAXRException {
+        return credentials;
+    }
+}
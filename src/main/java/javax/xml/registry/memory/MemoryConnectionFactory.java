@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.memory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+import javax.xml.registry.*;
+import javax.xml.registry.federation.ParallelFederatedConnection;
+import javax.xml.registry.index.PhoneticEncoder;
+import javax.xml.registry.repository.ContentStore;
+
+/**
+ * ConnectionFactory of the in-memory provider, an embedded registry that
+ * keeps its content in the memory of the Java virtual machine.
+ * <p>
+ * Connections created with the same registry name share one
+ * MemoryRegistry. The name is taken from the
+ * <code>javax.xml.registry.memory.registryName</code> property, or from
+ * a <code>javax.xml.registry.queryManagerURL</code> of the form
+ * <code>memory:name</code>; it defaults to <code>default</code>.
+ * <p>
+ * To select this provider with ConnectionFactory.newInstance, set the
+ * system property <code>javax.xml.registry.ConnectionFactoryClass</code>
+ * to <code>javax.xml.registry.memory.MemoryConnectionFactory</code>.
+ *
+ * @see MemoryRegistry
+ */
+public class MemoryConnectionFactory extends ConnectionFactory {
+
+    /**
+     * Property naming the MemoryRegistry to connect to.
+     */
+    public static final String REGISTRY_NAME = "javax.xml.registry.memory.registryName";
+
+    /**
+     * Property selecting the phonetic encoding of the registry used for
+     * SOUNDEX queries: <code>soundex</code>, the default, or
+     * <code>metaphone</code>. It applies to the whole registry, including
+     * Connections opened before.
+     */
+    public static final String PHONETIC_ENCODING = "javax.xml.registry.memory.phoneticEncoding";
+
+    /**
+     * Property naming a directory in which the registry keeps the
+     * repository items of ExtrinsicObjects in a ContentStore, storing each
+     * distinct content once. Without it, items are kept by reference.
+     */
+    public static final String REPOSITORY_DIRECTORY = "javax.xml.registry.memory.repositoryDirectory";
+
+    /**
+     * Property listing the names of the Slots whose values the registry
+     * indexes, separated by commas, for instance <code>region,weight</code>.
+     * It applies to the whole registry, including Connections opened before.
+     *
+     * @see javax.xml.registry.index.SlotQueryManager
+     */
+    public static final String INDEXED_SLOTS = "javax.xml.registry.memory.indexedSlots";
+
+    /**
+     * Standard JAXR property giving the URL of the query manager.
+     */
+    public static final String QUERY_MANAGER_URL = "javax.xml.registry.queryManagerURL";
+
+    /**
+     * Standard JAXR property giving the id of the default postal address scheme.
+     */
+    public static final String POSTAL_ADDRESS_SCHEME = "javax.xml.registry.postalAddressScheme";
+
+    /**
+     * The name of the registry used if no name is configured.
+     */
+    public static final String DEFAULT_REGISTRY_NAME = "default";
+
+    private static final String URL_SCHEME = "memory:";
+
+    private Properties properties = new Properties();
+
+    public MemoryConnectionFactory() {
+    }
+
+    public synchronized void setProperties(Properties properties) throws JAXRException {
+        Properties copy = new Properties();
+        if (properties != null) {
+            copy.putAll(properties);
+        }
+        this.properties = copy;
+    }
+
+    public synchronized Properties getProperties() throws JAXRException {
+        Properties copy = new Properties();
+        copy.putAll(properties);
+        return copy;
+    }
+
+    public Connection createConnection() throws JAXRException {
+        Properties properties = getProperties();
+        MemoryRegistry registry = MemoryRegistry.getRegistry(registryName(properties));
+        String encoding = properties.getProperty(PHONETIC_ENCODING);
+        if (encoding != null) {
+            registry.setPhoneticEncoder(phoneticEncoder(encoding));
+        }
+        String slots = properties.getProperty(INDEXED_SLOTS);
+        if (slots != null) {
+            registry.setIndexedSlotNames(slotNames(slots));
+        }
+        String directory = properties.getProperty(REPOSITORY_DIRECTORY);
+        if (directory != null) {
+            ContentStore store = registry.getContentStore();
+            if (store == null || !store.getDirectory().equals(new File(directory))) {
+                try {
+                    registry.setContentStore(new ContentStore(new File(directory)));
+                } catch (IOException e) {
+                    throw new JAXRException("Cannot open " + REPOSITORY_DIRECTORY + " " + directory, e);
+                }
+            }
+        }
+        return new MemoryConnection(registry, properties);
+    }
+
+    /**
+     * Creates a ParallelFederatedConnection over the given Connections,
+     * which may belong to any provider.
+     */
+    public FederatedConnection createFederatedConnection(Collection connections) throws JAXRException {
+        if (connections == null || connections.isEmpty()) {
+            throw new InvalidRequestException("A federated connection needs at least one Connection");
+        }
+        return new ParallelFederatedConnection(connections);
+    }
+
+    private static PhoneticEncoder phoneticEncoder(String encoding) throws InvalidRequestException {
+        if ("soundex".equalsIgnoreCase(encoding)) {
+            return PhoneticEncoder.SOUNDEX;
+        }
+        if ("metaphone".equalsIgnoreCase(encoding)) {
+            return PhoneticEncoder.METAPHONE;
+        }
+        throw new InvalidRequestException("Unknown " + PHONETIC_ENCODING + ": " + encoding);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List slotNames(String slots) {
+        List names = new ArrayList();
+        StringTokenizer tokens = new StringTokenizer(slots, ",");
+        while (tokens.hasMoreTokens()) {
+            String name = tokens.nextToken().trim();
+            if (name.length() > 0) {
+                names.add(name);
+            }
+        }
+        return names;
+    }
+
+    private static String registryName(Properties properties) throws InvalidRequestException {
+        String name = properties.getProperty(REGISTRY_NAME);
+        if (name != null) {
+            return name;
+        }
+        String url = properties.getProperty(QUERY_MANAGER_URL);
+        if (url == null) {
+            return DEFAULT_REGISTRY_NAME;
+        }
+        if (!url.startsWith(URL_SCHEME)) {
+            throw new InvalidRequestException("Not a memory registry URL: " + url);
+        }
+        return url.substring(URL_SCHEME.length());
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.memory;
+
+import java.util.*;
+import javax.xml.registry.*;
+import javax.xml.registry.cursor.Page;
+import javax.xml.registry.cursor.PageSource;
+
+/**
+ * PageSource of the in-memory provider. It keeps the saved copies that
+ * matched the query, which the registry shares without copying, and
+ * copies them for the caller one page at a time. The result is therefore
+ * the one at the time of the query, even if objects are saved or deleted
+ * while it is paged through. The continuation token is the offset of the
+ * next page.
+ *
+ * @see MemoryBusinessQueryManager#findOrganizationPages
+ */
+final class MemoryPageSource implements PageSource {
+
+    private final MemoryRegistryService registryService;
+    private List stored;
+
+    MemoryPageSource(MemoryRegistryService registryService, List stored) {
+        this.registryService = registryService;
+        this.stored = stored;
+    }
+
+    @SuppressWarnings("unchecked")
+    public synchronized Page fetch(String continuationToken, int fetchSize) throws JAXRException {
+        registryService.checkOpen();
+        if (stored == null) {
+            throw new InvalidRequestException("Cursor is closed");
+        }
+        if (fetchSize <= 0) {
+            throw new InvalidRequestException("fetchSize must be positive: " + fetchSize);
+        }
+        int from = offsetOf(continuationToken);
+        int to = (int) Math.min((long) from + fetchSize, stored.size());
+        ObjectCopier copier = ObjectCopier.forQuery(registryService.getLifeCycleManager());
+        List objects = new ArrayList(to - from);
+        for (int i = from; i < to; i++) {
+            objects.add(copier.copy((StoredObject) stored.get(i)));
+        }
+        return new Page(objects, to < stored.size() ? Integer.toString(to) : null);
+    }
+
+    public synchronized void close() throws JAXRException {
+        stored = null;
+    }
+
+    private int offsetOf(String continuationToken) throws InvalidRequestException {
+        if (continuationToken == null) {
+            return 0;
+        }
+        try {
+            int offset = Integer.parseInt(continuationToken);
+            if (offset < 0 || offset > stored.size()) {
+                throw new InvalidRequestException("Continuation token out of range: " + continuationToken);
+            }
+            return offset;
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestException("Malformed continuation token: " + continuationToken, e);
+        }
+    }
+}
@@ -0,0 +1,670 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.memory;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.xml.registry.*;
+import javax.xml.registry.index.AssociationGraph;
+import javax.xml.registry.index.ClassificationIndex;
+import javax.xml.registry.index.CompressedBitmap;
+import javax.xml.registry.index.KeyTable;
+import javax.xml.registry.index.NameIndex;
+import javax.xml.registry.index.PhoneticEncoder;
+import javax.xml.registry.index.PhoneticIndex;
+import javax.xml.registry.index.SlotIndex;
+import javax.xml.registry.infomodel.*;
+import javax.xml.registry.repository.ContentStore;
+
+/**
+ * The content of an in-memory registry, shared by all Connections that
+ * name the same registry.
+ * <p>
+ * Saved objects are kept in a concurrent map by id, together with
+ * concurrent hash indexes on object type, ExternalIdentifier and Concept
+ * path, a sorted NameIndex on names, and an AssociationGraph over
+ * Association source and target objects.
+ * The names of Organizations, Services and Concepts are also kept in a
+ * PhoneticIndex for SOUNDEX queries. Classifications are kept in a
+ * ClassificationIndex of compressed bitmaps over int handles, and the
+ * values of Slots with selected names in a SlotIndex over the same
+ * handles. Handles are assigned by a KeyTable when an object is first
+ * saved and reused after it is deleted, but not while a query that may
+ * hold the handle is running, so a handle read by a concurrent query never
+ * names another object; the records are also kept in an array by handle.
+ * The registry keeps a private copy of each saved object, which is never
+ * modified, so the indexes always match the saved objects; queries return
+ * copies of them.
+ * Readers never lock. Writers serialize on a single lock while they
+ * update the indexes; the index keys of an object are computed before the
+ * lock is taken. When an object is saved again, its new postings are added
+ * before the postings it no longer has are removed, so a concurrent reader
+ * finds it under the keys of either version. A reader may still see the
+ * indexes of a partially applied save, so queries use the indexes only to
+ * select candidates and match every candidate against the saved object.
+ *
+ * @see MemoryConnectionFactory
+ */
+public final class MemoryRegistry {
+
+    private static final ConcurrentMap registries = new ConcurrentHashMap();
+
+    private final String name;
+    private final ConcurrentMap objects = new ConcurrentHashMap();
+    private final ConcurrentMap byType = new ConcurrentHashMap();
+    private final NameIndex byName = new NameIndex();
+    private volatile PhoneticIndex bySound = new PhoneticIndex(PhoneticEncoder.SOUNDEX);
+    private final KeyTable keys = new KeyTable();
+    private volatile StoredObject[] objectsByHandle = new StoredObject[64];
+    private final ClassificationIndex byClassification = new ClassificationIndex();
+    private volatile SlotIndex bySlot = new SlotIndex(Collections.EMPTY_SET);
+    private final ConcurrentMap byExternalIdentifier = new ConcurrentHashMap();
+    private final AssociationGraph byAssociation = new AssociationGraph();
+    private final ConcurrentMap byPath = new ConcurrentHashMap();
+    private volatile ContentStore contentStore;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * Creates an anonymous registry, which is not shared by name.
+     */
+    public MemoryRegistry() {
+        this(null);
+    }
+
+    private MemoryRegistry(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Gets the registry with the given name, creating it if needed.
+     *
+     * @param name the registry name
+     * @return the registry
+     */
+    @SuppressWarnings("unchecked")
+    public static MemoryRegistry getRegistry(String name) {
+        MemoryRegistry registry = (MemoryRegistry) registries.get(name);
+        if (registry == null) {
+            MemoryRegistry created = new MemoryRegistry(name);
+            registry = (MemoryRegistry) registries.putIfAbsent(name, created);
+            if (registry == null) {
+                registry = created;
+            }
+        }
+        return registry;
+    }
+
+    /**
+     * Forgets the registry with the given name. Existing Connections keep
+     * using it; new Connections get a new, empty registry.
+     *
+     * @param name the registry name
+     */
+    public static void removeRegistry(String name) {
+        registries.remove(name);
+    }
+
+    /**
+     * Gets the name of this registry.
+     *
+     * @return the name, or <code>null</code> for an anonymous registry
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the number of saved objects, including composed objects.
+     *
+     * @return the object count
+     */
+    public int size() {
+        return objects.size();
+    }
+
+    /**
+     * Removes all objects.
+     */
+    public void clear() {
+        writeLock.lock();
+        try {
+            objects.clear();
+            keys.clear();
+            objectsByHandle = new StoredObject[64];
+            byType.clear();
+            byName.clear();
+            bySound.clear();
+            byClassification.clear();
+            bySlot.clear();
+            byExternalIdentifier.clear();
+            byAssociation.clear();
+            byPath.clear();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    StoredObject get(String id) {
+        return id == null ? null : (StoredObject) objects.get(id);
+    }
+
+    Collection getAll() {
+        return objects.values();
+    }
+
+    Set getIdsByType(String type) {
+        return ids(byType, type);
+    }
+
+    /**
+     * Gets the encoding of the phonetic index used for SOUNDEX queries.
+     *
+     * @return the PhoneticEncoder, by default PhoneticEncoder.SOUNDEX
+     */
+    public PhoneticEncoder getPhoneticEncoder() {
+        return bySound.getEncoder();
+    }
+
+    /**
+     * Sets the encoding of the phonetic index used for SOUNDEX queries,
+     * rebuilding the index if the encoding changes.
+     *
+     * @param encoder the PhoneticEncoder, for instance PhoneticEncoder.METAPHONE
+     */
+    public void setPhoneticEncoder(PhoneticEncoder encoder) {
+        writeLock.lock();
+        try {
+            if (encoder == bySound.getEncoder()) {
+                return;
+            }
+            PhoneticIndex index = new PhoneticIndex(encoder);
+            for (Iterator i = objects.values().iterator(); i.hasNext();) {
+                StoredObject stored = (StoredObject) i.next();
+                if (isPhoneticallyIndexed(stored.type)) {
+                    for (int j = 0; j < stored.names.length; j++) {
+                        index.add(stored.names[j], stored.id);
+                    }
+                }
+            }
+            bySound = index;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Gets the names of the Slots whose values are indexed.
+     *
+     * @return an unmodifiable Set of slot names, empty by default
+     */
+    public Set getIndexedSlotNames() {
+        return bySlot.getSlotNames();
+    }
+
+    /**
+     * Sets the names of the Slots whose values are indexed, rebuilding the
+     * index if the names change. Queries on the Slots of other names
+     * evaluate every object of the requested type.
+     *
+     * @param slotNames the slot names
+     */
+    @SuppressWarnings("unchecked")
+    public void setIndexedSlotNames(Collection slotNames) {
+        if (slotNames == null) {
+            throw new IllegalArgumentException("slotNames must not be null");
+        }
+        writeLock.lock();
+        try {
+            if (bySlot.getSlotNames().equals(new HashSet(slotNames))) {
+                return;
+            }
+            SlotIndex index = new SlotIndex(slotNames);
+            for (Iterator i = objects.values().iterator(); i.hasNext();) {
+                StoredObject stored = (StoredObject) i.next();
+                int handle = keys.get(stored.id);
+                for (int j = 0; j < stored.slotNames.length; j++) {
+                    index.add(stored.slotNames[j], stored.slotTypes[j], stored.slotValues[j], handle);
+                }
+            }
+            bySlot = index;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Gets the store that keeps the repository items of saved ExtrinsicObjects.
+     *
+     * @return the ContentStore, or <code>null</code> if items are kept by reference
+     */
+    public ContentStore getContentStore() {
+        return contentStore;
+    }
+
+    /**
+     * Sets the store that keeps the repository items of ExtrinsicObjects
+     * saved from now on. Items with the same content are stored once.
+     *
+     * @param contentStore the ContentStore, or <code>null</code> to keep items by reference
+     */
+    public void setContentStore(ContentStore contentStore) {
+        this.contentStore = contentStore;
+    }
+
+    NameIndex getNameIndex() {
+        return byName;
+    }
+
+    PhoneticIndex getPhoneticIndex() {
+        return bySound;
+    }
+
+    static boolean isPhoneticallyIndexed(String type) {
+        return LifeCycleManager.ORGANIZATION.equals(type) || LifeCycleManager.SERVICE.equals(type)
+        || LifeCycleManager.CONCEPT.equals(type);
+    }
+
+    ClassificationIndex getClassificationIndex() {
+        return byClassification;
+    }
+
+    /**
+     * Registers a query that reads handles from the indexes, so that the
+     * handles of objects deleted meanwhile are not assigned again before it
+     * calls exit.
+     *
+     * @return the token to pass to exit
+     */
+    int enter() {
+        return keys.enter();
+    }
+
+    void exit(int token) {
+        keys.exit(token);
+    }
+
+    SlotIndex getSlotIndex() {
+        return bySlot;
+    }
+
+    /**
+     * Gets the ids of the objects with the given handles.
+     *
+     * @return List of ids of the objects that still exist
+     */
+    @SuppressWarnings("unchecked")
+    List getIds(CompressedBitmap handles) {
+        int[] values = handles.toArray();
+        List result = new ArrayList(values.length);
+        for (int i = 0; i < values.length; i++) {
+            StoredObject stored = get(values[i]);
+            if (stored != null) {
+                result.add(stored.id);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the record of the object with the given handle.
+     *
+     * @return the record, or <code>null</code> if the object no longer exists
+     */
+    StoredObject get(int handle) {
+        StoredObject[] stored = objectsByHandle;
+        return handle >= 0 && handle < stored.length ? stored[handle] : null;
+    }
+
+    /**
+     * Gets the handles of the Organizations and Services that directly
+     * compose the Services and ServiceBindings with the given handles.
+     */
+    CompressedBitmap getParents(CompressedBitmap handles) {
+        int[] values = handles.toArray();
+        int[] parents = new int[values.length];
+        int n = 0;
+        for (int i = 0; i < values.length; i++) {
+            StoredObject stored = get(values[i]);
+            if (stored != null && stored.parentId != null
+            && (stored.object instanceof Service || stored.object instanceof ServiceBinding)) {
+                int parent = keys.get(stored.parentId);
+                if (parent >= 0) {
+                    parents[n++] = parent;
+                }
+            }
+        }
+        return CompressedBitmap.of(parents, n);
+    }
+
+    Set getIdsByExternalIdentifier(String key) {
+        return ids(byExternalIdentifier, key);
+    }
+
+    /**
+     * Gets the AssociationGraph over the saved Associations, for traversals
+     * of more than one hop. The graph is keyed by association type Concept
+     * id and must not be modified.
+     */
+    AssociationGraph getAssociationGraph() {
+        return byAssociation;
+    }
+
+    List getIdsBySource(String id, Collection associationTypes) {
+        return byAssociation.getAssociationIds(id, AssociationGraph.OUTGOING, associationTypes);
+    }
+
+    List getIdsByTarget(String id, Collection associationTypes) {
+        return byAssociation.getAssociationIds(id, AssociationGraph.INCOMING, associationTypes);
+    }
+
+    String getIdByPath(String path) {
+        return (String) byPath.get(path);
+    }
+
+    @SuppressWarnings("unchecked")
+    Collection getAuditTrail(String id) {
+        StoredObject stored = get(id);
+        return stored == null ? new ArrayList() : new ArrayList(stored.auditTrail);
+    }
+
+    /**
+     * Gets the next value of the save sequence, which orders saves by time.
+     */
+    long nextSequence() {
+        return sequence.incrementAndGet();
+    }
+
+    /**
+     * Stores a new version of an object, and removes the composed objects
+     * of the previous version that the new version no longer composes.
+     * The object must not reuse the id of an object of another type.
+     *
+     * @param prepared the prepared records of the object, followed by those of its composed objects
+     * @param caller the owner of the objects that are new
+     * @param lifeCycleManager the LifeCycleManager that creates the audit event
+     * @throws SaveException if an id is used by an object of another type
+     */
+    @SuppressWarnings("unchecked")
+    void put(List prepared, String caller, MemoryBusinessLifeCycleManager lifeCycleManager)
+    throws JAXRException {
+        writeLock.lock();
+        try {
+            List stored = new ArrayList(prepared.size());
+            for (int i = 0; i < prepared.size(); i++) {
+                StoredObject p = (StoredObject) prepared.get(i);
+                StoredObject previous = get(p.id);
+                if (previous != null && !previous.type.equals(p.type)) {
+                    SaveException e = new SaveException("Id " + p.id + " is already used by a " + previous.type);
+                    e.setErrorObjectKey(p.object.getKey());
+                    throw e;
+                }
+                stored.add(p.complete(previous, caller));
+            }
+            StoredObject top = (StoredObject) stored.get(0);
+            boolean created = get(top.id) == null;
+            Set keep = new HashSet();
+            for (int i = 0; i < stored.size(); i++) {
+                keep.add(((StoredObject) stored.get(i)).id);
+            }
+            for (int i = 0; i < stored.size(); i++) {
+                StoredObject previous = get(((StoredObject) stored.get(i)).id);
+                if (previous != null) {
+                    removeComposed(previous, keep);
+                }
+            }
+            for (int i = 0; i < stored.size(); i++) {
+                StoredObject s = (StoredObject) stored.get(i);
+                StoredObject old = (StoredObject) objects.put(s.id, s);
+                if (old == null) {
+                    index(s);
+                } else {
+                    reindex(old, s);
+                }
+            }
+            AuditableEventImpl event = new AuditableEventImpl(lifeCycleManager, null, top.modified,
+            created ? AuditableEvent.EVENT_TYPE_CREATED : AuditableEvent.EVENT_TYPE_UPDATED, top.object);
+            event.setSaved();
+            top.auditTrail.add(event);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Removes an object and its composed objects.
+     *
+     * @return the removed record, or <code>null</code> if there was no such object
+     */
+    StoredObject remove(String id) {
+        writeLock.lock();
+        try {
+            StoredObject stored = (StoredObject) objects.remove(id);
+            if (stored != null) {
+                unindex(stored);
+                release(stored.id);
+                removeComposed(stored, Collections.EMPTY_SET);
+            }
+            return stored;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void removeComposed(StoredObject stored, Set keep) {
+        for (int i = 0; i < stored.composedIds.length; i++) {
+            String id = stored.composedIds[i];
+            if (!keep.contains(id)) {
+                StoredObject composed = (StoredObject) objects.get(id);
+                // the composed object may have been moved to another object since
+                if (composed != null && stored.id.equals(composed.parentId)) {
+                    objects.remove(id);
+                    unindex(composed);
+                    release(id);
+                    removeComposed(composed, keep);
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void index(StoredObject s) {
+        add(byType, s.type, s.id);
+        boolean phonetic = isPhoneticallyIndexed(s.type);
+        for (int i = 0; i < s.names.length; i++) {
+            byName.add(s.names[i], s.id);
+            if (phonetic) {
+                bySound.add(s.names[i], s.id);
+            }
+        }
+        int handle = handleOf(s.id);
+        objectsByHandle[handle] = s;
+        for (int i = 0; i < s.classificationKeys.length; i++) {
+            byClassification.add(s.classificationKeys[i], handle);
+        }
+        for (int i = 0; i < s.slotNames.length; i++) {
+            bySlot.add(s.slotNames[i], s.slotTypes[i], s.slotValues[i], handle);
+        }
+        for (int i = 0; i < s.externalIdentifierKeys.length; i++) {
+            add(byExternalIdentifier, s.externalIdentifierKeys[i], s.id);
+        }
+        if (s.sourceId != null && s.targetId != null) {
+            byAssociation.add(s.id, s.sourceId, s.targetId, s.associationType);
+        }
+        if (s.path != null) {
+            byPath.put(s.path, s.id);
+        }
+    }
+
+    private void unindex(StoredObject s) {
+        remove(byType, s.type, s.id);
+        boolean phonetic = isPhoneticallyIndexed(s.type);
+        for (int i = 0; i < s.names.length; i++) {
+            byName.remove(s.names[i], s.id);
+            if (phonetic) {
+                bySound.remove(s.names[i], s.id);
+            }
+        }
+        int handle = handleOf(s.id);
+        for (int i = 0; i < s.classificationKeys.length; i++) {
+            byClassification.remove(s.classificationKeys[i], handle);
+        }
+        for (int i = 0; i < s.slotNames.length; i++) {
+            bySlot.remove(s.slotNames[i], s.slotTypes[i], s.slotValues[i], handle);
+        }
+        for (int i = 0; i < s.externalIdentifierKeys.length; i++) {
+            remove(byExternalIdentifier, s.externalIdentifierKeys[i], s.id);
+        }
+        if (s.sourceId != null && s.targetId != null) {
+            byAssociation.remove(s.id);
+        }
+        if (s.path != null) {
+            byPath.remove(s.path, s.id);
+        }
+    }
+
+    /**
+     * Indexes a new version of an object, adding its new postings before
+     * removing those of the previous version that it no longer has.
+     */
+    @SuppressWarnings("unchecked")
+    private void reindex(StoredObject old, StoredObject s) {
+        add(byType, s.type, s.id);
+        boolean phonetic = isPhoneticallyIndexed(s.type);
+        PhoneticIndex sound = bySound;
+        Set names = new HashSet();
+        Set codes = new HashSet();
+        for (int i = 0; i < s.names.length; i++) {
+            byName.add(s.names[i], s.id);
+            names.add(s.names[i]);
+            if (phonetic) {
+                sound.add(s.names[i], s.id);
+                codes.add(sound.getEncoder().encode(s.names[i]));
+            }
+        }
+        int handle = handleOf(s.id);
+        objectsByHandle[handle] = s;
+        for (int i = 0; i < s.classificationKeys.length; i++) {
+            byClassification.add(s.classificationKeys[i], handle);
+        }
+        for (int i = 0; i < s.slotNames.length; i++) {
+            int j = old.slotIndexOf(s.slotNames[i]);
+            if (j < 0) {
+                bySlot.add(s.slotNames[i], s.slotTypes[i], s.slotValues[i], handle);
+            } else {
+                bySlot.replace(s.slotNames[i], old.slotTypes[j], old.slotValues[j],
+                s.slotTypes[i], s.slotValues[i], handle);
+            }
+        }
+        for (int i = 0; i < s.externalIdentifierKeys.length; i++) {
+            add(byExternalIdentifier, s.externalIdentifierKeys[i], s.id);
+        }
+        if (s.sourceId != null && s.targetId != null) {
+            if (!s.sourceId.equals(old.sourceId) || !s.targetId.equals(old.targetId)
+            || !Objects.equals(s.associationType, old.associationType)) {
+                byAssociation.add(s.id, s.sourceId, s.targetId, s.associationType);
+            }
+        } else if (old.sourceId != null && old.targetId != null) {
+            byAssociation.remove(s.id);
+        }
+        if (s.path != null) {
+            byPath.put(s.path, s.id);
+        }
+
+        for (int i = 0; i < old.names.length; i++) {
+            if (!names.contains(old.names[i])) {
+                byName.remove(old.names[i], s.id);
+            }
+            if (phonetic && !codes.contains(sound.getEncoder().encode(old.names[i]))) {
+                sound.remove(old.names[i], s.id);
+            }
+        }
+        Set classificationKeys = new HashSet(Arrays.asList(s.classificationKeys));
+        for (int i = 0; i < old.classificationKeys.length; i++) {
+            if (!classificationKeys.contains(old.classificationKeys[i])) {
+                byClassification.remove(old.classificationKeys[i], handle);
+            }
+        }
+        for (int i = 0; i < old.slotNames.length; i++) {
+            if (s.slotIndexOf(old.slotNames[i]) < 0) {
+                bySlot.remove(old.slotNames[i], old.slotTypes[i], old.slotValues[i], handle);
+            }
+        }
+        Set externalIdentifierKeys = new HashSet(Arrays.asList(s.externalIdentifierKeys));
+        for (int i = 0; i < old.externalIdentifierKeys.length; i++) {
+            if (!externalIdentifierKeys.contains(old.externalIdentifierKeys[i])) {
+                remove(byExternalIdentifier, old.externalIdentifierKeys[i], s.id);
+            }
+        }
+        if (old.path != null && !old.path.equals(s.path)) {
+            byPath.remove(old.path, s.id);
+        }
+    }
+
+    /**
+     * Gets the handle of an object, assigning the next one if it has none.
+     * The caller stores the record by handle before it publishes the handle in an index.
+     */
+    private int handleOf(String id) {
+        int handle = keys.intern(id);
+        if (handle >= objectsByHandle.length) {
+            objectsByHandle = Arrays.copyOf(objectsByHandle, Math.max(handle + 1, objectsByHandle.length * 2));
+        }
+        return handle;
+    }
+
+    private void release(String id) {
+        int handle = keys.get(id);
+        if (handle >= 0) {
+            keys.remove(id);
+            objectsByHandle[handle] = null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set ids(ConcurrentMap index, String key) {
+        Set ids = key == null ? null : (Set) index.get(key);
+        return ids == null ? Collections.EMPTY_SET : Collections.unmodifiableSet(ids);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void add(ConcurrentMap index, String key, String id) {
+        Set ids = (Set) index.get(key);
+        if (ids == null) {
+            ids = ConcurrentHashMap.newKeySet();
+            index.put(key, ids);
+        }
+        ids.add(id);
+    }
+
+    private static void remove(ConcurrentMap index, String key, String id) {
+        Set ids = (Set) index.get(key);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    public String toString() {
+        return "MemoryRegistry[" + name + ", " + objects.size() + " objects]";
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.memory;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * RegistryService of the in-memory provider. DeclarativeQueryManager and
+ * registry specific requests are not supported.
+ * <p>
+ * All operations complete before they return. If the Connection is
+ * asynchronous, each BulkResponse is also kept until it is retrieved with
+ * getBulkResponse.
+ */
+final class MemoryRegistryService implements RegistryService {
+
+    private final MemoryConnection connection;
+    private final MemoryBusinessLifeCycleManager lifeCycleManager;
+    private final MemoryBusinessQueryManager queryManager;
+    private final Map responses = new ConcurrentHashMap();
+
+    MemoryRegistryService(MemoryConnection connection) {
+        this.connection = connection;
+        this.lifeCycleManager = new MemoryBusinessLifeCycleManager(this);
+        this.queryManager = new MemoryBusinessQueryManager(this);
+    }
+
+    MemoryRegistry getRegistry() {
+        return connection.getRegistry();
+    }
+
+    MemoryBusinessLifeCycleManager getLifeCycleManager() {
+        return lifeCycleManager;
+    }
+
+    String getCaller() throws JAXRException {
+        return connection.getCaller();
+    }
+
+    void checkOpen() throws JAXRException {
+        if (connection.isClosed()) {
+            throw new InvalidRequestException("Connection is closed");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    BulkResponse respond(MemoryBulkResponse response) throws JAXRException {
+        if (!connection.isSynchronous()) {
+            responses.put(response.getRequestId(), response);
+        }
+        return response;
+    }
+
+    public CapabilityProfile getCapabilityProfile() throws JAXRException {
+        return MemoryCapabilityProfile.INSTANCE;
+    }
+
+    public BusinessLifeCycleManager getBusinessLifeCycleManager() throws JAXRException {
+        return lifeCycleManager;
+    }
+
+    public BusinessQueryManager getBusinessQueryManager() throws JAXRException {
+        return queryManager;
+    }
+
+    public DeclarativeQueryManager getDeclarativeQueryManager() throws JAXRException, UnsupportedCapabilityException {
+        throw new UnsupportedCapabilityException("DeclarativeQueryManager is not supported");
+    }
+
+    public BulkResponse getBulkResponse(String requestId) throws InvalidRequestException, JAXRException {
+        BulkResponse response = (BulkResponse) responses.remove(requestId);
+        if (response == null) {
+            throw new InvalidRequestException("No pending response for request " + requestId);
+        }
+        return response;
+    }
+
+    /**
+     * Gets the ClassificationScheme whose id is given by the
+     * <code>javax.xml.registry.postalAddressScheme</code> connection property.
+     */
+    public ClassificationScheme getDefaultPostalScheme() throws JAXRException {
+        String id = connection.getProperty(MemoryConnectionFactory.POSTAL_ADDRESS_SCHEME);
+        return id == null ? null
+        : (ClassificationScheme) queryManager.getRegistryObject(id, LifeCycleManager.CLASSIFICATION_SCHEME);
+    }
+
+    public String makeRegistrySpecificRequest(String request) throws JAXRException {
+        throw new InvalidRequestException("Registry specific requests are not supported");
+    }
+}
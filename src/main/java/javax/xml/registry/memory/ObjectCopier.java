@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.memory;
+
+import java.util.*;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * Copies RegistryObjects between callers and the MemoryRegistry, so that
+ * saved objects are never shared with a caller.
+ * <p>
+ * When an object is saved, it is copied together with the objects it
+ * composes, and the copies are kept by the registry and never modified.
+ * A reference to another object becomes a reference to the saved copy of
+ * that object. If that object has not been saved, it is given a Key and a
+ * private copy of it is referenced instead, which queries replace by the
+ * object once it is saved.
+ * <p>
+ * Queries return copies made by a session, one per response. The values
+ * of a copy are copied at once, but its references are only resolved on
+ * first use, to copies of the latest saved version of the referenced
+ * objects made by the same session. Each object is therefore copied once
+ * per response, and only as far as the caller navigates.
+ */
+final class ObjectCopier {
+
+    private final MemoryBusinessLifeCycleManager lifeCycleManager;
+    private final MemoryRegistry registry;
+    private final boolean saving;
+    private final Map copies = new IdentityHashMap();
+
+    private ObjectCopier(MemoryBusinessLifeCycleManager lifeCycleManager, boolean saving) {
+        this.lifeCycleManager = lifeCycleManager;
+        this.registry = lifeCycleManager.getRegistry();
+        this.saving = saving;
+    }
+
+    /**
+     * Creates a copier for the objects saved by a LifeCycleManager.
+     */
+    static ObjectCopier forSave(MemoryBusinessLifeCycleManager lifeCycleManager) {
+        return new ObjectCopier(lifeCycleManager, true);
+    }
+
+    /**
+     * Creates a session for the copies returned to the Connection of a
+     * LifeCycleManager.
+     */
+    static ObjectCopier forQuery(MemoryBusinessLifeCycleManager lifeCycleManager) {
+        return new ObjectCopier(lifeCycleManager, false);
+    }
+
+    /**
+     * Makes the saved copies of objects, which must include the objects
+     * they compose.
+     *
+     * @param objects List of RegistryObjectImpls
+     * @return List of the saved copies, in the same order
+     */
+    @SuppressWarnings("unchecked")
+    List save(List objects) throws JAXRException {
+        List saved = new ArrayList(objects.size());
+        // all copies exist before any is filled in, for references within the objects
+        for (int i = 0; i < objects.size(); i++) {
+            RegistryObjectImpl object = (RegistryObjectImpl) objects.get(i);
+            object.resolve();
+            RegistryObjectImpl copy = object.newInstance(lifeCycleManager);
+            copy.setSaved();
+            copies.put(object, copy);
+            saved.add(copy);
+        }
+        for (int i = 0; i < objects.size(); i++) {
+            RegistryObjectImpl object = (RegistryObjectImpl) objects.get(i);
+            object.copyValues((RegistryObjectImpl) saved.get(i));
+        }
+        for (int i = 0; i < objects.size(); i++) {
+            RegistryObjectImpl object = (RegistryObjectImpl) objects.get(i);
+            object.copyReferences((RegistryObjectImpl) saved.get(i), this);
+        }
+        return saved;
+    }
+
+    /**
+     * Copies a saved object for the caller.
+     */
+    RegistryObject copy(StoredObject stored) throws JAXRException {
+        return copy(stored.object, stored);
+    }
+
+    /**
+     * Maps an object referenced by an object being copied.
+     *
+     * @param o the referenced object, which may be <code>null</code>
+     * @return the object to reference from the copy
+     */
+    @SuppressWarnings("unchecked")
+    Object map(Object o) throws JAXRException {
+        Object copy = copies.get(o);
+        if (copy != null || o == null) {
+            return copy;
+        }
+        if (o instanceof PostalAddress) {
+            copy = PostalAddressImpl.copy((PostalAddress) o, this);
+            copies.put(o, copy);
+            return copy;
+        }
+        if (!(o instanceof RegistryObjectImpl)) {
+            return o;
+        }
+        RegistryObjectImpl object = (RegistryObjectImpl) o;
+        StoredObject stored = current(object);
+        if (!saving) {
+            return object.isSaved() ? copy(stored == null ? object : stored.object, stored) : object;
+        }
+        if (stored != null) {
+            return stored.object;
+        }
+        if (object.isSaved()) {
+            return object;
+        }
+        List unsaved = new ArrayList();
+        collect(object, unsaved, new IdentityHashMap());
+        for (int i = 0; i < unsaved.size(); i++) {
+            RegistryObjectImpl u = (RegistryObjectImpl) unsaved.get(i);
+            if (u.getKey() == null || u.getKey().getId() == null) {
+                u.setKey(lifeCycleManager.createKey("urn:uuid:" + UUID.randomUUID()));
+            }
+        }
+        save(unsaved);
+        return copies.get(object);
+    }
+
+    /**
+     * Maps each object of a Collection, adding the results to another.
+     */
+    @SuppressWarnings("unchecked")
+    void mapAll(Collection from, Collection to) throws JAXRException {
+        for (Iterator i = from.iterator(); i.hasNext();) {
+            to.add(map(i.next()));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private RegistryObject copy(RegistryObjectImpl saved, StoredObject stored) throws JAXRException {
+        RegistryObjectImpl copy = (RegistryObjectImpl) copies.get(saved);
+        if (copy == null) {
+            copy = saved.newInstance(lifeCycleManager);
+            copies.put(saved, copy);
+            saved.copyValues(copy);
+            if (stored != null) {
+                stored.copyStateTo(copy);
+            }
+            copy.setSource(saved, this);
+        }
+        return copy;
+    }
+
+    /**
+     * Gets the record of the latest saved version of an object.
+     *
+     * @return the record, or <code>null</code> if no object of the same type is saved with its id
+     */
+    private StoredObject current(RegistryObjectImpl object) throws JAXRException {
+        StoredObject stored = registry.get(StoredObject.idOf(object));
+        return stored != null && stored.type.equals(object.getObjectTypeName()) ? stored : null;
+    }
+
+    /**
+     * Collects an object and the objects it composes that have not been copied.
+     */
+    @SuppressWarnings("unchecked")
+    private void collect(RegistryObjectImpl object, List objects, Map seen) throws JAXRException {
+        if (copies.containsKey(object) || seen.put(object, object) != null) {
+            return;
+        }
+        objects.add(object);
+        List composed = new ArrayList();
+        object.getComposedObjects(composed);
+        for (int i = 0; i < composed.size(); i++) {
+            if (composed.get(i) instanceof RegistryObjectImpl) {
+                collect((RegistryObjectImpl) composed.get(i), objects, seen);
+            }
+        }
+    }
+}
@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.memory;
+
+import java.util.*;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * Organization implementation. Its Services and Users are composed
+ * objects; child Organizations are saved separately.
+ * <p>
+ * The hierarchy is kept as a closure table: every Organization holds the
+ * set of all its descendants and its root, updated by addChildOrganization
+ * and removeChildOrganization for the moved Organization, its descendants
+ * and its ancestors. Listing the descendants and finding the root therefore
+ * do not walk the tree. Descendants are listed in the order they joined
+ * the hierarchy below the Organization.
+ */
+final class OrganizationImpl extends RegistryObjectImpl implements Organization {
+
+    private PostalAddress postalAddress;
+    private User primaryContact;
+    private final List users = new ArrayList(0);
+    private Collection telephoneNumbers = new ArrayList(0);
+    private final List services = new ArrayList(0);
+    private final List children = new ArrayList(0);
+    private OrganizationImpl parent;
+    private OrganizationImpl root = this;
+    private Set descendants;
+
+    OrganizationImpl(MemoryBusinessLifeCycleManager lifeCycleManager) {
+        super(lifeCycleManager);
+    }
+
+    String getObjectTypeName() {
+        return LifeCycleManager.ORGANIZATION;
+    }
+
+    public PostalAddress getPostalAddress() throws JAXRException {
+        resolve();
+        return postalAddress;
+    }
+
+    public void setPostalAddress(PostalAddress address) throws JAXRException {
+        resolve();
+        this.postalAddress = address;
+    }
+
+    public User getPrimaryContact() throws JAXRException {
+        resolve();
+        if (primaryContact == null && !users.isEmpty()) {
+            return (User) users.get(0);
+        }
+        return primaryContact;
+    }
+
+    public void setPrimaryContact(User primaryContact) throws JAXRException {
+        resolve();
+        this.primaryContact = primaryContact;
+        if (primaryContact != null) {
+            addUser(primaryContact);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public void addUser(User user) throws JAXRException {
+        resolve();
+        ((UserImpl) user).setOrganization(this);
+        if (!users.contains(user)) {
+            users.add(user);
+        }
+    }
+
+    public void addUsers(Collection users) throws JAXRException {
+        for (Iterator i = users.iterator(); i.hasNext();) {
+            addUser((User) i.next());
+        }
+    }
+
+    public void removeUser(User user) throws JAXRException {
+        resolve();
+        if (users.remove(user)) {
+            ((UserImpl) user).setOrganization(null);
+            if (user == primaryContact) {
+                primaryContact = null;
+            }
+        }
+    }
+
+    public void removeUsers(Collection users) throws JAXRException {
+        for (Iterator i = users.iterator(); i.hasNext();) {
+            removeUser((User) i.next());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public Collection getUsers() throws JAXRException {
+        resolve();
+        return new ArrayList(users);
+    }
+
+    public Collection getTelephoneNumbers(String phoneType) throws JAXRException {
+        return TelephoneNumberImpl.ofType(telephoneNumbers, phoneType);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void setTelephoneNumbers(Collection phoneNumbers) throws JAXRException {
+        this.telephoneNumbers = phoneNumbers == null ? new ArrayList(0) : new ArrayList(phoneNumbers);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void addService(Service service) throws JAXRException {
+        resolve();
+        service.setProvidingOrganization(this);
+        if (!services.contains(service)) {
+            services.add(service);
+        }
+    }
+
+    public void addServices(Collection services) throws JAXRException {
+        for (Iterator i = services.iterator(); i.hasNext();) {
+            addService((Service) i.next());
+        }
+    }
+
+    public void removeService(Service service) throws JAXRException {
+        resolve();
+        if (services.remove(service)) {
+            service.setProvidingOrganization(null);
+        }
+    }
+
+    public void removeServices(Collection services) throws JAXRException {
+        for (Iterator i = services.iterator(); i.hasNext();) {
+            removeService((Service) i.next());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public Collection getServices() throws JAXRException {
+        resolve();
+        return new ArrayList(services);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void addChildOrganization(Organization organization) throws JAXRException {
+        resolve();
+        OrganizationImpl child = (OrganizationImpl) organization;
+        child.resolve();
+        if (child.parent == this) {
+            return;
+        }
+        if (child == this || child.descendants != null && child.descendants.contains(this)) {
+            throw new InvalidRequestException("An Organization cannot be a child of its own descendant");
+        }
+        if (child.parent != null) {
+            child.parent.removeChildOrganization(child);
+        }
+        child.parent = this;
+        children.add(child);
+        List subtree = child.getSubtree();
+        for (OrganizationImpl ancestor = this; ancestor != null; ancestor = ancestor.parent) {
+            ancestor.resolve();
+            if (ancestor.descendants == null) {
+                ancestor.descendants = new LinkedHashSet();
+            }
+            ancestor.descendants.addAll(subtree);
+        }
+        setRoot(subtree, root);
+    }
+
+    public void addChildOrganizations(Collection organizations) throws JAXRException {
+        for (Iterator i = organizations.iterator(); i.hasNext();) {
+            addChildOrganization((Organization) i.next());
+        }
+    }
+
+    public void removeChildOrganization(Organization organization) throws JAXRException {
+        resolve();
+        if (children.remove(organization)) {
+            OrganizationImpl child = (OrganizationImpl) organization;
+            child.resolve();
+            child.parent = null;
+            List subtree = child.getSubtree();
+            for (OrganizationImpl ancestor = this; ancestor != null; ancestor = ancestor.parent) {
+                ancestor.resolve();
+                for (int i = 0; i < subtree.size(); i++) {
+                    ancestor.descendants.remove(subtree.get(i));
+                }
+                if (ancestor.descendants.isEmpty()) {
+                    ancestor.descendants = null;
+                }
+            }
+            setRoot(subtree, child);
+        }
+    }
+
+    public void removeChildOrganizations(Collection organizations) throws JAXRException {
+        for (Iterator i = organizations.iterator(); i.hasNext();) {
+            removeChildOrganization((Organization) i.next());
+        }
+    }
+
+    public int getChildOrganizationCount() throws JAXRException {
+        resolve();
+        return children.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    public Collection getChildOrganizations() throws JAXRException {
+        resolve();
+        return new ArrayList(children);
+    }
+
+    @SuppressWarnings("unchecked")
+    public Collection getDescendantOrganizations() throws JAXRException {
+        resolve();
+        return descendants == null ? new ArrayList() : new ArrayList(descendants);
+    }
+
+    public Organization getParentOrganization() throws JAXRException {
+        resolve();
+        return parent;
+    }
+
+    public Organization getRootOrganization() throws JAXRException {
+        resolve();
+        return root;
+    }
+
+    /**
+     * Gets this Organization followed by its descendants.
+     */
+    @SuppressWarnings("unchecked")
+    private List getSubtree() throws JAXRException {
+        resolve();
+        List subtree = new ArrayList(descendants == null ? 1 : descendants.size() + 1);
+        subtree.add(this);
+        if (descendants != null) {
+            subtree.addAll(descendants);
+        }
+        return subtree;
+    }
+
+    private static void setRoot(List subtree, OrganizationImpl root) throws JAXRException {
+        for (int i = 0; i < subtree.size(); i++) {
+            OrganizationImpl organization = (OrganizationImpl) subtree.get(i);
+            organization.resolve();
+            organization.root = root;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    void getComposedObjects(Collection objects) throws JAXRException {
+        resolve();
+        super.getComposedObjects(objects);
+        objects.addAll(users);
+        objects.addAll(services);
+    }
+
+    void copyValues(RegistryObjectImpl copy) throws JAXRException {
+        super.copyValues(copy);
+        OrganizationImpl c = (OrganizationImpl) copy;
+        c.telephoneNumbers = TelephoneNumberImpl.copyAll(telephoneNumbers);
+    }
+
+    void copyReferences(RegistryObjectImpl copy, ObjectCopier copier) throws JAXRException {
+        super.copyReferences(copy, copier);
+        OrganizationImpl c = (OrganizationImpl) copy;
+        c.postalAddress = (PostalAddress) copier.map(postalAddress);
+        c.primaryContact = (User) copier.map(primaryContact);
+        copier.mapAll(users, c.users);
+        copier.mapAll(services, c.services);
+        copier.mapAll(children, c.children);
+        c.parent = (OrganizationImpl) copier.map(parent);
+        c.root = (OrganizationImpl) copier.map(root);
+        if (descendants != null) {
+            c.descendants = new LinkedHashSet();
+            copier.mapAll(descendants, c.descendants);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.memory;
+
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * PersonName implementation. If no full name is set, it is composed from
+ * the first, middle and last names.
+ */
+final class PersonNameImpl implements PersonName {
+
+    private String firstName;
+    private String middleName;
+    private String lastName;
+    private String fullName;
+
+    public String getLastName() throws JAXRException {
+        return lastName;
+    }
+
+    public void setLastName(String lastName) throws JAXRException {
+        this.lastName = lastName;
+    }
+
+    public String getFirstName() throws JAXRException {
+        return firstName;
+    }
+
+    public void setFirstName(String firstName) throws JAXRException {
+        this.firstName = firstName;
+    }
+
+    public String getMiddleName() throws JAXRException {
+        return middleName;
+    }
+
+    public void setMiddleName(String middleName) throws JAXRException {
+        this.middleName = middleName;
+    }
+
+    public String getFullName() throws JAXRException {
+        if (fullName != null) {
+            return fullName;
+        }
+        StringBuilder name = new StringBuilder();
+        append(name, firstName);
+        append(name, middleName);
+        append(name, lastName);
+        return name.length() == 0 ? null : name.toString();
+    }
+
+    public void setFullName(String fullName) throws JAXRException {
+        this.fullName = fullName;
+    }
+
+    /**
+     * Copies a PersonName of any provider.
+     *
+     * @return the copy, or <code>null</code> if the name is <code>null</code>
+     */
+    static PersonNameImpl copyOf(PersonName name) throws JAXRException {
+        if (name == null) {
+            return null;
+        }
+        PersonNameImpl copy = new PersonNameImpl();
+        copy.firstName = name.getFirstName();
+        copy.middleName = name.getMiddleName();
+        copy.lastName = name.getLastName();
+        copy.fullName = name instanceof PersonNameImpl ? ((PersonNameImpl) name).fullName : name.getFullName();
+        return copy;
+    }
+
+    private static void append(StringBuilder name, String part) {
+        if (part != null && part.length() > 0) {
+            if (name.length() > 0) {
+                name.append(' ');
+            }
+            name.append(part);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.memory;
+
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * PostalAddress implementation. A PostalAddress is a value of the object
+ * that has it, and is copied with it.
+ */
+final class PostalAddressImpl extends ExtensibleObjectImpl implements PostalAddress {
+
+    private String street;
+    private String streetNumber;
+    private String city;
+    private String stateOrProvince;
+    private String postalCode;
+    private String country;
+    private String type;
+    private ClassificationScheme postalScheme;
+
+    public String getStreet() throws JAXRException {
+        return street;
+    }
+
+    public void setStreet(String street) throws JAXRException {
+        this.street = street;
+    }
+
+    public String getStreetNumber() throws JAXRException {
+        return streetNumber;
+    }
+
+    public void setStreetNumber(String streetNumber) throws JAXRException {
+        this.streetNumber = streetNumber;
+    }
+
+    public String getCity() throws JAXRException {
+        return city;
+    }
+
+    public void setCity(String city) throws JAXRException {
+        this.city = city;
+    }
+
+    public String getStateOrProvince() throws JAXRException {
+        return stateOrProvince;
+    }
+
+    public void setStateOrProvince(String stateOrProvince) throws JAXRException {
+        this.stateOrProvince = stateOrProvince;
+    }
+
+    public String getPostalCode() throws JAXRException {
+        return postalCode;
+    }
+
+    public void setPostalCode(String postalCode) throws JAXRException {
+        this.postalCode = postalCode;
+    }
+
+    public String getCountry() throws JAXRException {
+        return country;
+    }
+
+    public void setCountry(String country) throws JAXRException {
+        this.country = country;
+    }
+
+    public String getType() throws JAXRException {
+        return type;
+    }
+
+    public void setType(String type) throws JAXRException {
+        this.type = type;
+    }
+
+    public void setPostalScheme(ClassificationScheme scheme) throws JAXRException {
+        this.postalScheme = scheme;
+    }
+
+    public ClassificationScheme getPostalScheme() throws JAXRException {
+        return postalScheme;
+    }
+
+    /**
+     * Copies a PostalAddress of any provider, mapping its postal scheme
+     * with the given ObjectCopier.
+     */
+    static PostalAddressImpl copy(PostalAddress address, ObjectCopier copier) throws JAXRException {
+        PostalAddressImpl copy = new PostalAddressImpl();
+        copy.street = address.getStreet();
+        copy.streetNumber = address.getStreetNumber();
+        copy.city = address.getCity();
+        copy.stateOrProvince = address.getStateOrProvince();
+        copy.postalCode = address.getPostalCode();
+        copy.country = address.getCountry();
+        copy.type = address.getType();
+        copy.postalScheme = (ClassificationScheme) copier.map(address.getPostalScheme());
+        if (address instanceof ExtensibleObjectImpl) {
+            ((ExtensibleObjectImpl) address).copySlotsTo(copy);
+        } else {
+            copy.addSlots(address.getSlots());
+        }
+        return copy;
+    }
+}
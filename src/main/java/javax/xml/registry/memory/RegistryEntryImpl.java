@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.memory;
+
+import java.util.Date;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * Base class of all RegistryEntries.
+ */
+abstract class RegistryEntryImpl extends RegistryObjectImpl implements RegistryEntry {
+
+    private int status = STATUS_SUBMITTED;
+    private int stability = STABILITY_DYNAMIC;
+    private Date expiration;
+    private int majorVersion = 1;
+    private int minorVersion;
+    private String userVersion;
+
+    RegistryEntryImpl(MemoryBusinessLifeCycleManager lifeCycleManager) {
+        super(lifeCycleManager);
+    }
+
+    public int getStatus() throws JAXRException {
+        return status;
+    }
+
+    void setStatus(int status) {
+        this.status = status;
+    }
+
+    public int getStability() throws JAXRException {
+        return stability;
+    }
+
+    public void setStability(int stability) throws JAXRException {
+        this.stability = stability;
+    }
+
+    public Date getExpiration() throws JAXRException {
+        return expiration;
+    }
+
+    public void setExpiration(Date expiration) throws JAXRException {
+        this.expiration = expiration;
+    }
+
+    public int getMajorVersion() throws JAXRException {
+        return majorVersion;
+    }
+
+    public void setMajorVersion(int majorVersion) throws JAXRException {
+        this.majorVersion = majorVersion;
+    }
+
+    public int getMinorVersion() throws JAXRException {
+        return minorVersion;
+    }
+
+    public void setMinorVersion(int minorVersion) throws JAXRException {
+        this.minorVersion = minorVersion;
+    }
+
+    public String getUserVersion() throws JAXRException {
+        return userVersion;
+    }
+
+    public void setUserVersion(String userVersion) throws JAXRException {
+        this.userVersion = userVersion;
+    }
+
+    void copyValues(RegistryObjectImpl copy) throws JAXRException {
+        super.copyValues(copy);
+        RegistryEntryImpl c = (RegistryEntryImpl) copy;
+        c.status = status;
+        c.stability = stability;
+        c.expiration = expiration == null ? null : new Date(expiration.getTime());
+        c.majorVersion = majorVersion;
+        c.minorVersion = minorVersion;
+        c.userVersion = userVersion;
+    }
+}
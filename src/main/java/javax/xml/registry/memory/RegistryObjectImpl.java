@@ -0,0 +1,385 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.memory;
+
+import java.util.*;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+import javax.xml.registry.xml.RegistryObjectWriter;
+
+/**
+ * Base class of all RegistryObjects.
+ * <p>
+ * Like all objects of this provider, RegistryObjects are not thread safe.
+ * The MemoryRegistry keeps a private copy of each saved object, which is
+ * never modified, and queries return copies of it; see ObjectCopier. The
+ * references of a copy returned by a query are resolved on first use, so
+ * every method that reads or writes a reference to another RegistryObject
+ * calls resolve first.
+ */
+abstract class RegistryObjectImpl extends ExtensibleObjectImpl implements RegistryObject {
+
+    final MemoryBusinessLifeCycleManager lifeCycleManager;
+    private Key key;
+    private InternationalString name;
+    private InternationalString description;
+    private final List classifications = new ArrayList(0);
+    private final List associations = new ArrayList(0);
+    private final List externalIdentifiers = new ArrayList(0);
+    private final List externalLinks = new ArrayList(0);
+    private final Set registryPackages = new LinkedHashSet(0);
+    private boolean saved;
+    private RegistryObjectImpl source;
+    private ObjectCopier copier;
+
+    RegistryObjectImpl(MemoryBusinessLifeCycleManager lifeCycleManager) {
+        this.lifeCycleManager = lifeCycleManager;
+    }
+
+    /**
+     * Determines whether this is the copy kept by the MemoryRegistry.
+     */
+    final boolean isSaved() {
+        return saved;
+    }
+
+    final void setSaved() {
+        saved = true;
+    }
+
+    /**
+     * Makes this object a copy of a saved object whose references are
+     * resolved with the given ObjectCopier on first use.
+     */
+    final void setSource(RegistryObjectImpl source, ObjectCopier copier) {
+        this.source = source;
+        this.copier = copier;
+    }
+
+    /**
+     * Resolves the references of a copy returned by a query, if that has
+     * not been done yet.
+     */
+    final void resolve() throws JAXRException {
+        if (source != null) {
+            RegistryObjectImpl s = source;
+            source = null;
+            s.copyReferences(this, copier);
+            copier = null;
+        }
+    }
+
+    /**
+     * Creates an empty object of the same type.
+     */
+    RegistryObjectImpl newInstance(MemoryBusinessLifeCycleManager lifeCycleManager) throws JAXRException {
+        return (RegistryObjectImpl) lifeCycleManager.createObject(getObjectTypeName());
+    }
+
+    /**
+     * Copies the values of this object, which are not RegistryObjects, to a
+     * new object of the same type.
+     */
+    void copyValues(RegistryObjectImpl copy) throws JAXRException {
+        copySlotsTo(copy);
+        copy.key = key == null ? null : new KeyImpl(key.getId());
+        copy.name = InternationalStringImpl.copyOf(name);
+        copy.description = InternationalStringImpl.copyOf(description);
+    }
+
+    /**
+     * Copies the references of this object to other RegistryObjects to a
+     * copy, mapping each with the given ObjectCopier.
+     */
+    void copyReferences(RegistryObjectImpl copy, ObjectCopier copier) throws JAXRException {
+        copier.mapAll(classifications, copy.classifications);
+        copier.mapAll(associations, copy.associations);
+        copier.mapAll(externalIdentifiers, copy.externalIdentifiers);
+        copier.mapAll(externalLinks, copy.externalLinks);
+        copier.mapAll(registryPackages, copy.registryPackages);
+    }
+
+    /**
+     * Gets the LifeCycleManager constant naming the type of this object.
+     */
+    abstract String getObjectTypeName();
+
+    public Key getKey() throws JAXRException {
+        return key;
+    }
+
+    public void setKey(Key key) throws JAXRException {
+        this.key = key;
+    }
+
+    public InternationalString getName() throws JAXRException {
+        if (name == null) {
+            name = new InternationalStringImpl();
+        }
+        return name;
+    }
+
+    public void setName(InternationalString name) throws JAXRException {
+        this.name = name;
+    }
+
+    public InternationalString getDescription() throws JAXRException {
+        if (description == null) {
+            description = new InternationalStringImpl();
+        }
+        return description;
+    }
+
+    public void setDescription(InternationalString description) throws JAXRException {
+        this.description = description;
+    }
+
+    public String toXML() throws JAXRException {
+        return RegistryObjectWriter.toXML(this);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void addClassification(Classification classification) throws JAXRException {
+        resolve();
+        lifeCycleManager.checkReference(classification.getConcept());
+        classification.setClassifiedObject(this);
+        if (!classifications.contains(classification)) {
+            classifications.add(classification);
+        }
+    }
+
+    public void addClassifications(Collection classifications) throws JAXRException {
+        for (Iterator i = classifications.iterator(); i.hasNext();) {
+            addClassification((Classification) i.next());
+        }
+    }
+
+    public void removeClassification(Classification classification) throws JAXRException {
+        resolve();
+        classifications.remove(classification);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void removeClassifications(Collection classifications) throws JAXRException {
+        resolve();
+        this.classifications.removeAll(classifications);
+    }
+
+    public void setClassifications(Collection classifications) throws JAXRException {
+        resolve();
+        this.classifications.clear();
+        addClassifications(classifications);
+    }
+
+    @SuppressWarnings("unchecked")
+    public Collection getClassifications() throws JAXRException {
+        resolve();
+        return new ArrayList(classifications);
+    }
+
+    /**
+     * Gets copies of the AuditableEvents of this object.
+     */
+    public Collection getAuditTrail() throws JAXRException {
+        List events = new ArrayList();
+        if (key != null) {
+            ObjectCopier.forQuery(lifeCycleManager).mapAll(lifeCycleManager.getRegistry().getAuditTrail(key.getId()),
+            events);
+        }
+        return events;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void addAssociation(Association association) throws JAXRException {
+        resolve();
+        lifeCycleManager.checkReference(association.getTargetObject());
+        association.setSourceObject(this);
+        if (!associations.contains(association)) {
+            associations.add(association);
+        }
+    }
+
+    public void addAssociations(Collection associations) throws JAXRException {
+        for (Iterator i = associations.iterator(); i.hasNext();) {
+            addAssociation((Association) i.next());
+        }
+    }
+
+    public void removeAssociation(Association association) throws JAXRException {
+        resolve();
+        associations.remove(association);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void removeAssociations(Collection associations) throws JAXRException {
+        resolve();
+        this.associations.removeAll(associations);
+    }
+
+    public void setAssociations(Collection associations) throws JAXRException {
+        resolve();
+        this.associations.clear();
+        addAssociations(associations);
+    }
+
+    @SuppressWarnings("unchecked")
+    public Collection getAssociations() throws JAXRException {
+        resolve();
+        return new ArrayList(associations);
+    }
+
+    @SuppressWarnings("unchecked")
+    public Collection getAssociatedObjects() throws JAXRException {
+        resolve();
+        List objects = new ArrayList(associations.size());
+        for (Iterator i = associations.iterator(); i.hasNext();) {
+            RegistryObject target = ((Association) i.next()).getTargetObject();
+            if (target != null) {
+                objects.add(target);
+            }
+        }
+        return objects;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void addExternalIdentifier(ExternalIdentifier externalIdentifier) throws JAXRException {
+        resolve();
+        ((ExternalIdentifierImpl) externalIdentifier).setRegistryObject(this);
+        if (!externalIdentifiers.contains(externalIdentifier)) {
+            externalIdentifiers.add(externalIdentifier);
+        }
+    }
+
+    public void addExternalIdentifiers(Collection externalIdentifiers) throws JAXRException {
+        for (Iterator i = externalIdentifiers.iterator(); i.hasNext();) {
+            addExternalIdentifier((ExternalIdentifier) i.next());
+        }
+    }
+
+    public void removeExternalIdentifier(ExternalIdentifier externalIdentifier) throws JAXRException {
+        resolve();
+        externalIdentifiers.remove(externalIdentifier);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void removeExternalIdentifiers(Collection externalIdentifiers) throws JAXRException {
+        resolve();
+        this.externalIdentifiers.removeAll(externalIdentifiers);
+    }
+
+    public void setExternalIdentifiers(Collection externalIdentifiers) throws JAXRException {
+        resolve();
+        this.externalIdentifiers.clear();
+        addExternalIdentifiers(externalIdentifiers);
+    }
+
+    @SuppressWarnings("unchecked")
+    public Collection getExternalIdentifiers() throws JAXRException {
+        resolve();
+        return new ArrayList(externalIdentifiers);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void addExternalLink(ExternalLink externalLink) throws JAXRException {
+        resolve();
+        ((ExternalLinkImpl) externalLink).addLinkedObject(this);
+        if (!externalLinks.contains(externalLink)) {
+            externalLinks.add(externalLink);
+        }
+    }
+
+    public void addExternalLinks(Collection externalLinks) throws JAXRException {
+        for (Iterator i = externalLinks.iterator(); i.hasNext();) {
+            addExternalLink((ExternalLink) i.next());
+        }
+    }
+
+    public void removeExternalLink(ExternalLink externalLink) throws JAXRException {
+        resolve();
+        if (externalLinks.remove(externalLink)) {
+            ((ExternalLinkImpl) externalLink).removeLinkedObject(this);
+        }
+    }
+
+    public void removeExternalLinks(Collection externalLinks) throws JAXRException {
+        for (Iterator i = externalLinks.iterator(); i.hasNext();) {
+            removeExternalLink((ExternalLink) i.next());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public void setExternalLinks(Collection externalLinks) throws JAXRException {
+        resolve();
+        removeExternalLinks(new ArrayList(this.externalLinks));
+        addExternalLinks(externalLinks);
+    }
+
+    @SuppressWarnings("unchecked")
+    public Collection getExternalLinks() throws JAXRException {
+        resolve();
+        return new ArrayList(externalLinks);
+    }
+
+    /**
+     * Returns <code>null</code>: this provider does not define the canonical
+     * ObjectType ClassificationScheme.
+     */
+    public Concept getObjectType() throws JAXRException {
+        return null;
+    }
+
+    public Organization getSubmittingOrganization() throws JAXRException {
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public Collection getRegistryPackages() throws JAXRException {
+        resolve();
+        return new ArrayList(registryPackages);
+    }
+
+    @SuppressWarnings("unchecked")
+    void addRegistryPackage(RegistryPackage registryPackage) throws JAXRException {
+        resolve();
+        registryPackages.add(registryPackage);
+    }
+
+    void removeRegistryPackage(RegistryPackage registryPackage) throws JAXRException {
+        resolve();
+        registryPackages.remove(registryPackage);
+    }
+
+    public LifeCycleManager getLifeCycleManager() throws JAXRException {
+        return lifeCycleManager;
+    }
+
+    /**
+     * Adds the objects composed by this object, which are saved and deleted
+     * together with it, to the given Collection.
+     */
+    @SuppressWarnings("unchecked")
+    void getComposedObjects(Collection objects) throws JAXRException {
+        resolve();
+        objects.addAll(classifications);
+        objects.addAll(externalIdentifiers);
+        objects.addAll(associations);
+    }
+
+    public String toString() {
+        return getObjectTypeName() + "[" + key + ", " + name + "]";
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.memory;
+
+import java.util.*;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * RegistryPackage implementation. Its members are saved separately.
+ */
+final class RegistryPackageImpl extends RegistryEntryImpl implements RegistryPackage {
+
+    private final Set members = new LinkedHashSet();
+
+    RegistryPackageImpl(MemoryBusinessLifeCycleManager lifeCycleManager) {
+        super(lifeCycleManager);
+    }
+
+    String getObjectTypeName() {
+        return LifeCycleManager.REGISTRY_PACKAGE;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void addRegistryObject(RegistryObject registryObject) throws JAXRException {
+        resolve();
+        lifeCycleManager.checkReference(registryObject);
+        if (members.add(registryObject)) {
+            ((RegistryObjectImpl) registryObject).addRegistryPackage(this);
+        }
+    }
+
+    public void addRegistryObjects(Collection registryObjects) throws JAXRException {
+        for (Iterator i = registryObjects.iterator(); i.hasNext();) {
+            addRegistryObject((RegistryObject) i.next());
+        }
+    }
+
+    public void removeRegistryObject(RegistryObject registryObject) throws JAXRException {
+        resolve();
+        if (members.remove(registryObject)) {
+            ((RegistryObjectImpl) registryObject).removeRegistryPackage(this);
+        }
+    }
+
+    public void removeRegistryObjects(Collection registryObjects) throws JAXRException {
+        for (Iterator i = registryObjects.iterator(); i.hasNext();) {
+            removeRegistryObject((RegistryObject) i.next());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public Set getRegistryObjects() throws JAXRException {
+        resolve();
+        return new LinkedHashSet(members);
+    }
+
+    void copyReferences(RegistryObjectImpl copy, ObjectCopier copier) throws JAXRException {
+        super.copyReferences(copy, copier);
+        RegistryPackageImpl c = (RegistryPackageImpl) copy;
+        copier.mapAll(members, c.members);
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.memory;
+
+import java.util.*;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * ServiceBinding implementation. Its SpecificationLinks are composed objects.
+ * <p>
+ * Either an access URI or a target binding may be set, not both. If URI
+ * validation is enabled, the access URI must be a syntactically valid URI;
+ * the provider does not attempt to connect to it.
+ */
+final class ServiceBindingImpl extends RegistryObjectImpl implements ServiceBinding {
+
+    private String accessURI;
+    private ServiceBinding targetBinding;
+    private Service service;
+    private final List specificationLinks = new ArrayList(0);
+    private boolean validateURI = true;
+
+    ServiceBindingImpl(MemoryBusinessLifeCycleManager lifeCycleManager) {
+        super(lifeCycleManager);
+    }
+
+    String getObjectTypeName() {
+        return LifeCycleManager.SERVICE_BINDING;
+    }
+
+    public String getAccessURI() throws JAXRException {
+        return accessURI;
+    }
+
+    public void setAccessURI(String uri) throws JAXRException {
+        resolve();
+        if (uri != null && targetBinding != null) {
+            throw new InvalidRequestException("A ServiceBinding cannot have both an access URI and a target binding");
+        }
+        if (uri != null && validateURI) {
+            ExternalLinkImpl.validate(uri);
+        }
+        this.accessURI = uri;
+    }
+
+    public ServiceBinding getTargetBinding() throws JAXRException {
+        resolve();
+        return targetBinding;
+    }
+
+    public void setTargetBinding(ServiceBinding binding) throws JAXRException {
+        resolve();
+        if (binding != null && accessURI != null) {
+            throw new InvalidRequestException("A ServiceBinding cannot have both an access URI and a target binding");
+        }
+        lifeCycleManager.checkReference(binding);
+        this.targetBinding = binding;
+    }
+
+    public Service getService() throws JAXRException {
+        resolve();
+        return service;
+    }
+
+    void setService(Service service) throws JAXRException {
+        resolve();
+        this.service = service;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void addSpecificationLink(SpecificationLink specificationLink) throws JAXRException {
+        resolve();
+        ((SpecificationLinkImpl) specificationLink).setServiceBinding(this);
+        if (!specificationLinks.contains(specificationLink)) {
+            specificationLinks.add(specificationLink);
+        }
+    }
+
+    public void addSpecificationLinks(Collection specificationLinks) throws JAXRException {
+        for (Iterator i = specificationLinks.iterator(); i.hasNext();) {
+            addSpecificationLink((SpecificationLink) i.next());
+        }
+    }
+
+    public void removeSpecificationLink(SpecificationLink specificationLink) throws JAXRException {
+        resolve();
+        if (specificationLinks.remove(specificationLink)) {
+            ((SpecificationLinkImpl) specificationLink).setServiceBinding(null);
+        }
+    }
+
+    public void removeSpecificationLinks(Collection specificationLinks) throws JAXRException {
+        for (Iterator i = specificationLinks.iterator(); i.hasNext();) {
+            removeSpecificationLink((SpecificationLink) i.next());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public Collection getSpecificationLinks() throws JAXRException {
+        resolve();
+        return new ArrayList(specificationLinks);
+    }
+
+    public void setValidateURI(boolean validate) throws JAXRException {
+        this.validateURI = validate;
+    }
+
+    public boolean getValidateURI() throws JAXRException {
+        return validateURI;
+    }
+
+    @SuppressWarnings("unchecked")
+    void getComposedObjects(Collection objects) throws JAXRException {
+        resolve();
+        super.getComposedObjects(objects);
+        objects.addAll(specificationLinks);
+    }
+
+    void copyValues(RegistryObjectImpl copy) throws JAXRException {
+        super.copyValues(copy);
+        ServiceBindingImpl c = (ServiceBindingImpl) copy;
+        c.accessURI = accessURI;
+        c.validateURI = validateURI;
+    }
+
+    void copyReferences(RegistryObjectImpl copy, ObjectCopier copier) throws JAXRException {
+        super.copyReferences(copy, copier);
+        ServiceBindingImpl c = (ServiceBindingImpl) copy;
+        c.targetBinding = (ServiceBinding) copier.map(targetBinding);
+        c.service = (Service) copier.map(service);
+        copier.mapAll(specificationLinks, c.specificationLinks);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.memory;
+
+import java.util.*;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * Service implementation. Its ServiceBindings are composed objects.
+ */
+final class ServiceImpl extends RegistryEntryImpl implements Service {
+
+    private Organization providingOrganization;
+    private final List bindings = new ArrayList(0);
+
+    ServiceImpl(MemoryBusinessLifeCycleManager lifeCycleManager) {
+        super(lifeCycleManager);
+    }
+
+    String getObjectTypeName() {
+        return LifeCycleManager.SERVICE;
+    }
+
+    public Organization getProvidingOrganization() throws JAXRException {
+        resolve();
+        return providingOrganization;
+    }
+
+    public void setProvidingOrganization(Organization providingOrganization) throws JAXRException {
+        resolve();
+        this.providingOrganization = providingOrganization;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void addServiceBinding(ServiceBinding serviceBinding) throws JAXRException {
+        resolve();
+        ((ServiceBindingImpl) serviceBinding).setService(this);
+        if (!bindings.contains(serviceBinding)) {
+            bindings.add(serviceBinding);
+        }
+    }
+
+    public void addServiceBindings(Collection serviceBindings) throws JAXRException {
+        for (Iterator i = serviceBindings.iterator(); i.hasNext();) {
+            addServiceBinding((ServiceBinding) i.next());
+        }
+    }
+
+    public void removeServiceBinding(ServiceBinding serviceBinding) throws JAXRException {
+        resolve();
+        if (bindings.remove(serviceBinding)) {
+            ((ServiceBindingImpl) serviceBinding).setService(null);
+        }
+    }
+
+    public void removeServiceBindings(Collection serviceBindings) throws JAXRException {
+        for (Iterator i = serviceBindings.iterator(); i.hasNext();) {
+            removeServiceBinding((ServiceBinding) i.next());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public Collection getServiceBindings() throws JAXRException {
+        resolve();
+        return new ArrayList(bindings);
+    }
+
+    @SuppressWarnings("unchecked")
+    void getComposedObjects(Collection objects) throws JAXRException {
+        resolve();
+        super.getComposedObjects(objects);
+        objects.addAll(bindings);
+    }
+
+    void copyReferences(RegistryObjectImpl copy, ObjectCopier copier) throws JAXRException {
+        super.copyReferences(copy, copier);
+        ServiceImpl c = (ServiceImpl) copy;
+        c.providingOrganization = (Organization) copier.map(providingOrganization);
+        copier.mapAll(bindings, c.bindings);
+    }
+}
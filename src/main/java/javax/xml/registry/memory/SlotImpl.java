@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.memory;
+
+import java.util.*;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * Slot implementation.
+ */
+final class SlotImpl implements Slot {
+
+    private String name;
+    private String slotType;
+    private Collection values;
+
+    @SuppressWarnings("unchecked")
+    SlotImpl(String name, Collection values, String slotType) {
+        this.name = name;
+        this.values = values == null ? new ArrayList() : new ArrayList(values);
+        this.slotType = slotType;
+    }
+
+    public String getName() throws JAXRException {
+        return name;
+    }
+
+    public void setName(String name) throws JAXRException {
+        this.name = name;
+    }
+
+    public String getSlotType() throws JAXRException {
+        return slotType;
+    }
+
+    public void setSlotType(String slotType) throws JAXRException {
+        this.slotType = slotType;
+    }
+
+    @SuppressWarnings("unchecked")
+    public Collection getValues() throws JAXRException {
+        return new ArrayList(values);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void setValues(Collection values) throws JAXRException {
+        this.values = values == null ? new ArrayList() : new ArrayList(values);
+    }
+}
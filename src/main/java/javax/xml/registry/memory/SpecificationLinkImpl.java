@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.memory;
+
+import java.util.*;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * SpecificationLink implementation.
+ */
+final class SpecificationLinkImpl extends RegistryObjectImpl implements SpecificationLink {
+
+    private RegistryObject specificationObject;
+    private InternationalString usageDescription;
+    private Collection usageParameters = new ArrayList(0);
+    private ServiceBinding serviceBinding;
+
+    SpecificationLinkImpl(MemoryBusinessLifeCycleManager lifeCycleManager) {
+        super(lifeCycleManager);
+    }
+
+    String getObjectTypeName() {
+        return LifeCycleManager.SPECIFICATION_LINK;
+    }
+
+    public RegistryObject getSpecificationObject() throws JAXRException {
+        resolve();
+        return specificationObject;
+    }
+
+    public void setSpecificationObject(RegistryObject obj) throws JAXRException {
+        resolve();
+        lifeCycleManager.checkReference(obj);
+        this.specificationObject = obj;
+    }
+
+    public InternationalString getUsageDescription() throws JAXRException {
+        if (usageDescription == null) {
+            usageDescription = new InternationalStringImpl();
+        }
+        return usageDescription;
+    }
+
+    public void setUsageDescription(InternationalString usageDescription) throws JAXRException {
+        this.usageDescription = usageDescription;
+    }
+
+    @SuppressWarnings("unchecked")
+    public Collection getUsageParameters() throws JAXRException {
+        return new ArrayList(usageParameters);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void setUsageParameters(Collection usageParameters) throws JAXRException {
+        this.usageParameters = usageParameters == null ? new ArrayList(0) : new ArrayList(usageParameters);
+    }
+
+    public ServiceBinding getServiceBinding() throws JAXRException {
+        resolve();
+        return serviceBinding;
+    }
+
+    void setServiceBinding(ServiceBinding serviceBinding) throws JAXRException {
+        resolve();
+        this.serviceBinding = serviceBinding;
+    }
+
+    @SuppressWarnings("unchecked")
+    void copyValues(RegistryObjectImpl copy) throws JAXRException {
+        super.copyValues(copy);
+        SpecificationLinkImpl c = (SpecificationLinkImpl) copy;
+        c.usageDescription = InternationalStringImpl.copyOf(usageDescription);
+        c.usageParameters = new ArrayList(usageParameters);
+    }
+
+    void copyReferences(RegistryObjectImpl copy, ObjectCopier copier) throws JAXRException {
+        super.copyReferences(copy, copier);
+        SpecificationLinkImpl c = (SpecificationLinkImpl) copy;
+        c.specificationObject = (RegistryObject) copier.map(specificationObject);
+        c.serviceBinding = (ServiceBinding) copier.map(serviceBinding);
+    }
+}
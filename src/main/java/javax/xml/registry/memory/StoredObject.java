@@ -0,0 +1,310 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.memory;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.xml.registry.*;
+import javax.xml.registry.index.NameIndex;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * The saved copy of a RegistryObject together with its owner, timestamps
+ * and the index keys it was indexed under when it was saved, including its
+ * Slots. The saved copy is never modified, so the index keys always match
+ * it. StoredObjects are immutable apart from the deprecation flag, the
+ * confirmation of an Association and the audit trail, which are applied to
+ * the copies returned by queries, and are replaced as a whole when the
+ * object is saved again.
+ */
+final class StoredObject {
+
+    private static final String[] NONE = new String[0];
+    private static final Object[][] NO_SLOT_VALUES = new Object[0][];
+    private static final Map INTERFACES = new ConcurrentHashMap();
+
+    final RegistryObjectImpl object;
+    final String id;
+    final String type;
+    final String owner;
+    final long created;
+    final long modified;
+    final long sequence;
+    final String[] names;
+    final String[] classificationKeys;
+    final String[] externalIdentifierKeys;
+    final String path;
+    final String sourceId;
+    final String targetId;
+    final String associationType;
+    final String[] slotNames;
+    final String[] slotTypes;
+    final Object[][] slotValues;
+    final String[] composedIds;
+    final String parentId;
+    final List auditTrail;
+    final boolean extramural;
+    volatile boolean deprecated;
+    volatile boolean confirmedBySourceOwner;
+    volatile boolean confirmedByTargetOwner;
+
+    private StoredObject(RegistryObjectImpl object, long modified, long sequence, String[] composedIds,
+    String parentId) throws JAXRException {
+        this.object = object;
+        this.id = object.getKey().getId();
+        this.type = object.getObjectTypeName();
+        this.owner = null;
+        this.created = modified;
+        this.modified = modified;
+        this.sequence = sequence;
+        this.names = namesOf(object);
+        this.classificationKeys = classificationKeysOf(object);
+        this.externalIdentifierKeys = externalIdentifierKeysOf(object);
+        this.path = object instanceof Concept ? ((Concept) object).getPath() : null;
+        if (object instanceof Association) {
+            Association association = (Association) object;
+            this.sourceId = idOf(association.getSourceObject());
+            this.targetId = idOf(association.getTargetObject());
+            this.associationType = idOf(association.getAssociationType());
+            this.extramural = association.isExtramural();
+            this.confirmedBySourceOwner = association.isConfirmedBySourceOwner();
+            this.confirmedByTargetOwner = association.isConfirmedByTargetOwner();
+        } else {
+            this.extramural = false;
+            this.sourceId = null;
+            this.targetId = null;
+            this.associationType = null;
+        }
+        int slotCount = object.getSlotCount();
+        if (slotCount == 0) {
+            this.slotNames = NONE;
+            this.slotTypes = NONE;
+            this.slotValues = NO_SLOT_VALUES;
+        } else {
+            this.slotNames = new String[slotCount];
+            this.slotTypes = new String[slotCount];
+            this.slotValues = new Object[slotCount][];
+            for (int i = 0; i < slotCount; i++) {
+                slotNames[i] = object.getSlotName(i);
+                slotTypes[i] = object.getSlotType(i);
+                slotValues[i] = object.getSlotValues(i);
+            }
+        }
+        this.composedIds = composedIds;
+        this.parentId = parentId;
+        this.auditTrail = null;
+    }
+
+    private StoredObject(StoredObject prepared, String owner, long created, List auditTrail) {
+        this.object = prepared.object;
+        this.id = prepared.id;
+        this.type = prepared.type;
+        this.owner = owner;
+        this.created = created;
+        this.modified = prepared.modified;
+        this.sequence = prepared.sequence;
+        this.names = prepared.names;
+        this.classificationKeys = prepared.classificationKeys;
+        this.externalIdentifierKeys = prepared.externalIdentifierKeys;
+        this.path = prepared.path;
+        this.sourceId = prepared.sourceId;
+        this.targetId = prepared.targetId;
+        this.associationType = prepared.associationType;
+        this.extramural = prepared.extramural;
+        this.confirmedBySourceOwner = prepared.confirmedBySourceOwner;
+        this.confirmedByTargetOwner = prepared.confirmedByTargetOwner;
+        this.slotNames = prepared.slotNames;
+        this.slotTypes = prepared.slotTypes;
+        this.slotValues = prepared.slotValues;
+        this.composedIds = prepared.composedIds;
+        this.parentId = prepared.parentId;
+        this.auditTrail = auditTrail;
+    }
+
+    /**
+     * Prepares the record for a new version of an object, computing its
+     * index keys. The record is stored once it is completed.
+     *
+     * @param object the saved copy of the object
+     * @param composedIds the ids of the objects composed by the object
+     * @param parentId the id of the object composing the object, or <code>null</code>
+     */
+    static StoredObject create(RegistryObjectImpl object, long now, long sequence, String[] composedIds,
+    String parentId) throws JAXRException {
+        return new StoredObject(object, now, sequence, composedIds, parentId);
+    }
+
+    /**
+     * Completes a prepared record with the state kept from the previous
+     * version of the object.
+     *
+     * @param previous the record of the previous version, or <code>null</code>
+     * @param owner the owner of a new object
+     */
+    StoredObject complete(StoredObject previous, String owner) {
+        StoredObject stored = new StoredObject(this, previous == null ? owner : previous.owner,
+        previous == null ? created : previous.created,
+        previous == null ? new CopyOnWriteArrayList() : previous.auditTrail);
+        stored.deprecated = previous != null && previous.deprecated;
+        return stored;
+    }
+
+    /**
+     * Applies the state kept on the record to a copy of the saved object.
+     */
+    void copyStateTo(RegistryObjectImpl copy) throws JAXRException {
+        if (copy instanceof RegistryEntryImpl) {
+            RegistryEntryImpl entry = (RegistryEntryImpl) copy;
+            if (deprecated) {
+                entry.setStatus(RegistryEntry.STATUS_DEPRECATED);
+            } else if (entry.getStatus() == RegistryEntry.STATUS_DEPRECATED) {
+                entry.setStatus(RegistryEntry.STATUS_SUBMITTED);
+            }
+        }
+        if (copy instanceof AssociationImpl) {
+            ((AssociationImpl) copy).setConfirmation(extramural, confirmedBySourceOwner, confirmedByTargetOwner);
+        }
+    }
+
+    /**
+     * Gets the case folded values of all localizations of the object's name.
+     */
+    @SuppressWarnings("unchecked")
+    static String[] namesOf(RegistryObject object) throws JAXRException {
+        Collection localized = object.getName().getLocalizedStrings();
+        if (localized.isEmpty()) {
+            return NONE;
+        }
+        Set names = new LinkedHashSet(localized.size());
+        for (Iterator i = localized.iterator(); i.hasNext();) {
+            String value = ((LocalizedString) i.next()).getValue();
+            if (value != null) {
+                names.add(NameIndex.fold(value));
+            }
+        }
+        return (String[]) names.toArray(new String[names.size()]);
+    }
+
+    @SuppressWarnings("unchecked")
+    static String[] classificationKeysOf(RegistryObject object) throws JAXRException {
+        Collection classifications = object.getClassifications();
+        if (classifications.isEmpty()) {
+            return NONE;
+        }
+        Set keys = new LinkedHashSet();
+        for (Iterator i = classifications.iterator(); i.hasNext();) {
+            Classification classification = (Classification) i.next();
+            String conceptKey = conceptKey(classification);
+            if (conceptKey != null) {
+                keys.add(conceptKey);
+            }
+            String valueKey = valueKey(classification);
+            if (valueKey != null) {
+                keys.add(valueKey);
+            }
+        }
+        return (String[]) keys.toArray(new String[keys.size()]);
+    }
+
+    @SuppressWarnings("unchecked")
+    static String[] externalIdentifierKeysOf(RegistryObject object) throws JAXRException {
+        Collection identifiers = object.getExternalIdentifiers();
+        if (identifiers.isEmpty()) {
+            return NONE;
+        }
+        Set keys = new LinkedHashSet();
+        for (Iterator i = identifiers.iterator(); i.hasNext();) {
+            String key = externalIdentifierKey((ExternalIdentifier) i.next());
+            if (key != null) {
+                keys.add(key);
+            }
+        }
+        return (String[]) keys.toArray(new String[keys.size()]);
+    }
+
+    /**
+     * Gets the index key of the Concept of an internal Classification.
+     */
+    static String conceptKey(Classification classification) throws JAXRException {
+        String conceptId = idOf(classification.getConcept());
+        return conceptId == null ? null : "c:" + conceptId;
+    }
+
+    /**
+     * Gets the index key of the scheme and value of a Classification, which
+     * is the same for internal and external Classifications.
+     */
+    static String valueKey(Classification classification) throws JAXRException {
+        String schemeId = idOf(classification.getClassificationScheme());
+        String value = classification.getValue();
+        return schemeId == null || value == null ? null : "v:" + schemeId + '\u0000' + value;
+    }
+
+    static String externalIdentifierKey(ExternalIdentifier identifier) throws JAXRException {
+        String schemeId = idOf(identifier.getIdentificationScheme());
+        String value = identifier.getValue();
+        return schemeId == null || value == null ? null : schemeId + '\u0000' + value;
+    }
+
+    /**
+     * Determines whether the object is of the given type, a LifeCycleManager
+     * constant or the name of any other infomodel interface such as RegistryEntry.
+     */
+    boolean isA(String objectType) throws InvalidRequestException {
+        return objectType == null || objectType.equals(type) || interfaceOf(objectType).isInstance(object);
+    }
+
+    @SuppressWarnings("unchecked")
+    static Class interfaceOf(String objectType) throws InvalidRequestException {
+        Class c = (Class) INTERFACES.get(objectType);
+        if (c == null) {
+            try {
+                c = Class.forName("javax.xml.registry.infomodel." + objectType);
+            } catch (ClassNotFoundException e) {
+                throw new InvalidRequestException("Unknown object type: " + objectType);
+            }
+            if (!RegistryObject.class.isAssignableFrom(c)) {
+                throw new InvalidRequestException("Not a RegistryObject type: " + objectType);
+            }
+            INTERFACES.put(objectType, c);
+        }
+        return c;
+    }
+
+    /**
+     * Gets the index of a slot in the slots captured when the object was saved.
+     *
+     * @return the index, or -1 if the object had no such slot
+     */
+    int slotIndexOf(String slotName) {
+        for (int i = 0; i < slotNames.length; i++) {
+            if (slotName.equals(slotNames[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static String idOf(RegistryObject object) throws JAXRException {
+        if (object == null) {
+            return null;
+        }
+        Key key = object.getKey();
+        return key == null ? null : key.getId();
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.memory;
+
+import java.util.*;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * TelephoneNumber implementation.
+ */
+final class TelephoneNumberImpl implements TelephoneNumber {
+
+    private String countryCode;
+    private String areaCode;
+    private String number;
+    private String extension;
+    private String url;
+    private String type;
+
+    public String getCountryCode() throws JAXRException {
+        return countryCode;
+    }
+
+    public String getAreaCode() throws JAXRException {
+        return areaCode;
+    }
+
+    public String getNumber() throws JAXRException {
+        return number;
+    }
+
+    public String getExtension() throws JAXRException {
+        return extension;
+    }
+
+    public String getUrl() throws JAXRException {
+        return url;
+    }
+
+    public String getType() throws JAXRException {
+        return type;
+    }
+
+    public void setCountryCode(String countryCode) throws JAXRException {
+        this.countryCode = countryCode;
+    }
+
+    public void setAreaCode(String areaCode) throws JAXRException {
+        this.areaCode = areaCode;
+    }
+
+    public void setNumber(String number) throws JAXRException {
+        this.number = number;
+    }
+
+    public void setExtension(String extension) throws JAXRException {
+        this.extension = extension;
+    }
+
+    public void setUrl(String url) throws JAXRException {
+        this.url = url;
+    }
+
+    public void setType(String type) throws JAXRException {
+        this.type = type;
+    }
+
+    /**
+     * Copies TelephoneNumbers of any provider.
+     */
+    @SuppressWarnings("unchecked")
+    static List copyAll(Collection numbers) throws JAXRException {
+        List copies = new ArrayList(numbers.size());
+        for (Iterator i = numbers.iterator(); i.hasNext();) {
+            TelephoneNumber number = (TelephoneNumber) i.next();
+            TelephoneNumberImpl copy = new TelephoneNumberImpl();
+            copy.countryCode = number.getCountryCode();
+            copy.areaCode = number.getAreaCode();
+            copy.number = number.getNumber();
+            copy.extension = number.getExtension();
+            copy.url = number.getUrl();
+            copy.type = number.getType();
+            copies.add(copy);
+        }
+        return copies;
+    }
+
+    /**
+     * Selects the numbers of the given type, or all numbers if type is <code>null</code>.
+     */
+    @SuppressWarnings("unchecked")
+    static Collection ofType(Collection numbers, String type) throws JAXRException {
+        List result = new ArrayList();
+        for (Iterator i = numbers.iterator(); i.hasNext();) {
+            TelephoneNumber number = (TelephoneNumber) i.next();
+            if (type == null || type.equals(number.getType())) {
+                result.add(number);
+            }
+        }
+        return result;
+    }
+}
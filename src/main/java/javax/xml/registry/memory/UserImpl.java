@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.memory;
+
+import java.net.URL;
+import java.util.*;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * User implementation.
+ */
+final class UserImpl extends RegistryObjectImpl implements User {
+
+    private Organization organization;
+    private PersonName personName;
+    private Collection postalAddresses = new ArrayList(0);
+    private URL url;
+    private Collection telephoneNumbers = new ArrayList(0);
+    private Collection emailAddresses = new ArrayList(0);
+    private String type;
+
+    UserImpl(MemoryBusinessLifeCycleManager lifeCycleManager) {
+        super(lifeCycleManager);
+    }
+
+    String getObjectTypeName() {
+        return LifeCycleManager.USER;
+    }
+
+    public Organization getOrganization() throws JAXRException {
+        resolve();
+        return organization;
+    }
+
+    void setOrganization(Organization organization) throws JAXRException {
+        resolve();
+        this.organization = organization;
+    }
+
+    public PersonName getPersonName() throws JAXRException {
+        return personName;
+    }
+
+    public void setPersonName(PersonName personName) throws JAXRException {
+        this.personName = personName;
+    }
+
+    @SuppressWarnings("unchecked")
+    public Collection getPostalAddresses() throws JAXRException {
+        resolve();
+        return new ArrayList(postalAddresses);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void setPostalAddresses(Collection addresses) throws JAXRException {
+        resolve();
+        this.postalAddresses = addresses == null ? new ArrayList(0) : new ArrayList(addresses);
+    }
+
+    public URL getUrl() throws JAXRException {
+        return url;
+    }
+
+    public void setUrl(URL url) throws JAXRException {
+        this.url = url;
+    }
+
+    public Collection getTelephoneNumbers(String phoneType) throws JAXRException {
+        return TelephoneNumberImpl.ofType(telephoneNumbers, phoneType);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void setTelephoneNumbers(Collection phoneNumbers) throws JAXRException {
+        this.telephoneNumbers = phoneNumbers == null ? new ArrayList(0) : new ArrayList(phoneNumbers);
+    }
+
+    @SuppressWarnings("unchecked")
+    public Collection getEmailAddresses() throws JAXRException {
+        return new ArrayList(emailAddresses);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void setEmailAddresses(Collection emailAddresses) throws JAXRException {
+        this.emailAddresses = emailAddresses == null ? new ArrayList(0) : new ArrayList(emailAddresses);
+    }
+
+    public String getType() throws JAXRException {
+        return type;
+    }
+
+    public void setType(String type) throws JAXRException {
+        this.type = type;
+    }
+
+    void copyValues(RegistryObjectImpl copy) throws JAXRException {
+        super.copyValues(copy);
+        UserImpl c = (UserImpl) copy;
+        c.personName = PersonNameImpl.copyOf(personName);
+        c.url = url;
+        c.telephoneNumbers = TelephoneNumberImpl.copyAll(telephoneNumbers);
+        c.emailAddresses = EmailAddressImpl.copyAll(emailAddresses);
+        c.type = type;
+    }
+
+    @SuppressWarnings("unchecked")
+    void copyReferences(RegistryObjectImpl copy, ObjectCopier copier) throws JAXRException {
+        super.copyReferences(copy, copier);
+        UserImpl c = (UserImpl) copy;
+        c.organization = (Organization) copier.map(organization);
+        c.postalAddresses = new ArrayList(postalAddresses.size());
+        for (Iterator i = postalAddresses.iterator(); i.hasNext();) {
+            c.postalAddresses.add(copier.map(i.next()));
+        }
+    }
+}
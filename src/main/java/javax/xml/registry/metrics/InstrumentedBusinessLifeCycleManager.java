@@ -0,0 +1,411 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.metrics;
+
+import java.util.*;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * A BusinessLifeCycleManager that records every save, delete, deprecate and
+ * confirm call with a MetricsSink. The create methods only build objects
+ * locally and are not recorded.
+ *
+ * @see InstrumentedRegistryService
+ */
+class InstrumentedBusinessLifeCycleManager implements BusinessLifeCycleManager {
+
+    private final BusinessLifeCycleManager manager;
+    private final Recorder recorder;
+    private final RegistryService registryService;
+
+    InstrumentedBusinessLifeCycleManager(BusinessLifeCycleManager manager, Recorder recorder, RegistryService registryService) {
+        this.manager = manager;
+        this.recorder = recorder;
+        this.registryService = registryService;
+    }
+
+    public BulkResponse saveOrganizations(Collection organizations) throws JAXRException {
+        long start = System.nanoTime();
+        try {
+            return recorder.completed("saveOrganizations", start, manager.saveOrganizations(organizations));
+        } catch (Exception e) {
+            recorder.failed("saveOrganizations", start, e);
+            throw e;
+        }
+    }
+
+    public BulkResponse saveServices(Collection services) throws JAXRException {
+        long start = System.nanoTime();
+        try {
+            return recorder.completed("saveServices", start, manager.saveServices(services));
+        } catch (Exception e) {
+            recorder.failed("saveServices", start, e);
+            throw e;
+        }
+    }
+
+    public BulkResponse saveServiceBindings(Collection bindings) throws JAXRException {
+        long start = System.nanoTime();
+        try {
+            return recorder.completed("saveServiceBindings", start, manager.saveServiceBindings(bindings));
+        } catch (Exception e) {
+            recorder.failed("saveServiceBindings", start, e);
+            throw e;
+        }
+    }
+
+    public BulkResponse saveConcepts(Collection concepts) throws JAXRException {
+        long start = System.nanoTime();
+        try {
+            return recorder.completed("saveConcepts", start, manager.saveConcepts(concepts));
+        } catch (Exception e) {
+            recorder.failed("saveConcepts", start, e);
+            throw e;
+        }
+    }
+
+    public BulkResponse saveClassificationSchemes(Collection schemes) throws JAXRException {
+        long start = System.nanoTime();
+        try {
+            return recorder.completed("saveClassificationSchemes", start,
+            manager.saveClassificationSchemes(schemes));
+        } catch (Exception e) {
+            recorder.failed("saveClassificationSchemes", start, e);
+            throw e;
+        }
+    }
+
+    public BulkResponse saveAssociations(Collection associations, boolean replace) throws JAXRException {
+        long start = System.nanoTime();
+        try {
+            return recorder.completed("saveAssociations", start, manager.saveAssociations(associations,
+            replace));
+        } catch (Exception e) {
+            recorder.failed("saveAssociations", start, e);
+            throw e;
+        }
+    }
+
+    public BulkResponse deleteOrganizations(Collection organizationKeys) throws JAXRException {
+        long start = System.nanoTime();
+        try {
+            return recorder.completed("deleteOrganizations", start,
+            manager.deleteOrganizations(organizationKeys));
+        } catch (Exception e) {
+            recorder.failed("deleteOrganizations", start, e);
+            throw e;
+        }
+    }
+
+    public BulkResponse deleteServices(Collection serviceKeys) throws JAXRException {
+        long start = System.nanoTime();
+        try {
+            return recorder.completed("deleteServices", start, manager.deleteServices(serviceKeys));
+        } catch (Exception e) {
+            recorder.failed("deleteServices", start, e);
+            throw e;
+        }
+    }
+
+    public BulkResponse deleteServiceBindings(Collection bindingKeys) throws JAXRException {
+        long start = System.nanoTime();
+        try {
+            return recorder.completed("deleteServiceBindings", start,
+            manager.deleteServiceBindings(bindingKeys));
+        } catch (Exception e) {
+            recorder.failed("deleteServiceBindings", start, e);
+            throw e;
+        }
+    }
+
+    public BulkResponse deleteConcepts(Collection conceptKeys) throws JAXRException {
+        long start = System.nanoTime();
+        try {
+            return recorder.completed("deleteConcepts", start, manager.deleteConcepts(conceptKeys));
+        } catch (Exception e) {
+            recorder.failed("deleteConcepts", start, e);
+            throw e;
+        }
+    }
+
+    public BulkResponse deleteClassificationSchemes(Collection schemeKeys) throws JAXRException {
+        long start = System.nanoTime();
+        try {
+            return recorder.completed("deleteClassificationSchemes", start,
+            manager.deleteClassificationSchemes(schemeKeys));
+        } catch (Exception e) {
+            recorder.failed("deleteClassificationSchemes", start, e);
+            throw e;
+        }
+    }
+
+    public BulkResponse deleteAssociations(Collection associationKeys) throws JAXRException {
+        long start = System.nanoTime();
+        try {
+            return recorder.completed("deleteAssociations", start,
+            manager.deleteAssociations(associationKeys));
+        } catch (Exception e) {
+            recorder.failed("deleteAssociations", start, e);
+            throw e;
+        }
+    }
+
+    public void confirmAssociation(Association assoc) throws JAXRException, InvalidRequestException {
+        long start = System.nanoTime();
+        try {
+            manager.confirmAssociation(assoc);
+            recorder.completed("confirmAssociation", start);
+        } catch (Exception e) {
+            recorder.failed("confirmAssociation", start, e);
+            throw e;
+        }
+    }
+
+    public void unConfirmAssociation(Association assoc) throws JAXRException, InvalidRequestException {
+        long start = System.nanoTime();
+        try {
+            manager.unConfirmAssociation(assoc);
+            recorder.completed("unConfirmAssociation", start);
+        } catch (Exception e) {
+            recorder.failed("unConfirmAssociation", start, e);
+            throw e;
+        }
+    }
+
+    public Object createObject(String interfaceName) throws JAXRException, InvalidRequestException,
+    UnsupportedCapabilityException {
+        return manager.createObject(interfaceName);
+    }
+
+    public Association createAssociation(RegistryObject targetObject,
+    Concept associationType) throws JAXRException {
+        return manager.createAssociation(targetObject, associationType);
+    }
+
+    public Classification createClassification(ClassificationScheme scheme, String name,
+    String value) throws JAXRException {
+        return manager.createClassification(scheme, name, value);
+    }
+
+    public Classification createClassification(ClassificationScheme scheme, InternationalString name,
+    String value) throws JAXRException {
+        return manager.createClassification(scheme, name, value);
+    }
+
+    public Classification createClassification(Concept concept) throws JAXRException,
+    InvalidRequestException {
+        return manager.createClassification(concept);
+    }
+
+    public ClassificationScheme createClassificationScheme(String name,
+    String description) throws JAXRException, InvalidRequestException {
+        return manager.createClassificationScheme(name, description);
+    }
+
+    public ClassificationScheme createClassificationScheme(InternationalString name,
+    InternationalString description) throws JAXRException, InvalidRequestException {
+        return manager.createClassificationScheme(name, description);
+    }
+
+    public ClassificationScheme createClassificationScheme(Concept concept) throws JAXRException,
+    InvalidRequestException {
+        return manager.createClassificationScheme(concept);
+    }
+
+    public Concept createConcept(RegistryObject parent, String name, String value) throws JAXRException {
+        return manager.createConcept(parent, name, value);
+    }
+
+    public Concept createConcept(RegistryObject parent, InternationalString name,
+    String value) throws JAXRException {
+        return manager.createConcept(parent, name, value);
+    }
+
+    public EmailAddress createEmailAddress(String address) throws JAXRException {
+        return manager.createEmailAddress(address);
+    }
+
+    public EmailAddress createEmailAddress(String address, String type) throws JAXRException {
+        return manager.createEmailAddress(address, type);
+    }
+
+    public ExternalIdentifier createExternalIdentifier(ClassificationScheme identificationScheme, String name,
+    String value) throws JAXRException {
+        return manager.createExternalIdentifier(identificationScheme, name, value);
+    }
+
+    public ExternalIdentifier createExternalIdentifier(ClassificationScheme identificationScheme,
+    InternationalString name, String value) throws JAXRException {
+        return manager.createExternalIdentifier(identificationScheme, name, value);
+    }
+
+    public ExternalLink createExternalLink(String externalURI, String description) throws JAXRException {
+        return manager.createExternalLink(externalURI, description);
+    }
+
+    public ExternalLink createExternalLink(String externalURI,
+    InternationalString description) throws JAXRException {
+        return manager.createExternalLink(externalURI, description);
+    }
+
+    public ExtrinsicObject createExtrinsicObject(javax.activation.DataHandler repositoryItem) throws JAXRException {
+        return manager.createExtrinsicObject(repositoryItem);
+    }
+
+    public InternationalString createInternationalString() throws JAXRException {
+        return manager.createInternationalString();
+    }
+
+    public InternationalString createInternationalString(String s) throws JAXRException {
+        return manager.createInternationalString(s);
+    }
+
+    public InternationalString createInternationalString(Locale l, String s) throws JAXRException {
+        return manager.createInternationalString(l, s);
+    }
+
+    public Key createKey(String id) throws JAXRException {
+        return manager.createKey(id);
+    }
+
+    public LocalizedString createLocalizedString(Locale l, String s) throws JAXRException {
+        return manager.createLocalizedString(l, s);
+    }
+
+    public LocalizedString createLocalizedString(Locale l, String s,
+    String charSetName) throws JAXRException {
+        return manager.createLocalizedString(l, s, charSetName);
+    }
+
+    public Organization createOrganization(String name) throws JAXRException {
+        return manager.createOrganization(name);
+    }
+
+    public Organization createOrganization(InternationalString name) throws JAXRException {
+        return manager.createOrganization(name);
+    }
+
+    public PersonName createPersonName(String firstName, String middleName,
+    String lastName) throws JAXRException {
+        return manager.createPersonName(firstName, middleName, lastName);
+    }
+
+    public PersonName createPersonName(String fullName) throws JAXRException {
+        return manager.createPersonName(fullName);
+    }
+
+    public PostalAddress createPostalAddress(String streetNumber, String street, String city,
+    String stateOrProvince, String country, String postalCode, String type) throws JAXRException {
+        return manager.createPostalAddress(streetNumber, street, city, stateOrProvince, country, postalCode,
+        type);
+    }
+
+    public RegistryPackage createRegistryPackage(String name) throws JAXRException {
+        return manager.createRegistryPackage(name);
+    }
+
+    public RegistryPackage createRegistryPackage(InternationalString name) throws JAXRException {
+        return manager.createRegistryPackage(name);
+    }
+
+    public Service createService(String name) throws JAXRException {
+        return manager.createService(name);
+    }
+
+    public Service createService(InternationalString name) throws JAXRException {
+        return manager.createService(name);
+    }
+
+    public ServiceBinding createServiceBinding() throws JAXRException {
+        return manager.createServiceBinding();
+    }
+
+    public Slot createSlot(String name, String value, String slotType) throws JAXRException {
+        return manager.createSlot(name, value, slotType);
+    }
+
+    public Slot createSlot(String name, Collection values, String slotType) throws JAXRException {
+        return manager.createSlot(name, values, slotType);
+    }
+
+    public SpecificationLink createSpecificationLink() throws JAXRException {
+        return manager.createSpecificationLink();
+    }
+
+    public TelephoneNumber createTelephoneNumber() throws JAXRException {
+        return manager.createTelephoneNumber();
+    }
+
+    public User createUser() throws JAXRException {
+        return manager.createUser();
+    }
+
+    public BulkResponse saveObjects(Collection objects) throws JAXRException {
+        long start = System.nanoTime();
+        try {
+            return recorder.completed("saveObjects", start, manager.saveObjects(objects));
+        } catch (Exception e) {
+            recorder.failed("saveObjects", start, e);
+            throw e;
+        }
+    }
+
+    public BulkResponse deprecateObjects(Collection keys) throws JAXRException {
+        long start = System.nanoTime();
+        try {
+            return recorder.completed("deprecateObjects", start, manager.deprecateObjects(keys));
+        } catch (Exception e) {
+            recorder.failed("deprecateObjects", start, e);
+            throw e;
+        }
+    }
+
+    public BulkResponse unDeprecateObjects(Collection keys) throws JAXRException {
+        long start = System.nanoTime();
+        try {
+            return recorder.completed("unDeprecateObjects", start, manager.unDeprecateObjects(keys));
+        } catch (Exception e) {
+            recorder.failed("unDeprecateObjects", start, e);
+            throw e;
+        }
+    }
+
+    public BulkResponse deleteObjects(Collection keys) throws JAXRException {
+        long start = System.nanoTime();
+        try {
+            return recorder.completed("deleteObjects", start, manager.deleteObjects(keys));
+        } catch (Exception e) {
+            recorder.failed("deleteObjects", start, e);
+            throw e;
+        }
+    }
+
+    public BulkResponse deleteObjects(Collection keys, String objectType) throws JAXRException {
+        long start = System.nanoTime();
+        try {
+            return recorder.completed("deleteObjects", start, manager.deleteObjects(keys, objectType));
+        } catch (Exception e) {
+            recorder.failed("deleteObjects", start, e);
+            throw e;
+        }
+    }
+
+    public RegistryService getRegistryService() throws JAXRException {
+        return registryService;
+    }
+}
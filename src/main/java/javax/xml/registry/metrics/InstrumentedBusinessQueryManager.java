@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.metrics;
+
+import java.util.*;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * A BusinessQueryManager that records every find and get call with a
+ * MetricsSink.
+ *
+ * @see InstrumentedRegistryService
+ */
+class InstrumentedBusinessQueryManager implements BusinessQueryManager {
+
+    private final BusinessQueryManager manager;
+    private final Recorder recorder;
+    private final RegistryService registryService;
+
+    InstrumentedBusinessQueryManager(BusinessQueryManager manager, Recorder recorder, RegistryService registryService) {
+        this.manager = manager;
+        this.recorder = recorder;
+        this.registryService = registryService;
+    }
+
+    public BulkResponse findAssociations(Collection findQualifiers, String sourceObjectId,
+    String targetObjectId, Collection associationTypes) throws JAXRException {
+        long start = System.nanoTime();
+        try {
+            return recorder.completed("findAssociations", start, manager.findAssociations(findQualifiers,
+            sourceObjectId, targetObjectId, associationTypes));
+        } catch (Exception e) {
+            recorder.failed("findAssociations", start, e);
+            throw e;
+        }
+    }
+
+    public BulkResponse findCallerAssociations(Collection findQualifiers, Boolean confirmedByCaller,
+    Boolean confirmedByOtherParty, Collection associationTypes) throws JAXRException {
+        long start = System.nanoTime();
+        try {
+            return recorder.completed("findCallerAssociations", start,
+            manager.findCallerAssociations(findQualifiers, confirmedByCaller, confirmedByOtherParty,
+            associationTypes));
+        } catch (Exception e) {
+            recorder.failed("findCallerAssociations", start, e);
+            throw e;
+        }
+    }
+
+    public BulkResponse findOrganizations(Collection findQualifiers, Collection namePatterns,
+    Collection classifications, Collection specifications, Collection externalIdentifiers,
+    Collection externalLinks) throws JAXRException {
+        long start = System.nanoTime();
+        try {
+            return recorder.completed("findOrganizations", start, manager.findOrganizations(findQualifiers,
+            namePatterns, classifications, specifications, externalIdentifiers, externalLinks));
+        } catch (Exception e) {
+            recorder.failed("findOrganizations", start, e);
+            throw e;
+        }
+    }
+
+    public BulkResponse findServices(Key orgKey, Collection findQualifiers, Collection namePatterns,
+    Collection classifications, Collection specifications) throws JAXRException {
+        long start = System.nanoTime();
+        try {
+            return recorder.completed("findServices", start, manager.findServices(orgKey, findQualifiers,
+            namePatterns, classifications, specifications));
+        } catch (Exception e) {
+            recorder.failed("findServices", start, e);
+            throw e;
+        }
+    }
+
+    public BulkResponse findServiceBindings(Key serviceKey, Collection findQualifiers,
+    Collection classifications, Collection specifications) throws JAXRException {
+        long start = System.nanoTime();
+        try {
+            return recorder.completed("findServiceBindings", start, manager.findServiceBindings(serviceKey,
+            findQualifiers, classifications, specifications));
+        } catch (Exception e) {
+            recorder.failed("findServiceBindings", start, e);
+            throw e;
+        }
+    }
+
+    public BulkResponse findClassificationSchemes(Collection findQualifiers, Collection namePatterns,
+    Collection classifications, Collection externalLinks) throws JAXRException {
+        long start = System.nanoTime();
+        try {
+            return recorder.completed("findClassificationSchemes", start,
+            manager.findClassificationSchemes(findQualifiers, namePatterns, classifications, externalLinks));
+        } catch (Exception e) {
+            recorder.failed("findClassificationSchemes", start, e);
+            throw e;
+        }
+    }
+
+    public ClassificationScheme findClassificationSchemeByName(Collection findQualifiers,
+    String namePattern) throws JAXRException {
+        long start = System.nanoTime();
+        try {
+            return recorder.completed("findClassificationSchemeByName", start,
+            manager.findClassificationSchemeByName(findQualifiers, namePattern));
+        } catch (Exception e) {
+            recorder.failed("findClassificationSchemeByName", start, e);
+            throw e;
+        }
+    }
+
+    public BulkResponse findConcepts(Collection findQualifiers, Collection namePatterns,
+    Collection classifications, Collection externalIdentifiers,
+    Collection externalLinks) throws JAXRException {
+        long start = System.nanoTime();
+        try {
+            return recorder.completed("findConcepts", start, manager.findConcepts(findQualifiers, namePatterns,
+            classifications, externalIdentifiers, externalLinks));
+        } catch (Exception e) {
+            recorder.failed("findConcepts", start, e);
+            throw e;
+        }
+    }
+
+    public Concept findConceptByPath(String path) throws JAXRException {
+        long start = System.nanoTime();
+        try {
+            return recorder.completed("findConceptByPath", start, manager.findConceptByPath(path));
+        } catch (Exception e) {
+            recorder.failed("findConceptByPath", start, e);
+            throw e;
+        }
+    }
+
+    public BulkResponse findRegistryPackages(Collection findQualifiers, Collection namePatterns,
+    Collection classifications, Collection externalLinks) throws JAXRException {
+        long start = System.nanoTime();
+        try {
+            return recorder.completed("findRegistryPackages", start,
+            manager.findRegistryPackages(findQualifiers, namePatterns, classifications, externalLinks));
+        } catch (Exception e) {
+            recorder.failed("findRegistryPackages", start, e);
+            throw e;
+        }
+    }
+
+    public RegistryObject getRegistryObject(String id, String objectType) throws JAXRException {
+        long start = System.nanoTime();
+        try {
+            return recorder.completed("getRegistryObject", start, manager.getRegistryObject(id, objectType));
+        } catch (Exception e) {
+            recorder.failed("getRegistryObject", start, e);
+            throw e;
+        }
+    }
+
+    public RegistryObject getRegistryObject(String id) throws JAXRException {
+        long start = System.nanoTime();
+        try {
+            return recorder.completed("getRegistryObject", start, manager.getRegistryObject(id));
+        } catch (Exception e) {
+            recorder.failed("getRegistryObject", start, e);
+            throw e;
+        }
+    }
+
+    public BulkResponse getRegistryObjects(Collection objectKeys) throws JAXRException {
+        long start = System.nanoTime();
+        try {
+            return recorder.completed("getRegistryObjects", start, manager.getRegistryObjects(objectKeys));
+        } catch (Exception e) {
+            recorder.failed("getRegistryObjects", start, e);
+            throw e;
+        }
+    }
+
+    public BulkResponse getRegistryObjects(Collection objectKeys, String objectTypes) throws JAXRException {
+        long start = System.nanoTime();
+        try {
+            return recorder.completed("getRegistryObjects", start, manager.getRegistryObjects(objectKeys,
+            objectTypes));
+        } catch (Exception e) {
+            recorder.failed("getRegistryObjects", start, e);
+            throw e;
+        }
+    }
+
+    public BulkResponse getRegistryObjects() throws JAXRException {
+        long start = System.nanoTime();
+        try {
+            return recorder.completed("getRegistryObjects", start, manager.getRegistryObjects());
+        } catch (Exception e) {
+            recorder.failed("getRegistryObjects", start, e);
+            throw e;
+        }
+    }
+
+    public BulkResponse getRegistryObjects(String objectType) throws JAXRException {
+        long start = System.nanoTime();
+        try {
+            return recorder.completed("getRegistryObjects", start, manager.getRegistryObjects(objectType));
+        } catch (Exception e) {
+            recorder.failed("getRegistryObjects", start, e);
+            throw e;
+        }
+    }
+
+    public RegistryService getRegistryService() throws JAXRException {
+        return registryService;
+    }
+}
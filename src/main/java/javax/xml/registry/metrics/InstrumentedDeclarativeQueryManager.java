@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.metrics;
+
+import java.util.*;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * A DeclarativeQueryManager that records every executeQuery and get call
+ * with a MetricsSink.
+ *
+ * @see InstrumentedRegistryService
+ */
+class InstrumentedDeclarativeQueryManager implements DeclarativeQueryManager {
+
+    private final DeclarativeQueryManager manager;
+    private final Recorder recorder;
+    private final RegistryService registryService;
+
+    InstrumentedDeclarativeQueryManager(DeclarativeQueryManager manager, Recorder recorder, RegistryService registryService) {
+        this.manager = manager;
+        this.recorder = recorder;
+        this.registryService = registryService;
+    }
+
+    public Query createQuery(int queryType, String queryString) throws InvalidRequestException,
+    JAXRException {
+        return manager.createQuery(queryType, queryString);
+    }
+
+    public BulkResponse executeQuery(Query query) throws JAXRException {
+        long start = System.nanoTime();
+        try {
+            return recorder.completed("executeQuery", start, manager.executeQuery(query));
+        } catch (Exception e) {
+            recorder.failed("executeQuery", start, e);
+            throw e;
+        }
+    }
+
+    public RegistryObject getRegistryObject(String id, String objectType) throws JAXRException {
+        long start = System.nanoTime();
+        try {
+            return recorder.completed("getRegistryObject", start, manager.getRegistryObject(id, objectType));
+        } catch (Exception e) {
+            recorder.failed("getRegistryObject", start, e);
+            throw e;
+        }
+    }
+
+    public RegistryObject getRegistryObject(String id) throws JAXRException {
+        long start = System.nanoTime();
+        try {
+            return recorder.completed("getRegistryObject", start, manager.getRegistryObject(id));
+        } catch (Exception e) {
+            recorder.failed("getRegistryObject", start, e);
+            throw e;
+        }
+    }
+
+    public BulkResponse getRegistryObjects(Collection objectKeys) throws JAXRException {
+        long start = System.nanoTime();
+        try {
+            return recorder.completed("getRegistryObjects", start, manager.getRegistryObjects(objectKeys));
+        } catch (Exception e) {
+            recorder.failed("getRegistryObjects", start, e);
+            throw e;
+        }
+    }
+
+    public BulkResponse getRegistryObjects(Collection objectKeys, String objectTypes) throws JAXRException {
+        long start = System.nanoTime();
+        try {
+            return recorder.completed("getRegistryObjects", start, manager.getRegistryObjects(objectKeys,
+            objectTypes));
+        } catch (Exception e) {
+            recorder.failed("getRegistryObjects", start, e);
+            throw e;
+        }
+    }
+
+    public BulkResponse getRegistryObjects() throws JAXRException {
+        long start = System.nanoTime();
+        try {
+            return recorder.completed("getRegistryObjects", start, manager.getRegistryObjects());
+        } catch (Exception e) {
+            recorder.failed("getRegistryObjects", start, e);
+            throw e;
+        }
+    }
+
+    public BulkResponse getRegistryObjects(String objectType) throws JAXRException {
+        long start = System.nanoTime();
+        try {
+            return recorder.completed("getRegistryObjects", start, manager.getRegistryObjects(objectType));
+        } catch (Exception e) {
+            recorder.failed("getRegistryObjects", start, e);
+            throw e;
+        }
+    }
+
+    public RegistryService getRegistryService() throws JAXRException {
+        return registryService;
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.metrics;
+
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * A RegistryService that measures the registry operations of another
+ * RegistryService and reports them to a MetricsSink: latency, result
+ * cardinality, partial responses, and exceptions by type, whether thrown
+ * or reported in a BulkResponse.
+ * <p>
+ * All query methods of the BusinessQueryManager and
+ * DeclarativeQueryManager are measured, as well as the save, delete,
+ * deprecate and confirm methods of the BusinessLifeCycleManager,
+ * getBulkResponse and makeRegistrySpecificRequest. Calls made through the
+ * LifeCycleManager returned by RegistryObject.getLifeCycleManager are not seen.
+ * <p>
+ * For example:
+ * <pre>
+ * MetricsRegistry metrics = new MetricsRegistry();
+ * RegistryService service = InstrumentedRegistryService.instrument(
+ *     connection.getRegistryService(), metrics);
+ * ...
+ * OperationMetrics find = metrics.getOperationMetrics("findOrganizations");
+ * </pre>
+ *
+ * @see MetricsSink
+ * @see MetricsRegistry
+ */
+public class InstrumentedRegistryService implements RegistryService {
+
+    private final RegistryService registryService;
+    private final Recorder recorder;
+    private BusinessQueryManager queryManager;
+    private BusinessLifeCycleManager lifeCycleManager;
+    private DeclarativeQueryManager declarativeQueryManager;
+
+    /**
+     * Creates an instrumented view of a RegistryService.
+     *
+     * @param registryService the RegistryService to measure
+     * @param sink the MetricsSink to report to
+     */
+    public InstrumentedRegistryService(RegistryService registryService, MetricsSink sink) {
+        if (registryService == null || sink == null) {
+            throw new IllegalArgumentException("registryService and sink must not be null");
+        }
+        this.registryService = registryService;
+        this.recorder = new Recorder(sink);
+    }
+
+    /**
+     * Instruments a RegistryService, unless the sink is MetricsSink.NOOP.
+     *
+     * @param registryService the RegistryService to measure
+     * @param sink the MetricsSink to report to
+     * @return an InstrumentedRegistryService, or registryService itself if sink is MetricsSink.NOOP
+     */
+    public static RegistryService instrument(RegistryService registryService, MetricsSink sink) {
+        if (sink == MetricsSink.NOOP) {
+            return registryService;
+        }
+        return new InstrumentedRegistryService(registryService, sink);
+    }
+
+    /**
+     * Gets the sink of this service.
+     *
+     * @return the MetricsSink
+     */
+    public MetricsSink getMetricsSink() {
+        return recorder.getSink();
+    }
+
+    public CapabilityProfile getCapabilityProfile() throws JAXRException {
+        return registryService.getCapabilityProfile();
+    }
+
+    public synchronized BusinessLifeCycleManager getBusinessLifeCycleManager() throws JAXRException {
+        if (lifeCycleManager == null) {
+            lifeCycleManager = new InstrumentedBusinessLifeCycleManager(
+            registryService.getBusinessLifeCycleManager(), recorder, this);
+        }
+        return lifeCycleManager;
+    }
+
+    public synchronized BusinessQueryManager getBusinessQueryManager() throws JAXRException {
+        if (queryManager == null) {
+            queryManager = new InstrumentedBusinessQueryManager(
+            registryService.getBusinessQueryManager(), recorder, this);
+        }
+        return queryManager;
+    }
+
+    public synchronized DeclarativeQueryManager getDeclarativeQueryManager()
+    throws JAXRException, UnsupportedCapabilityException {
+        if (declarativeQueryManager == null) {
+            declarativeQueryManager = new InstrumentedDeclarativeQueryManager(
+            registryService.getDeclarativeQueryManager(), recorder, this);
+        }
+        return declarativeQueryManager;
+    }
+
+    public BulkResponse getBulkResponse(String requestId) throws InvalidRequestException, JAXRException {
+        long start = System.nanoTime();
+        try {
+            return recorder.completed("getBulkResponse", start, registryService.getBulkResponse(requestId));
+        } catch (Exception e) {
+            recorder.failed("getBulkResponse", start, e);
+            throw e;
+        }
+    }
+
+    public ClassificationScheme getDefaultPostalScheme() throws JAXRException {
+        return registryService.getDefaultPostalScheme();
+    }
+
+    public String makeRegistrySpecificRequest(String request) throws JAXRException {
+        long start = System.nanoTime();
+        try {
+            return recorder.completed("makeRegistrySpecificRequest", start,
+            registryService.makeRegistrySpecificRequest(request));
+        } catch (Exception e) {
+            recorder.failed("makeRegistrySpecificRequest", start, e);
+            throw e;
+        }
+    }
+}
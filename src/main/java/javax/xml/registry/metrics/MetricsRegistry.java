@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.metrics;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.xml.registry.*;
+
+/**
+ * A MetricsSink that aggregates the measurements in memory, with one
+ * OperationMetrics per operation. It can be read directly or used as the
+ * source for exporting to a monitoring system.
+ *
+ * @see OperationMetrics
+ */
+public class MetricsRegistry implements MetricsSink {
+
+    private final ConcurrentHashMap operations = new ConcurrentHashMap();
+
+    /**
+     * Gets the metrics of an operation.
+     *
+     * @param operation the name of the operation, for instance <code>findOrganizations</code>
+     * @return the OperationMetrics, or <code>null</code> if the operation was not called yet
+     */
+    public OperationMetrics getOperationMetrics(String operation) {
+        return (OperationMetrics) operations.get(operation);
+    }
+
+    /**
+     * Gets the metrics of all operations called so far.
+     *
+     * @return Map from operation name to OperationMetrics, sorted by name
+     */
+    @SuppressWarnings("unchecked")
+    public Map getOperationMetrics() {
+        return new TreeMap(operations);
+    }
+
+    /**
+     * Discards all metrics.
+     */
+    public void clear() {
+        operations.clear();
+    }
+
+    public void recordCall(String operation, long durationNanos, int resultCount, boolean partialResponse) {
+        metrics(operation).called(durationNanos, resultCount, partialResponse);
+    }
+
+    public void recordFailure(String operation, long durationNanos, Exception exception) {
+        metrics(operation).failed(durationNanos, exception);
+    }
+
+    public void recordException(String operation, JAXRException exception) {
+        metrics(operation).exception(exception);
+    }
+
+    @SuppressWarnings("unchecked")
+    private OperationMetrics metrics(String operation) {
+        OperationMetrics metrics = (OperationMetrics) operations.get(operation);
+        if (metrics == null) {
+            OperationMetrics created = new OperationMetrics(operation);
+            metrics = (OperationMetrics) operations.putIfAbsent(operation, created);
+            if (metrics == null) {
+                metrics = created;
+            }
+        }
+        return metrics;
+    }
+
+    public String toString() {
+        return "MetricsRegistry" + operations.values();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.metrics;
+
+import javax.xml.registry.*;
+
+/**
+ * Receives the measurements of an InstrumentedRegistryService. Each call
+ * of an instrumented operation is reported once, either to recordCall or
+ * to recordFailure; the exceptions contained in its BulkResponse, if any,
+ * are reported to recordException before that.
+ * <p>
+ * Operations are named after the JAXR method, for instance
+ * <code>findOrganizations</code>, <code>saveObjects</code> or
+ * <code>executeQuery</code>; overloaded methods share one name.
+ * Implementations are called concurrently from all threads using the
+ * RegistryService, must be thread safe and should not throw.
+ *
+ * @see InstrumentedRegistryService
+ * @see MetricsRegistry
+ */
+public interface MetricsSink {
+
+    /**
+     * A MetricsSink that discards everything. A RegistryService instrumented
+     * with it through InstrumentedRegistryService.instrument is not wrapped
+     * at all, so that disabled metrics cost nothing.
+     */
+    MetricsSink NOOP = new MetricsSink() {
+        public void recordCall(String operation, long durationNanos, int resultCount, boolean partialResponse) {
+        }
+
+        public void recordFailure(String operation, long durationNanos, Exception exception) {
+        }
+
+        public void recordException(String operation, JAXRException exception) {
+        }
+    };
+
+    /**
+     * Records a call that returned normally. For an asynchronous Connection
+     * the duration only covers submitting the request.
+     *
+     * @param operation the name of the operation
+     * @param durationNanos the time spent in the call, in nanoseconds
+     * @param resultCount the number of objects returned, or -1 if the operation has no result or
+     * its BulkResponse was not yet available or is streamed
+     * @param partialResponse <code>true</code> if the BulkResponse was partial
+     */
+    void recordCall(String operation, long durationNanos, int resultCount, boolean partialResponse);
+
+    /**
+     * Records a call that threw an exception.
+     *
+     * @param operation the name of the operation
+     * @param durationNanos the time spent in the call, in nanoseconds
+     * @param exception the JAXRException or RuntimeException thrown
+     */
+    void recordFailure(String operation, long durationNanos, Exception exception);
+
+    /**
+     * Records an exception reported in the BulkResponse of a call.
+     *
+     * @param operation the name of the operation
+     * @param exception the exception, such as a SaveException or DeleteException
+     */
+    void recordException(String operation, JAXRException exception);
+}
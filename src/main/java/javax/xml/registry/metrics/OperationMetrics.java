@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.metrics;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and histograms of one operation in a MetricsRegistry.
+ * All values are read without locking and may be slightly out of date
+ * with respect to each other.
+ *
+ * @see MetricsRegistry#getOperationMetrics(String)
+ */
+public final class OperationMetrics {
+
+    private final String operation;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder partialResponses = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder countedResponses = new LongAdder();
+    private final LongAdder totalResults = new LongAdder();
+    private final Histogram latency = new Histogram();
+    private final Histogram results = new Histogram();
+    private final ConcurrentHashMap exceptionCounts = new ConcurrentHashMap();
+
+    OperationMetrics(String operation) {
+        this.operation = operation;
+    }
+
+    /**
+     * Gets the name of the operation.
+     *
+     * @return the operation name
+     */
+    public String getOperation() {
+        return operation;
+    }
+
+    /**
+     * Gets the number of calls, including failed calls.
+     *
+     * @return the call count
+     */
+    public long getCallCount() {
+        return calls.sum();
+    }
+
+    /**
+     * Gets the number of calls that threw an exception.
+     *
+     * @return the failure count
+     */
+    public long getFailureCount() {
+        return failures.sum();
+    }
+
+    /**
+     * Gets the number of exceptions of each type, counting both thrown
+     * exceptions and those reported in a BulkResponse.
+     *
+     * @return Map from exception class name to Long count. The Map may be empty but not null.
+     */
+    @SuppressWarnings("unchecked")
+    public Map getExceptionCounts() {
+        Map counts = new TreeMap();
+        for (Iterator i = exceptionCounts.entrySet().iterator(); i.hasNext();) {
+            Map.Entry entry = (Map.Entry) i.next();
+            counts.put(entry.getKey(), Long.valueOf(((LongAdder) entry.getValue()).sum()));
+        }
+        return counts;
+    }
+
+    /**
+     * Gets the number of calls that returned a partial BulkResponse.
+     *
+     * @return the partial response count
+     */
+    public long getPartialResponseCount() {
+        return partialResponses.sum();
+    }
+
+    /**
+     * Gets the ratio of partial responses to calls.
+     *
+     * @return the partial response ratio, or 0.0 if there were no calls
+     */
+    public double getPartialResponseRatio() {
+        long count = getCallCount();
+        return count == 0 ? 0.0 : (double) getPartialResponseCount() / count;
+    }
+
+    /**
+     * Gets the total time spent in calls.
+     *
+     * @return the total latency in nanoseconds
+     */
+    public long getTotalTimeNanos() {
+        return totalNanos.sum();
+    }
+
+    /**
+     * Gets the mean time spent in a call.
+     *
+     * @return the mean latency in nanoseconds, or 0 if there were no calls
+     */
+    public long getAverageTimeNanos() {
+        long count = getCallCount();
+        return count == 0 ? 0 : getTotalTimeNanos() / count;
+    }
+
+    /**
+     * Gets the longest time spent in a single call.
+     *
+     * @return the maximum latency in nanoseconds
+     */
+    public long getMaxTimeNanos() {
+        return latency.getMax();
+    }
+
+    /**
+     * Gets a latency percentile, accurate to within 25%.
+     *
+     * @param fraction the percentile as a value between 0.0 and 1.0, for instance 0.99
+     * @return the latency in nanoseconds that the given fraction of calls did not exceed
+     */
+    public long getTimePercentileNanos(double fraction) {
+        return latency.getPercentile(fraction);
+    }
+
+    /**
+     * Gets the total number of objects returned by calls whose result was counted.
+     *
+     * @return the total result count
+     */
+    public long getTotalResultCount() {
+        return totalResults.sum();
+    }
+
+    /**
+     * Gets the mean number of objects returned by a call whose result was counted.
+     *
+     * @return the mean result count, or 0.0 if no result was counted
+     */
+    public double getAverageResultCount() {
+        long count = countedResponses.sum();
+        return count == 0 ? 0.0 : (double) getTotalResultCount() / count;
+    }
+
+    /**
+     * Gets the largest number of objects returned by a single call.
+     *
+     * @return the maximum result count
+     */
+    public long getMaxResultCount() {
+        return results.getMax();
+    }
+
+    /**
+     * Gets a result count percentile, accurate to within 25%.
+     *
+     * @param fraction the percentile as a value between 0.0 and 1.0, for instance 0.99
+     * @return the result count that the given fraction of counted calls did not exceed
+     */
+    public long getResultCountPercentile(double fraction) {
+        return results.getPercentile(fraction);
+    }
+
+    public String toString() {
+        return "OperationMetrics[" + operation +
+        ", calls=" + getCallCount() +
+        ", failures=" + getFailureCount() +
+        ", partialResponses=" + getPartialResponseCount() +
+        ", avgNanos=" + getAverageTimeNanos() +
+        ", p99Nanos=" + getTimePercentileNanos(0.99) +
+        ", maxNanos=" + getMaxTimeNanos() +
+        ", avgResults=" + getAverageResultCount() +
+        ", maxResults=" + getMaxResultCount() +
+        ", exceptions=" + getExceptionCounts() + "]";
+    }
+
+    void called(long durationNanos, int resultCount, boolean partialResponse) {
+        calls.increment();
+        totalNanos.add(durationNanos);
+        latency.record(durationNanos);
+        if (resultCount >= 0) {
+            countedResponses.increment();
+            totalResults.add(resultCount);
+            results.record(resultCount);
+        }
+        if (partialResponse) {
+            partialResponses.increment();
+        }
+    }
+
+    void failed(long durationNanos, Exception exception) {
+        calls.increment();
+        failures.increment();
+        totalNanos.add(durationNanos);
+        latency.record(durationNanos);
+        exception(exception);
+    }
+
+    @SuppressWarnings("unchecked")
+    void exception(Exception exception) {
+        String type = exception.getClass().getName();
+        LongAdder count = (LongAdder) exceptionCounts.get(type);
+        if (count == null) {
+            LongAdder created = new LongAdder();
+            count = (LongAdder) exceptionCounts.putIfAbsent(type, created);
+            if (count == null) {
+                count = created;
+            }
+        }
+        count.increment();
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.metrics;
+
+import java.util.*;
+import javax.xml.registry.*;
+import javax.xml.registry.cursor.RegistryCursor;
+
+/**
+ * Times the calls of the instrumented managers and reports them to a MetricsSink.
+ */
+final class Recorder {
+
+    private final MetricsSink sink;
+
+    Recorder(MetricsSink sink) {
+        this.sink = sink;
+    }
+
+    MetricsSink getSink() {
+        return sink;
+    }
+
+    /**
+     * Reports a call returning a BulkResponse. The response is only inspected
+     * if it is available, and never if it is a RegistryCursor, so that
+     * recording does not block or fetch pages.
+     */
+    BulkResponse completed(String operation, long start, BulkResponse response) {
+        long duration = System.nanoTime() - start;
+        int resultCount = -1;
+        boolean partial = false;
+        if (response != null && !(response instanceof RegistryCursor)) {
+            try {
+                if (response.isAvailable()) {
+                    partial = response.isPartialResponse();
+                    Collection exceptions = response.getExceptions();
+                    if (exceptions != null) {
+                        for (Iterator i = exceptions.iterator(); i.hasNext();) {
+                            Object exception = i.next();
+                            if (exception instanceof JAXRException) {
+                                sink.recordException(operation, (JAXRException) exception);
+                            }
+                        }
+                    }
+                    Collection collection = response.getCollection();
+                    resultCount = collection == null ? 0 : collection.size();
+                }
+            } catch (JAXRException e) {
+                // the response is handed to the caller, who will see the same exception
+            }
+        }
+        sink.recordCall(operation, duration, resultCount, partial);
+        return response;
+    }
+
+    /**
+     * Reports a call returning a single object, counted as one result if it is not null.
+     */
+    <T> T completed(String operation, long start, T result) {
+        sink.recordCall(operation, System.nanoTime() - start, result == null ? 0 : 1, false);
+        return result;
+    }
+
+    /**
+     * Reports a call without a result.
+     */
+    void completed(String operation, long start) {
+        sink.recordCall(operation, System.nanoTime() - start, -1, false);
+    }
+
+    void failed(String operation, long start, Exception exception) {
+        sink.recordFailure(operation, System.nanoTime() - start, exception);
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.pool;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.*;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * The RegistryService of a PooledConnection. Every call, including calls
+ * on the query and life cycle managers it returns, fails once the lease
+ * is closed, so a RegistryService kept after close cannot reach the
+ * provider Connection while it is idle or leased to another client.
+ * Calls through the LifeCycleManager returned by
+ * RegistryObject.getLifeCycleManager are not checked.
+ *
+ * @see PooledConnection
+ */
+final class LeasedRegistryService implements RegistryService {
+
+    private final PooledConnection lease;
+    private final RegistryService registryService;
+    private BusinessLifeCycleManager lifeCycleManager;
+    private BusinessQueryManager queryManager;
+    private DeclarativeQueryManager declarativeQueryManager;
+
+    LeasedRegistryService(PooledConnection lease, RegistryService registryService) {
+        this.lease = lease;
+        this.registryService = registryService;
+    }
+
+    public CapabilityProfile getCapabilityProfile() throws JAXRException {
+        lease.checkOpen();
+        return registryService.getCapabilityProfile();
+    }
+
+    public synchronized BusinessLifeCycleManager getBusinessLifeCycleManager() throws JAXRException {
+        lease.checkOpen();
+        if (lifeCycleManager == null) {
+            lifeCycleManager = (BusinessLifeCycleManager) leased(
+            registryService.getBusinessLifeCycleManager(), BusinessLifeCycleManager.class);
+        }
+        return lifeCycleManager;
+    }
+
+    public synchronized BusinessQueryManager getBusinessQueryManager() throws JAXRException {
+        lease.checkOpen();
+        if (queryManager == null) {
+            queryManager = (BusinessQueryManager) leased(
+            registryService.getBusinessQueryManager(), BusinessQueryManager.class);
+        }
+        return queryManager;
+    }
+
+    public synchronized DeclarativeQueryManager getDeclarativeQueryManager()
+    throws JAXRException, UnsupportedCapabilityException {
+        lease.checkOpen();
+        if (declarativeQueryManager == null) {
+            declarativeQueryManager = (DeclarativeQueryManager) leased(
+            registryService.getDeclarativeQueryManager(), DeclarativeQueryManager.class);
+        }
+        return declarativeQueryManager;
+    }
+
+    public BulkResponse getBulkResponse(String requestId) throws InvalidRequestException, JAXRException {
+        lease.checkOpen();
+        return registryService.getBulkResponse(requestId);
+    }
+
+    public ClassificationScheme getDefaultPostalScheme() throws JAXRException {
+        lease.checkOpen();
+        return registryService.getDefaultPostalScheme();
+    }
+
+    public String makeRegistrySpecificRequest(String request) throws JAXRException {
+        lease.checkOpen();
+        return registryService.makeRegistrySpecificRequest(request);
+    }
+
+    /**
+     * Wraps a manager in a proxy that checks the lease before each call.
+     * The proxy implements every public interface of the manager, so that
+     * provider extensions such as SlotQueryManager stay visible.
+     */
+    @SuppressWarnings("unchecked")
+    private Object leased(Object manager, Class type) {
+        if (manager == null) {
+            return null;
+        }
+        Set interfaces = new LinkedHashSet();
+        interfaces.add(type);
+        for (Class c = manager.getClass(); c != null; c = c.getSuperclass()) {
+            addPublicInterfaces(c, interfaces);
+        }
+        ClassLoader loader = manager.getClass().getClassLoader();
+        if (loader == null) {
+            loader = type.getClassLoader();
+        }
+        return Proxy.newProxyInstance(loader, (Class[]) interfaces.toArray(new Class[interfaces.size()]),
+        new LeaseCheck(lease, manager));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void addPublicInterfaces(Class c, Set interfaces) {
+        Class[] direct = c.getInterfaces();
+        for (int i = 0; i < direct.length; i++) {
+            if (Modifier.isPublic(direct[i].getModifiers())) {
+                interfaces.add(direct[i]);
+            }
+            addPublicInterfaces(direct[i], interfaces);
+        }
+    }
+
+    private static final class LeaseCheck implements InvocationHandler {
+        private final PooledConnection lease;
+        private final Object target;
+
+        LeaseCheck(PooledConnection lease, Object target) {
+            this.lease = lease;
+            this.target = target;
+        }
+
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                if (method.getName().equals("equals")) {
+                    return Boolean.valueOf(proxy == args[0]);
+                } else if (method.getName().equals("hashCode")) {
+                    return Integer.valueOf(System.identityHashCode(proxy));
+                }
+            } else {
+                lease.checkOpen();
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.pool;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Live counters and gauges for a PooledConnectionFactory.
+ * All values are read without locking and may be slightly out of date
+ * with respect to each other.
+ *
+ * @see PooledConnectionFactory#getMetrics()
+ */
+public final class PoolMetrics {
+
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger idle = new AtomicInteger();
+    private final AtomicLong borrowCount = new AtomicLong();
+    private final AtomicLong waitCount = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+    private final AtomicLong createdCount = new AtomicLong();
+    private final AtomicLong destroyedCount = new AtomicLong();
+    private final AtomicLong validationFailureCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+    private final AtomicLong totalBorrowNanos = new AtomicLong();
+    private final AtomicLong maxBorrowNanos = new AtomicLong();
+
+    PoolMetrics() {
+    }
+
+    /**
+     * Gets the number of Connections currently leased to clients.
+     *
+     * @return the active connection count
+     */
+    public int getActiveCount() {
+        return active.get();
+    }
+
+    /**
+     * Gets the number of Connections currently held idle in the pool,
+     * summed over all credential partitions.
+     *
+     * @return the idle connection count
+     */
+    public int getIdleCount() {
+        return idle.get();
+    }
+
+    /**
+     * Gets the number of successful borrows since the pool was created.
+     *
+     * @return the borrow count
+     */
+    public long getBorrowCount() {
+        return borrowCount.get();
+    }
+
+    /**
+     * Gets the number of borrows that had to wait because
+     * the maximum number of active Connections was reached.
+     *
+     * @return the wait count
+     */
+    public long getWaitCount() {
+        return waitCount.get();
+    }
+
+    /**
+     * Gets the number of borrows that failed because no Connection
+     * became available within the configured maximum wait.
+     *
+     * @return the timeout count
+     */
+    public long getTimeoutCount() {
+        return timeoutCount.get();
+    }
+
+    /**
+     * Gets the number of Connections created by the underlying factory.
+     *
+     * @return the created count
+     */
+    public long getCreatedCount() {
+        return createdCount.get();
+    }
+
+    /**
+     * Gets the number of underlying Connections closed by the pool.
+     *
+     * @return the destroyed count
+     */
+    public long getDestroyedCount() {
+        return destroyedCount.get();
+    }
+
+    /**
+     * Gets the number of pooled Connections that failed validation.
+     *
+     * @return the validation failure count
+     */
+    public long getValidationFailureCount() {
+        return validationFailureCount.get();
+    }
+
+    /**
+     * Gets the number of idle Connections closed by the evictor.
+     *
+     * @return the eviction count
+     */
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    /**
+     * Gets the total time spent in successful borrows, including
+     * waiting, validation and creation of new Connections.
+     *
+     * @return the total borrow latency in nanoseconds
+     */
+    public long getTotalBorrowTimeNanos() {
+        return totalBorrowNanos.get();
+    }
+
+    /**
+     * Gets the longest time spent in a single successful borrow.
+     *
+     * @return the maximum borrow latency in nanoseconds
+     */
+    public long getMaxBorrowTimeNanos() {
+        return maxBorrowNanos.get();
+    }
+
+    /**
+     * Gets the mean time spent in a successful borrow.
+     *
+     * @return the mean borrow latency in nanoseconds, or 0 if nothing was borrowed yet
+     */
+    public long getAverageBorrowTimeNanos() {
+        long count = borrowCount.get();
+        return count == 0 ? 0 : totalBorrowNanos.get() / count;
+    }
+
+    public String toString() {
+        return "PoolMetrics[active=" + getActiveCount() +
+        ", idle=" + getIdleCount() +
+        ", borrows=" + getBorrowCount() +
+        ", waits=" + getWaitCount() +
+        ", timeouts=" + getTimeoutCount() +
+        ", created=" + getCreatedCount() +
+        ", destroyed=" + getDestroyedCount() +
+        ", validationFailures=" + getValidationFailureCount() +
+        ", evictions=" + getEvictionCount() +
+        ", avgBorrowNanos=" + getAverageBorrowTimeNanos() +
+        ", maxBorrowNanos=" + getMaxBorrowTimeNanos() + "]";
+    }
+
+    void borrowed(long nanos) {
+        active.incrementAndGet();
+        borrowCount.incrementAndGet();
+        totalBorrowNanos.addAndGet(nanos);
+        long max;
+        do {
+            max = maxBorrowNanos.get();
+        } while (nanos > max && !maxBorrowNanos.compareAndSet(max, nanos));
+    }
+
+    void returned() {
+        active.decrementAndGet();
+    }
+
+    void waited() {
+        waitCount.incrementAndGet();
+    }
+
+    void timedOut() {
+        timeoutCount.incrementAndGet();
+    }
+
+    void created() {
+        createdCount.incrementAndGet();
+    }
+
+    void destroyed() {
+        destroyedCount.incrementAndGet();
+    }
+
+    void validationFailed() {
+        validationFailureCount.incrementAndGet();
+    }
+
+    void evicted() {
+        evictionCount.incrementAndGet();
+    }
+
+    void idleAdded() {
+        idle.incrementAndGet();
+    }
+
+    void idleRemoved() {
+        idle.decrementAndGet();
+    }
+}
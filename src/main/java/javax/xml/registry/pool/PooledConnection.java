@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.pool;
+
+import java.util.*;
+import javax.xml.registry.*;
+
+/**
+ * A Connection leased from a PooledConnectionFactory. Closing it hands the
+ * underlying Connection back to the pool instead of closing it. The
+ * RegistryService of the lease stops working when the lease is closed.
+ *
+ * @see PooledConnectionFactory
+ */
+final class PooledConnection implements Connection {
+
+    private final PooledConnectionFactory pool;
+    private final Connection connection;
+    private PooledConnectionFactory.Partition partition;
+    private LeasedRegistryService registryService;
+    private boolean synchronousChanged;
+    private volatile boolean closed;
+
+    PooledConnection(PooledConnectionFactory pool,
+    PooledConnectionFactory.Partition partition, Connection connection) {
+        this.pool = pool;
+        this.partition = partition;
+        this.connection = connection;
+    }
+
+    public synchronized RegistryService getRegistryService() throws JAXRException {
+        checkOpen();
+        if (registryService == null) {
+            registryService = new LeasedRegistryService(this, connection.getRegistryService());
+        }
+        return registryService;
+    }
+
+    public void close() throws JAXRException {
+        PooledConnectionFactory.Partition owner;
+        boolean reset;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            owner = partition;
+            reset = synchronousChanged;
+        }
+        pool.release(owner, connection, reset);
+    }
+
+    public boolean isClosed() throws JAXRException {
+        return closed;
+    }
+
+    public synchronized boolean isSynchronous() throws JAXRException {
+        checkOpen();
+        return connection.isSynchronous();
+    }
+
+    public synchronized void setSynchronous(boolean sync) throws JAXRException {
+        checkOpen();
+        connection.setSynchronous(sync);
+        synchronousChanged = true;
+    }
+
+    /**
+     * Sets the credentials on the underlying Connection, so that a
+     * RegistryService obtained earlier sees them too, and moves the
+     * Connection to the pool partition for the new credentials.
+     */
+    public synchronized void setCredentials(Set credentials) throws JAXRException {
+        checkOpen();
+        connection.setCredentials(credentials);
+        partition = pool.transfer(partition, credentials);
+    }
+
+    public synchronized Set getCredentials() throws JAXRException {
+        checkOpen();
+        return connection.getCredentials();
+    }
+
+    Connection getConnection() {
+        return connection;
+    }
+
+    void checkOpen() throws JAXRException {
+        if (closed) {
+            throw new JAXRException("Connection is closed");
+        }
+    }
+}
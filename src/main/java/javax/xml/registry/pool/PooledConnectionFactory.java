@@ -0,0 +1,811 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.pool;
+
+import java.net.PasswordAuthentication;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.xml.registry.*;
+
+/**
+ * A ConnectionFactory that pools the Connections created by another
+ * ConnectionFactory.
+ * <p>
+ * The Connection returned by createConnection is a lease on a pooled
+ * provider Connection. Closing the lease returns the provider Connection
+ * to the pool. Idle Connections are partitioned by their credential set,
+ * so a Connection is only reused by clients presenting the same credentials.
+ * PasswordAuthentication credentials are compared by user name and a digest
+ * of the password, other credentials by their equals method. A partition
+ * is dropped once it has neither idle nor leased Connections.
+ * The createConnection(Set) method borrows directly from the partition
+ * for the given credentials and avoids the cost of setCredentials on
+ * an anonymous Connection.
+ * <p>
+ * The pool is configured through setProperties. The pool properties
+ * below are read by this class; all properties, including these, are
+ * passed on to the underlying ConnectionFactory.
+ *
+ * <DL>
+ * <DT>
+ * <B>Pool Properties:</B>
+ * <DD><CODE>javax.xml.registry.pool.maxActive</CODE> - maximum number of Connections leased at the same time. Default 8
+ * <DD><CODE>javax.xml.registry.pool.maxIdle</CODE> - maximum number of idle Connections kept per credential partition. Default 8
+ * <DD><CODE>javax.xml.registry.pool.maxTotalIdle</CODE> - maximum number of idle Connections kept in all partitions together; a returned Connection displaces the longest idle one when it is reached. Default 8
+ * <DD><CODE>javax.xml.registry.pool.minIdle</CODE> - number of idle Connections the evictor keeps per credential partition. Default 0
+ * <DD><CODE>javax.xml.registry.pool.maxWait</CODE> - milliseconds createConnection waits for a Connection when maxActive is reached; negative to wait indefinitely. Default 30000
+ * <DD><CODE>javax.xml.registry.pool.testOnBorrow</CODE> - whether Connections are validated with getCapabilityProfile before being leased. Default true
+ * <DD><CODE>javax.xml.registry.pool.testWhileIdle</CODE> - whether the evictor validates idle Connections. Default false
+ * <DD><CODE>javax.xml.registry.pool.timeBetweenEvictionRunsMillis</CODE> - period of the idle evictor; 0 or negative disables it. Default 30000
+ * <DD><CODE>javax.xml.registry.pool.minEvictableIdleTimeMillis</CODE> - time a Connection may stay idle before the evictor closes it. Default 60000
+ * </DL>
+ *
+ * @see PoolMetrics
+ */
+public class PooledConnectionFactory extends ConnectionFactory {
+
+    public static final String MAX_ACTIVE = "javax.xml.registry.pool.maxActive";
+    public static final String MAX_IDLE = "javax.xml.registry.pool.maxIdle";
+    public static final String MAX_TOTAL_IDLE = "javax.xml.registry.pool.maxTotalIdle";
+    public static final String MIN_IDLE = "javax.xml.registry.pool.minIdle";
+    public static final String MAX_WAIT = "javax.xml.registry.pool.maxWait";
+    public static final String TEST_ON_BORROW = "javax.xml.registry.pool.testOnBorrow";
+    public static final String TEST_WHILE_IDLE = "javax.xml.registry.pool.testWhileIdle";
+    public static final String TIME_BETWEEN_EVICTION_RUNS_MILLIS = "javax.xml.registry.pool.timeBetweenEvictionRunsMillis";
+    public static final String MIN_EVICTABLE_IDLE_TIME_MILLIS = "javax.xml.registry.pool.minEvictableIdleTimeMillis";
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final ConnectionFactory factory;
+    private final PoolMetrics metrics = new PoolMetrics();
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition available = lock.newCondition();
+    private final Map partitions = new HashMap();
+
+    private int maxActive = 8;
+    private int maxIdle = 8;
+    private int maxTotalIdle = 8;
+    private int minIdle = 0;
+    private long maxWait = 30000;
+    private boolean testOnBorrow = true;
+    private boolean testWhileIdle = false;
+    private long timeBetweenEvictionRunsMillis = 30000;
+    private long minEvictableIdleTimeMillis = 60000;
+
+    private int activeCount;
+    private int idleCount;
+    private boolean closed;
+    private Timer evictor;
+
+    /**
+     * Creates a pool over the Connections created by the given ConnectionFactory.
+     *
+     * @param factory the ConnectionFactory that creates the pooled Connections
+     */
+    public PooledConnectionFactory(ConnectionFactory factory) {
+        if (factory == null) {
+            throw new IllegalArgumentException("factory must not be null");
+        }
+        this.factory = factory;
+    }
+
+    /**
+     * Sets the Properties used during createConnection
+     * and createFederatedConnection calls, including the pool properties
+     * described above. Idle Connections created with the previous
+     * properties are closed.
+     *
+     * @param properties configuration properties
+     * @throws JAXRException	If a pool property has an invalid value or the underlying factory fails
+     *
+     */
+    public void setProperties(Properties properties) throws JAXRException {
+        int newMaxActive = intProperty(properties, MAX_ACTIVE, 8);
+        int newMaxIdle = intProperty(properties, MAX_IDLE, 8);
+        int newMaxTotalIdle = intProperty(properties, MAX_TOTAL_IDLE, 8);
+        int newMinIdle = intProperty(properties, MIN_IDLE, 0);
+        long newMaxWait = longProperty(properties, MAX_WAIT, 30000);
+        boolean newTestOnBorrow = booleanProperty(properties, TEST_ON_BORROW, true);
+        boolean newTestWhileIdle = booleanProperty(properties, TEST_WHILE_IDLE, false);
+        long newEvictionPeriod = longProperty(properties, TIME_BETWEEN_EVICTION_RUNS_MILLIS, 30000);
+        long newMinEvictableIdle = longProperty(properties, MIN_EVICTABLE_IDLE_TIME_MILLIS, 60000);
+        if (newMaxActive <= 0) {
+            throw new JAXRException(MAX_ACTIVE + " must be positive: " + newMaxActive);
+        }
+        if (newMinIdle > newMaxIdle) {
+            throw new JAXRException(MIN_IDLE + " must not exceed " + MAX_IDLE);
+        }
+
+        factory.setProperties(properties);
+
+        List stale;
+        lock.lock();
+        try {
+            maxActive = newMaxActive;
+            maxIdle = newMaxIdle;
+            maxTotalIdle = newMaxTotalIdle;
+            minIdle = newMinIdle;
+            maxWait = newMaxWait;
+            testOnBorrow = newTestOnBorrow;
+            testWhileIdle = newTestWhileIdle;
+            minEvictableIdleTimeMillis = newMinEvictableIdle;
+            if (newEvictionPeriod != timeBetweenEvictionRunsMillis || evictor == null) {
+                timeBetweenEvictionRunsMillis = newEvictionPeriod;
+                startEvictor();
+            }
+            stale = drainIdle();
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        destroyAll(stale);
+    }
+
+    /**
+     * Gets the Properties of the underlying ConnectionFactory.
+     *
+     * @return the Properties defined for this object
+     * @throws JAXRException	If the JAXR provider encounters an internal error
+     *
+     */
+    public Properties getProperties() throws JAXRException {
+        return factory.getProperties();
+    }
+
+    /**
+     * Leases a Connection without credentials from the pool, creating a new
+     * one if no idle Connection is available. Blocks for at most maxWait
+     * milliseconds when maxActive Connections are already leased.
+     *
+     * @return the leased Connection
+     * @throws JAXRException	If no Connection became available in time or the JAXR provider encounters an internal error
+     *
+     */
+    public Connection createConnection() throws JAXRException {
+        return createConnection(null);
+    }
+
+    /**
+     * Leases a Connection that uses the given credentials, reusing an idle
+     * Connection that was created with an equal credential set if there is one.
+     *
+     * @param credentials the credentials for the Connection; may be <code>null</code>
+     * @return the leased Connection
+     * @throws JAXRException	If no Connection became available in time or the JAXR provider encounters an internal error
+     *
+     */
+    public Connection createConnection(Set credentials) throws JAXRException {
+        long start = System.nanoTime();
+        acquireSlot();
+        try {
+            Partition partition;
+            lock.lock();
+            try {
+                partition = partition(credentials);
+                partition.leased++;
+            } finally {
+                lock.unlock();
+            }
+            Connection connection;
+            try {
+                connection = take(partition);
+            } catch (JAXRException e) {
+                releaseLease(partition);
+                throw e;
+            } catch (RuntimeException e) {
+                releaseLease(partition);
+                throw e;
+            }
+            metrics.borrowed(System.nanoTime() - start);
+            return new PooledConnection(this, partition, connection);
+        } catch (JAXRException e) {
+            releaseSlot();
+            throw e;
+        } catch (RuntimeException e) {
+            releaseSlot();
+            throw e;
+        }
+    }
+
+    /**
+     * Creates a FederatedConnection through the underlying ConnectionFactory.
+     * Leased Connections in the collection are replaced by the provider
+     * Connections they lease. They must stay open for as long as the
+     * FederatedConnection is in use.
+     *
+     * @param connections Is a Collection of Connection objects.
+     * @return the FederatedConnection created by this call
+     * @throws JAXRException	If the JAXR provider encounters an internal error
+     *
+     */
+    @SuppressWarnings("unchecked")
+    public FederatedConnection createFederatedConnection(Collection connections) throws JAXRException {
+        List unwrapped = new ArrayList(connections.size());
+        for (Iterator i = connections.iterator(); i.hasNext();) {
+            Object connection = i.next();
+            if (connection instanceof PooledConnection) {
+                connection = ((PooledConnection) connection).getConnection();
+            }
+            unwrapped.add(connection);
+        }
+        return factory.createFederatedConnection(unwrapped);
+    }
+
+    /**
+     * Gets the metrics of this pool.
+     *
+     * @return the live pool metrics
+     */
+    public PoolMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Closes all idle Connections and stops the evictor. Connections that are
+     * currently leased are closed when they are returned. Subsequent calls to
+     * createConnection fail.
+     */
+    public void close() {
+        List idle;
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (evictor != null) {
+                evictor.cancel();
+                evictor = null;
+            }
+            idle = drainIdle();
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        destroyAll(idle);
+    }
+
+    /**
+     * Runs one eviction pass: closes Connections that have been idle for longer
+     * than minEvictableIdleTimeMillis while keeping minIdle per partition,
+     * optionally validates the remaining idle Connections, and then tops each
+     * partition back up to minIdle.
+     */
+    @SuppressWarnings("unchecked")
+    public void evict() {
+        List expired = new ArrayList();
+        List toValidate = new ArrayList();
+        List snapshot;
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            long now = System.nanoTime();
+            for (Iterator i = partitions.values().iterator(); i.hasNext();) {
+                Partition partition = (Partition) i.next();
+                while (partition.idle.size() > minIdle) {
+                    IdleConnection oldest = (IdleConnection) partition.idle.peekLast();
+                    if (now - oldest.idleSince < TimeUnit.MILLISECONDS.toNanos(minEvictableIdleTimeMillis)) {
+                        break;
+                    }
+                    partition.idle.pollLast();
+                    idleCount--;
+                    metrics.idleRemoved();
+                    metrics.evicted();
+                    expired.add(oldest.connection);
+                }
+                boolean validating = testWhileIdle && !partition.idle.isEmpty();
+                if (validating) {
+                    while (!partition.idle.isEmpty()) {
+                        IdleConnection entry = (IdleConnection) partition.idle.pollFirst();
+                        idleCount--;
+                        metrics.idleRemoved();
+                        toValidate.add(new Object[] {partition, entry});
+                    }
+                }
+                if (!validating && isUnused(partition)) {
+                    i.remove();
+                }
+            }
+            if (minIdle > 0) {
+                partition(null);
+            }
+            snapshot = new ArrayList(partitions.values());
+        } finally {
+            lock.unlock();
+        }
+        destroyAll(expired);
+
+        for (Iterator i = toValidate.iterator(); i.hasNext();) {
+            Object[] pair = (Object[]) i.next();
+            Partition partition = (Partition) pair[0];
+            IdleConnection entry = (IdleConnection) pair[1];
+            if (validate(entry.connection, true)) {
+                restore(partition, entry);
+            } else {
+                destroy(entry.connection);
+            }
+        }
+
+        for (Iterator i = snapshot.iterator(); i.hasNext();) {
+            Partition partition = (Partition) i.next();
+            while (needsIdle(partition)) {
+                try {
+                    restore(partition, new IdleConnection(create(partition), System.nanoTime()));
+                } catch (JAXRException e) {
+                    break;
+                } catch (RuntimeException e) {
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the provider Connection of a closed lease to the pool,
+     * or closes it if it is unusable or the partition is full. When the
+     * pool as a whole is full, the longest idle Connection of any partition
+     * is closed to make room.
+     */
+    @SuppressWarnings("unchecked")
+    void release(Partition partition, Connection connection, boolean resetSynchronous) {
+        boolean usable = true;
+        try {
+            if (resetSynchronous) {
+                connection.setSynchronous(true);
+            }
+            usable = !connection.isClosed();
+        } catch (JAXRException e) {
+            usable = false;
+        } catch (RuntimeException e) {
+            usable = false;
+        }
+
+        boolean pooled = false;
+        Connection displaced = null;
+        lock.lock();
+        try {
+            partition.leased--;
+            activeCount--;
+            if (usable && !closed && partition.idle.size() < maxIdle && maxTotalIdle > 0) {
+                if (idleCount >= maxTotalIdle) {
+                    displaced = removeLongestIdle(partition);
+                }
+                partition.idle.addFirst(new IdleConnection(connection, System.nanoTime()));
+                idleCount++;
+                metrics.idleAdded();
+                pooled = true;
+            }
+            dropIfUnused(partition);
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+        metrics.returned();
+        if (displaced != null) {
+            destroy(displaced);
+        }
+        if (!pooled) {
+            destroy(connection);
+        }
+    }
+
+    /**
+     * Gets the number of credential partitions currently kept.
+     */
+    int getPartitionCount() {
+        lock.lock();
+        try {
+            return partitions.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Moves a lease from one credential partition to another after the
+     * client changed the credentials of the leased Connection.
+     */
+    Partition transfer(Partition from, Set credentials) {
+        lock.lock();
+        try {
+            Partition to = partition(credentials);
+            if (to != from) {
+                from.leased--;
+                to.leased++;
+                dropIfUnused(from);
+            }
+            return to;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void acquireSlot() throws JAXRException {
+        lock.lock();
+        try {
+            if (closed) {
+                throw new JAXRException("Connection pool is closed");
+            }
+            if (evictor == null) {
+                startEvictor();
+            }
+            if (activeCount >= maxActive) {
+                metrics.waited();
+                long remaining = TimeUnit.MILLISECONDS.toNanos(maxWait);
+                while (activeCount >= maxActive && !closed) {
+                    if (maxWait < 0) {
+                        available.await();
+                    } else if (remaining <= 0) {
+                        metrics.timedOut();
+                        throw new JAXRException("Timed out after " + maxWait +
+                        " ms waiting for a pooled Connection");
+                    } else {
+                        remaining = available.awaitNanos(remaining);
+                    }
+                }
+                if (closed) {
+                    throw new JAXRException("Connection pool is closed");
+                }
+            }
+            activeCount++;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JAXRException("Interrupted while waiting for a pooled Connection", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void releaseSlot() {
+        lock.lock();
+        try {
+            activeCount--;
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void releaseLease(Partition partition) {
+        lock.lock();
+        try {
+            partition.leased--;
+            dropIfUnused(partition);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Connection take(Partition partition) throws JAXRException {
+        while (true) {
+            IdleConnection entry;
+            lock.lock();
+            try {
+                entry = (IdleConnection) partition.idle.pollFirst();
+                if (entry != null) {
+                    idleCount--;
+                    metrics.idleRemoved();
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (entry == null) {
+                return create(partition);
+            }
+            if (validate(entry.connection, testOnBorrow)) {
+                return entry.connection;
+            }
+            destroy(entry.connection);
+        }
+    }
+
+    private Connection create(Partition partition) throws JAXRException {
+        Connection connection = factory.createConnection();
+        metrics.created();
+        if (!partition.credentials.isEmpty()) {
+            try {
+                connection.setCredentials(partition.credentials);
+            } catch (JAXRException e) {
+                destroy(connection);
+                throw e;
+            }
+        }
+        return connection;
+    }
+
+    private boolean validate(Connection connection, boolean fetchCapabilityProfile) {
+        boolean valid;
+        try {
+            valid = !connection.isClosed() && (!fetchCapabilityProfile ||
+            connection.getRegistryService().getCapabilityProfile() != null);
+        } catch (JAXRException e) {
+            valid = false;
+        } catch (RuntimeException e) {
+            valid = false;
+        }
+        if (!valid) {
+            metrics.validationFailed();
+        }
+        return valid;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void restore(Partition partition, IdleConnection entry) {
+        boolean pooled = false;
+        lock.lock();
+        try {
+            if (!closed && partition.idle.size() < maxIdle && idleCount < maxTotalIdle
+            && partitions.get(partition.key) == partition) {
+                partition.idle.addLast(entry);
+                idleCount++;
+                metrics.idleAdded();
+                pooled = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (!pooled) {
+            destroy(entry.connection);
+        }
+    }
+
+    private boolean needsIdle(Partition partition) {
+        lock.lock();
+        try {
+            return !closed && partition.idle.size() < minIdle && idleCount < maxTotalIdle
+            && partitions.get(partition.key) == partition;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void destroy(Connection connection) {
+        try {
+            connection.close();
+        } catch (JAXRException e) {
+        } catch (RuntimeException e) {
+        }
+        metrics.destroyed();
+    }
+
+    private void destroyAll(List connections) {
+        for (Iterator i = connections.iterator(); i.hasNext();) {
+            destroy((Connection) i.next());
+        }
+    }
+
+    /** Must be called with the lock held. */
+    @SuppressWarnings("unchecked")
+    private List drainIdle() {
+        List drained = new ArrayList();
+        for (Iterator i = partitions.values().iterator(); i.hasNext();) {
+            Partition partition = (Partition) i.next();
+            IdleConnection entry;
+            while ((entry = (IdleConnection) partition.idle.pollFirst()) != null) {
+                idleCount--;
+                metrics.idleRemoved();
+                drained.add(entry.connection);
+            }
+            if (isUnused(partition)) {
+                i.remove();
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * Removes the Connection that has been idle for the longest time in any
+     * partition, dropping its partition if it is left unused unless it is
+     * the given one. Must be called with the lock held.
+     */
+    private Connection removeLongestIdle(Partition keep) {
+        Partition oldest = null;
+        for (Iterator i = partitions.values().iterator(); i.hasNext();) {
+            Partition partition = (Partition) i.next();
+            IdleConnection last = (IdleConnection) partition.idle.peekLast();
+            if (last != null && (oldest == null
+            || last.idleSince < ((IdleConnection) oldest.idle.peekLast()).idleSince)) {
+                oldest = partition;
+            }
+        }
+        if (oldest == null) {
+            return null;
+        }
+        IdleConnection entry = (IdleConnection) oldest.idle.pollLast();
+        idleCount--;
+        metrics.idleRemoved();
+        metrics.evicted();
+        if (oldest != keep) {
+            dropIfUnused(oldest);
+        }
+        return entry.connection;
+    }
+
+    /** Must be called with the lock held. */
+    @SuppressWarnings("unchecked")
+    private Partition partition(Set credentials) {
+        Set key = partitionKey(credentials);
+        Partition partition = (Partition) partitions.get(key);
+        if (partition == null) {
+            Set copy = credentials == null ? Collections.EMPTY_SET : new HashSet(credentials);
+            partition = new Partition(key, Collections.unmodifiableSet(copy));
+            partitions.put(key, partition);
+        }
+        return partition;
+    }
+
+    /** Must be called with the lock held. */
+    private void dropIfUnused(Partition partition) {
+        if (isUnused(partition) && partitions.get(partition.key) == partition) {
+            partitions.remove(partition.key);
+        }
+    }
+
+    /**
+     * A partition without Connections is kept only if it is the anonymous
+     * one and the evictor is to keep minIdle Connections in it.
+     */
+    private boolean isUnused(Partition partition) {
+        return partition.idle.isEmpty() && partition.leased == 0
+        && (minIdle == 0 || !partition.key.isEmpty());
+    }
+
+    /**
+     * Gets the value that identifies the partition for a credential set.
+     * A PasswordAuthentication is replaced by its user name and a SHA-256
+     * digest of its password, as it does not implement equals.
+     */
+    @SuppressWarnings("unchecked")
+    static Set partitionKey(Set credentials) {
+        if (credentials == null || credentials.isEmpty()) {
+            return Collections.EMPTY_SET;
+        }
+        Set key = new HashSet(credentials.size() * 2);
+        for (Iterator i = credentials.iterator(); i.hasNext();) {
+            Object credential = i.next();
+            if (credential instanceof PasswordAuthentication) {
+                PasswordAuthentication authentication = (PasswordAuthentication) credential;
+                char[] password = authentication.getPassword();
+                credential = new PasswordKey(authentication.getUserName(), digest(password));
+                Arrays.fill(password, '\0');
+            }
+            key.add(credential);
+        }
+        return Collections.unmodifiableSet(key);
+    }
+
+    private static String digest(char[] password) {
+        ByteBuffer encoded = Charset.forName("UTF-8").encode(CharBuffer.wrap(password));
+        MessageDigest md;
+        try {
+            md = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        md.update(encoded);
+        if (encoded.hasArray()) {
+            Arrays.fill(encoded.array(), (byte) 0);
+        }
+        byte[] bytes = md.digest();
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[2 * i] = HEX[(bytes[i] >> 4) & 0xf];
+            chars[2 * i + 1] = HEX[bytes[i] & 0xf];
+        }
+        return new String(chars);
+    }
+
+    /** Must be called with the lock held. */
+    private void startEvictor() {
+        if (evictor != null) {
+            evictor.cancel();
+            evictor = null;
+        }
+        if (!closed && timeBetweenEvictionRunsMillis > 0) {
+            evictor = new Timer("jaxr-connection-pool-evictor", true);
+            evictor.schedule(new TimerTask() {
+                public void run() {
+                    evict();
+                }
+            }, timeBetweenEvictionRunsMillis, timeBetweenEvictionRunsMillis);
+        }
+    }
+
+    private static int intProperty(Properties properties, String name, int defaultValue)
+    throws JAXRException {
+        return (int) longProperty(properties, name, defaultValue);
+    }
+
+    private static long longProperty(Properties properties, String name, long defaultValue)
+    throws JAXRException {
+        String value = properties == null ? null : properties.getProperty(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new JAXRException("Invalid value for " + name + ": " + value, e);
+        }
+    }
+
+    private static boolean booleanProperty(Properties properties, String name, boolean defaultValue) {
+        String value = properties == null ? null : properties.getProperty(name);
+        return value == null ? defaultValue : Boolean.valueOf(value.trim()).booleanValue();
+    }
+
+    /**
+     * The idle Connections created with one credential set. Guarded by the pool lock.
+     */
+    static final class Partition {
+        final Set key;
+        final Set credentials;
+        final ArrayDeque idle = new ArrayDeque();
+        int leased;
+
+        Partition(Set key, Set credentials) {
+            this.key = key;
+            this.credentials = credentials;
+        }
+    }
+
+    /**
+     * Stands for a PasswordAuthentication in a partition key.
+     */
+    private static final class PasswordKey {
+        final String userName;
+        final String passwordDigest;
+
+        PasswordKey(String userName, String passwordDigest) {
+            this.userName = userName;
+            this.passwordDigest = passwordDigest;
+        }
+
+        public boolean equals(Object o) {
+            if (!(o instanceof PasswordKey)) {
+                return false;
+            }
+            PasswordKey other = (PasswordKey) o;
+            return (userName == null ? other.userName == null : userName.equals(other.userName))
+            && passwordDigest.equals(other.passwordDigest);
+        }
+
+        public int hashCode() {
+            return 31 * (userName == null ? 0 : userName.hashCode()) + passwordDigest.hashCode();
+        }
+    }
+
+    private static final class IdleConnection {
+        final Connection connection;
+        /** System.nanoTime when the Connection became idle. */
+        final long idleSince;
+
+        IdleConnection(Connection connection, long idleSince) {
+            this.connection = connection;
+            this.idleSince = idleSince;
+        }
+    }
+}
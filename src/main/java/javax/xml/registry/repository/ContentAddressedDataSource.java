@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.repository;
+
+/**
+ * The DataSource of a repository item kept in a ContentStore. It shares
+ * the mapping of the stored content with all other items of the same
+ * digest, under its own name and content type.
+ *
+ * @see ContentStore
+ */
+public class ContentAddressedDataSource extends MappedDataSource {
+
+    private final ContentStore store;
+    private final String digest;
+
+    ContentAddressedDataSource(ContentStore store, String digest, MappedDataSource content, String name,
+    String contentType) {
+        super(content, name, contentType);
+        this.store = store;
+        this.digest = digest;
+    }
+
+    /**
+     * Gets the digest of the content.
+     *
+     * @return the lower case hexadecimal SHA-256 digest
+     */
+    public String getDigest() {
+        return digest;
+    }
+
+    /**
+     * Gets the ContentStore that keeps the content.
+     *
+     * @return the ContentStore
+     */
+    public ContentStore getStore() {
+        return store;
+    }
+
+    public String toString() {
+        return "ContentAddressedDataSource[" + digest + ", " + getContentType() + ", " + getSize() + " bytes]";
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.repository;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.activation.DataHandler;
+
+/**
+ * A content addressed store of repository items in a local directory.
+ * <p>
+ * Each distinct content is kept once, in a file named after its SHA-256
+ * digest, so that storage grows with unique content rather than with the
+ * number of ExtrinsicObjects referring to it. put returns a DataHandler
+ * over the stored file, whose ContentAddressedDataSource carries the
+ * digest. Putting such a DataHandler again is free; other items are
+ * hashed, and their content is only kept if it is not stored yet. Stored files are mapped once
+ * and the mappings are cached by digest, so all items of one content share
+ * one mapping.
+ * <p>
+ * A ContentStore is thread safe, and several stores may share a directory.
+ *
+ * @see ContentAddressedDataSource
+ */
+public class ContentStore {
+
+    /**
+     * The digest algorithm naming the stored files.
+     */
+    public static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final File directory;
+    private final ConcurrentMap mappings = new ConcurrentHashMap();
+
+    /**
+     * Creates a store in a directory, creating the directory if needed.
+     *
+     * @param directory the directory
+     * @throws IOException	If the directory cannot be created
+     */
+    public ContentStore(File directory) throws IOException {
+        if (directory == null) {
+            throw new IllegalArgumentException("directory must not be null");
+        }
+        Files.createDirectories(directory.toPath());
+        this.directory = directory;
+    }
+
+    /**
+     * Gets the directory of the store.
+     *
+     * @return the directory
+     */
+    public File getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Stores the content of a repository item, unless the same content is
+     * already stored.
+     *
+     * @param item the repository item
+     * @return a DataHandler over the stored content, with the name and content type of the item
+     * @throws IOException	If the item cannot be read or stored
+     */
+    public MappedDataHandler put(DataHandler item) throws IOException {
+        if (item == null) {
+            throw new IllegalArgumentException("item must not be null");
+        }
+        Object source = item.getDataSource();
+        if (source instanceof ContentAddressedDataSource && ((ContentAddressedDataSource) source).getStore() == this) {
+            return item instanceof MappedDataHandler ? (MappedDataHandler) item
+            : new MappedDataHandler((ContentAddressedDataSource) source);
+        }
+        String digest;
+        if (source instanceof MappedDataSource) {
+            MappedDataSource mapped = (MappedDataSource) source;
+            MessageDigest md = newDigest();
+            md.update(mapped.getBuffer());
+            digest = hex(md.digest());
+            if (!fileOf(digest).exists()) {
+                File temp = tempFile();
+                try (FileChannel out = FileChannel.open(temp.toPath(), StandardOpenOption.WRITE)) {
+                    mapped.transferTo(out);
+                }
+                publish(temp, digest);
+            }
+        } else {
+            File temp = tempFile();
+            MessageDigest md = newDigest();
+            try (InputStream in = new DigestInputStream(item.getInputStream(), md)) {
+                Files.copy(in, temp.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                temp.delete();
+                throw e;
+            }
+            digest = hex(md.digest());
+            publish(temp, digest);
+        }
+        return get(digest, item.getName(), item.getContentType());
+    }
+
+    /**
+     * Gets stored content by its digest.
+     *
+     * @param digest the lower case hexadecimal digest
+     * @param name the name of the item, or <code>null</code>
+     * @param contentType the MIME type, or <code>null</code> for the default
+     * @return a DataHandler over the content, or <code>null</code> if it is not stored
+     * @throws IOException	If the content cannot be mapped
+     */
+    @SuppressWarnings("unchecked")
+    public MappedDataHandler get(String digest, String name, String contentType) throws IOException {
+        MappedDataSource content = (MappedDataSource) mappings.get(digest);
+        if (content == null) {
+            File file = fileOf(digest);
+            if (!file.exists()) {
+                return null;
+            }
+            content = new MappedDataSource(file, null);
+            MappedDataSource existing = (MappedDataSource) mappings.putIfAbsent(digest, content);
+            if (existing != null) {
+                content = existing;
+            }
+        }
+        return new MappedDataHandler(new ContentAddressedDataSource(this, digest, content, name, contentType));
+    }
+
+    /**
+     * Determines whether content with a digest is stored.
+     *
+     * @param digest the lower case hexadecimal digest
+     * @return <code>true</code> if the content is stored
+     */
+    public boolean contains(String digest) {
+        return mappings.containsKey(digest) || fileOf(digest).exists();
+    }
+
+    /**
+     * Computes the digest of a repository item without storing it.
+     *
+     * @param item the repository item
+     * @return the lower case hexadecimal digest
+     * @throws IOException	If the item cannot be read
+     */
+    public static String digest(DataHandler item) throws IOException {
+        Object source = item.getDataSource();
+        if (source instanceof ContentAddressedDataSource) {
+            return ((ContentAddressedDataSource) source).getDigest();
+        }
+        MessageDigest md = newDigest();
+        if (source instanceof MappedDataSource) {
+            md.update(((MappedDataSource) source).getBuffer());
+        } else {
+            try (InputStream in = item.getInputStream()) {
+                byte[] b = new byte[8192];
+                for (int n; (n = in.read(b)) > 0;) {
+                    md.update(b, 0, n);
+                }
+            }
+        }
+        return hex(md.digest());
+    }
+
+    /**
+     * Forgets the cached mappings. Stored files are kept.
+     */
+    public void clearCache() {
+        mappings.clear();
+    }
+
+    public String toString() {
+        return "ContentStore[" + directory + "]";
+    }
+
+    private File fileOf(String digest) {
+        if (digest == null || digest.length() < 3) {
+            throw new IllegalArgumentException("Invalid digest: " + digest);
+        }
+        return new File(new File(directory, digest.substring(0, 2)), digest.substring(2));
+    }
+
+    private File tempFile() throws IOException {
+        return File.createTempFile("item", ".tmp", directory);
+    }
+
+    /**
+     * Moves a written temporary file to its digest, keeping the file of a
+     * concurrent writer of the same content.
+     */
+    private void publish(File temp, String digest) throws IOException {
+        File target = fileOf(digest);
+        if (target.exists()) {
+            temp.delete();
+            return;
+        }
+        try {
+            Files.createDirectories(target.getParentFile().toPath());
+            // replaces the file of a concurrent writer with the same content
+            Files.move(temp.toPath(), target.toPath(), StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            temp.delete();
+            throw e;
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " is not available", e);
+        }
+    }
+
+    private static String hex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[2 * i] = HEX[(bytes[i] >> 4) & 0xf];
+            chars[2 * i + 1] = HEX[bytes[i] & 0xf];
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.repository;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import javax.activation.DataHandler;
+
+/**
+ * A DataHandler for a MappedDataSource, for use as the repository item of
+ * an ExtrinsicObject.
+ * <p>
+ * writeTo transfers the mapped content to a FileOutputStream with
+ * FileChannel.transferTo, and to any other OutputStream through a channel,
+ * instead of copying it through an InputStream.
+ *
+ * @see MappedDataSource
+ */
+public class MappedDataHandler extends DataHandler {
+
+    private final MappedDataSource dataSource;
+
+    /**
+     * Creates a DataHandler for a MappedDataSource.
+     *
+     * @param dataSource the MappedDataSource
+     */
+    public MappedDataHandler(MappedDataSource dataSource) {
+        super(dataSource);
+        if (dataSource == null) {
+            throw new IllegalArgumentException("dataSource must not be null");
+        }
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Gets the MappedDataSource of this DataHandler.
+     *
+     * @return the MappedDataSource
+     */
+    public MappedDataSource getMappedDataSource() {
+        return dataSource;
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        if (out instanceof FileOutputStream) {
+            dataSource.transferTo(((FileOutputStream) out).getChannel());
+        } else {
+            dataSource.transferTo(Channels.newChannel(out));
+        }
+    }
+
+    /**
+     * Writes the content of any DataHandler to a channel in blocking mode,
+     * without copying it onto the heap if it is backed by a MappedDataSource.
+     *
+     * @param handler the DataHandler, for instance the repository item of an ExtrinsicObject
+     * @param target the channel
+     * @return the number of bytes written
+     * @throws IOException	If the content cannot be read or written
+     */
+    public static long transferTo(DataHandler handler, WritableByteChannel target) throws IOException {
+        if (handler.getDataSource() instanceof MappedDataSource) {
+            return ((MappedDataSource) handler.getDataSource()).transferTo(target);
+        }
+        long total = 0;
+        try (InputStream in = handler.getInputStream()) {
+            byte[] b = new byte[8192];
+            ByteBuffer buffer = ByteBuffer.wrap(b);
+            for (int n; (n = in.read(b)) > 0;) {
+                buffer.clear().limit(n);
+                while (buffer.hasRemaining()) {
+                    target.write(buffer);
+                }
+                total += n;
+            }
+        }
+        return total;
+    }
+}
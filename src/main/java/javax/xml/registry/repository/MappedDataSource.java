@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.repository;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import javax.activation.DataSource;
+
+/**
+ * A read-only DataSource over a memory mapped file region or any other
+ * ByteBuffer.
+ * <p>
+ * The content stays in the mapping, outside the Java heap. getBuffer
+ * returns it as a ByteBuffer, so that a provider can keep many repository
+ * items in one mapped file and serve each as a slice of it. transferTo
+ * writes the content to a channel; for a file region it uses
+ * FileChannel.transferTo, which lets the operating system send the pages
+ * directly to a socket or file. getInputStream is only needed by
+ * consumers of the plain DataSource interface.
+ *
+ * @see MappedDataHandler
+ */
+public class MappedDataSource implements DataSource {
+
+    /**
+     * The content type used when none is given.
+     */
+    public static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+
+    private final ByteBuffer buffer;
+    private final String name;
+    private final String contentType;
+    private final File file;
+    private final long position;
+
+    /**
+     * Maps a whole file.
+     *
+     * @param file the file
+     * @param contentType the MIME type, or <code>null</code> for DEFAULT_CONTENT_TYPE
+     * @throws IOException	If the file cannot be mapped
+     */
+    public MappedDataSource(File file, String contentType) throws IOException {
+        this(file, 0, file.length(), contentType);
+    }
+
+    /**
+     * Maps a region of a file.
+     *
+     * @param file the file
+     * @param position the offset of the region in the file
+     * @param size the size of the region, at most Integer.MAX_VALUE bytes
+     * @param contentType the MIME type, or <code>null</code> for DEFAULT_CONTENT_TYPE
+     * @throws IOException	If the region cannot be mapped
+     */
+    public MappedDataSource(File file, long position, long size, String contentType) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("file must not be null");
+        }
+        if (position < 0 || size < 0 || size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid region " + position + "+" + size + " of " + file);
+        }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            if (position + size > channel.size()) {
+                throw new IOException("Region " + position + "+" + size + " exceeds the size of " + file);
+            }
+            this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+        }
+        this.name = file.getName();
+        this.contentType = contentType == null ? DEFAULT_CONTENT_TYPE : contentType;
+        this.file = file;
+        this.position = position;
+    }
+
+    /**
+     * Creates a DataSource over the remaining content of a ByteBuffer, for
+     * instance a slice of a mapped file. The buffer is not copied; its
+     * position and limit are not changed.
+     *
+     * @param buffer the content
+     * @param name the name of the item, or <code>null</code>
+     * @param contentType the MIME type, or <code>null</code> for DEFAULT_CONTENT_TYPE
+     */
+    public MappedDataSource(ByteBuffer buffer, String name, String contentType) {
+        if (buffer == null) {
+            throw new IllegalArgumentException("buffer must not be null");
+        }
+        this.buffer = buffer.slice();
+        this.name = name;
+        this.contentType = contentType == null ? DEFAULT_CONTENT_TYPE : contentType;
+        this.file = null;
+        this.position = 0;
+    }
+
+    /**
+     * Creates a DataSource over the same content as another one, under a
+     * different name and content type.
+     *
+     * @param source the MappedDataSource whose content is shared
+     * @param name the name of the item, or <code>null</code>
+     * @param contentType the MIME type, or <code>null</code> for DEFAULT_CONTENT_TYPE
+     */
+    protected MappedDataSource(MappedDataSource source, String name, String contentType) {
+        this.buffer = source.buffer;
+        this.name = name;
+        this.contentType = contentType == null ? DEFAULT_CONTENT_TYPE : contentType;
+        this.file = source.file;
+        this.position = source.position;
+    }
+
+    /**
+     * Gets the content.
+     *
+     * @return a read-only ByteBuffer over the content, positioned at its start
+     */
+    public ByteBuffer getBuffer() {
+        return buffer.asReadOnlyBuffer();
+    }
+
+    /**
+     * Gets the size of the content.
+     *
+     * @return the size in bytes
+     */
+    public long getSize() {
+        return buffer.capacity();
+    }
+
+    /**
+     * Writes the whole content to a channel in blocking mode.
+     *
+     * @param target the channel
+     * @return the number of bytes written
+     * @throws IOException	If the content cannot be written
+     */
+    public long transferTo(WritableByteChannel target) throws IOException {
+        long size = buffer.capacity();
+        if (file != null) {
+            try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                long done = 0;
+                while (done < size) {
+                    long n = channel.transferTo(position + done, size - done, target);
+                    if (n <= 0) {
+                        if (channel.size() < position + size) {
+                            throw new IOException(file + " was truncated while being transferred");
+                        }
+                        break;
+                    }
+                    done += n;
+                }
+                return done;
+            }
+        }
+        ByteBuffer content = buffer.duplicate();
+        while (content.hasRemaining()) {
+            target.write(content);
+        }
+        return size;
+    }
+
+    public InputStream getInputStream() {
+        return new BufferInputStream(buffer.duplicate());
+    }
+
+    /**
+     * The content is read-only.
+     *
+     * @throws IOException	always
+     */
+    public OutputStream getOutputStream() throws IOException {
+        throw new IOException("Repository item " + name + " is read-only");
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String toString() {
+        return "MappedDataSource[" + name + ", " + contentType + ", " + buffer.capacity() + " bytes]";
+    }
+
+    /**
+     * An InputStream reading from a ByteBuffer, copying only into the
+     * arrays passed to read.
+     */
+    private static final class BufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+        private int mark;
+
+        BufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+        }
+
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+
+        public long skip(long n) {
+            int skipped = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + skipped);
+            return skipped;
+        }
+
+        public int available() {
+            return buffer.remaining();
+        }
+
+        public boolean markSupported() {
+            return true;
+        }
+
+        public void mark(int readlimit) {
+            mark = buffer.position();
+        }
+
+        public void reset() {
+            buffer.position(mark);
+        }
+    }
+}
@@ -0,0 +1,749 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.xml;
+
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.*;
+import javax.xml.registry.*;
+import javax.xml.registry.cursor.UncheckedJAXRException;
+import javax.xml.registry.infomodel.*;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Reads RegistryObjects from XML written by RegistryObjectWriter, one
+ * top level object at a time.
+ * <p>
+ * The input is either a single object or a <code>RegistryObjects</code>
+ * document, which is pulled with StAX as objects are requested, so only
+ * the current object is held in memory. Objects are created with a
+ * LifeCycleManager, together with the objects they compose.
+ * <p>
+ * A reference to another object is resolved to that object if it was read
+ * as part of the same top level object, and otherwise to a new object of
+ * the referenced type that only carries its Key. The type of a reference
+ * is given by the attribute, except for Association source and target,
+ * SpecificationLink specification objects, RegistryPackage members and
+ * Concept parents, whose type is looked up among the most recently read
+ * objects. An object with a reference to an object not read yet is held
+ * back until that object has been read, and is returned right after it;
+ * references that are still open at the end of the input are looked up
+ * with the BusinessQueryManager, and left unset if not found. Returning objects after the objects they
+ * refer to lets them be passed directly to BulkLoader.save(Iterator, int).
+ *
+ * @see RegistryObjectWriter
+ */
+public class RegistryObjectReader {
+
+    /**
+     * The default number of recently read objects whose type is remembered.
+     */
+    public static final int DEFAULT_REFERENCE_CACHE_SIZE = 65536;
+
+    private static final int PARENT_ORGANIZATION = 0;
+    private static final int PRIMARY_CONTACT = 1;
+    private static final int TARGET_BINDING = 2;
+    private static final int SPECIFICATION_OBJECT = 3;
+    private static final int PARENT_CONCEPT = 4;
+    private static final int CONCEPT = 5;
+    private static final int CLASSIFICATION_SCHEME = 6;
+    private static final int IDENTIFICATION_SCHEME = 7;
+    private static final int SOURCE_OBJECT = 8;
+    private static final int TARGET_OBJECT = 9;
+    private static final int ASSOCIATION_TYPE = 10;
+    private static final int EXTERNAL_LINK = 11;
+    private static final int MEMBER = 12;
+    private static final int POSTAL_SCHEME = 13;
+
+    private static final XMLInputFactory INPUT_FACTORY = XMLInputFactory.newInstance();
+
+    static {
+        INPUT_FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+        INPUT_FACTORY.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+    }
+
+    private final LifeCycleManager lifeCycleManager;
+    private final XMLStreamReader reader;
+    private final Map recentTypes;
+    private final Map local = new HashMap();
+    private final List fixups = new ArrayList();
+    private final Map waiting = new HashMap();
+    private final Map pending = new LinkedHashMap();
+    private final LinkedList ready = new LinkedList();
+    private boolean collection;
+    private boolean ended;
+
+    /**
+     * Creates a reader that remembers the types of the last
+     * DEFAULT_REFERENCE_CACHE_SIZE objects.
+     *
+     * @param in the XML input
+     * @param lifeCycleManager the LifeCycleManager creating the objects
+     * @throws JAXRException	If the input is not XML
+     *
+     */
+    public RegistryObjectReader(InputStream in, LifeCycleManager lifeCycleManager) throws JAXRException {
+        this(in, lifeCycleManager, DEFAULT_REFERENCE_CACHE_SIZE);
+    }
+
+    /**
+     * Creates a reader.
+     *
+     * @param in the XML input
+     * @param lifeCycleManager the LifeCycleManager creating the objects
+     * @param referenceCacheSize the number of recently read objects whose type is remembered
+     * @throws JAXRException	If the input is not XML
+     *
+     */
+    public RegistryObjectReader(InputStream in, LifeCycleManager lifeCycleManager, final int referenceCacheSize)
+    throws JAXRException {
+        if (in == null || lifeCycleManager == null) {
+            throw new IllegalArgumentException("in and lifeCycleManager must not be null");
+        }
+        if (referenceCacheSize < 0) {
+            throw new IllegalArgumentException("referenceCacheSize must not be negative: " + referenceCacheSize);
+        }
+        this.lifeCycleManager = lifeCycleManager;
+        this.recentTypes = new LinkedHashMap(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            protected boolean removeEldestEntry(Map.Entry eldest) {
+                return size() > referenceCacheSize;
+            }
+        };
+        try {
+            reader = INPUT_FACTORY.createXMLStreamReader(in);
+            if (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                collection = RegistryObjectWriter.COLLECTION.equals(reader.getLocalName());
+            }
+        } catch (XMLStreamException e) {
+            throw new JAXRException("Cannot read RegistryObjects: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Determines whether more objects are available, reading the next
+     * object if needed.
+     *
+     * @return <code>true</code> if next will return an object; <code>false</code> otherwise
+     * @throws JAXRException	If the input is not valid or an object cannot be created
+     *
+     */
+    public boolean hasNext() throws JAXRException {
+        try {
+            while (ready.isEmpty() && !ended) {
+                if (collection ? reader.nextTag() == XMLStreamConstants.START_ELEMENT
+                : reader.isStartElement()) {
+                    readTopLevel();
+                } else {
+                    ended = true;
+                    finish();
+                }
+            }
+        } catch (XMLStreamException e) {
+            throw new JAXRException("Cannot read RegistryObjects: " + e.getMessage(), e);
+        }
+        return !ready.isEmpty();
+    }
+
+    /**
+     * Returns the next object.
+     *
+     * @return the next RegistryObject
+     * @throws NoSuchElementException	If there are no more objects
+     * @throws JAXRException	If the input is not valid or an object cannot be created
+     *
+     */
+    public RegistryObject next() throws JAXRException {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return (RegistryObject) ready.removeFirst();
+    }
+
+    /**
+     * Returns an Iterator over the remaining objects. JAXRExceptions are
+     * rethrown wrapped in an UncheckedJAXRException.
+     *
+     * @return an Iterator over the remaining objects
+     */
+    public Iterator iterator() {
+        return new Iterator() {
+            public boolean hasNext() {
+                try {
+                    return RegistryObjectReader.this.hasNext();
+                } catch (JAXRException e) {
+                    throw new UncheckedJAXRException(e);
+                }
+            }
+
+            public Object next() {
+                try {
+                    return RegistryObjectReader.this.next();
+                } catch (JAXRException e) {
+                    throw new UncheckedJAXRException(e);
+                }
+            }
+
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    /**
+     * Releases the XML parser. The InputStream is not closed.
+     *
+     * @throws JAXRException	If the parser cannot be closed
+     *
+     */
+    public void close() throws JAXRException {
+        ended = true;
+        ready.clear();
+        pending.clear();
+        waiting.clear();
+        try {
+            reader.close();
+        } catch (XMLStreamException e) {
+            throw new JAXRException("Cannot close reader", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readTopLevel() throws JAXRException, XMLStreamException {
+        if (!RegistryObjectWriter.NAMESPACE.equals(reader.getNamespaceURI()) || !isObject(reader.getLocalName())) {
+            skip();
+            if (!collection) {
+                reader.next();
+            }
+            return;
+        }
+        RegistryObject object = readObject(reader.getLocalName());
+        if (!collection) {
+            // move past the root, so that the next call ends the input
+            reader.next();
+        }
+
+        Pending owner = null;
+        for (int i = 0; i < fixups.size(); i++) {
+            Fixup fixup = (Fixup) fixups.get(i);
+            RegistryObject target = (RegistryObject) local.get(fixup.id);
+            if (target == null) {
+                String type = fixup.type != null ? fixup.type : (String) recentTypes.get(fixup.id);
+                target = type == null ? null : reference(type, fixup.id);
+            }
+            if (target != null) {
+                apply(fixup, target);
+            } else {
+                if (owner == null) {
+                    owner = new Pending(object);
+                }
+                owner.open++;
+                fixup.owner = owner;
+                List list = (List) waiting.get(fixup.id);
+                if (list == null) {
+                    list = new ArrayList(1);
+                    waiting.put(fixup.id, list);
+                }
+                list.add(fixup);
+            }
+        }
+        if (owner == null) {
+            ready.add(object);
+        } else {
+            pending.put(owner, owner);
+        }
+
+        if (!waiting.isEmpty()) {
+            for (Iterator i = local.entrySet().iterator(); i.hasNext();) {
+                Map.Entry entry = (Map.Entry) i.next();
+                List list = (List) waiting.remove(entry.getKey());
+                for (int j = 0; list != null && j < list.size(); j++) {
+                    Fixup fixup = (Fixup) list.get(j);
+                    apply(fixup, (RegistryObject) entry.getValue());
+                    if (--fixup.owner.open == 0) {
+                        pending.remove(fixup.owner);
+                        ready.add(fixup.owner.object);
+                    }
+                }
+            }
+        }
+        local.clear();
+        fixups.clear();
+    }
+
+    /**
+     * Looks up the references still open at the end of the input, and
+     * releases all objects held back.
+     */
+    @SuppressWarnings("unchecked")
+    private void finish() throws JAXRException {
+        if (!waiting.isEmpty()) {
+            QueryManager queryManager = lifeCycleManager.getRegistryService().getBusinessQueryManager();
+            for (Iterator i = waiting.entrySet().iterator(); i.hasNext();) {
+                Map.Entry entry = (Map.Entry) i.next();
+                RegistryObject target = queryManager.getRegistryObject((String) entry.getKey());
+                List list = (List) entry.getValue();
+                for (int j = 0; target != null && j < list.size(); j++) {
+                    apply((Fixup) list.get(j), target);
+                }
+            }
+            waiting.clear();
+        }
+        for (Iterator i = pending.keySet().iterator(); i.hasNext();) {
+            ready.add(((Pending) i.next()).object);
+        }
+        pending.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private RegistryObject readObject(String type) throws JAXRException, XMLStreamException {
+        RegistryObject object = (RegistryObject) lifeCycleManager.createObject(type);
+        String id = attribute("id");
+        if (id != null) {
+            object.setKey(lifeCycleManager.createKey(id));
+            local.put(id, object);
+            recentTypes.put(id, type);
+        }
+        readAttributes(object);
+
+        List usageParameters = null;
+        List postalAddresses = null;
+        List telephoneNumbers = null;
+        List emailAddresses = null;
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            String name = reader.getLocalName();
+            if (isObject(name)) {
+                compose(object, readObject(name));
+            } else if ("Name".equals(name)) {
+                object.setName(readInternationalString());
+            } else if ("Description".equals(name)) {
+                object.setDescription(readInternationalString());
+            } else if ("Slot".equals(name)) {
+                object.addSlot(readSlot());
+            } else if ("ExternalLinkRef".equals(name)) {
+                fixup(object, EXTERNAL_LINK, attribute("id"), LifeCycleManager.EXTERNAL_LINK);
+                skip();
+            } else if ("MemberRef".equals(name) && object instanceof RegistryPackage) {
+                fixup(object, MEMBER, attribute("id"), null);
+                skip();
+            } else if ("UsageDescription".equals(name) && object instanceof SpecificationLink) {
+                ((SpecificationLink) object).setUsageDescription(readInternationalString());
+            } else if ("UsageParameter".equals(name) && object instanceof SpecificationLink) {
+                usageParameters = add(usageParameters, reader.getElementText());
+            } else if ("PostalAddress".equals(name) && object instanceof Organization) {
+                ((Organization) object).setPostalAddress(readPostalAddress());
+            } else if ("PostalAddress".equals(name) && object instanceof User) {
+                postalAddresses = add(postalAddresses, readPostalAddress());
+            } else if ("TelephoneNumber".equals(name)) {
+                telephoneNumbers = add(telephoneNumbers, readTelephoneNumber());
+            } else if ("EmailAddress".equals(name) && object instanceof User) {
+                emailAddresses = add(emailAddresses,
+                lifeCycleManager.createEmailAddress(attribute("address"), attribute("type")));
+                skip();
+            } else if ("PersonName".equals(name) && object instanceof User) {
+                ((User) object).setPersonName(readPersonName());
+            } else {
+                skip();
+            }
+        }
+
+        if (usageParameters != null) {
+            ((SpecificationLink) object).setUsageParameters(usageParameters);
+        }
+        if (postalAddresses != null) {
+            ((User) object).setPostalAddresses(postalAddresses);
+        }
+        if (telephoneNumbers != null) {
+            if (object instanceof Organization) {
+                ((Organization) object).setTelephoneNumbers(telephoneNumbers);
+            } else if (object instanceof User) {
+                ((User) object).setTelephoneNumbers(telephoneNumbers);
+            }
+        }
+        if (emailAddresses != null) {
+            ((User) object).setEmailAddresses(emailAddresses);
+        }
+        return object;
+    }
+
+    private void readAttributes(RegistryObject object) throws JAXRException {
+        if (object instanceof RegistryEntry) {
+            RegistryEntry entry = (RegistryEntry) object;
+            String value = attribute("stability");
+            if (value != null) {
+                entry.setStability(toInt(value));
+            }
+            value = attribute("majorVersion");
+            if (value != null) {
+                entry.setMajorVersion(toInt(value));
+            }
+            value = attribute("minorVersion");
+            if (value != null) {
+                entry.setMinorVersion(toInt(value));
+            }
+            value = attribute("userVersion");
+            if (value != null) {
+                entry.setUserVersion(value);
+            }
+            value = attribute("expiration");
+            if (value != null) {
+                entry.setExpiration(new Date(toLong(value)));
+            }
+        }
+        if (object instanceof Organization) {
+            fixup(object, PARENT_ORGANIZATION, attribute("parent"), LifeCycleManager.ORGANIZATION);
+            fixup(object, PRIMARY_CONTACT, attribute("primaryContact"), LifeCycleManager.USER);
+        } else if (object instanceof ServiceBinding) {
+            ServiceBinding binding = (ServiceBinding) object;
+            String accessURI = attribute("accessURI");
+            if (accessURI != null) {
+                binding.setValidateURI(false);
+                binding.setAccessURI(accessURI);
+            }
+            fixup(object, TARGET_BINDING, attribute("targetBinding"), LifeCycleManager.SERVICE_BINDING);
+        } else if (object instanceof SpecificationLink) {
+            fixup(object, SPECIFICATION_OBJECT, attribute("specificationObject"), null);
+        } else if (object instanceof Concept) {
+            Concept concept = (Concept) object;
+            concept.setValue(attribute("value"));
+            // nested Concepts are added to their parent by compose
+            if (!local.containsKey(attribute("parent"))) {
+                fixup(object, PARENT_CONCEPT, attribute("parent"), null);
+            }
+        } else if (object instanceof ClassificationScheme) {
+            String valueType = attribute("valueType");
+            if (valueType != null) {
+                ((ClassificationScheme) object).setValueType(toInt(valueType));
+            }
+        } else if (object instanceof Classification) {
+            Classification classification = (Classification) object;
+            fixup(object, CONCEPT, attribute("concept"), LifeCycleManager.CONCEPT);
+            fixup(object, CLASSIFICATION_SCHEME, attribute("classificationScheme"),
+            LifeCycleManager.CLASSIFICATION_SCHEME);
+            String value = attribute("value");
+            if (value != null) {
+                classification.setValue(value);
+            }
+        } else if (object instanceof ExternalIdentifier) {
+            fixup(object, IDENTIFICATION_SCHEME, attribute("identificationScheme"),
+            LifeCycleManager.CLASSIFICATION_SCHEME);
+            ((ExternalIdentifier) object).setValue(attribute("value"));
+        } else if (object instanceof ExternalLink) {
+            ExternalLink link = (ExternalLink) object;
+            String externalURI = attribute("externalURI");
+            if (externalURI != null) {
+                link.setValidateURI(false);
+                link.setExternalURI(externalURI);
+            }
+        } else if (object instanceof Association) {
+            fixup(object, SOURCE_OBJECT, attribute("sourceObject"), null);
+            fixup(object, TARGET_OBJECT, attribute("targetObject"), null);
+            fixup(object, ASSOCIATION_TYPE, attribute("associationType"), LifeCycleManager.CONCEPT);
+        } else if (object instanceof ExtrinsicObject) {
+            ExtrinsicObject extrinsic = (ExtrinsicObject) object;
+            String mimeType = attribute("mimeType");
+            if (mimeType != null) {
+                extrinsic.setMimeType(mimeType);
+            }
+            extrinsic.setOpaque(Boolean.valueOf(attribute("isOpaque")).booleanValue());
+        } else if (object instanceof User) {
+            User user = (User) object;
+            user.setType(attribute("type"));
+            String url = attribute("url");
+            if (url != null) {
+                try {
+                    user.setUrl(new URL(url));
+                } catch (MalformedURLException e) {
+                    throw new InvalidRequestException("Invalid url of User " + attribute("id") + ": " + url, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds a composed object to the object that composes it.
+     */
+    private void compose(RegistryObject parent, RegistryObject child) throws JAXRException {
+        if (child instanceof Classification) {
+            parent.addClassification((Classification) child);
+        } else if (child instanceof ExternalIdentifier) {
+            parent.addExternalIdentifier((ExternalIdentifier) child);
+        } else if (child instanceof Association) {
+            parent.addAssociation((Association) child);
+        } else if (child instanceof User && parent instanceof Organization) {
+            ((Organization) parent).addUser((User) child);
+        } else if (child instanceof Service && parent instanceof Organization) {
+            ((Organization) parent).addService((Service) child);
+        } else if (child instanceof ServiceBinding && parent instanceof Service) {
+            ((Service) parent).addServiceBinding((ServiceBinding) child);
+        } else if (child instanceof SpecificationLink && parent instanceof ServiceBinding) {
+            ((ServiceBinding) parent).addSpecificationLink((SpecificationLink) child);
+        } else if (child instanceof Concept && parent instanceof ClassificationScheme) {
+            ((ClassificationScheme) parent).addChildConcept((Concept) child);
+        } else if (child instanceof Concept && parent instanceof Concept) {
+            ((Concept) parent).addChildConcept((Concept) child);
+        } else {
+            throw new InvalidRequestException("Unexpected " + RegistryObjectWriter.typeOf(child)
+            + " in " + RegistryObjectWriter.typeOf(parent));
+        }
+    }
+
+    private void apply(Fixup fixup, RegistryObject target) throws JAXRException {
+        Object object = fixup.object;
+        switch (fixup.kind) {
+            case PARENT_ORGANIZATION:
+                ((Organization) target).addChildOrganization((Organization) object);
+                break;
+            case PRIMARY_CONTACT:
+                ((Organization) object).setPrimaryContact((User) target);
+                break;
+            case TARGET_BINDING:
+                ((ServiceBinding) object).setTargetBinding((ServiceBinding) target);
+                break;
+            case SPECIFICATION_OBJECT:
+                ((SpecificationLink) object).setSpecificationObject(target);
+                break;
+            case PARENT_CONCEPT:
+                if (target instanceof ClassificationScheme) {
+                    ((ClassificationScheme) target).addChildConcept((Concept) object);
+                } else {
+                    ((Concept) target).addChildConcept((Concept) object);
+                }
+                break;
+            case CONCEPT:
+                ((Classification) object).setConcept((Concept) target);
+                break;
+            case CLASSIFICATION_SCHEME:
+                ((Classification) object).setClassificationScheme((ClassificationScheme) target);
+                break;
+            case IDENTIFICATION_SCHEME:
+                ((ExternalIdentifier) object).setIdentificationScheme((ClassificationScheme) target);
+                break;
+            case SOURCE_OBJECT:
+                ((Association) object).setSourceObject(target);
+                break;
+            case TARGET_OBJECT:
+                ((Association) object).setTargetObject(target);
+                break;
+            case ASSOCIATION_TYPE:
+                ((Association) object).setAssociationType((Concept) target);
+                break;
+            case EXTERNAL_LINK:
+                ((RegistryObject) object).addExternalLink((ExternalLink) target);
+                break;
+            case MEMBER:
+                ((RegistryPackage) object).addRegistryObject(target);
+                break;
+            case POSTAL_SCHEME:
+                ((PostalAddress) object).setPostalScheme((ClassificationScheme) target);
+                break;
+            default:
+                throw new IllegalStateException("Unknown reference kind " + fixup.kind);
+        }
+    }
+
+    /**
+     * Records a reference, to be resolved once the top level object has been read.
+     */
+    @SuppressWarnings("unchecked")
+    private void fixup(Object object, int kind, String id, String type) {
+        if (id != null) {
+            fixups.add(new Fixup(object, kind, id, type));
+        }
+    }
+
+    /**
+     * Creates an object that only carries its Key, to stand for an object
+     * that is not at hand.
+     */
+    private RegistryObject reference(String type, String id) throws JAXRException {
+        RegistryObject object = (RegistryObject) lifeCycleManager.createObject(type);
+        object.setKey(lifeCycleManager.createKey(id));
+        return object;
+    }
+
+    private InternationalString readInternationalString() throws JAXRException, XMLStreamException {
+        InternationalString s = lifeCycleManager.createInternationalString();
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            if ("LocalizedString".equals(reader.getLocalName())) {
+                String charset = attribute("charset");
+                s.addLocalizedString(lifeCycleManager.createLocalizedString(toLocale(attribute("lang")),
+                attribute("value"), charset == null ? LocalizedString.DEFAULT_CHARSET_NAME : charset));
+            }
+            skip();
+        }
+        return s;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Slot readSlot() throws JAXRException, XMLStreamException {
+        String name = attribute("name");
+        String slotType = attribute("slotType");
+        List values = new ArrayList();
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            if ("Value".equals(reader.getLocalName())) {
+                values.add(reader.getElementText());
+            } else {
+                skip();
+            }
+        }
+        return lifeCycleManager.createSlot(name, values, slotType);
+    }
+
+    private PostalAddress readPostalAddress() throws JAXRException, XMLStreamException {
+        PostalAddress address = lifeCycleManager.createPostalAddress(attribute("streetNumber"), attribute("street"),
+        attribute("city"), attribute("stateOrProvince"), attribute("country"), attribute("postalCode"),
+        attribute("type"));
+        fixup(address, POSTAL_SCHEME, attribute("postalScheme"), LifeCycleManager.CLASSIFICATION_SCHEME);
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            if ("Slot".equals(reader.getLocalName())) {
+                address.addSlot(readSlot());
+            } else {
+                skip();
+            }
+        }
+        return address;
+    }
+
+    private TelephoneNumber readTelephoneNumber() throws JAXRException, XMLStreamException {
+        TelephoneNumber number = lifeCycleManager.createTelephoneNumber();
+        number.setCountryCode(attribute("countryCode"));
+        number.setAreaCode(attribute("areaCode"));
+        number.setNumber(attribute("number"));
+        number.setExtension(attribute("extension"));
+        number.setUrl(attribute("url"));
+        number.setType(attribute("type"));
+        skip();
+        return number;
+    }
+
+    private PersonName readPersonName() throws JAXRException, XMLStreamException {
+        PersonName name = lifeCycleManager.createPersonName(attribute("fullName"));
+        String value = attribute("firstName");
+        if (value != null) {
+            name.setFirstName(value);
+        }
+        value = attribute("middleName");
+        if (value != null) {
+            name.setMiddleName(value);
+        }
+        value = attribute("lastName");
+        if (value != null) {
+            name.setLastName(value);
+        }
+        skip();
+        return name;
+    }
+
+    /**
+     * Skips the rest of the current element, including its end tag.
+     */
+    private void skip() throws XMLStreamException {
+        for (int depth = 1; depth > 0;) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private String attribute(String name) {
+        return reader.getAttributeValue(null, name);
+    }
+
+    private static boolean isObject(String name) {
+        return LifeCycleManager.ORGANIZATION.equals(name) || LifeCycleManager.SERVICE.equals(name)
+        || LifeCycleManager.SERVICE_BINDING.equals(name) || LifeCycleManager.SPECIFICATION_LINK.equals(name)
+        || LifeCycleManager.CLASSIFICATION_SCHEME.equals(name) || LifeCycleManager.CONCEPT.equals(name)
+        || LifeCycleManager.CLASSIFICATION.equals(name) || LifeCycleManager.ASSOCIATION.equals(name)
+        || LifeCycleManager.EXTERNAL_IDENTIFIER.equals(name) || LifeCycleManager.EXTERNAL_LINK.equals(name)
+        || LifeCycleManager.USER.equals(name) || LifeCycleManager.REGISTRY_PACKAGE.equals(name)
+        || LifeCycleManager.EXTRINSIC_OBJECT.equals(name);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List add(List list, Object value) {
+        List result = list == null ? new ArrayList() : list;
+        result.add(value);
+        return result;
+    }
+
+    private int toInt(String value) throws InvalidRequestException {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestException("Not a number at line " + reader.getLocation().getLineNumber()
+            + ": " + value, e);
+        }
+    }
+
+    private long toLong(String value) throws InvalidRequestException {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestException("Not a number at line " + reader.getLocation().getLineNumber()
+            + ": " + value, e);
+        }
+    }
+
+    private static Locale toLocale(String lang) {
+        if (lang == null || lang.length() == 0) {
+            return Locale.getDefault();
+        }
+        String[] parts = lang.split("_", 3);
+        return parts.length == 1 ? new Locale(parts[0])
+        : parts.length == 2 ? new Locale(parts[0], parts[1]) : new Locale(parts[0], parts[1], parts[2]);
+    }
+
+    /**
+     * A reference of an object that is resolved when the top level object
+     * has been read, or when the referenced object is read later.
+     */
+    private static final class Fixup {
+        final Object object;
+        final int kind;
+        final String id;
+        final String type;
+        Pending owner;
+
+        Fixup(Object object, int kind, String id, String type) {
+            this.object = object;
+            this.kind = kind;
+            this.id = id;
+            this.type = type;
+        }
+    }
+
+    /**
+     * A top level object held back until its open references are resolved.
+     */
+    private static final class Pending {
+        final RegistryObject object;
+        int open;
+
+        Pending(RegistryObject object) {
+            this.object = object;
+        }
+    }
+}
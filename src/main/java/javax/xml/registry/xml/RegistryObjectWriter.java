@@ -0,0 +1,494 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.xml;
+
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.*;
+import javax.xml.XMLConstants;
+import javax.xml.registry.*;
+import javax.xml.registry.cursor.RegistryCursor;
+import javax.xml.registry.infomodel.*;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+/**
+ * Writes RegistryObjects as XML, in the format of RegistryObject.toXML.
+ * <p>
+ * Each RegistryObject is written as an element named after its type, with
+ * its id, names, descriptions, Slots, Classifications, ExternalIdentifiers
+ * and Associations, followed by its type specific content. Composed
+ * objects are nested; other referenced objects are written as id
+ * attributes. Only the infomodel interfaces are used, so objects of any
+ * provider can be written.
+ * <p>
+ * Objects are streamed to an OutputStream, a Writer or an
+ * XMLStreamWriter as they are visited, without building the document in
+ * memory. writeAll writes the objects of a BulkResponse as the children
+ * of one <code>RegistryObjects</code> element; the objects of a
+ * RegistryCursor are fetched while they are written, so that only one
+ * page is held in memory.
+ */
+public final class RegistryObjectWriter {
+
+    /**
+     * The namespace of the elements written.
+     */
+    public static final String NAMESPACE = "urn:jakarta:xml:registry:infomodel";
+
+    /**
+     * The name of the element that holds the objects written by writeAll.
+     */
+    public static final String COLLECTION = "RegistryObjects";
+
+    private static final String ENCODING = "UTF-8";
+
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+
+    private RegistryObjectWriter() {
+    }
+
+    /**
+     * Returns the XML of an object as a String, as RegistryObject.toXML does.
+     *
+     * @param object the RegistryObject
+     * @return the XML, without XML declaration
+     * @throws JAXRException	If the object cannot be written
+     *
+     */
+    public static String toXML(RegistryObject object) throws JAXRException {
+        StringWriter out = new StringWriter();
+        try {
+            XMLStreamWriter writer = OUTPUT_FACTORY.createXMLStreamWriter(out);
+            write(object, writer);
+            writer.close();
+        } catch (XMLStreamException e) {
+            throw new JAXRException("Cannot write " + object + " as XML", e);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Writes an object as a UTF-8 encoded XML document. The stream is
+     * flushed but not closed.
+     *
+     * @param object the RegistryObject
+     * @param out the OutputStream
+     * @throws JAXRException	If the object cannot be written, or the stream fails
+     *
+     */
+    public static void write(RegistryObject object, OutputStream out) throws JAXRException {
+        try {
+            writeDocument(object, null, OUTPUT_FACTORY.createXMLStreamWriter(out, ENCODING), ENCODING);
+        } catch (XMLStreamException e) {
+            throw new JAXRException("Cannot write " + object + " as XML", e);
+        }
+    }
+
+    /**
+     * Writes an object as an XML document. The Writer is flushed but not closed.
+     *
+     * @param object the RegistryObject
+     * @param out the Writer
+     * @throws JAXRException	If the object cannot be written, or the Writer fails
+     *
+     */
+    public static void write(RegistryObject object, Writer out) throws JAXRException {
+        try {
+            writeDocument(object, null, OUTPUT_FACTORY.createXMLStreamWriter(out), null);
+        } catch (XMLStreamException e) {
+            throw new JAXRException("Cannot write " + object + " as XML", e);
+        }
+    }
+
+    /**
+     * Writes an object as an element at the current position of an
+     * XMLStreamWriter. The namespace is declared on the element unless it
+     * is already the default namespace. The XMLStreamWriter is neither
+     * flushed nor closed.
+     *
+     * @param object the RegistryObject
+     * @param writer the XMLStreamWriter
+     * @throws JAXRException	If the object cannot be read
+     * @throws XMLStreamException	If the XMLStreamWriter fails
+     *
+     */
+    public static void write(RegistryObject object, XMLStreamWriter writer)
+    throws JAXRException, XMLStreamException {
+        writeObject(writer, object, declares(writer));
+    }
+
+    /**
+     * Writes the objects of a BulkResponse as a UTF-8 encoded XML document.
+     * Only the Collection of the response is written. The stream is flushed but not closed.
+     *
+     * @param response the BulkResponse of RegistryObjects
+     * @param out the OutputStream
+     * @throws JAXRException	If an object cannot be fetched or written, or the stream fails
+     *
+     */
+    public static void writeAll(BulkResponse response, OutputStream out) throws JAXRException {
+        try {
+            writeDocument(null, response, OUTPUT_FACTORY.createXMLStreamWriter(out, ENCODING), ENCODING);
+        } catch (XMLStreamException e) {
+            throw new JAXRException("Cannot write " + response + " as XML", e);
+        }
+    }
+
+    /**
+     * Writes the objects of a BulkResponse as an XML document. Only the
+     * Collection of the response is written. The Writer is flushed but not closed.
+     *
+     * @param response the BulkResponse of RegistryObjects
+     * @param out the Writer
+     * @throws JAXRException	If an object cannot be fetched or written, or the Writer fails
+     *
+     */
+    public static void writeAll(BulkResponse response, Writer out) throws JAXRException {
+        try {
+            writeDocument(null, response, OUTPUT_FACTORY.createXMLStreamWriter(out), null);
+        } catch (XMLStreamException e) {
+            throw new JAXRException("Cannot write " + response + " as XML", e);
+        }
+    }
+
+    /**
+     * Writes the objects of a BulkResponse as a <code>RegistryObjects</code>
+     * element at the current position of an XMLStreamWriter. Only the
+     * Collection of the response is written. The XMLStreamWriter is neither
+     * flushed nor closed.
+     *
+     * @param response the BulkResponse of RegistryObjects
+     * @param writer the XMLStreamWriter
+     * @throws JAXRException	If an object cannot be fetched or read
+     * @throws XMLStreamException	If the XMLStreamWriter fails
+     *
+     */
+    public static void writeAll(BulkResponse response, XMLStreamWriter writer)
+    throws JAXRException, XMLStreamException {
+        startElement(writer, COLLECTION, declares(writer));
+        if (response instanceof RegistryCursor) {
+            RegistryCursor cursor = (RegistryCursor) response;
+            while (cursor.hasNext()) {
+                writeObject(writer, (RegistryObject) cursor.next(), false);
+            }
+        } else {
+            writeObjects(writer, response.getCollection());
+        }
+        writer.writeEndElement();
+    }
+
+    private static void writeDocument(RegistryObject object, BulkResponse response, XMLStreamWriter writer,
+    String encoding) throws JAXRException, XMLStreamException {
+        if (encoding == null) {
+            writer.writeStartDocument("1.0");
+        } else {
+            writer.writeStartDocument(encoding, "1.0");
+        }
+        if (response == null) {
+            write(object, writer);
+        } else {
+            writeAll(response, writer);
+        }
+        writer.writeEndDocument();
+        writer.flush();
+        writer.close();
+    }
+
+    private static boolean declares(XMLStreamWriter writer) {
+        return !NAMESPACE.equals(writer.getNamespaceContext().getNamespaceURI(XMLConstants.DEFAULT_NS_PREFIX));
+    }
+
+    /**
+     * Starts an element, declaring the namespace as the default namespace
+     * in the scope of the element if requested.
+     */
+    private static void startElement(XMLStreamWriter writer, String name, boolean declare)
+    throws XMLStreamException {
+        if (declare) {
+            writer.writeStartElement(XMLConstants.DEFAULT_NS_PREFIX, name, NAMESPACE);
+            writer.writeDefaultNamespace(NAMESPACE);
+            writer.setDefaultNamespace(NAMESPACE);
+        } else {
+            writer.writeStartElement(NAMESPACE, name);
+        }
+    }
+
+    private static void writeObject(XMLStreamWriter writer, RegistryObject object, boolean declare)
+    throws XMLStreamException, JAXRException {
+        startElement(writer, typeOf(object), declare);
+        attribute(writer, "id", idOf(object));
+        writeAttributes(writer, object);
+
+        writeInternationalString(writer, "Name", object.getName());
+        writeInternationalString(writer, "Description", object.getDescription());
+        writeSlots(writer, object.getSlots());
+        for (Iterator i = object.getClassifications().iterator(); i.hasNext();) {
+            writeObject(writer, (Classification) i.next(), false);
+        }
+        for (Iterator i = object.getExternalIdentifiers().iterator(); i.hasNext();) {
+            writeObject(writer, (ExternalIdentifier) i.next(), false);
+        }
+        for (Iterator i = object.getExternalLinks().iterator(); i.hasNext();) {
+            writeReference(writer, "ExternalLinkRef", (ExternalLink) i.next());
+        }
+        for (Iterator i = object.getAssociations().iterator(); i.hasNext();) {
+            writeObject(writer, (Association) i.next(), false);
+        }
+        writeContent(writer, object);
+        writer.writeEndElement();
+    }
+
+    private static void writeAttributes(XMLStreamWriter writer, RegistryObject object)
+    throws XMLStreamException, JAXRException {
+        if (object instanceof RegistryEntry) {
+            RegistryEntry entry = (RegistryEntry) object;
+            attribute(writer, "status", String.valueOf(entry.getStatus()));
+            attribute(writer, "stability", String.valueOf(entry.getStability()));
+            attribute(writer, "majorVersion", String.valueOf(entry.getMajorVersion()));
+            attribute(writer, "minorVersion", String.valueOf(entry.getMinorVersion()));
+            attribute(writer, "userVersion", entry.getUserVersion());
+            if (entry.getExpiration() != null) {
+                attribute(writer, "expiration", String.valueOf(entry.getExpiration().getTime()));
+            }
+        }
+        if (object instanceof Organization) {
+            Organization org = (Organization) object;
+            attribute(writer, "parent", idOf(org.getParentOrganization()));
+            attribute(writer, "primaryContact", idOf(org.getPrimaryContact()));
+        } else if (object instanceof ServiceBinding) {
+            ServiceBinding binding = (ServiceBinding) object;
+            attribute(writer, "accessURI", binding.getAccessURI());
+            attribute(writer, "targetBinding", idOf(binding.getTargetBinding()));
+        } else if (object instanceof SpecificationLink) {
+            attribute(writer, "specificationObject",
+            idOf(((SpecificationLink) object).getSpecificationObject()));
+        } else if (object instanceof Concept) {
+            Concept concept = (Concept) object;
+            attribute(writer, "value", concept.getValue());
+            attribute(writer, "parent", idOf(concept.getParent()));
+        } else if (object instanceof ClassificationScheme) {
+            attribute(writer, "valueType", String.valueOf(((ClassificationScheme) object).getValueType()));
+        } else if (object instanceof Classification) {
+            Classification classification = (Classification) object;
+            attribute(writer, "classifiedObject", idOf(classification.getClassifiedObject()));
+            if (classification.isExternal()) {
+                attribute(writer, "classificationScheme",
+                idOf(classification.getClassificationScheme()));
+                attribute(writer, "value", classification.getValue());
+            } else {
+                attribute(writer, "concept", idOf(classification.getConcept()));
+            }
+        } else if (object instanceof ExternalIdentifier) {
+            ExternalIdentifier identifier = (ExternalIdentifier) object;
+            attribute(writer, "registryObject", idOf(identifier.getRegistryObject()));
+            attribute(writer, "identificationScheme", idOf(identifier.getIdentificationScheme()));
+            attribute(writer, "value", identifier.getValue());
+        } else if (object instanceof ExternalLink) {
+            attribute(writer, "externalURI", ((ExternalLink) object).getExternalURI());
+        } else if (object instanceof Association) {
+            Association association = (Association) object;
+            attribute(writer, "sourceObject", idOf(association.getSourceObject()));
+            attribute(writer, "targetObject", idOf(association.getTargetObject()));
+            attribute(writer, "associationType", idOf(association.getAssociationType()));
+        } else if (object instanceof ExtrinsicObject) {
+            ExtrinsicObject extrinsic = (ExtrinsicObject) object;
+            attribute(writer, "mimeType", extrinsic.getMimeType());
+            attribute(writer, "isOpaque", String.valueOf(extrinsic.isOpaque()));
+        } else if (object instanceof User) {
+            User user = (User) object;
+            attribute(writer, "type", user.getType());
+            attribute(writer, "url", user.getUrl() == null ? null : user.getUrl().toString());
+        }
+    }
+
+    private static void writeContent(XMLStreamWriter writer, RegistryObject object)
+    throws XMLStreamException, JAXRException {
+        if (object instanceof Organization) {
+            Organization org = (Organization) object;
+            writePostalAddress(writer, org.getPostalAddress());
+            writeTelephoneNumbers(writer, org.getTelephoneNumbers(null));
+            writeObjects(writer, org.getUsers());
+            writeObjects(writer, org.getServices());
+        } else if (object instanceof Service) {
+            writeObjects(writer, ((Service) object).getServiceBindings());
+        } else if (object instanceof ServiceBinding) {
+            writeObjects(writer, ((ServiceBinding) object).getSpecificationLinks());
+        } else if (object instanceof SpecificationLink) {
+            SpecificationLink link = (SpecificationLink) object;
+            writeInternationalString(writer, "UsageDescription", link.getUsageDescription());
+            for (Iterator i = link.getUsageParameters().iterator(); i.hasNext();) {
+                element(writer, "UsageParameter", String.valueOf(i.next()));
+            }
+        } else if (object instanceof Concept) {
+            writeObjects(writer, ((Concept) object).getChildrenConcepts());
+        } else if (object instanceof ClassificationScheme) {
+            writeObjects(writer, ((ClassificationScheme) object).getChildrenConcepts());
+        } else if (object instanceof RegistryPackage) {
+            for (Iterator i = ((RegistryPackage) object).getRegistryObjects().iterator(); i.hasNext();) {
+                writeReference(writer, "MemberRef", (RegistryObject) i.next());
+            }
+        } else if (object instanceof User) {
+            User user = (User) object;
+            PersonName name = user.getPersonName();
+            if (name != null) {
+                writer.writeEmptyElement(NAMESPACE, "PersonName");
+                attribute(writer, "firstName", name.getFirstName());
+                attribute(writer, "middleName", name.getMiddleName());
+                attribute(writer, "lastName", name.getLastName());
+                attribute(writer, "fullName", name.getFullName());
+            }
+            for (Iterator i = user.getPostalAddresses().iterator(); i.hasNext();) {
+                writePostalAddress(writer, (PostalAddress) i.next());
+            }
+            writeTelephoneNumbers(writer, user.getTelephoneNumbers(null));
+            for (Iterator i = user.getEmailAddresses().iterator(); i.hasNext();) {
+                EmailAddress email = (EmailAddress) i.next();
+                writer.writeEmptyElement(NAMESPACE, "EmailAddress");
+                attribute(writer, "address", email.getAddress());
+                attribute(writer, "type", email.getType());
+            }
+        }
+    }
+
+    private static void writeObjects(XMLStreamWriter writer, Collection objects)
+    throws XMLStreamException, JAXRException {
+        for (Iterator i = objects.iterator(); i.hasNext();) {
+            writeObject(writer, (RegistryObject) i.next(), false);
+        }
+    }
+
+    private static void writeReference(XMLStreamWriter writer, String name, RegistryObject object)
+    throws XMLStreamException, JAXRException {
+        writer.writeEmptyElement(NAMESPACE, name);
+        attribute(writer, "id", idOf(object));
+    }
+
+    private static void writeInternationalString(XMLStreamWriter writer, String name, InternationalString s)
+    throws XMLStreamException, JAXRException {
+        Collection localized = s == null ? Collections.EMPTY_LIST : s.getLocalizedStrings();
+        if (localized.isEmpty()) {
+            return;
+        }
+        writer.writeStartElement(NAMESPACE, name);
+        for (Iterator i = localized.iterator(); i.hasNext();) {
+            LocalizedString ls = (LocalizedString) i.next();
+            writer.writeEmptyElement(NAMESPACE, "LocalizedString");
+            attribute(writer, "lang", ls.getLocale().toString());
+            if (!LocalizedString.DEFAULT_CHARSET_NAME.equals(ls.getCharsetName())) {
+                attribute(writer, "charset", ls.getCharsetName());
+            }
+            attribute(writer, "value", ls.getValue());
+        }
+        writer.writeEndElement();
+    }
+
+    private static void writeSlots(XMLStreamWriter writer, Collection slots)
+    throws XMLStreamException, JAXRException {
+        for (Iterator i = slots.iterator(); i.hasNext();) {
+            Slot slot = (Slot) i.next();
+            writer.writeStartElement(NAMESPACE, "Slot");
+            attribute(writer, "name", slot.getName());
+            attribute(writer, "slotType", slot.getSlotType());
+            for (Iterator j = slot.getValues().iterator(); j.hasNext();) {
+                element(writer, "Value", String.valueOf(j.next()));
+            }
+            writer.writeEndElement();
+        }
+    }
+
+    private static void writePostalAddress(XMLStreamWriter writer, PostalAddress address)
+    throws XMLStreamException, JAXRException {
+        if (address == null) {
+            return;
+        }
+        Collection slots = address.getSlots();
+        if (slots.isEmpty()) {
+            writer.writeEmptyElement(NAMESPACE, "PostalAddress");
+        } else {
+            writer.writeStartElement(NAMESPACE, "PostalAddress");
+        }
+        attribute(writer, "streetNumber", address.getStreetNumber());
+        attribute(writer, "street", address.getStreet());
+        attribute(writer, "city", address.getCity());
+        attribute(writer, "stateOrProvince", address.getStateOrProvince());
+        attribute(writer, "postalCode", address.getPostalCode());
+        attribute(writer, "country", address.getCountry());
+        attribute(writer, "type", address.getType());
+        attribute(writer, "postalScheme", idOf(address.getPostalScheme()));
+        if (!slots.isEmpty()) {
+            writeSlots(writer, slots);
+            writer.writeEndElement();
+        }
+    }
+
+    private static void writeTelephoneNumbers(XMLStreamWriter writer, Collection numbers)
+    throws XMLStreamException, JAXRException {
+        for (Iterator i = numbers.iterator(); i.hasNext();) {
+            TelephoneNumber number = (TelephoneNumber) i.next();
+            writer.writeEmptyElement(NAMESPACE, "TelephoneNumber");
+            attribute(writer, "countryCode", number.getCountryCode());
+            attribute(writer, "areaCode", number.getAreaCode());
+            attribute(writer, "number", number.getNumber());
+            attribute(writer, "extension", number.getExtension());
+            attribute(writer, "url", number.getUrl());
+            attribute(writer, "type", number.getType());
+        }
+    }
+
+    private static void element(XMLStreamWriter writer, String name, String text) throws XMLStreamException {
+        writer.writeStartElement(NAMESPACE, name);
+        writer.writeCharacters(text);
+        writer.writeEndElement();
+    }
+
+    private static void attribute(XMLStreamWriter writer, String name, String value) throws XMLStreamException {
+        if (value != null) {
+            writer.writeAttribute(name, value);
+        }
+    }
+
+    private static String idOf(RegistryObject object) throws JAXRException {
+        if (object == null) {
+            return null;
+        }
+        Key key = object.getKey();
+        return key == null ? null : key.getId();
+    }
+
+    /**
+     * Gets the element name of an object: the name of the most specific
+     * infomodel interface it implements.
+     */
+    static String typeOf(RegistryObject object) {
+        Class[] types = {
+            Organization.class, Service.class, ServiceBinding.class, SpecificationLink.class,
+            ClassificationScheme.class, Concept.class, Classification.class, Association.class,
+            ExternalIdentifier.class, ExternalLink.class, User.class, RegistryPackage.class,
+            ExtrinsicObject.class, AuditableEvent.class
+        };
+        for (int i = 0; i < types.length; i++) {
+            if (types[i].isInstance(object)) {
+                String name = types[i].getName();
+                return name.substring(name.lastIndexOf('.') + 1);
+            }
+        }
+        return "RegistryObject";
+    }
+}
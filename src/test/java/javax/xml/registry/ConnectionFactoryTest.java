@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry;
+
+import java.util.*;
+import javax.xml.registry.memory.MemoryConnectionFactory;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ConnectionFactoryTest {
+
+    private static final String FACTORY_CLASS = "javax.xml.registry.ConnectionFactoryClass";
+
+    @Test
+    public void newInstanceUsesTheServiceLoaderRegistration() throws JAXRException {
+        ConnectionFactory factory = ConnectionFactory.newInstance();
+        assertTrue(factory instanceof MemoryConnectionFactory);
+        assertNotSame(factory, ConnectionFactory.newInstance());
+
+        Properties properties = new Properties();
+        properties.setProperty("javax.xml.registry.queryManagerURL", "memory:" + UUID.randomUUID());
+        factory.setProperties(properties);
+        Connection connection = factory.createConnection();
+        assertNotNull(connection.getRegistryService().getBusinessQueryManager());
+        connection.close();
+    }
+
+    @Test
+    public void systemPropertyOverridesTheServiceLoader() throws JAXRException {
+        System.setProperty(FACTORY_CLASS, "com.example.NoSuchFactory");
+        try {
+            ConnectionFactory.newInstance();
+            fail("com.example.NoSuchFactory was found");
+        } catch (JAXRException e) {
+            // expected
+        } finally {
+            System.clearProperty(FACTORY_CLASS);
+        }
+        assertTrue(ConnectionFactory.newInstance() instanceof MemoryConnectionFactory);
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.async;
+
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+import javax.xml.registry.memory.MemoryConnectionFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class AsyncRegistryTest {
+
+    private Connection connection;
+    private AsyncRegistry registry;
+
+    @Before
+    public void setUp() throws JAXRException {
+        ConnectionFactory factory = new MemoryConnectionFactory();
+        Properties properties = new Properties();
+        properties.setProperty("javax.xml.registry.queryManagerURL", "memory:" + UUID.randomUUID());
+        factory.setProperties(properties);
+        connection = factory.createConnection();
+        registry = new AsyncRegistry(connection);
+    }
+
+    @After
+    public void tearDown() throws JAXRException {
+        registry.close();
+        connection.close();
+    }
+
+    @Test
+    public void futuresCompleteWithTheResponse() throws Exception {
+        BusinessLifeCycleManager lifeCycleManager = connection.getRegistryService().getBusinessLifeCycleManager();
+        Organization organization = lifeCycleManager.createOrganization("Acme");
+        BulkResponse saved = registry.saveOrganizations(Collections.singleton(organization))
+        .get(5, TimeUnit.SECONDS);
+        assertEquals(JAXRResponse.STATUS_SUCCESS, saved.getStatus());
+        BulkResponse found = registry.findOrganizations(null, Collections.singleton("Acme"),
+        null, null, null, null).get(5, TimeUnit.SECONDS);
+        assertEquals(1, found.getCollection().size());
+
+        StubResponse response = new StubResponse(JAXRResponse.STATUS_SUCCESS, null);
+        CompletableFuture future = registry.toCompletableFuture(response);
+        assertFalse(future.isDone());
+        assertEquals(1, registry.getPendingCount());
+        response.available = true;
+        assertSame(response, future.get(5, TimeUnit.SECONDS));
+        assertEquals(0, registry.getPendingCount());
+    }
+
+    @Test
+    public void failedResponsesCompleteExceptionally() throws Exception {
+        JAXRException cause = new JAXRException("rejected");
+        StubResponse response = new StubResponse(JAXRResponse.STATUS_FAILURE, cause);
+        CompletableFuture future = registry.toCompletableFuture(response);
+        response.available = true;
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            fail("failed response completed normally");
+        } catch (ExecutionException e) {
+            assertSame(cause, e.getCause());
+        }
+
+        CompletableFuture invalid = registry.findOrganizations(
+        Arrays.asList(new String[] {FindQualifier.AND_ALL_KEYS, FindQualifier.OR_ALL_KEYS}),
+        Collections.singleton("%"), null, null, null, null);
+        try {
+            invalid.get(5, TimeUnit.SECONDS);
+            fail("invalid request completed normally");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof JAXRException);
+        }
+    }
+
+    @Test
+    public void timedOutFuturesCompleteExceptionally() throws Exception {
+        registry.setTimeout(20, TimeUnit.MILLISECONDS);
+        CompletableFuture future = registry.toCompletableFuture(new StubResponse(JAXRResponse.STATUS_SUCCESS, null));
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            fail("unavailable response completed");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof TimeoutException);
+        }
+    }
+
+    @Test
+    public void closeCompletesPendingFutures() throws Exception {
+        StubResponse response = new StubResponse(JAXRResponse.STATUS_SUCCESS, null);
+        CompletableFuture first = registry.toCompletableFuture(response);
+        CompletableFuture second = registry.toCompletableFuture(new StubResponse(JAXRResponse.STATUS_SUCCESS, null));
+        registry.close();
+        assertTrue(first.isCompletedExceptionally());
+        assertTrue(second.isCompletedExceptionally());
+        assertEquals(0, registry.getPendingCount());
+        try {
+            first.get(5, TimeUnit.SECONDS);
+            fail("pending future completed normally after close");
+        } catch (CancellationException e) {
+            // expected
+        }
+        response.available = true;
+        assertTrue(first.isCompletedExceptionally());
+
+        assertTrue(registry.toCompletableFuture(new StubResponse(JAXRResponse.STATUS_SUCCESS, null))
+        .isCompletedExceptionally());
+        CompletableFuture late = registry.findOrganizations(null, Collections.singleton("%"),
+        null, null, null, null);
+        try {
+            late.get(5, TimeUnit.SECONDS);
+            fail("request made after close completed normally");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof JAXRException);
+        }
+    }
+
+    /**
+     * A BulkResponse that becomes available when the test says so.
+     */
+    private static final class StubResponse implements BulkResponse {
+        volatile boolean available;
+        private final int status;
+        private final JAXRException exception;
+
+        StubResponse(int status, JAXRException exception) {
+            this.status = status;
+            this.exception = exception;
+        }
+
+        public Collection getCollection() {
+            return Collections.EMPTY_LIST;
+        }
+
+        public Collection getExceptions() {
+            return exception == null ? null : Collections.singletonList(exception);
+        }
+
+        public boolean isPartialResponse() {
+            return false;
+        }
+
+        public String getRequestId() {
+            return "stub";
+        }
+
+        public int getStatus() {
+            return status;
+        }
+
+        public boolean isAvailable() {
+            return available;
+        }
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.bulk;
+
+import java.util.*;
+import javax.xml.registry.*;
+import javax.xml.registry.cursor.UncheckedJAXRException;
+import javax.xml.registry.infomodel.*;
+import javax.xml.registry.memory.MemoryConnectionFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class BulkLoaderTest {
+
+    private Connection connection;
+    private BusinessLifeCycleManager lifeCycleManager;
+    private BulkLoader loader;
+    private RecordingListener listener;
+    private Concept relatedTo;
+
+    @Before
+    public void setUp() throws JAXRException {
+        ConnectionFactory factory = new MemoryConnectionFactory();
+        Properties properties = new Properties();
+        properties.setProperty("javax.xml.registry.queryManagerURL", "memory:" + UUID.randomUUID());
+        factory.setProperties(properties);
+        connection = factory.createConnection();
+        lifeCycleManager = connection.getRegistryService().getBusinessLifeCycleManager();
+        ClassificationScheme types = lifeCycleManager.createClassificationScheme("AssociationType", "");
+        relatedTo = lifeCycleManager.createConcept(types, "RelatedTo", "RelatedTo");
+        lifeCycleManager.saveClassificationSchemes(Collections.singleton(types));
+
+        loader = new BulkLoader(lifeCycleManager);
+        listener = new RecordingListener();
+        loader.setListener(listener);
+    }
+
+    @After
+    public void tearDown() throws JAXRException {
+        connection.close();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void parentsAreSavedBeforeChildren() throws JAXRException {
+        ClassificationScheme scheme = (ClassificationScheme) keyed(lifeCycleManager.createClassificationScheme("Scheme", ""));
+        Concept concept = (Concept) keyed(lifeCycleManager.createConcept(scheme, "Concept", "c"));
+        Concept child = (Concept) keyed(lifeCycleManager.createConcept(concept, "Child", "cc"));
+        Organization parent = organization("Parent");
+        Organization organization = organization("Child");
+        Organization grandchild = organization("Grandchild");
+        parent.addChildOrganization(organization);
+        organization.addChildOrganization(grandchild);
+        Service service = (Service) keyed(lifeCycleManager.createService("Service"));
+        service.setProvidingOrganization(parent);
+        Association association = association(parent, grandchild, relatedTo);
+
+        loader.setBatchSize(1);
+        BulkLoadResponse response = loader.save(Arrays.asList(new RegistryObject[] {
+            association, grandchild, service, child, organization, parent, concept, scheme}));
+
+        assertEquals(JAXRResponse.STATUS_SUCCESS, response.getStatus());
+        assertEquals(8, response.getBatchCount());
+        assertEquals(ids(new RegistryObject[] {
+            scheme, concept, child, parent, organization, grandchild, service, association}), listener.saved);
+        assertEquals(listener.saved, ids(response.getCollection().toArray()));
+        assertTrue(response.getFailures().isEmpty());
+        assertNull(response.getExceptions());
+    }
+
+    @Test
+    public void partialFailuresAreMappedToTheirObjects() throws JAXRException {
+        Organization a = organization("A");
+        Organization b = organization("B");
+        Organization invalid = organization("Invalid");
+        invalid.addClassification((Classification) keyed(
+        lifeCycleManager.createClassification(null, "Broken", null)));
+        Organization afterInvalid = organization("AfterInvalid");
+        Association valid = association(a, b, relatedTo);
+        Association untyped = association(a, b, null);
+
+        BulkLoadResponse response = loader.save(Arrays.asList(new RegistryObject[] {
+            valid, a, b, invalid, untyped, afterInvalid}));
+
+        assertEquals(JAXRResponse.STATUS_WARNING, response.getStatus());
+        assertEquals(3, response.getSavedCount());
+        assertEquals(ids(new RegistryObject[] {a, b, valid}), ids(response.getCollection().toArray()));
+        Map failures = response.getFailures();
+        assertEquals(3, failures.size());
+        assertEquals(3, response.getFailureCount());
+        assertTrue(failures.get(invalid) instanceof SaveException);
+        assertTrue(failures.get(afterInvalid) instanceof SaveException);
+        // the provider named the Association itself, so its own exception is attributed to it
+        JAXRException untypedFailure = (JAXRException) failures.get(untyped);
+        assertTrue(response.getExceptions().contains(untypedFailure));
+        assertEquals(untyped.getKey().getId(), ((RegistryException) untypedFailure).getErrorObjectKey().getId());
+        assertFalse(failures.containsKey(a));
+        assertEquals(failures, listener.failed);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void iteratorLoadsKeepABoundedResponse() throws JAXRException {
+        List organizations = new ArrayList();
+        for (int i = 0; i < 30; i++) {
+            Organization organization = organization("Org-" + i);
+            if (i % 10 == 3) {
+                organization.addClassification(lifeCycleManager.createClassification(null, "Broken", null));
+            }
+            organizations.add(organization);
+        }
+        loader.setBatchSize(5);
+        loader.setMaxRetainedFailures(2);
+        BulkLoadResponse response = loader.save(organizations.iterator(), 10);
+
+        // in each chunk of ten, the batch with the invalid Organization stops after it
+        assertEquals(24, response.getSavedCount());
+        assertEquals(6, response.getFailureCount());
+        assertEquals(3, response.getExceptionCount());
+        assertEquals(6, response.getBatchCount());
+        assertTrue(response.getCollection().isEmpty());
+        assertEquals(2, response.getFailures().size());
+        assertEquals(2, response.getExceptions().size());
+        assertEquals(24, listener.saved.size());
+        assertEquals(6, listener.failed.size());
+        assertEquals(JAXRResponse.STATUS_WARNING, response.getStatus());
+
+        final JAXRException cause = new JAXRException("unreadable");
+        Iterator failing = new Iterator() {
+            public boolean hasNext() {
+                return true;
+            }
+
+            public Object next() {
+                throw new UncheckedJAXRException(cause);
+            }
+
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+        try {
+            loader.save(failing, 10);
+            fail("read failure was not reported");
+        } catch (JAXRException e) {
+            assertSame(cause, e);
+        }
+    }
+
+    private Organization organization(String name) throws JAXRException {
+        return (Organization) keyed(lifeCycleManager.createOrganization(name));
+    }
+
+    private Association association(RegistryObject source, RegistryObject target, Concept type)
+    throws JAXRException {
+        Association association = (Association) keyed(lifeCycleManager.createAssociation(target, type));
+        association.setSourceObject(source);
+        return association;
+    }
+
+    private RegistryObject keyed(RegistryObject object) throws JAXRException {
+        object.setKey(lifeCycleManager.createKey("urn:uuid:" + UUID.randomUUID()));
+        return object;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List ids(Object[] objects) throws JAXRException {
+        List ids = new ArrayList();
+        for (int i = 0; i < objects.length; i++) {
+            Object o = objects[i];
+            ids.add(o instanceof Key ? ((Key) o).getId() : ((RegistryObject) o).getKey().getId());
+        }
+        return ids;
+    }
+
+    /**
+     * Records the outcomes reported to a BulkLoadListener.
+     */
+    private static final class RecordingListener implements BulkLoadListener {
+        final List saved = new ArrayList();
+        final Map failed = new LinkedHashMap();
+
+        @SuppressWarnings("unchecked")
+        public void saved(Collection keys) {
+            for (Iterator i = keys.iterator(); i.hasNext();) {
+                try {
+                    saved.add(((Key) i.next()).getId());
+                } catch (JAXRException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        public void failed(Object object, JAXRException cause) {
+            failed.put(object, cause);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.cache;
+
+import java.util.*;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+import javax.xml.registry.memory.MemoryConnectionFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class CachingRegistryServiceTest {
+
+    private Connection connection;
+    private RegistryCache cache;
+    private BusinessLifeCycleManager lifeCycleManager;
+    private BusinessQueryManager queryManager;
+    private Organization organization;
+    private Service service;
+    private ServiceBinding binding;
+
+    @Before
+    public void setUp() throws JAXRException {
+        ConnectionFactory factory = new MemoryConnectionFactory();
+        Properties properties = new Properties();
+        properties.setProperty("javax.xml.registry.queryManagerURL", "memory:" + UUID.randomUUID());
+        factory.setProperties(properties);
+        connection = factory.createConnection();
+        cache = new RegistryCache(100, Long.MAX_VALUE);
+        RegistryService registryService = new CachingRegistryService(connection.getRegistryService(), cache);
+        lifeCycleManager = registryService.getBusinessLifeCycleManager();
+        queryManager = registryService.getBusinessQueryManager();
+
+        organization = lifeCycleManager.createOrganization("Acme");
+        service = lifeCycleManager.createService("Orders");
+        binding = lifeCycleManager.createServiceBinding();
+        binding.setValidateURI(false);
+        binding.setAccessURI("http://example.com/orders");
+        service.addServiceBinding(binding);
+        organization.addService(service);
+        lifeCycleManager.saveOrganizations(Collections.singleton(organization));
+    }
+
+    @After
+    public void tearDown() throws JAXRException {
+        connection.close();
+    }
+
+    @Test
+    public void lookupsAreCached() throws JAXRException {
+        Service cached = (Service) get(service);
+        assertNotNull(cached);
+        assertSame(cached, get(service));
+        assertEquals(1, cache.getStats().getHitCount());
+    }
+
+    @Test
+    public void savingOrganizationInvalidatesComposedObjects() throws JAXRException {
+        RegistryObject cachedService = get(service);
+        RegistryObject cachedBinding = get(binding);
+        organization.setDescription(lifeCycleManager.createInternationalString("changed"));
+        lifeCycleManager.saveOrganizations(Collections.singleton(organization));
+        assertNotSame(cachedService, get(service));
+        assertNotSame(cachedBinding, get(binding));
+    }
+
+    @Test
+    public void deletingOrganizationInvalidatesComposedObjects() throws JAXRException {
+        RegistryObject cachedService = get(service);
+        RegistryObject cachedBinding = get(binding);
+        lifeCycleManager.deleteOrganizations(Collections.singleton(organization.getKey()));
+        assertNotSame(cachedService, get(service));
+        assertNotSame(cachedBinding, get(binding));
+    }
+
+    @Test
+    public void savingServiceInvalidatesItsOrganization() throws JAXRException {
+        Organization cachedOrganization = (Organization) get(organization);
+        assertEquals(1, cachedOrganization.getServices().size());
+        Service other = lifeCycleManager.createService("Billing");
+        organization.addService(other);
+        lifeCycleManager.saveServices(Collections.singleton(other));
+        Organization reloaded = (Organization) get(organization);
+        assertNotSame(cachedOrganization, reloaded);
+    }
+
+    @Test
+    public void movedServiceIsInvalidated() throws JAXRException {
+        Organization other = lifeCycleManager.createOrganization("Other");
+        lifeCycleManager.saveOrganizations(Collections.singleton(other));
+        Service cached = (Service) get(service);
+        assertEquals(organization.getKey().getId(), cached.getProvidingOrganization().getKey().getId());
+        organization.removeService(service);
+        other.addService(service);
+        lifeCycleManager.saveOrganizations(Collections.singleton(other));
+        Service reloaded = (Service) get(service);
+        assertNotSame(cached, reloaded);
+        assertEquals(other.getKey().getId(), reloaded.getProvidingOrganization().getKey().getId());
+    }
+
+    @Test
+    public void cachedObjectsAreShared() throws JAXRException {
+        Organization first = (Organization) get(organization);
+        first.setName(lifeCycleManager.createInternationalString("Changed"));
+        assertEquals("Changed", ((Organization) get(organization)).getName().getValue());
+        cache.invalidate(organization.getKey().getId());
+        assertEquals("Acme", ((Organization) get(organization)).getName().getValue());
+    }
+
+    private RegistryObject get(RegistryObject object) throws JAXRException {
+        return queryManager.getRegistryObject(object.getKey().getId(), RegistryCache.typeOf(object));
+    }
+}
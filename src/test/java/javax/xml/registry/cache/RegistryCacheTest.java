@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.cache;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+import javax.xml.registry.memory.MemoryConnectionFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class RegistryCacheTest {
+
+    private Connection connection;
+    private BusinessLifeCycleManager lifeCycleManager;
+
+    @Before
+    public void setUp() throws JAXRException {
+        ConnectionFactory factory = new MemoryConnectionFactory();
+        Properties properties = new Properties();
+        properties.setProperty("javax.xml.registry.queryManagerURL", "memory:" + UUID.randomUUID());
+        factory.setProperties(properties);
+        connection = factory.createConnection();
+        lifeCycleManager = connection.getRegistryService().getBusinessLifeCycleManager();
+    }
+
+    @After
+    public void tearDown() throws JAXRException {
+        connection.close();
+    }
+
+    @Test
+    public void entriesReadTwiceSurviveAScan() throws JAXRException {
+        RegistryCache cache = new RegistryCache(10, Long.MAX_VALUE);
+        Organization hot = put(cache, "hot");
+        assertSame(hot, cache.get("hot"));
+        for (int i = 0; i < 100; i++) {
+            put(cache, "cold" + i);
+        }
+        assertSame(hot, cache.get("hot"));
+        assertEquals(10, cache.size());
+        assertNull(cache.get("cold0"));
+        assertEquals(91, cache.getStats().getEvictionCount());
+    }
+
+    @Test
+    public void entriesReadOnceAreEvictedFirst() throws JAXRException {
+        RegistryCache cache = new RegistryCache(3, Long.MAX_VALUE);
+        put(cache, "a");
+        put(cache, "b");
+        put(cache, "c");
+        cache.get("a");
+        put(cache, "d");
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("c"));
+        assertNotNull(cache.get("d"));
+    }
+
+    @Test
+    public void expiredEntriesAreRemoved() throws Exception {
+        RegistryCache cache = new RegistryCache(10, Long.MAX_VALUE);
+        cache.setDefaultTimeToLive(1, TimeUnit.MILLISECONDS);
+        put(cache, "a");
+        Thread.sleep(5);
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.getStats().getExpirationCount());
+    }
+
+    @Test
+    public void concurrentReadsAndWritesStayBounded() throws Exception {
+        final RegistryCache cache = new RegistryCache(50, Long.MAX_VALUE);
+        final Organization[] organizations = new Organization[200];
+        for (int i = 0; i < organizations.length; i++) {
+            organizations[i] = organization("o" + i);
+        }
+        final AtomicInteger failures = new AtomicInteger();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            final int seed = t;
+            threads[t] = new Thread() {
+                public void run() {
+                    Random random = new Random(seed);
+                    for (int i = 0; i < 20000; i++) {
+                        int n = random.nextInt(random.nextBoolean() ? 20 : organizations.length);
+                        Object value = cache.get("k" + n);
+                        if (value == null) {
+                            cache.put("k" + n, LifeCycleManager.ORGANIZATION, organizations[n], cache.stamp());
+                        } else if (value != organizations[n]) {
+                            failures.incrementAndGet();
+                        }
+                        if (i % 5000 == 0) {
+                            cache.invalidate(key(organizations[random.nextInt(organizations.length)]));
+                        }
+                    }
+                }
+            };
+            threads[t].start();
+        }
+        for (int t = 0; t < threads.length; t++) {
+            threads[t].join();
+        }
+        assertEquals(0, failures.get());
+        assertTrue(cache.size() <= 50);
+        int found = 0;
+        for (int i = 0; i < organizations.length; i++) {
+            if (cache.get("k" + i) != null) {
+                found++;
+            }
+        }
+        assertEquals(cache.size(), found);
+    }
+
+    private Organization put(RegistryCache cache, String key) throws JAXRException {
+        Organization organization = organization(key);
+        cache.put(key, LifeCycleManager.ORGANIZATION, organization, cache.stamp());
+        return organization;
+    }
+
+    private Organization organization(String name) throws JAXRException {
+        Organization organization = lifeCycleManager.createOrganization(name);
+        organization.setKey(lifeCycleManager.createKey("urn:uuid:" + UUID.randomUUID()));
+        return organization;
+    }
+
+    private static String key(RegistryObject object) {
+        try {
+            return object.getKey().getId();
+        } catch (JAXRException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
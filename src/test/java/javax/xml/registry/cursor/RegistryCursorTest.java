@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.cursor;
+
+import java.util.*;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+import javax.xml.registry.memory.MemoryConnectionFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class RegistryCursorTest {
+
+    private Connection connection;
+    private BusinessLifeCycleManager lifeCycleManager;
+    private CursorQueryManager queryManager;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() throws JAXRException {
+        ConnectionFactory factory = new MemoryConnectionFactory();
+        Properties properties = new Properties();
+        properties.setProperty("javax.xml.registry.queryManagerURL", "memory:" + UUID.randomUUID());
+        factory.setProperties(properties);
+        connection = factory.createConnection();
+        lifeCycleManager = connection.getRegistryService().getBusinessLifeCycleManager();
+        queryManager = (CursorQueryManager) connection.getRegistryService().getBusinessQueryManager();
+        List organizations = new ArrayList();
+        for (int i = 0; i < 25; i++) {
+            organizations.add(lifeCycleManager.createOrganization(name(i)));
+        }
+        lifeCycleManager.saveOrganizations(organizations);
+    }
+
+    @After
+    public void tearDown() throws JAXRException {
+        connection.close();
+    }
+
+    @Test
+    public void pagesThroughTheResultInOrder() throws JAXRException {
+        CountingSource source = new CountingSource(organizationPages());
+        RegistryCursor cursor = new RegistryCursor(source, 10);
+        List names = names(cursor.getCollection());
+        assertEquals(25, names.size());
+        for (int i = 0; i < 25; i++) {
+            assertEquals(name(i), names.get(i));
+        }
+        assertEquals(3, source.fetches);
+        assertFalse(cursor.hasNext());
+        assertNull(cursor.getContinuationToken());
+        try {
+            cursor.next();
+            fail("exhausted cursor returned an object");
+        } catch (NoSuchElementException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void resumesFromAContinuationToken() throws JAXRException {
+        PageSource source = organizationPages();
+        RegistryCursor cursor = new RegistryCursor(source, 10);
+        for (int i = 0; i < 13; i++) {
+            cursor.next();
+        }
+        String token = cursor.getContinuationToken();
+        assertNotNull(token);
+        RegistryCursor resumed = new RegistryCursor(source, 10, token);
+        List names = names(resumed.getCollection());
+        assertEquals(12, names.size());
+        assertEquals(name(13), names.get(0));
+        assertEquals(name(24), names.get(11));
+        assertEquals(name(13), ((Organization) cursor.next()).getName().getValue());
+
+        try {
+            new RegistryCursor(source, 10, "garbage");
+            fail("malformed token accepted");
+        } catch (InvalidRequestException e) {
+            // expected
+        }
+        try {
+            source.fetch("99", 10);
+            fail("token out of range accepted");
+        } catch (InvalidRequestException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void isPartialResponseDoesNotFetch() throws JAXRException {
+        CountingSource source = new CountingSource(organizationPages());
+        RegistryCursor cursor = new RegistryCursor(source, 25);
+        assertTrue(cursor.isPartialResponse());
+        assertEquals(0, source.fetches);
+        for (int i = 0; i < 24; i++) {
+            cursor.next();
+        }
+        assertEquals(1, source.fetches);
+        assertTrue(cursor.isPartialResponse());
+        cursor.next();
+        // the only page has no continuation token, so nothing is left
+        assertFalse(cursor.isPartialResponse());
+        assertEquals(1, source.fetches);
+
+        source = new CountingSource(organizationPages());
+        cursor = new RegistryCursor(source, 5);
+        for (int i = 0; i < 5; i++) {
+            cursor.next();
+        }
+        assertTrue(cursor.isPartialResponse());
+        assertEquals(1, source.fetches);
+    }
+
+    @Test
+    public void pagesHoldTheResultOfTheQuery() throws JAXRException {
+        PageSource source = queryManager.getRegistryObjectPages(LifeCycleManager.ORGANIZATION);
+        RegistryCursor cursor = new RegistryCursor(source, 10);
+        Organization first = (Organization) cursor.next();
+        lifeCycleManager.deleteObjects(Collections.singleton(first.getKey()));
+        lifeCycleManager.saveOrganizations(Collections.singleton(lifeCycleManager.createOrganization("Late")));
+        assertEquals(24, cursor.getCollection().size());
+
+        Organization copy = (Organization) source.fetch(null, 1).getObjects().get(0);
+        copy.setName(lifeCycleManager.createInternationalString("Changed"));
+        assertEquals(name(0), ((Organization) source.fetch(null, 1).getObjects().get(0)).getName().getValue());
+
+        cursor.close();
+        try {
+            source.fetch(null, 10);
+            fail("closed source fetched a page");
+        } catch (InvalidRequestException e) {
+            // expected
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void keyPageSourceHydratesEachPage() throws JAXRException {
+        List keys = new ArrayList();
+        for (Iterator i = queryManager.getRegistryObjects(LifeCycleManager.ORGANIZATION)
+        .getCollection().iterator(); i.hasNext();) {
+            keys.add(((RegistryObject) i.next()).getKey());
+        }
+        Collections.reverse(keys);
+        RegistryCursor cursor = new RegistryCursor(
+        new KeyPageSource(queryManager, keys, LifeCycleManager.ORGANIZATION), 7);
+        List names = names(cursor.getCollection());
+        assertEquals(25, names.size());
+        assertEquals(name(24), names.get(0));
+        assertEquals(name(0), names.get(24));
+    }
+
+    @Test
+    public void iteratorAndStreamWrapFailures() throws JAXRException {
+        RegistryCursor cursor = new RegistryCursor(organizationPages(), 10);
+        assertEquals(25, cursor.stream().count());
+
+        final PageSource source = organizationPages();
+        PageSource failing = new PageSource() {
+            public Page fetch(String continuationToken, int fetchSize) throws JAXRException {
+                if (continuationToken != null) {
+                    throw new JAXRException("gone");
+                }
+                return source.fetch(continuationToken, fetchSize);
+            }
+
+            public void close() throws JAXRException {
+                source.close();
+            }
+        };
+        Iterator i = new RegistryCursor(failing, 10).iterator();
+        for (int n = 0; n < 10; n++) {
+            i.next();
+        }
+        try {
+            i.hasNext();
+            fail("failure was not reported");
+        } catch (UncheckedJAXRException e) {
+            assertEquals("gone", e.getCause().getMessage());
+        }
+    }
+
+    private PageSource organizationPages() throws JAXRException {
+        return queryManager.findOrganizationPages(Collections.singleton(FindQualifier.SORT_BY_NAME_ASC),
+        Collections.singleton("Org-%"), null, null, null, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List names(Collection organizations) throws JAXRException {
+        List names = new ArrayList();
+        for (Iterator i = organizations.iterator(); i.hasNext();) {
+            names.add(((Organization) i.next()).getName().getValue());
+        }
+        return names;
+    }
+
+    private static String name(int i) {
+        return i < 10 ? "Org-0" + i : "Org-" + i;
+    }
+
+    /**
+     * Counts the pages fetched from another PageSource.
+     */
+    private static final class CountingSource implements PageSource {
+        private final PageSource source;
+        int fetches;
+
+        CountingSource(PageSource source) {
+            this.source = source;
+        }
+
+        public Page fetch(String continuationToken, int fetchSize) throws JAXRException {
+            fetches++;
+            return source.fetch(continuationToken, fetchSize);
+        }
+
+        public void close() throws JAXRException {
+            source.close();
+        }
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.federation;
+
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+import javax.xml.registry.memory.MemoryConnectionFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ParallelFederatedConnectionTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private Connection first;
+    private Connection second;
+    private SlowConnection slow;
+    private ParallelFederatedConnection federation;
+
+    @Before
+    public void setUp() throws JAXRException {
+        first = connect();
+        second = connect();
+        slow = new SlowConnection(connect(), release);
+        federation = new ParallelFederatedConnection(Arrays.asList(new Connection[] {first, second, slow}));
+    }
+
+    @After
+    public void tearDown() throws JAXRException {
+        release.countDown();
+        federation.close();
+    }
+
+    @Test
+    public void resultsAreDeduplicatedByKeyId() throws JAXRException {
+        String shared = "urn:uuid:" + UUID.randomUUID();
+        save(first, "Acme", shared);
+        save(second, "Acme Copy", shared);
+        save(second, "Globex", null);
+        save(slow.delegate, "Initech", null);
+        slow.delay = false;
+
+        Collection found = findOrganizations(null);
+        assertEquals(Arrays.asList(new String[] {"Acme", "Globex", "Initech"}), names(found));
+        BulkResponse response = federation.getRegistryService().getBusinessQueryManager()
+        .findOrganizations(null, Collections.singleton("%"), null, null, null, null);
+        assertFalse(response.isPartialResponse());
+        assertNull(response.getExceptions());
+    }
+
+    @Test
+    public void sortedMemberResultsAreMerged() throws JAXRException {
+        save(first, "delta", null);
+        save(first, "Alpha", null);
+        save(first, "foxtrot", null);
+        save(second, "echo", null);
+        save(second, "Charlie", null);
+        save(slow.delegate, "bravo", null);
+        save(slow.delegate, "Golf", null);
+        slow.delay = false;
+
+        assertEquals(Arrays.asList(new String[] {"Alpha", "bravo", "Charlie", "delta", "echo", "foxtrot", "Golf"}),
+        names(findOrganizations(FindQualifier.SORT_BY_NAME_ASC)));
+        assertEquals(Arrays.asList(new String[] {"Golf", "foxtrot", "echo", "delta", "Charlie", "bravo", "Alpha"}),
+        names(findOrganizations(FindQualifier.SORT_BY_NAME_DESC)));
+    }
+
+    @Test
+    public void mergeBreaksTiesByMemberOrder() throws JAXRException {
+        LifeCycleManager manager = first.getRegistryService().getBusinessLifeCycleManager();
+        List results = new ArrayList();
+        for (int member = 0; member < 3; member++) {
+            List objects = new ArrayList();
+            for (int i = 0; i < 3; i++) {
+                Organization organization = (Organization) manager.createObject(LifeCycleManager.ORGANIZATION);
+                organization.setName(manager.createInternationalString(i == 1 ? "n5" : "n" + (i * 3 + member)));
+                organization.setKey(manager.createKey("urn:uuid:" + UUID.randomUUID()));
+                add(objects, organization);
+            }
+            add(results, ResultMerger.sortKeys(objects, FindQualifier.SORT_BY_NAME_ASC));
+        }
+        List merged = ResultMerger.merge(results, FindQualifier.SORT_BY_NAME_ASC);
+        List expected = new ArrayList();
+        for (int i = 0; i < 3; i++) {
+            for (int member = 0; member < 3; member++) {
+                add(expected, ((ResultMerger.Entry[]) results.get(member))[i].object);
+            }
+        }
+        assertEquals(expected, merged);
+    }
+
+    @Test
+    public void aSlowMemberMakesTheResponsePartial() throws JAXRException {
+        save(first, "Acme", null);
+        save(second, "Globex", null);
+        save(slow.delegate, "Initech", null);
+        federation.setMemberTimeout(200, TimeUnit.MILLISECONDS);
+
+        long start = System.nanoTime();
+        BulkResponse response = federation.getRegistryService().getBusinessQueryManager()
+        .findOrganizations(null, Collections.singleton("%"), null, null, null, null);
+        assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start) < 5);
+        assertTrue(response.isPartialResponse());
+        assertTrue(response.isAvailable());
+        assertEquals(Arrays.asList(new String[] {"Acme", "Globex"}), names(response.getCollection()));
+
+        // a longer timeout for the slow member alone lets it answer once released
+        federation.setMemberTimeout(slow, 0, TimeUnit.MILLISECONDS);
+        release.countDown();
+        response = federation.getRegistryService().getBusinessQueryManager()
+        .findOrganizations(null, Collections.singleton("%"), null, null, null, null);
+        assertFalse(response.isPartialResponse());
+        assertEquals(3, response.getCollection().size());
+    }
+
+    @Test
+    public void aFailingMemberContributesItsException() throws JAXRException {
+        save(first, "Acme", null);
+        slow.delegate.close();
+        slow.delay = false;
+        BulkResponse response = federation.getRegistryService().getBusinessQueryManager()
+        .findOrganizations(null, Collections.singleton("%"), null, null, null, null);
+        assertEquals(Arrays.asList(new String[] {"Acme"}), names(response.getCollection()));
+        assertEquals(1, response.getExceptions().size());
+        assertFalse(response.isPartialResponse());
+    }
+
+    private Collection findOrganizations(String sortOrder) throws JAXRException {
+        Collection qualifiers = sortOrder == null ? null : Collections.singleton(sortOrder);
+        BulkResponse response = federation.getRegistryService().getBusinessQueryManager()
+        .findOrganizations(qualifiers, Collections.singleton("%"), null, null, null, null);
+        return response.getCollection();
+    }
+
+    private static Connection connect() throws JAXRException {
+        ConnectionFactory factory = new MemoryConnectionFactory();
+        Properties properties = new Properties();
+        properties.setProperty("javax.xml.registry.queryManagerURL", "memory:" + UUID.randomUUID());
+        factory.setProperties(properties);
+        return factory.createConnection();
+    }
+
+    private static void save(Connection connection, String name, String id) throws JAXRException {
+        BusinessLifeCycleManager manager = connection.getRegistryService().getBusinessLifeCycleManager();
+        Organization organization = manager.createOrganization(name);
+        if (id != null) {
+            organization.setKey(manager.createKey(id));
+        }
+        BulkResponse response = manager.saveOrganizations(Collections.singleton(organization));
+        assertNull(response.getExceptions());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List names(Collection objects) throws JAXRException {
+        List names = new ArrayList();
+        for (Iterator i = objects.iterator(); i.hasNext();) {
+            names.add(((RegistryObject) i.next()).getName().getValue());
+        }
+        return names;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void add(List list, Object object) {
+        list.add(object);
+    }
+
+    /**
+     * A member Connection whose queries wait until released.
+     */
+    private static final class SlowConnection implements Connection {
+        final Connection delegate;
+        final CountDownLatch release;
+        volatile boolean delay = true;
+
+        SlowConnection(Connection delegate, CountDownLatch release) {
+            this.delegate = delegate;
+            this.release = release;
+        }
+
+        public RegistryService getRegistryService() throws JAXRException {
+            if (delay) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new JAXRException("Interrupted", e);
+                }
+            }
+            return delegate.getRegistryService();
+        }
+
+        public void close() throws JAXRException {
+            delegate.close();
+        }
+
+        public boolean isClosed() throws JAXRException {
+            return delegate.isClosed();
+        }
+
+        public boolean isSynchronous() throws JAXRException {
+            return delegate.isSynchronous();
+        }
+
+        public void setSynchronous(boolean sync) throws JAXRException {
+            delegate.setSynchronous(sync);
+        }
+
+        public void setCredentials(Set credentials) throws JAXRException {
+            delegate.setCredentials(credentials);
+        }
+
+        public Set getCredentials() throws JAXRException {
+            return delegate.getCredentials();
+        }
+    }
+}
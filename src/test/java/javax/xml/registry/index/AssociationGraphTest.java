@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.index;
+
+import java.util.*;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class AssociationGraphTest {
+
+    private final AssociationGraph graph = new AssociationGraph();
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void traversalIsBoundedByDepth() {
+        // a -> b -> c -> d, and a -> e
+        graph.add("ab", "a", "b", "t");
+        graph.add("bc", "b", "c", "t");
+        graph.add("cd", "c", "d", "t");
+        graph.add("ae", "a", "e", "t");
+        assertEquals(Collections.EMPTY_LIST, graph.traverse("a", AssociationGraph.OUTGOING, 0, null).getObjectIds());
+        assertEquals(set(new String[] {"b", "e"}),
+        new HashSet(graph.traverse("a", AssociationGraph.OUTGOING, 1, null).getObjectIds()));
+        AssociationGraph.Traversal traversal = graph.traverse("a", AssociationGraph.OUTGOING, 2, null);
+        assertEquals(set(new String[] {"b", "c", "e"}), new HashSet(traversal.getObjectIds()));
+        assertEquals(0, traversal.getDepth("a"));
+        assertEquals(2, traversal.getDepth("c"));
+        assertEquals(-1, traversal.getDepth("d"));
+        assertEquals(Arrays.asList(new String[] {"ab", "bc"}), traversal.getPath("c"));
+        assertEquals(Collections.EMPTY_LIST, traversal.getPath("a"));
+        assertNull(traversal.getPath("d"));
+        assertEquals(4, graph.traverse("a", AssociationGraph.OUTGOING, Integer.MAX_VALUE, null).getObjectIds().size());
+        assertTrue(graph.traverse("unknown", AssociationGraph.BOTH, 3, null).getObjectIds().isEmpty());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void directionsAndTypes() {
+        graph.add("ab", "a", "b", "uses");
+        graph.add("cb", "c", "b", "owns");
+        graph.add("bd", "b", "d", null);
+        assertEquals(set(new String[] {"d"}),
+        new HashSet(graph.traverse("b", AssociationGraph.OUTGOING, 5, null).getObjectIds()));
+        assertEquals(set(new String[] {"a", "c"}),
+        new HashSet(graph.traverse("b", AssociationGraph.INCOMING, 5, null).getObjectIds()));
+        assertEquals(set(new String[] {"b", "c", "d"}),
+        new HashSet(graph.traverse("a", AssociationGraph.BOTH, 2, null).getObjectIds()));
+        assertEquals(set(new String[] {"b"}),
+        new HashSet(graph.traverse("a", AssociationGraph.BOTH, 5, Collections.singleton("uses")).getObjectIds()));
+        assertEquals(set(new String[] {"b"}),
+        new HashSet(graph.traverse("d", AssociationGraph.INCOMING, 5, Collections.singleton(null)).getObjectIds()));
+        assertTrue(graph.traverse("a", AssociationGraph.BOTH, 5, Collections.singleton("none")).getObjectIds()
+        .isEmpty());
+        assertEquals(set(new String[] {"uses", "owns", ""}), new HashSet(graph.getAssociationTypes()));
+        try {
+            graph.traverse("a", 0, 1, null);
+            fail("direction 0 accepted");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            graph.traverse("a", AssociationGraph.OUTGOING, -1, null);
+            fail("negative depth accepted");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void reachabilityAndCycles() {
+        graph.add("ab", "a", "b", "parent");
+        graph.add("bc", "b", "c", "parent");
+        graph.add("cx", "c", "x", "other");
+        assertTrue(graph.isReachable("a", "c", AssociationGraph.OUTGOING, 2, null));
+        assertFalse(graph.isReachable("a", "c", AssociationGraph.OUTGOING, 1, null));
+        assertFalse(graph.isReachable("c", "a", AssociationGraph.OUTGOING, 5, null));
+        assertTrue(graph.isReachable("c", "a", AssociationGraph.INCOMING, 5, null));
+        assertTrue(graph.isReachable("a", "a", AssociationGraph.OUTGOING, 0, null));
+        assertFalse(graph.isReachable("a", "x", AssociationGraph.OUTGOING, 5, Collections.singleton("parent")));
+        assertFalse(graph.isReachable("a", "unknown", AssociationGraph.BOTH, 5, null));
+
+        assertTrue(graph.createsCycle("c", "a", null));
+        assertTrue(graph.createsCycle("x", "a", null));
+        assertFalse(graph.createsCycle("x", "a", Collections.singleton("parent")));
+        assertFalse(graph.createsCycle("a", "c", null));
+        assertTrue(graph.createsCycle("a", "a", null));
+
+        // a cycle ends the traversal instead of repeating it
+        graph.add("ca", "c", "a", "parent");
+        AssociationGraph.Traversal traversal = graph.traverse("a", AssociationGraph.OUTGOING, 10, null);
+        assertEquals(set(new String[] {"b", "c", "x"}), new HashSet(traversal.getObjectIds()));
+        assertEquals(4, traversal.getAssociationIds().size());
+    }
+
+    @Test
+    public void replacingAndRemovingAssociations() {
+        graph.add("r", "a", "b", "t");
+        graph.add("r", "a", "c", "t");
+        assertEquals(1, graph.size());
+        assertFalse(graph.isReachable("a", "b", AssociationGraph.BOTH, 5, null));
+        assertTrue(graph.isReachable("a", "c", AssociationGraph.OUTGOING, 1, null));
+        assertEquals(Collections.singletonList("r"), graph.getAssociationIds("c", AssociationGraph.INCOMING, null));
+        assertTrue(graph.remove("r"));
+        assertFalse(graph.remove("r"));
+        assertEquals(0, graph.size());
+        assertTrue(graph.getAssociationIds("a", AssociationGraph.BOTH, null).isEmpty());
+        assertFalse(graph.isReachable("a", "c", AssociationGraph.OUTGOING, 1, null));
+        graph.add("s", "c", "a", "t");
+        graph.clear();
+        assertEquals(0, graph.size());
+        assertTrue(graph.getAssociationTypes().isEmpty());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void randomGraphsMatchABreadthFirstSearch() {
+        Random random = new Random(4);
+        String[] types = {"t0", "t1", "t2"};
+        Map edges = new HashMap();
+        for (int step = 0; step < 5000; step++) {
+            String id = "e" + random.nextInt(300);
+            if (random.nextInt(4) == 0) {
+                assertEquals(edges.remove(id) != null, graph.remove(id));
+            } else {
+                String[] edge = {"o" + random.nextInt(60), "o" + random.nextInt(60), types[random.nextInt(3)]};
+                graph.add(id, edge[0], edge[1], edge[2]);
+                edges.put(id, edge);
+            }
+            if (step % 250 == 0) {
+                assertEquals(edges.size(), graph.size());
+                for (int q = 0; q < 20; q++) {
+                    String from = "o" + random.nextInt(60);
+                    int direction = 1 + random.nextInt(3);
+                    int depth = random.nextInt(5);
+                    Collection selected = random.nextBoolean() ? null : Collections.singleton(types[random.nextInt(3)]);
+                    Map expected = search(edges, from, direction, depth, selected);
+                    AssociationGraph.Traversal traversal = graph.traverse(from, direction, depth, selected);
+                    Set reached = new HashSet(expected.keySet());
+                    reached.remove(from);
+                    assertEquals(reached, new HashSet(traversal.getObjectIds()));
+                    for (Iterator i = reached.iterator(); i.hasNext();) {
+                        String to = (String) i.next();
+                        assertEquals(((Integer) expected.get(to)).intValue(), traversal.getDepth(to));
+                        assertEquals(traversal.getDepth(to), traversal.getPath(to).size());
+                        assertTrue(graph.isReachable(from, to, direction, depth, selected));
+                    }
+                    String to = "o" + random.nextInt(60);
+                    assertEquals(expected.containsKey(to), graph.isReachable(from, to, direction, depth, selected));
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the depth of every object reached by a breadth first search over a
+     * plain edge list.
+     */
+    @SuppressWarnings("unchecked")
+    private static Map search(Map edges, String from, int direction, int maxDepth, Collection types) {
+        Map depths = new HashMap();
+        depths.put(from, Integer.valueOf(0));
+        LinkedList queue = new LinkedList();
+        queue.add(from);
+        while (!queue.isEmpty()) {
+            String node = (String) queue.removeFirst();
+            int depth = ((Integer) depths.get(node)).intValue();
+            if (depth >= maxDepth) {
+                continue;
+            }
+            for (Iterator i = edges.values().iterator(); i.hasNext();) {
+                String[] edge = (String[]) i.next();
+                if (types != null && !types.contains(edge[2])) {
+                    continue;
+                }
+                if ((direction & AssociationGraph.OUTGOING) != 0 && edge[0].equals(node)) {
+                    visit(depths, queue, edge[1], depth + 1);
+                }
+                if ((direction & AssociationGraph.INCOMING) != 0 && edge[1].equals(node)) {
+                    visit(depths, queue, edge[0], depth + 1);
+                }
+            }
+        }
+        return depths;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void visit(Map depths, List queue, String id, int depth) {
+        if (!depths.containsKey(id)) {
+            depths.put(id, Integer.valueOf(depth));
+            queue.add(id);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set set(String[] ids) {
+        return new HashSet(Arrays.asList(ids));
+    }
+}
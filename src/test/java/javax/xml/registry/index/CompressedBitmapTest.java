@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.index;
+
+import java.util.*;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class CompressedBitmapTest {
+
+    /**
+     * Values span four containers; the densities put some containers above
+     * and some below the 4096 values where arrays become bitmaps.
+     */
+    private static final int RANGE = 4 << 16;
+    private static final double[] DENSITIES = {0.0001, 0.01, 0.05, 0.1, 0.5};
+
+    @Test
+    public void ofMatchesBitSet() {
+        Random random = new Random(1);
+        for (int t = 0; t < DENSITIES.length; t++) {
+            BitSet expected = randomSet(random, DENSITIES[t]);
+            assertMatches(expected, bitmap(expected));
+        }
+    }
+
+    @Test
+    public void andOrMatchBitSet() {
+        Random random = new Random(2);
+        for (int i = 0; i < DENSITIES.length; i++) {
+            for (int j = 0; j < DENSITIES.length; j++) {
+                BitSet a = randomSet(random, DENSITIES[i]);
+                BitSet b = randomSet(random, DENSITIES[j]);
+                BitSet and = (BitSet) a.clone();
+                and.and(b);
+                BitSet or = (BitSet) a.clone();
+                or.or(b);
+                assertMatches(and, CompressedBitmap.and(bitmap(a), bitmap(b)));
+                assertMatches(or, CompressedBitmap.or(bitmap(a), bitmap(b)));
+            }
+        }
+    }
+
+    @Test
+    public void andOrOfManyMatchBitSet() {
+        Random random = new Random(3);
+        BitSet and = new BitSet();
+        and.set(0, RANGE);
+        BitSet or = new BitSet();
+        CompressedBitmap[] bitmaps = new CompressedBitmap[DENSITIES.length];
+        for (int i = 0; i < DENSITIES.length; i++) {
+            BitSet set = randomSet(random, 1 - DENSITIES[i]);
+            and.and(set);
+            or.or(set);
+            bitmaps[i] = bitmap(set);
+        }
+        assertMatches(and, CompressedBitmap.and(bitmaps));
+        assertMatches(or, CompressedBitmap.or(bitmaps));
+        assertTrue(CompressedBitmap.and(new CompressedBitmap[0]).isEmpty());
+        assertTrue(CompressedBitmap.or(new CompressedBitmap[0]).isEmpty());
+    }
+
+    @Test
+    public void withWithoutMatchBitSet() {
+        Random random = new Random(4);
+        BitSet expected = new BitSet();
+        CompressedBitmap bitmap = CompressedBitmap.EMPTY;
+        // grows one container past the array limit and shrinks it back
+        for (int i = 0; i < 20000; i++) {
+            int value = random.nextInt(8192);
+            expected.set(value);
+            bitmap = bitmap.with(value);
+        }
+        assertMatches(expected, bitmap);
+        for (int i = 0; i < 40000; i++) {
+            int value = random.nextInt(8192);
+            expected.clear(value);
+            bitmap = bitmap.without(value);
+        }
+        assertMatches(expected, bitmap);
+        for (int i = expected.nextSetBit(0); i >= 0; i = expected.nextSetBit(i + 1)) {
+            bitmap = bitmap.without(i);
+        }
+        assertTrue(bitmap.isEmpty());
+    }
+
+    @Test
+    public void withAndWithoutReturnSameBitmapWhenUnchanged() {
+        CompressedBitmap bitmap = CompressedBitmap.of(new int[] {1, 70000}, 2);
+        assertSame(bitmap, bitmap.with(70000));
+        assertSame(bitmap, bitmap.without(2));
+        assertSame(bitmap, bitmap.without(140000));
+    }
+
+    @Test
+    public void negativeValuesSortUnsigned() {
+        CompressedBitmap bitmap = CompressedBitmap.of(new int[] {-1, 5, Integer.MIN_VALUE, 5}, 4);
+        assertArrayEquals(new int[] {5, Integer.MIN_VALUE, -1}, bitmap.toArray());
+        assertTrue(bitmap.contains(-1));
+        assertFalse(bitmap.contains(-2));
+        assertEquals(3, bitmap.cardinality());
+    }
+
+    @Test
+    public void equalsComparesValues() {
+        CompressedBitmap a = CompressedBitmap.of(new int[] {3, 1, 2}, 3);
+        CompressedBitmap b = CompressedBitmap.EMPTY.with(1).with(2).with(3);
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertFalse(a.equals(b.without(2)));
+    }
+
+    private static BitSet randomSet(Random random, double density) {
+        BitSet set = new BitSet(RANGE);
+        for (int i = 0; i < RANGE; i++) {
+            if (random.nextDouble() < density) {
+                set.set(i);
+            }
+        }
+        return set;
+    }
+
+    private static CompressedBitmap bitmap(BitSet set) {
+        int[] values = set.stream().toArray();
+        return CompressedBitmap.of(values, values.length);
+    }
+
+    private static void assertMatches(BitSet expected, CompressedBitmap actual) {
+        assertArrayEquals(expected.stream().toArray(), actual.toArray());
+        assertEquals(expected.cardinality(), actual.cardinality());
+        for (int i = 0; i < 2000; i++) {
+            int value = i * (RANGE / 2000) + i % 7;
+            assertEquals(expected.get(value), actual.contains(value));
+        }
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.index;
+
+import java.util.*;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class KeyTableTest {
+
+    @Test
+    public void internAssignsDenseHandles() {
+        KeyTable table = new KeyTable();
+        String uuid = UUID.randomUUID().toString();
+        String[] ids = {uuid, "uuid:" + uuid, "urn:uuid:" + uuid, uuid.toUpperCase(Locale.ROOT), "org-1", ""};
+        for (int i = 0; i < ids.length; i++) {
+            assertEquals(i, table.intern(ids[i]));
+        }
+        for (int i = 0; i < ids.length; i++) {
+            assertEquals(i, table.intern(ids[i]));
+            assertEquals(i, table.get(ids[i]));
+            assertEquals(ids[i], table.getId(i));
+        }
+        assertEquals(ids.length, table.size());
+        assertEquals(ids.length, table.getHandleCount());
+        assertEquals(-1, table.get("urn:uuid:" + UUID.randomUUID()));
+        assertEquals(-1, table.get((String) null));
+        assertNull(table.getId(ids.length));
+        assertNull(table.getId(-1));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void removedHandlesAreReused() {
+        KeyTable table = new KeyTable();
+        String a = "urn:uuid:" + UUID.randomUUID();
+        String b = "other";
+        int ha = table.intern(a);
+        int hb = table.intern(b);
+        assertTrue(table.remove(a));
+        assertTrue(table.remove(b));
+        assertFalse(table.remove(a));
+        assertFalse(table.contains(a));
+        assertFalse(table.contains(b));
+        assertNull(table.getId(ha));
+        assertNull(table.getId(hb));
+        assertEquals(0, table.size());
+        String c = UUID.randomUUID().toString();
+        String d = "another";
+        Set reused = new HashSet(Arrays.asList(new Integer[] {Integer.valueOf(ha), Integer.valueOf(hb)}));
+        assertTrue(reused.remove(Integer.valueOf(table.intern(c))));
+        assertTrue(reused.remove(Integer.valueOf(table.intern(d))));
+        assertEquals(2, table.getHandleCount());
+        assertEquals(c, table.getId(table.get(c)));
+        assertEquals(d, table.getId(table.get(d)));
+        assertEquals(-1, table.get(a));
+        assertEquals(-1, table.get(b));
+    }
+
+    @Test
+    public void handlesAreNotReusedWhileAReaderMayHoldThem() {
+        KeyTable table = new KeyTable();
+        int ha = table.intern("a");
+        int reader = table.enter();
+        assertTrue(table.remove("a"));
+        for (int i = 0; i < 100; i++) {
+            assertTrue(table.intern("x" + i) != ha);
+        }
+        // a reader that enters after the removal does not hold the handle
+        int later = table.enter();
+        table.exit(reader);
+        assertEquals(ha, table.intern("b"));
+        table.exit(later);
+        assertEquals(101, table.getHandleCount());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void churnKeepsTheTableBounded() {
+        KeyTable table = new KeyTable(0);
+        Random random = new Random(2);
+        List live = new ArrayList();
+        for (int i = 0; i < 200000; i++) {
+            if (live.size() == 100 || !live.isEmpty() && random.nextBoolean()) {
+                assertTrue(table.remove((String) live.remove(random.nextInt(live.size()))));
+            } else {
+                String id = randomId(random, i);
+                table.intern(id);
+                live.add(id);
+            }
+            if (i % 1000 == 0) {
+                int reader = table.enter();
+                table.exit(reader);
+            }
+        }
+        assertEquals(live.size(), table.size());
+        assertTrue(String.valueOf(table.getHandleCount()), table.getHandleCount() <= 101);
+        for (int i = 0; i < live.size(); i++) {
+            String id = (String) live.get(i);
+            assertEquals(id, table.getId(table.get(id)));
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void growsAndRehashesLikeHashMap() {
+        KeyTable table = new KeyTable(0);
+        Map expected = new HashMap();
+        List live = new ArrayList();
+        Random random = new Random(1);
+        for (int i = 0; i < 100000; i++) {
+            if (!live.isEmpty() && random.nextInt(3) == 0) {
+                String id = (String) live.remove(random.nextInt(live.size()));
+                assertTrue(table.remove(id));
+                expected.remove(id);
+            } else {
+                String id = randomId(random, i);
+                int handle = table.intern(id);
+                assertNull(expected.put(id, Integer.valueOf(handle)));
+                live.add(id);
+            }
+        }
+        assertEquals(expected.size(), table.size());
+        for (Iterator i = expected.entrySet().iterator(); i.hasNext();) {
+            Map.Entry entry = (Map.Entry) i.next();
+            int handle = ((Integer) entry.getValue()).intValue();
+            assertEquals(handle, table.get((String) entry.getKey()));
+            assertEquals(entry.getKey(), table.getId(handle));
+        }
+        int found = 0;
+        for (int handle = 0; handle < table.getHandleCount(); handle++) {
+            if (table.getId(handle) != null) {
+                found++;
+            }
+        }
+        assertEquals(expected.size(), found);
+    }
+
+    @Test
+    public void clearStartsHandlesAgain() {
+        KeyTable table = new KeyTable();
+        for (int i = 0; i < 100; i++) {
+            table.intern(UUID.randomUUID().toString());
+        }
+        table.clear();
+        assertEquals(0, table.size());
+        assertEquals(0, table.getHandleCount());
+        assertEquals(0, table.intern("x"));
+    }
+
+    private static String randomId(Random random, int i) {
+        String uuid = new UUID(random.nextLong(), random.nextLong()).toString();
+        switch (i % 4) {
+        case 0:
+            return uuid;
+        case 1:
+            return "uuid:" + uuid;
+        case 2:
+            return "urn:uuid:" + uuid;
+        default:
+            return "id-" + i;
+        }
+    }
+}
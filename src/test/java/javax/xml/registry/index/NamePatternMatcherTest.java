@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.index;
+
+import java.util.*;
+import javax.xml.registry.*;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class NamePatternMatcherTest {
+
+    private static final String PATTERN_CHARS = "abAB%_\\";
+    private static final String NAME_CHARS = "abAB_%\\";
+
+    /**
+     * Compares the matcher, and its selection from a NameIndex, with a plain
+     * LIKE loop on 1M random pattern/name pairs.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void matchesLikeOnRandomPairs() throws JAXRException {
+        Random random = new Random(1);
+        for (int t = 0; t < 200000; t++) {
+            List patterns = new ArrayList();
+            for (int k = 1 + random.nextInt(3); k > 0; k--) {
+                patterns.add(randomString(random, PATTERN_CHARS, 6));
+            }
+            boolean caseSensitive = random.nextBoolean();
+            NamePatternMatcher matcher = NamePatternMatcher.compile(patterns,
+            caseSensitive ? Collections.singleton(FindQualifier.CASE_SENSITIVE_MATCH) : null);
+            NameIndex index = new NameIndex();
+            String[] names = new String[5];
+            for (int j = 0; j < names.length; j++) {
+                names[j] = randomString(random, NAME_CHARS, 7);
+                index.add(names[j], Integer.valueOf(j));
+            }
+            Set selected = matcher.select(index);
+            for (int j = 0; j < names.length; j++) {
+                boolean expected = false;
+                for (Iterator i = patterns.iterator(); i.hasNext();) {
+                    expected |= like((String) i.next(), names[j], caseSensitive);
+                }
+                String message = patterns + " " + names[j] + " caseSensitive=" + caseSensitive;
+                assertEquals(message, expected, matcher.matches(names[j]));
+                if (expected) {
+                    assertTrue(message, selected.contains(Integer.valueOf(j)));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void exactNameMatchIsLiteral() throws JAXRException {
+        Collection qualifiers = Collections.singleton(FindQualifier.EXACT_NAME_MATCH);
+        NamePatternMatcher matcher = NamePatternMatcher.compile(Collections.singleton("Acme%"), qualifiers);
+        assertTrue(matcher.matches("Acme%"));
+        assertTrue(matcher.matches("acme%"));
+        assertFalse(matcher.matches("Acme Inc"));
+        assertSame(matcher, NamePatternMatcher.compile(Collections.singleton("Acme%"), qualifiers));
+    }
+
+    @Test
+    public void noPatternsMatchAll() throws JAXRException {
+        assertNull(NamePatternMatcher.compile(null, null));
+        assertNull(NamePatternMatcher.compile(Collections.EMPTY_LIST, null));
+    }
+
+    @Test
+    public void cacheStaysBounded() throws JAXRException {
+        for (int i = 0; i < 5000; i++) {
+            NamePatternMatcher matcher = NamePatternMatcher.compile(Collections.singleton("n" + i + "%"), null);
+            assertTrue(matcher.matches("N" + i + "x"));
+        }
+        NamePatternMatcher matcher = NamePatternMatcher.compile(Collections.singleton("last%"), null);
+        assertSame(matcher, NamePatternMatcher.compile(Collections.singleton("last%"), null));
+    }
+
+    private static String randomString(Random random, String chars, int maxLength) {
+        StringBuilder s = new StringBuilder();
+        for (int n = random.nextInt(maxLength); n > 0; n--) {
+            s.append(chars.charAt(random.nextInt(chars.length())));
+        }
+        return s.toString();
+    }
+
+    /**
+     * The LIKE matcher that FindCriteria used before NamePatternMatcher.
+     */
+    private static boolean like(String pattern, String value, boolean caseSensitive) {
+        int p = 0;
+        int v = 0;
+        int starP = -1;
+        int starV = 0;
+        while (v < value.length()) {
+            if (p < pattern.length()) {
+                char c = pattern.charAt(p);
+                if (c == '%') {
+                    starP = ++p;
+                    starV = v;
+                    continue;
+                }
+                if (c == '\\' && p + 1 < pattern.length()) {
+                    if (same(pattern.charAt(p + 1), value.charAt(v), caseSensitive)) {
+                        p += 2;
+                        v++;
+                        continue;
+                    }
+                } else if (c == '_' || same(c, value.charAt(v), caseSensitive)) {
+                    p++;
+                    v++;
+                    continue;
+                }
+            }
+            if (starP < 0) {
+                return false;
+            }
+            p = starP;
+            v = ++starV;
+        }
+        while (p < pattern.length() && pattern.charAt(p) == '%') {
+            p++;
+        }
+        return p == pattern.length();
+    }
+
+    private static boolean same(char a, char b, boolean caseSensitive) {
+        return a == b || !caseSensitive && (Character.toLowerCase(a) == Character.toLowerCase(b)
+        || Character.toUpperCase(a) == Character.toUpperCase(b));
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.index;
+
+import java.util.*;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class SlotIndexTest {
+
+    private static final String[] TYPES = {null, "string", "xs:int", "long", "xs:double", "Decimal"};
+
+    private final SlotIndex index = new SlotIndex(Arrays.asList(new String[] {"region", "weight"}));
+
+    @Test
+    public void equalityMatchesTheValueText() {
+        index.add("region", "string", new Object[] {"eu-west", "eu"}, 1);
+        index.add("region", null, new Object[] {"eu"}, 2);
+        index.add("weight", "xs:int", new Object[] {Long.valueOf(50)}, 3);
+        assertHandles(new int[] {1}, index.select(SlotPredicate.equalTo("region", "eu-west")));
+        assertHandles(new int[] {1, 2}, index.select(SlotPredicate.equalTo("region", "eu")));
+        assertHandles(new int[] {3}, index.select(SlotPredicate.equalTo("weight", "50")));
+        assertHandles(new int[0], index.select(SlotPredicate.equalTo("weight", "50.0")));
+        assertHandles(new int[0], index.select(SlotPredicate.equalTo("region", "EU")));
+    }
+
+    @Test
+    public void rangeBounds() {
+        index.add("weight", "xs:int", new Object[] {Long.valueOf(10)}, 1);
+        index.add("weight", "xs:int", new Object[] {Long.valueOf(20)}, 2);
+        index.add("weight", "xs:double", new Object[] {"30.0"}, 3);
+        assertHandles(new int[] {1, 2, 3}, range(10, true, 30, true));
+        assertHandles(new int[] {2, 3}, range(10, false, 30, true));
+        assertHandles(new int[] {1, 2}, range(10, true, 30, false));
+        assertHandles(new int[] {2}, range(10, false, 30, false));
+        assertHandles(new int[] {2}, range(20, true, 20, true));
+        assertHandles(new int[0], range(20, true, 20, false));
+        assertHandles(new int[0], range(20, false, 20, true));
+        assertSame(CompressedBitmap.EMPTY, range(30, true, 10, true));
+        assertHandles(new int[] {2, 3}, index.select(SlotPredicate.greaterThan("weight", 10)));
+        assertHandles(new int[] {1, 2}, index.select(SlotPredicate.lessThan("weight", 30)));
+        assertHandles(new int[] {1, 2, 3}, range(Double.NEGATIVE_INFINITY, true, Double.POSITIVE_INFINITY, true));
+    }
+
+    @Test
+    public void negativeZeroEqualsZero() {
+        index.add("weight", "xs:double", new Object[] {"-0.0"}, 1);
+        index.add("weight", "xs:double", new Object[] {Double.valueOf(0.0)}, 2);
+        assertHandles(new int[] {1, 2}, range(-0.0, true, -0.0, true));
+        assertHandles(new int[] {1, 2}, range(0.0, true, 0.0, true));
+        assertHandles(new int[] {1, 2}, range(-0.0, true, 0.0, true));
+        assertHandles(new int[0], range(-0.0, false, 1, true));
+        assertHandles(new int[0], range(-1, true, 0.0, false));
+        index.remove("weight", "xs:double", new Object[] {"-0.0"}, 1);
+        assertHandles(new int[] {2}, range(0.0, true, 0.0, true));
+    }
+
+    @Test
+    public void textSlotsAreNotRangeIndexed() {
+        index.add("weight", "string", new Object[] {"5"}, 1);
+        index.add("weight", null, new Object[] {"6"}, 2);
+        index.add("weight", "xs:int", new Object[] {"heavy", Long.valueOf(7)}, 3);
+        assertHandles(new int[] {3}, range(0, true, 10, true));
+        assertHandles(new int[] {1}, index.select(SlotPredicate.equalTo("weight", "5")));
+        assertHandles(new int[] {3}, index.select(SlotPredicate.equalTo("weight", "heavy")));
+    }
+
+    @Test
+    public void replaceKeepsSharedValues() {
+        index.add("region", "string", new Object[] {"a", "b"}, 1);
+        index.add("region", "string", new Object[] {"a"}, 2);
+        index.replace("region", "string", new Object[] {"a", "b"}, "string", new Object[] {"b", "c"}, 1);
+        assertHandles(new int[] {2}, index.select(SlotPredicate.equalTo("region", "a")));
+        assertHandles(new int[] {1}, index.select(SlotPredicate.equalTo("region", "b")));
+        assertHandles(new int[] {1}, index.select(SlotPredicate.equalTo("region", "c")));
+
+        index.add("weight", "xs:int", new Object[] {Long.valueOf(1), Long.valueOf(2)}, 1);
+        index.replace("weight", "xs:int", new Object[] {Long.valueOf(1), Long.valueOf(2)},
+        "xs:double", new Object[] {Double.valueOf(2.0), Double.valueOf(3.5)}, 1);
+        assertHandles(new int[0], range(1, true, 1, true));
+        assertHandles(new int[] {1}, range(2, true, 2, true));
+        assertHandles(new int[] {1}, range(3.5, true, 3.5, true));
+        assertHandles(new int[0], index.select(SlotPredicate.equalTo("weight", "2")));
+        assertHandles(new int[] {1}, index.select(SlotPredicate.equalTo("weight", "2.0")));
+
+        index.replace("weight", "xs:double", new Object[] {Double.valueOf(2.0), Double.valueOf(3.5)},
+        "string", new Object[] {"2.0"}, 1);
+        assertHandles(new int[0], range(0, true, 10, true));
+        assertHandles(new int[] {1}, index.select(SlotPredicate.equalTo("weight", "2.0")));
+    }
+
+    @Test
+    public void slotsThatAreNotIndexed() {
+        index.add("color", "string", new Object[] {"red"}, 1);
+        assertFalse(index.isIndexed("color"));
+        assertEquals(0, index.size());
+        try {
+            index.select(SlotPredicate.equalTo("color", "red"));
+            fail("color is not indexed");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        assertNull(index.match(Collections.singleton(SlotPredicate.equalTo("color", "red"))));
+        assertNull(index.match(Collections.EMPTY_LIST));
+    }
+
+    @Test
+    public void matchIntersectsIndexedPredicates() {
+        index.add("region", "string", new Object[] {"eu-west"}, 1);
+        index.add("weight", "xs:int", new Object[] {Long.valueOf(60)}, 1);
+        index.add("region", "string", new Object[] {"eu-west"}, 2);
+        index.add("weight", "xs:int", new Object[] {Long.valueOf(40)}, 2);
+        index.add("region", "string", new Object[] {"us-east"}, 3);
+        index.add("weight", "xs:int", new Object[] {Long.valueOf(70)}, 3);
+        Collection predicates = Arrays.asList(new SlotPredicate[] {SlotPredicate.equalTo("region", "eu-west"),
+            SlotPredicate.greaterThan("weight", 50), SlotPredicate.equalTo("color", "red")});
+        assertHandles(new int[] {1}, index.match(predicates));
+        assertSame(CompressedBitmap.EMPTY, index.match(Arrays.asList(new SlotPredicate[] {
+            SlotPredicate.equalTo("region", "eu-north"), SlotPredicate.greaterThan("weight", 50)})));
+        index.clear();
+        assertEquals(0, index.size());
+        assertHandles(new int[0], index.match(predicates));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void randomChangesMatchThePredicates() {
+        Random random = new Random(3);
+        Map types = new HashMap();
+        Map values = new HashMap();
+        for (int step = 0; step < 20000; step++) {
+            Integer handle = Integer.valueOf(random.nextInt(200));
+            String type = TYPES[random.nextInt(TYPES.length)];
+            Object[] newValues = new Object[random.nextInt(3)];
+            for (int i = 0; i < newValues.length; i++) {
+                newValues[i] = randomValue(random);
+            }
+            if (!values.containsKey(handle)) {
+                index.add("weight", type, newValues, handle.intValue());
+            } else if (random.nextInt(5) == 0) {
+                index.remove("weight", (String) types.get(handle), (Object[]) values.get(handle), handle.intValue());
+                types.remove(handle);
+                values.remove(handle);
+                continue;
+            } else {
+                index.replace("weight", (String) types.get(handle), (Object[]) values.get(handle),
+                type, newValues, handle.intValue());
+            }
+            types.put(handle, type);
+            values.put(handle, newValues);
+
+            if (step % 500 == 0) {
+                for (int q = 0; q < 20; q++) {
+                    SlotPredicate predicate = randomPredicate(random);
+                    List expected = new ArrayList();
+                    for (int h = 0; h < 200; h++) {
+                        Integer key = Integer.valueOf(h);
+                        if (values.containsKey(key)
+                        && predicate.matches((String) types.get(key), (Object[]) values.get(key))) {
+                            expected.add(key);
+                        }
+                    }
+                    int[] handles = index.select(predicate).toArray();
+                    assertEquals(predicate.toString(), expected.size(), handles.length);
+                    for (int i = 0; i < handles.length; i++) {
+                        assertEquals(predicate.toString(), expected.get(i), Integer.valueOf(handles[i]));
+                    }
+                }
+            }
+        }
+    }
+
+    private CompressedBitmap range(double min, boolean minInclusive, double max, boolean maxInclusive) {
+        return index.select(SlotPredicate.range("weight", min, minInclusive, max, maxInclusive));
+    }
+
+    private static Object randomValue(Random random) {
+        switch (random.nextInt(4)) {
+        case 0:
+            return Long.valueOf(random.nextInt(21) - 10);
+        case 1:
+            return Double.valueOf((random.nextInt(41) - 20) / 2.0);
+        case 2:
+            return Integer.toString(random.nextInt(21) - 10);
+        default:
+            return random.nextBoolean() ? "-0.0" : "n" + random.nextInt(5);
+        }
+    }
+
+    private static SlotPredicate randomPredicate(Random random) {
+        if (random.nextInt(4) == 0) {
+            Object value = randomValue(random);
+            return SlotPredicate.equalTo("weight", value.toString());
+        }
+        double min = (random.nextInt(25) - 12) / 2.0;
+        double max = (random.nextInt(25) - 12) / 2.0;
+        return SlotPredicate.range("weight", min, random.nextBoolean(), max, random.nextBoolean());
+    }
+
+    private static void assertHandles(int[] expected, CompressedBitmap actual) {
+        assertArrayEquals(expected, actual.toArray());
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.memory;
+
+import java.util.*;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ExtensibleObjectImplTest {
+
+    private static final String[] SLOT_TYPES = {null, "string", "xs:int", "long", "xs:double", "Decimal"};
+
+    private Connection connection;
+    private BusinessLifeCycleManager lifeCycleManager;
+
+    @Before
+    public void setUp() throws JAXRException {
+        ConnectionFactory factory = new MemoryConnectionFactory();
+        Properties properties = new Properties();
+        properties.setProperty("javax.xml.registry.queryManagerURL", "memory:" + UUID.randomUUID());
+        factory.setProperties(properties);
+        connection = factory.createConnection();
+        lifeCycleManager = connection.getRegistryService().getBusinessLifeCycleManager();
+    }
+
+    @After
+    public void tearDown() throws JAXRException {
+        connection.close();
+    }
+
+    @Test
+    public void integerValuesAreStoredAsLongs() throws JAXRException {
+        ExtensibleObjectImpl object = object();
+        object.addSlot(lifeCycleManager.createSlot("count", "42", "xs:int"));
+        object.addSlot(lifeCycleManager.createSlot("range", Arrays.asList(new String[] {
+            "-7", "0", Long.toString(Long.MIN_VALUE), Long.toString(Long.MAX_VALUE)}), "long"));
+        assertArrayEquals(new Object[] {Long.valueOf(42)}, object.getSlotValues(0));
+        assertArrayEquals(new Object[] {Long.valueOf(-7), Long.valueOf(0), Long.valueOf(Long.MIN_VALUE),
+            Long.valueOf(Long.MAX_VALUE)}, object.getSlotValues(1));
+        assertValues(object, "count", new String[] {"42"});
+        assertValues(object, "range", new String[] {"-7", "0", Long.toString(Long.MIN_VALUE),
+            Long.toString(Long.MAX_VALUE)});
+    }
+
+    @Test
+    public void decimalValuesAreStoredAsDoubles() throws JAXRException {
+        ExtensibleObjectImpl object = object();
+        object.addSlot(lifeCycleManager.createSlot("price", "1.5", "xs:double"));
+        object.addSlot(lifeCycleManager.createSlot("scale", Arrays.asList(new String[] {"-0.0", "1.0E10"}), "decimal"));
+        assertArrayEquals(new Object[] {Double.valueOf(1.5)}, object.getSlotValues(0));
+        assertArrayEquals(new Object[] {Double.valueOf(-0.0), Double.valueOf(1.0E10)}, object.getSlotValues(1));
+        assertValues(object, "price", new String[] {"1.5"});
+        assertValues(object, "scale", new String[] {"-0.0", "1.0E10"});
+    }
+
+    @Test
+    public void nonCanonicalNumbersStayText() throws JAXRException {
+        ExtensibleObjectImpl object = object();
+        String[] integers = {"007", "+5", "1e3", " 1", "-0", "99999999999999999999", ""};
+        for (int i = 0; i < integers.length; i++) {
+            object.addSlot(lifeCycleManager.createSlot("i", integers[i], "xs:int"));
+            assertArrayEquals(integers[i], new Object[] {integers[i]}, object.getSlotValues(0));
+            assertValues(object, "i", new String[] {integers[i]});
+        }
+        String[] decimals = {"1.50", "1", ".5", "1e10", "NaN", "Infinity", "0.00001"};
+        for (int i = 0; i < decimals.length; i++) {
+            object.addSlot(lifeCycleManager.createSlot("d", decimals[i], "xs:double"));
+            assertValues(object, "d", new String[] {decimals[i]});
+        }
+        // one non-canonical value keeps all values of the slot as text
+        object.addSlot(lifeCycleManager.createSlot("mixed", Arrays.asList(new String[] {"1", "01"}), "int"));
+        assertArrayEquals(new Object[] {"1", "01"}, object.getSlotValues(2));
+    }
+
+    @Test
+    public void changingTheSlotTypeReencodesValues() throws JAXRException {
+        ExtensibleObjectImpl object = object();
+        object.addSlot(lifeCycleManager.createSlot("n", "12", "string"));
+        assertArrayEquals(new Object[] {"12"}, object.getSlotValues(0));
+        Slot slot = object.getSlot("n");
+        slot.setSlotType("xs:int");
+        assertArrayEquals(new Object[] {Long.valueOf(12)}, object.getSlotValues(0));
+        slot.setSlotType("xs:double");
+        assertArrayEquals(new Object[] {"12"}, object.getSlotValues(0));
+        slot.setSlotType(null);
+        assertValues(object, "n", new String[] {"12"});
+        slot.setValues(Collections.EMPTY_LIST);
+        assertValues(object, "n", new String[0]);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void randomValuesRoundTrip() throws JAXRException {
+        Random random = new Random(1);
+        ExtensibleObjectImpl object = object();
+        Map expected = new LinkedHashMap();
+        for (int step = 0; step < 5000; step++) {
+            String name = "s" + random.nextInt(20);
+            String type = SLOT_TYPES[random.nextInt(SLOT_TYPES.length)];
+            List values = new ArrayList();
+            for (int n = random.nextInt(4); n > 0; n--) {
+                values.add(randomNumber(random));
+            }
+            if (random.nextInt(10) == 0) {
+                object.removeSlot(name);
+                expected.remove(name);
+            } else {
+                object.addSlot(lifeCycleManager.createSlot(name, values, type));
+                expected.put(name, values);
+            }
+        }
+        for (Iterator i = expected.entrySet().iterator(); i.hasNext();) {
+            Map.Entry entry = (Map.Entry) i.next();
+            assertEquals(entry.getValue(), new ArrayList(object.getSlot((String) entry.getKey()).getValues()));
+        }
+        assertEquals(expected.size(), object.getSlots().size());
+    }
+
+    @Test
+    public void copiesDoNotShareChanges() throws JAXRException {
+        ExtensibleObjectImpl object = object();
+        object.addSlot(lifeCycleManager.createSlot("n", "1", "xs:int"));
+        ExtensibleObjectImpl copy = object();
+        object.copySlotsTo(copy);
+        object.getSlot("n").setValues(Collections.singleton("2"));
+        object.addSlot(lifeCycleManager.createSlot("m", "3", "xs:int"));
+        assertValues(copy, "n", new String[] {"1"});
+        assertNull(copy.getSlot("m"));
+    }
+
+    private ExtensibleObjectImpl object() throws JAXRException {
+        return (ExtensibleObjectImpl) lifeCycleManager.createOrganization("o");
+    }
+
+    private static String randomNumber(Random random) {
+        switch (random.nextInt(4)) {
+        case 0:
+            return Long.toString(random.nextLong() >> random.nextInt(64));
+        case 1:
+            return Double.toString(random.nextGaussian() * Math.pow(10, random.nextInt(30) - 15));
+        case 2:
+            return "0" + random.nextInt(100);
+        default:
+            StringBuilder s = new StringBuilder();
+            for (int n = random.nextInt(6); n > 0; n--) {
+                s.append("0123456789.-E".charAt(random.nextInt(13)));
+            }
+            return s.toString();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void assertValues(ExtensibleObjectImpl object, String name, String[] values)
+    throws JAXRException {
+        assertEquals(Arrays.asList(values), new ArrayList(object.getSlot(name).getValues()));
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.memory;
+
+import java.util.*;
+import javax.xml.registry.*;
+import javax.xml.registry.index.SlotPredicate;
+import javax.xml.registry.index.SlotQueryManager;
+import javax.xml.registry.infomodel.*;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that saved objects are isolated from the objects of callers, both
+ * those they saved and those queries returned.
+ */
+public class MemoryBusinessLifeCycleManagerTest {
+
+    private Connection connection;
+    private BusinessLifeCycleManager lifeCycleManager;
+    private SlotQueryManager queryManager;
+    private Concept food;
+    private Organization organization;
+    private Service service;
+
+    @Before
+    public void setUp() throws JAXRException {
+        ConnectionFactory factory = new MemoryConnectionFactory();
+        Properties properties = new Properties();
+        properties.setProperty("javax.xml.registry.queryManagerURL", "memory:" + UUID.randomUUID());
+        properties.setProperty("javax.xml.registry.memory.indexedSlots", "region,weight");
+        factory.setProperties(properties);
+        connection = factory.createConnection();
+        lifeCycleManager = connection.getRegistryService().getBusinessLifeCycleManager();
+        queryManager = (SlotQueryManager) connection.getRegistryService().getBusinessQueryManager();
+
+        ClassificationScheme scheme = lifeCycleManager.createClassificationScheme("Industry", "Industries");
+        food = lifeCycleManager.createConcept(scheme, "Food", "1");
+        scheme.addChildConcept(food);
+        lifeCycleManager.saveClassificationSchemes(Collections.singleton(scheme));
+
+        organization = lifeCycleManager.createOrganization("Acme");
+        organization.addSlot(lifeCycleManager.createSlot("region", "eu", "string"));
+        organization.addSlot(lifeCycleManager.createSlot("weight", "60", "xs:int"));
+        organization.addClassification(lifeCycleManager.createClassification(food));
+        service = lifeCycleManager.createService("Orders");
+        ServiceBinding binding = lifeCycleManager.createServiceBinding();
+        binding.setValidateURI(false);
+        binding.setAccessURI("http://example.com/orders");
+        service.addServiceBinding(binding);
+        organization.addService(service);
+        User user = lifeCycleManager.createUser();
+        user.setPersonName(lifeCycleManager.createPersonName("Jo Bloggs"));
+        organization.addUser(user);
+        organization.setPrimaryContact(user);
+        lifeCycleManager.saveOrganizations(Collections.singleton(organization));
+    }
+
+    @After
+    public void tearDown() throws JAXRException {
+        connection.close();
+    }
+
+    @Test
+    public void unsavedChangesOfTheCallerAreNotSeen() throws JAXRException {
+        organization.setName(lifeCycleManager.createInternationalString("Mutated"));
+        organization.removeSlot("region");
+        organization.addSlot(lifeCycleManager.createSlot("region", "us", "string"));
+
+        Collection found = findByName("Acme");
+        assertEquals(1, found.size());
+        Organization copy = (Organization) found.iterator().next();
+        assertNotSame(organization, copy);
+        assertEquals("Acme", copy.getName().getValue());
+        assertTrue(findByName("Mutated").isEmpty());
+        assertEquals(1, findByRegion("eu").size());
+        assertTrue(findByRegion("us").isEmpty());
+    }
+
+    @Test
+    public void slotsChangedInPlaceAreNotSeenUntilSaved() throws JAXRException {
+        organization.getSlot("region").setValues(Collections.singleton("us"));
+        organization.getSlot("weight").setValues(Collections.singleton("40"));
+        assertEquals(1, findByRegion("eu").size());
+        assertTrue(findByRegion("us").isEmpty());
+        assertEquals(1, findByWeight(50, 70).size());
+        assertTrue(findByWeight(30, 50).isEmpty());
+
+        lifeCycleManager.saveOrganizations(Collections.singleton(organization));
+        assertTrue(findByRegion("eu").isEmpty());
+        assertEquals(1, findByRegion("us").size());
+        assertTrue(findByWeight(50, 70).isEmpty());
+        assertEquals(1, findByWeight(30, 50).size());
+
+        Organization copy = get(organization);
+        copy.getSlot("weight").setSlotType("string");
+        assertEquals(1, findByWeight(30, 50).size());
+    }
+
+    @Test
+    public void changesToQueryResultsAreNotSeen() throws JAXRException {
+        Organization copy = get(organization);
+        copy.setName(lifeCycleManager.createInternationalString("Other"));
+        assertEquals("Acme", get(organization).getName().getValue());
+        assertTrue(findByName("Other").isEmpty());
+    }
+
+    @Test
+    public void navigationStaysWithinOneResponse() throws JAXRException {
+        Organization copy = get(organization);
+        Service s = (Service) copy.getServices().iterator().next();
+        assertSame(copy, s.getProvidingOrganization());
+        ServiceBinding binding = (ServiceBinding) s.getServiceBindings().iterator().next();
+        assertSame(s, binding.getService());
+        assertSame(copy, copy.getPrimaryContact().getOrganization());
+        Classification classification = (Classification) copy.getClassifications().iterator().next();
+        assertSame(copy, classification.getClassifiedObject());
+        assertNotSame(food, classification.getConcept());
+        assertEquals("Food", classification.getConcept().getName().getValue());
+    }
+
+    @Test
+    public void savingAgainReindexes() throws JAXRException {
+        organization.setName(lifeCycleManager.createInternationalString("Mutated"));
+        organization.removeSlot("region");
+        organization.addSlot(lifeCycleManager.createSlot("region", "us", "string"));
+        lifeCycleManager.saveOrganizations(Collections.singleton(organization));
+
+        assertTrue(findByName("Acme").isEmpty());
+        assertEquals(1, findByName("Mutated").size());
+        assertEquals(1, findByRegion("us").size());
+        assertTrue(findByRegion("eu").isEmpty());
+        assertEquals(2, get(organization).getAuditTrail().size());
+    }
+
+    @Test
+    public void queryResultsCanBeSaved() throws JAXRException {
+        Organization copy = get(organization);
+        copy.setDescription(lifeCycleManager.createInternationalString("Bakeries"));
+        lifeCycleManager.saveOrganizations(Collections.singleton(copy));
+        Organization saved = get(organization);
+        assertEquals("Bakeries", saved.getDescription().getValue());
+        assertEquals(1, saved.getServices().size());
+        assertEquals(2, saved.getAuditTrail().size());
+    }
+
+    @Test
+    public void deprecationChangesTheSavedStatusOnly() throws JAXRException {
+        lifeCycleManager.deprecateObjects(Collections.singleton(service.getKey()));
+        assertEquals(RegistryEntry.STATUS_DEPRECATED, ((Service) get(service)).getStatus());
+        assertTrue(service.getStatus() != RegistryEntry.STATUS_DEPRECATED);
+        lifeCycleManager.unDeprecateObjects(Collections.singleton(service.getKey()));
+        assertEquals(RegistryEntry.STATUS_SUBMITTED, ((Service) get(service)).getStatus());
+    }
+
+    @Test
+    public void objectOfAnotherTypeWithTheSameKeyIsRejected() throws JAXRException {
+        Service conflict = lifeCycleManager.createService("Conflict");
+        conflict.setKey(organization.getKey());
+        BulkResponse response = lifeCycleManager.saveServices(Collections.singleton(conflict));
+        assertEquals(1, response.getExceptions().size());
+        assertEquals("Acme", get(organization).getName().getValue());
+    }
+
+    @Test
+    public void associationConfirmationIsSaved() throws JAXRException {
+        Organization other = lifeCycleManager.createOrganization("Other");
+        lifeCycleManager.saveOrganizations(Collections.singleton(other));
+        Concept relatedTo = lifeCycleManager.createConcept(null, "RelatedTo", "RelatedTo");
+        lifeCycleManager.saveConcepts(Collections.singleton(relatedTo));
+        Association association = lifeCycleManager.createAssociation(other, relatedTo);
+        organization.addAssociation(association);
+        lifeCycleManager.saveAssociations(Collections.singleton(association), false);
+
+        Association copy = (Association) get(association);
+        assertTrue(copy.isConfirmed());
+        lifeCycleManager.unConfirmAssociation(copy);
+        assertFalse(((Association) get(association)).isConfirmed());
+        assertEquals(1, queryManager.findCallerAssociations(null, Boolean.FALSE, null, null).getCollection().size());
+        assertEquals(1, queryManager.findAssociations(null, organization.getKey().getId(), null, null)
+        .getCollection().size());
+    }
+
+    @Test
+    public void deletedObjectsAreGone() throws JAXRException {
+        lifeCycleManager.deleteOrganizations(Collections.singleton(organization.getKey()));
+        assertNull(queryManager.getRegistryObject(organization.getKey().getId()));
+        assertTrue(findByName("Acme").isEmpty());
+        assertTrue(findByRegion("eu").isEmpty());
+    }
+
+    private RegistryObject get(RegistryObject object) throws JAXRException {
+        return queryManager.getRegistryObject(object.getKey().getId());
+    }
+
+    private Organization get(Organization object) throws JAXRException {
+        return (Organization) get((RegistryObject) object);
+    }
+
+    private Collection findByName(String name) throws JAXRException {
+        return queryManager.findOrganizations(null, Collections.singleton(name), null, null, null, null)
+        .getCollection();
+    }
+
+    private Collection findByRegion(String region) throws JAXRException {
+        return queryManager.findObjectsBySlots(LifeCycleManager.ORGANIZATION, null,
+        Collections.singleton(SlotPredicate.equalTo("region", region))).getCollection();
+    }
+
+    private Collection findByWeight(double min, double max) throws JAXRException {
+        return queryManager.findObjectsBySlots(LifeCycleManager.ORGANIZATION, null,
+        Collections.singleton(SlotPredicate.between("weight", min, max))).getCollection();
+    }
+}
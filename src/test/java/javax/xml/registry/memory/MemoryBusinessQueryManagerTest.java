@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.memory;
+
+import java.util.*;
+import javax.xml.registry.*;
+import javax.xml.registry.index.AssociationQueryManager;
+import javax.xml.registry.infomodel.*;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class MemoryBusinessQueryManagerTest {
+
+    private Connection connection;
+    private BusinessLifeCycleManager lifeCycleManager;
+    private BusinessQueryManager queryManager;
+    private Concept food;
+    private Concept retail;
+    private Concept europe;
+    private Organization bakery;
+    private Organization grocer;
+    private Organization outfitter;
+
+    @Before
+    public void setUp() throws JAXRException {
+        ConnectionFactory factory = new MemoryConnectionFactory();
+        Properties properties = new Properties();
+        properties.setProperty("javax.xml.registry.queryManagerURL", "memory:" + UUID.randomUUID());
+        factory.setProperties(properties);
+        connection = factory.createConnection();
+        lifeCycleManager = connection.getRegistryService().getBusinessLifeCycleManager();
+        queryManager = connection.getRegistryService().getBusinessQueryManager();
+
+        ClassificationScheme industry = lifeCycleManager.createClassificationScheme("Industry", "Industries");
+        food = lifeCycleManager.createConcept(industry, "Food", "1");
+        retail = lifeCycleManager.createConcept(industry, "Retail", "2");
+        industry.addChildConcept(food);
+        industry.addChildConcept(retail);
+        ClassificationScheme region = lifeCycleManager.createClassificationScheme("Region", "Regions");
+        europe = lifeCycleManager.createConcept(region, "Europe", "EU");
+        region.addChildConcept(europe);
+        lifeCycleManager.saveClassificationSchemes(Arrays.asList(new Object[] {industry, region}));
+
+        bakery = organization("Acme Bakery", new Concept[] {food, europe});
+        grocer = organization("acme grocer", new Concept[] {food, retail});
+        outfitter = organization("Zenith Outfitters", new Concept[] {retail});
+        lifeCycleManager.saveOrganizations(Arrays.asList(new Object[] {bakery, grocer, outfitter}));
+    }
+
+    @After
+    public void tearDown() throws JAXRException {
+        connection.close();
+    }
+
+    @Test
+    public void namePatternsAreCaseInsensitiveLikePatterns() throws JAXRException {
+        assertFound(findByName(null, "acme%"), new Organization[] {bakery, grocer});
+        assertFound(findByName(null, "%o_er"), new Organization[] {grocer});
+        assertFound(findByName(null, "Acme Bakery"), new Organization[] {bakery});
+        assertFound(findByName(null, "Acme"), new Organization[0]);
+    }
+
+    @Test
+    public void caseSensitiveAndExactNameMatch() throws JAXRException {
+        assertFound(findByName(FindQualifier.CASE_SENSITIVE_MATCH, "Acme%"), new Organization[] {bakery});
+        assertFound(findByName(FindQualifier.EXACT_NAME_MATCH, "acme%"), new Organization[0]);
+        assertFound(findByName(FindQualifier.EXACT_NAME_MATCH, "ACME GROCER"), new Organization[] {grocer});
+    }
+
+    @Test
+    public void classificationsMustAllMatchByDefault() throws JAXRException {
+        assertFound(findByClassifications(null, new Concept[] {food, retail}), new Organization[] {grocer});
+        assertFound(findByClassifications(Collections.singleton(FindQualifier.AND_ALL_KEYS),
+        new Concept[] {food, retail}), new Organization[] {grocer});
+    }
+
+    @Test
+    public void orAllKeysMatchesAnyClassification() throws JAXRException {
+        assertFound(findByClassifications(Collections.singleton(FindQualifier.OR_ALL_KEYS),
+        new Concept[] {europe, retail}), new Organization[] {bakery, grocer, outfitter});
+    }
+
+    @Test
+    public void orLikeKeysMatchesAnyClassificationOfTheSameScheme() throws JAXRException {
+        Collection qualifiers = Collections.singleton(FindQualifier.OR_LIKE_KEYS);
+        assertFound(findByClassifications(qualifiers, new Concept[] {food, retail}),
+        new Organization[] {bakery, grocer, outfitter});
+        assertFound(findByClassifications(qualifiers, new Concept[] {food, retail, europe}),
+        new Organization[] {bakery});
+    }
+
+    @Test
+    public void andAllKeysCannotBeCombinedWithOrKeys() throws JAXRException {
+        String[] or = {FindQualifier.OR_ALL_KEYS, FindQualifier.OR_LIKE_KEYS};
+        for (int i = 0; i < or.length; i++) {
+            try {
+                findByClassifications(Arrays.asList(new String[] {FindQualifier.AND_ALL_KEYS, or[i]}),
+                new Concept[] {food});
+                fail(or[i]);
+            } catch (InvalidRequestException e) {
+                // expected
+            }
+        }
+    }
+
+    @Test
+    public void sortsByName() throws JAXRException {
+        assertEquals(Arrays.asList(new Object[] {"Acme Bakery", "acme grocer", "Zenith Outfitters"}),
+        names(findByName(FindQualifier.SORT_BY_NAME_ASC, "%")));
+        assertEquals(Arrays.asList(new Object[] {"Zenith Outfitters", "acme grocer", "Acme Bakery"}),
+        names(findByName(FindQualifier.SORT_BY_NAME_DESC, "%")));
+    }
+
+    @Test
+    public void findsServicesOfAnOrganization() throws JAXRException {
+        Collection services = queryManager.findServices(bakery.getKey(), null,
+        Collections.singleton("%"), null, null).getCollection();
+        assertEquals(1, services.size());
+        assertEquals("Acme Bakery service", ((Service) services.iterator().next()).getName().getValue());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void followsAssociationsOverSeveralHops() throws JAXRException {
+        Concept supplies = associationType("Supplies");
+        Concept owns = associationType("Owns");
+        Association bakeryToGrocer = associate(bakery, grocer, supplies);
+        Association grocerToOutfitter = associate(grocer, outfitter, supplies);
+        associate(outfitter, bakery, owns);
+        AssociationQueryManager associations = (AssociationQueryManager) queryManager;
+
+        assertFound(associations.findAssociatedObjects(bakery.getKey(), AssociationQueryManager.OUTGOING, 1,
+        Collections.singleton(supplies)).getCollection(), new Organization[] {grocer});
+        Collection found = associations.findAssociatedObjects(bakery.getKey(), AssociationQueryManager.OUTGOING,
+        Integer.MAX_VALUE, Collections.singleton(supplies)).getCollection();
+        assertEquals(Arrays.asList(new Object[] {"acme grocer", "Zenith Outfitters"}), names(found));
+        assertFound(associations.findAssociatedObjects(outfitter.getKey(), AssociationQueryManager.INCOMING, 5,
+        Collections.singleton(supplies.getKey().getId())).getCollection(), new Organization[] {bakery, grocer});
+        assertFound(associations.findAssociatedObjects(grocer.getKey(), AssociationQueryManager.BOTH, 1, null)
+        .getCollection(), new Organization[] {bakery, outfitter});
+
+        assertTrue(associations.isReachable(bakery.getKey(), outfitter.getKey(), AssociationQueryManager.OUTGOING,
+        2, Collections.singleton(supplies)));
+        assertFalse(associations.isReachable(bakery.getKey(), outfitter.getKey(), AssociationQueryManager.OUTGOING,
+        1, null));
+        assertTrue(associations.createsCycle(outfitter.getKey(), bakery.getKey(), Collections.singleton(supplies)));
+        assertFalse(associations.createsCycle(bakery.getKey(), outfitter.getKey(), Collections.singleton(supplies)));
+        assertTrue(associations.createsCycle(bakery.getKey(), outfitter.getKey(), null));
+
+        List path = new ArrayList(associations.findAssociationPath(bakery.getKey(), outfitter.getKey(),
+        AssociationQueryManager.OUTGOING, 5, Collections.singleton(supplies)).getCollection());
+        assertEquals(2, path.size());
+        assertEquals(bakeryToGrocer.getKey().getId(), ((Association) path.get(0)).getKey().getId());
+        assertEquals(grocerToOutfitter.getKey().getId(), ((Association) path.get(1)).getKey().getId());
+        assertTrue(associations.findAssociationPath(outfitter.getKey(), grocer.getKey(),
+        AssociationQueryManager.OUTGOING, 5, Collections.singleton(supplies)).getCollection().isEmpty());
+
+        lifeCycleManager.deleteAssociations(Collections.singleton(grocerToOutfitter.getKey()));
+        assertFalse(associations.isReachable(bakery.getKey(), outfitter.getKey(), AssociationQueryManager.OUTGOING,
+        5, Collections.singleton(supplies)));
+    }
+
+    @Test
+    public void invalidTraversalsAreRejected() throws JAXRException {
+        AssociationQueryManager associations = (AssociationQueryManager) queryManager;
+        Concept unsaved = lifeCycleManager.createConcept(null, "Unsaved", "Unsaved");
+        unsaved.setKey(null);
+        Object[][] calls = {
+            {Integer.valueOf(0), Integer.valueOf(1), null},
+            {Integer.valueOf(AssociationQueryManager.BOTH), Integer.valueOf(-1), null},
+            {Integer.valueOf(AssociationQueryManager.BOTH), Integer.valueOf(1), Collections.singleton(unsaved)}};
+        for (int i = 0; i < calls.length; i++) {
+            try {
+                associations.findAssociatedObjects(bakery.getKey(), ((Integer) calls[i][0]).intValue(),
+                ((Integer) calls[i][1]).intValue(), (Collection) calls[i][2]);
+                fail(Arrays.asList(calls[i]).toString());
+            } catch (InvalidRequestException e) {
+                // expected
+            }
+        }
+    }
+
+    private Concept associationType(String name) throws JAXRException {
+        Concept type = lifeCycleManager.createConcept(null, name, name);
+        lifeCycleManager.saveConcepts(Collections.singleton(type));
+        return type;
+    }
+
+    private Association associate(Organization source, Organization target, Concept type) throws JAXRException {
+        Association association = lifeCycleManager.createAssociation(target, type);
+        source.addAssociation(association);
+        lifeCycleManager.saveAssociations(Collections.singleton(association), false);
+        return association;
+    }
+
+    private Organization organization(String name, Concept[] concepts) throws JAXRException {
+        Organization organization = lifeCycleManager.createOrganization(name);
+        for (int i = 0; i < concepts.length; i++) {
+            organization.addClassification(lifeCycleManager.createClassification(concepts[i]));
+        }
+        organization.addService(lifeCycleManager.createService(name + " service"));
+        return organization;
+    }
+
+    private Collection findByName(String qualifier, String pattern) throws JAXRException {
+        return queryManager.findOrganizations(qualifier == null ? null : Collections.singleton(qualifier),
+        Collections.singleton(pattern), null, null, null, null).getCollection();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Collection findByClassifications(Collection qualifiers, Concept[] concepts) throws JAXRException {
+        Collection classifications = new ArrayList();
+        for (int i = 0; i < concepts.length; i++) {
+            classifications.add(lifeCycleManager.createClassification(concepts[i]));
+        }
+        return queryManager.findOrganizations(qualifiers, null, classifications, null, null, null).getCollection();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List names(Collection objects) throws JAXRException {
+        List names = new ArrayList();
+        for (Iterator i = objects.iterator(); i.hasNext();) {
+            names.add(((RegistryObject) i.next()).getName().getValue());
+        }
+        return names;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void assertFound(Collection found, Organization[] expected) throws JAXRException {
+        Set ids = new HashSet();
+        for (Iterator i = found.iterator(); i.hasNext();) {
+            ids.add(((RegistryObject) i.next()).getKey().getId());
+        }
+        Set expectedIds = new HashSet();
+        for (int i = 0; i < expected.length; i++) {
+            expectedIds.add(expected[i].getKey().getId());
+        }
+        assertEquals(expectedIds, ids);
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.memory;
+
+import java.util.*;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class OrganizationImplTest {
+
+    private Connection connection;
+    private BusinessLifeCycleManager lifeCycleManager;
+
+    @Before
+    public void setUp() throws JAXRException {
+        ConnectionFactory factory = new MemoryConnectionFactory();
+        Properties properties = new Properties();
+        properties.setProperty("javax.xml.registry.queryManagerURL", "memory:" + UUID.randomUUID());
+        factory.setProperties(properties);
+        connection = factory.createConnection();
+        lifeCycleManager = connection.getRegistryService().getBusinessLifeCycleManager();
+    }
+
+    @After
+    public void tearDown() throws JAXRException {
+        connection.close();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void reparentingMovesTheSubtree() throws JAXRException {
+        Organization a = lifeCycleManager.createOrganization("a");
+        Organization b = lifeCycleManager.createOrganization("b");
+        Organization c = lifeCycleManager.createOrganization("c");
+        Organization d = lifeCycleManager.createOrganization("d");
+        Organization e = lifeCycleManager.createOrganization("e");
+        a.addChildOrganization(b);
+        b.addChildOrganization(c);
+        c.addChildOrganization(d);
+        assertEquals(set(new Organization[] {b, c, d}), new HashSet(a.getDescendantOrganizations()));
+        assertSame(a, d.getRootOrganization());
+
+        e.addChildOrganization(c);
+        assertSame(e, c.getParentOrganization());
+        assertEquals(0, b.getChildOrganizationCount());
+        assertEquals(set(new Organization[] {b}), new HashSet(a.getDescendantOrganizations()));
+        assertEquals(set(new Organization[] {c, d}), new HashSet(e.getDescendantOrganizations()));
+        assertSame(e, c.getRootOrganization());
+        assertSame(e, d.getRootOrganization());
+        assertSame(a, b.getRootOrganization());
+
+        e.removeChildOrganization(c);
+        assertNull(c.getParentOrganization());
+        assertSame(c, d.getRootOrganization());
+        assertTrue(e.getDescendantOrganizations().isEmpty());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void cyclesAreRejected() throws JAXRException {
+        Organization a = lifeCycleManager.createOrganization("a");
+        Organization b = lifeCycleManager.createOrganization("b");
+        Organization c = lifeCycleManager.createOrganization("c");
+        a.addChildOrganization(b);
+        b.addChildOrganization(c);
+        assertRejected(a, a);
+        assertRejected(c, a);
+        assertRejected(b, a);
+        // the hierarchy is unchanged
+        assertNull(a.getParentOrganization());
+        assertSame(a, c.getRootOrganization());
+        assertEquals(set(new Organization[] {b, c}), new HashSet(a.getDescendantOrganizations()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void randomChangesMatchTheHierarchy() throws JAXRException {
+        Random random = new Random(2);
+        List organizations = new ArrayList();
+        for (int i = 0; i < 100; i++) {
+            organizations.add(lifeCycleManager.createOrganization("o" + i));
+        }
+        for (int step = 0; step < 3000; step++) {
+            Organization parent = (Organization) organizations.get(random.nextInt(organizations.size()));
+            Organization child = (Organization) organizations.get(random.nextInt(organizations.size()));
+            if (random.nextInt(3) == 0) {
+                parent.removeChildOrganization(child);
+            } else {
+                boolean cycle = parent == child || descendants(child).contains(parent);
+                try {
+                    parent.addChildOrganization(child);
+                    assertFalse(cycle);
+                } catch (InvalidRequestException e) {
+                    assertTrue(cycle);
+                }
+            }
+            if (step % 100 == 0) {
+                for (Iterator i = organizations.iterator(); i.hasNext();) {
+                    Organization o = (Organization) i.next();
+                    Set expected = descendants(o);
+                    assertEquals(expected.size(), o.getDescendantOrganizations().size());
+                    assertEquals(expected, new HashSet(o.getDescendantOrganizations()));
+                    assertSame(root(o), o.getRootOrganization());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void savedHierarchyIsReturnedByQueries() throws JAXRException {
+        Organization a = lifeCycleManager.createOrganization("a");
+        Organization b = lifeCycleManager.createOrganization("b");
+        Organization c = lifeCycleManager.createOrganization("c");
+        a.addChildOrganization(b);
+        b.addChildOrganization(c);
+        lifeCycleManager.saveOrganizations(Arrays.asList(new Object[] {a, b, c}));
+        BusinessQueryManager queryManager = connection.getRegistryService().getBusinessQueryManager();
+        Organization copy = (Organization) queryManager.getRegistryObject(c.getKey().getId());
+        assertEquals("b", copy.getParentOrganization().getName().getValue());
+        assertEquals("a", copy.getRootOrganization().getName().getValue());
+        assertEquals(2, copy.getRootOrganization().getDescendantOrganizations().size());
+    }
+
+    private static void assertRejected(Organization parent, Organization child) throws JAXRException {
+        try {
+            parent.addChildOrganization(child);
+            fail(child.getName().getValue() + " added under " + parent.getName().getValue());
+        } catch (InvalidRequestException e) {
+            // expected
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set descendants(Organization organization) throws JAXRException {
+        Set descendants = new HashSet();
+        for (Iterator i = organization.getChildOrganizations().iterator(); i.hasNext();) {
+            Organization child = (Organization) i.next();
+            descendants.add(child);
+            descendants.addAll(descendants(child));
+        }
+        return descendants;
+    }
+
+    private static Organization root(Organization organization) throws JAXRException {
+        while (organization.getParentOrganization() != null) {
+            organization = organization.getParentOrganization();
+        }
+        return organization;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set set(Organization[] organizations) {
+        return new HashSet(Arrays.asList(organizations));
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.pool;
+
+import java.net.PasswordAuthentication;
+import java.util.*;
+import javax.xml.registry.*;
+import javax.xml.registry.index.AssociationQueryManager;
+import javax.xml.registry.index.SlotQueryManager;
+import javax.xml.registry.infomodel.*;
+import javax.xml.registry.memory.MemoryConnectionFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class PooledConnectionFactoryTest {
+
+    private PooledConnectionFactory pool;
+    private Properties properties;
+
+    @Before
+    public void setUp() throws JAXRException {
+        pool = new PooledConnectionFactory(new MemoryConnectionFactory());
+        properties = new Properties();
+        properties.setProperty("javax.xml.registry.queryManagerURL", "memory:" + UUID.randomUUID());
+        properties.setProperty(PooledConnectionFactory.TIME_BETWEEN_EVICTION_RUNS_MILLIS, "0");
+        pool.setProperties(properties);
+    }
+
+    @After
+    public void tearDown() {
+        pool.close();
+    }
+
+    @Test
+    public void leasedConnectionsAreReturnedAndReused() throws JAXRException {
+        Connection first = pool.createConnection();
+        Connection provider = provider(first);
+        assertEquals(1, pool.getMetrics().getActiveCount());
+        assertNotNull(first.getRegistryService().getBusinessQueryManager());
+        first.close();
+        first.close();
+        assertTrue(first.isClosed());
+        assertFalse(provider.isClosed());
+        assertEquals(0, pool.getMetrics().getActiveCount());
+        assertEquals(1, pool.getMetrics().getIdleCount());
+        try {
+            first.getRegistryService();
+            fail("closed lease returned its RegistryService");
+        } catch (JAXRException e) {
+            // expected
+        }
+
+        Connection second = pool.createConnection();
+        assertSame(provider, provider(second));
+        assertEquals(0, pool.getMetrics().getIdleCount());
+        assertEquals(1, pool.getMetrics().getCreatedCount());
+        assertEquals(2, pool.getMetrics().getBorrowCount());
+        second.close();
+    }
+
+    @Test
+    public void registryServiceStopsWorkingWhenTheLeaseEnds() throws JAXRException {
+        Connection first = pool.createConnection();
+        RegistryService registryService = first.getRegistryService();
+        BusinessQueryManager queryManager = registryService.getBusinessQueryManager();
+        BusinessLifeCycleManager lifeCycleManager = registryService.getBusinessLifeCycleManager();
+        assertSame(queryManager, registryService.getBusinessQueryManager());
+        assertTrue(queryManager instanceof SlotQueryManager);
+        assertTrue(queryManager instanceof AssociationQueryManager);
+        Organization organization = lifeCycleManager.createOrganization("Acme");
+        lifeCycleManager.saveOrganizations(Collections.singleton(organization));
+        assertEquals(1, find(queryManager).size());
+        first.close();
+
+        Connection second = pool.createConnection();
+        assertSame(provider(first), provider(second));
+        try {
+            registryService.getCapabilityProfile();
+            fail("RegistryService of a closed lease was usable");
+        } catch (JAXRException e) {
+            // expected
+        }
+        try {
+            find(queryManager);
+            fail("BusinessQueryManager of a closed lease was usable");
+        } catch (JAXRException e) {
+            // expected
+        }
+        try {
+            lifeCycleManager.createOrganization("Other");
+            fail("BusinessLifeCycleManager of a closed lease was usable");
+        } catch (JAXRException e) {
+            // expected
+        }
+        assertEquals(1, find(second.getRegistryService().getBusinessQueryManager()).size());
+        second.close();
+    }
+
+    @Test
+    public void evictionClosesIdleConnectionsAndKeepsMinIdle() throws JAXRException {
+        properties.setProperty(PooledConnectionFactory.MIN_EVICTABLE_IDLE_TIME_MILLIS, "0");
+        pool.setProperties(properties);
+        Connection a = pool.createConnection();
+        Connection b = pool.createConnection();
+        Connection providerA = provider(a);
+        a.close();
+        b.close();
+        assertEquals(2, pool.getMetrics().getIdleCount());
+        pool.evict();
+        assertEquals(0, pool.getMetrics().getIdleCount());
+        assertEquals(2, pool.getMetrics().getEvictionCount());
+        assertTrue(providerA.isClosed());
+
+        properties.setProperty(PooledConnectionFactory.MIN_IDLE, "1");
+        pool.setProperties(properties);
+        pool.evict();
+        assertEquals(1, pool.getMetrics().getIdleCount());
+        assertEquals(3, pool.getMetrics().getCreatedCount());
+        pool.evict();
+        assertEquals(1, pool.getMetrics().getIdleCount());
+        assertEquals(3, pool.getMetrics().getCreatedCount());
+    }
+
+    @Test
+    public void changedCredentialsMoveTheLease() throws JAXRException {
+        Connection leased = pool.createConnection();
+        Connection provider = provider(leased);
+        leased.setCredentials(credentials("alice", "secret"));
+        leased.close();
+
+        Connection anonymous = pool.createConnection();
+        assertNotSame(provider, provider(anonymous));
+        anonymous.close();
+        Connection alice = pool.createConnection(credentials("alice", "secret"));
+        assertSame(provider, provider(alice));
+        alice.close();
+    }
+
+    @Test
+    public void leasesAreBoundedByMaxActive() throws JAXRException {
+        properties.setProperty(PooledConnectionFactory.MAX_ACTIVE, "1");
+        properties.setProperty(PooledConnectionFactory.MAX_WAIT, "0");
+        pool.setProperties(properties);
+        Connection leased = pool.createConnection();
+        try {
+            pool.createConnection();
+            fail("second lease granted");
+        } catch (JAXRException e) {
+            // expected
+        }
+        assertEquals(1, pool.getMetrics().getTimeoutCount());
+        leased.close();
+        pool.createConnection().close();
+        pool.close();
+        try {
+            pool.createConnection();
+            fail("closed pool granted a lease");
+        } catch (JAXRException e) {
+            // expected
+        }
+        assertEquals(0, pool.getMetrics().getIdleCount());
+    }
+
+    @Test
+    public void equalPasswordsShareAPartition() throws JAXRException {
+        Connection first = pool.createConnection(credentials("alice", "secret"));
+        Connection provider = provider(first);
+        first.close();
+
+        Connection second = pool.createConnection(credentials("alice", "secret"));
+        assertSame(provider, provider(second));
+        second.close();
+
+        Connection other = pool.createConnection(credentials("alice", "other"));
+        assertNotSame(provider, provider(other));
+        other.close();
+        assertEquals(2, pool.getMetrics().getCreatedCount());
+        assertEquals(2, pool.getMetrics().getIdleCount());
+        assertEquals(2, pool.getPartitionCount());
+    }
+
+    @Test
+    public void partitionKeysCompareCredentialsByValue() {
+        assertEquals(PooledConnectionFactory.partitionKey(credentials("bob", "pw")),
+        PooledConnectionFactory.partitionKey(credentials("bob", "pw")));
+        assertFalse(PooledConnectionFactory.partitionKey(credentials("bob", "pw")).equals(
+        PooledConnectionFactory.partitionKey(credentials("bob", "pw2"))));
+        assertFalse(PooledConnectionFactory.partitionKey(credentials("bob", "pw")).equals(
+        PooledConnectionFactory.partitionKey(credentials("carol", "pw"))));
+        assertEquals(PooledConnectionFactory.partitionKey(credentials(null, "pw")),
+        PooledConnectionFactory.partitionKey(credentials(null, "pw")));
+        assertTrue(PooledConnectionFactory.partitionKey(null).isEmpty());
+        assertTrue(PooledConnectionFactory.partitionKey(Collections.EMPTY_SET).isEmpty());
+    }
+
+    @Test
+    public void idleConnectionsAreCappedAcrossPartitions() throws JAXRException {
+        properties.setProperty(PooledConnectionFactory.MAX_TOTAL_IDLE, "2");
+        pool.setProperties(properties);
+        Connection a = pool.createConnection(credentials("a", "pw"));
+        Connection b = pool.createConnection(credentials("b", "pw"));
+        Connection c = pool.createConnection(credentials("c", "pw"));
+        Connection providerB = provider(b);
+        a.close();
+        b.close();
+        c.close();
+        assertEquals(2, pool.getMetrics().getIdleCount());
+        assertEquals(1, pool.getMetrics().getEvictionCount());
+        assertEquals(1, pool.getMetrics().getDestroyedCount());
+        // the Connection of a was idle the longest and made room for c
+        assertEquals(2, pool.getPartitionCount());
+
+        Connection again = pool.createConnection(credentials("b", "pw"));
+        assertSame(providerB, provider(again));
+        again.close();
+    }
+
+    @Test
+    public void unusedPartitionsAreDropped() throws JAXRException {
+        properties.setProperty(PooledConnectionFactory.MAX_IDLE, "0");
+        pool.setProperties(properties);
+        for (int i = 0; i < 100; i++) {
+            pool.createConnection(credentials("user" + i, "pw")).close();
+        }
+        assertEquals(0, pool.getPartitionCount());
+        assertEquals(100, pool.getMetrics().getDestroyedCount());
+
+        Connection leased = pool.createConnection(credentials("leased", "pw"));
+        leased.setCredentials(credentials("moved", "pw"));
+        assertEquals(1, pool.getPartitionCount());
+        leased.close();
+        assertEquals(0, pool.getPartitionCount());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Collection find(BusinessQueryManager queryManager) throws JAXRException {
+        return queryManager.findOrganizations(null, Collections.singleton("Acme"), null, null, null, null)
+        .getCollection();
+    }
+
+    private static Connection provider(Connection leased) {
+        return ((PooledConnection) leased).getConnection();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set credentials(String userName, String password) {
+        Set credentials = new HashSet();
+        credentials.add(new PasswordAuthentication(userName, password.toCharArray()));
+        return credentials;
+    }
+}
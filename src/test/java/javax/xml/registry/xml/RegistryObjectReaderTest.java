@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package javax.xml.registry.xml;
+
+import java.io.*;
+import java.util.*;
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+import javax.xml.registry.memory.MemoryConnectionFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamWriter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class RegistryObjectReaderTest {
+
+    private Connection source;
+    private Connection target;
+    private BusinessLifeCycleManager lifeCycleManager;
+    private ClassificationScheme scheme;
+    private List organizations;
+    private Association association;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() throws JAXRException {
+        source = connect();
+        target = connect();
+        lifeCycleManager = source.getRegistryService().getBusinessLifeCycleManager();
+        scheme = lifeCycleManager.createClassificationScheme("Industry", "Industries");
+        Concept parent = lifeCycleManager.createConcept(scheme, "Food", "1");
+        scheme.addChildConcept(parent);
+        Concept child = lifeCycleManager.createConcept(parent, "Bakery", "11");
+        parent.addChildConcept(child);
+        lifeCycleManager.saveClassificationSchemes(Collections.singleton(scheme));
+
+        organizations = new ArrayList();
+        for (int i = 0; i < 3; i++) {
+            Organization organization = lifeCycleManager.createOrganization("Acme <&> \"" + i + "\"");
+            organization.setDescription(lifeCycleManager.createInternationalString(Locale.GERMAN, "B\u00e4ckerei " + i));
+            organization.addClassification(lifeCycleManager.createClassification(child));
+            organization.addSlot(lifeCycleManager.createSlot("color", Arrays.asList(new String[] {"red", "blue"}), "string"));
+            Service service = lifeCycleManager.createService("Orders " + i);
+            ServiceBinding binding = lifeCycleManager.createServiceBinding();
+            binding.setValidateURI(false);
+            binding.setAccessURI("http://example.com/" + i);
+            SpecificationLink link = lifeCycleManager.createSpecificationLink();
+            link.setSpecificationObject(parent);
+            binding.addSpecificationLink(link);
+            service.addServiceBinding(binding);
+            organization.addService(service);
+            User user = lifeCycleManager.createUser();
+            user.setPersonName(lifeCycleManager.createPersonName("Person " + i));
+            organization.addUser(user);
+            organization.setPrimaryContact(user);
+            organizations.add(organization);
+        }
+        lifeCycleManager.saveOrganizations(organizations);
+        association = lifeCycleManager.createAssociation((Organization) organizations.get(2), parent);
+        association.setSourceObject((Organization) organizations.get(0));
+        lifeCycleManager.saveAssociations(Collections.singleton(association), false);
+    }
+
+    @After
+    public void tearDown() throws JAXRException {
+        source.close();
+        target.close();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void roundTripsCollection() throws Exception {
+        // the Association comes first, so its references are read before their objects
+        List objects = new ArrayList();
+        objects.add(association);
+        objects.add(scheme);
+        objects.addAll(organizations);
+        List read = read(writeCollection(objects));
+        assertEquals(objects.size(), read.size());
+        BulkResponse response = target.getRegistryService().getBusinessLifeCycleManager().saveObjects(read);
+        assertEquals(BulkResponse.STATUS_SUCCESS, response.getStatus());
+
+        BusinessQueryManager sourceQueries = source.getRegistryService().getBusinessQueryManager();
+        BusinessQueryManager targetQueries = target.getRegistryService().getBusinessQueryManager();
+        for (Iterator i = objects.iterator(); i.hasNext();) {
+            String id = ((RegistryObject) i.next()).getKey().getId();
+            RegistryObject copy = targetQueries.getRegistryObject(id);
+            assertNotNull(id, copy);
+            assertEquals(sourceQueries.getRegistryObject(id).toXML(), copy.toXML());
+        }
+        Association copy = (Association) targetQueries.getRegistryObject(association.getKey().getId());
+        assertEquals(association.getSourceObject().getKey().getId(), copy.getSourceObject().getKey().getId());
+        assertEquals(association.getTargetObject().getKey().getId(), copy.getTargetObject().getKey().getId());
+        assertTrue(copy.getTargetObject() instanceof Organization);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void roundTripsSingleObject() throws Exception {
+        // references outside the document are looked up in the target registry
+        target.getRegistryService().getBusinessLifeCycleManager().saveObjects(read(write(scheme)));
+        Organization organization = (Organization) organizations.get(1);
+        List read = read(write(organization));
+        assertEquals(1, read.size());
+        Organization copy = (Organization) read.get(0);
+        assertEquals(organization.getKey().getId(), copy.getKey().getId());
+        assertEquals("Acme <&> \"1\"", copy.getName().getValue());
+        assertEquals("B\u00e4ckerei 1", copy.getDescription().getValue(Locale.GERMAN));
+        assertEquals(Arrays.asList(new String[] {"red", "blue"}), new ArrayList(copy.getSlot("color").getValues()));
+        assertEquals(1, copy.getServices().size());
+        Service service = (Service) copy.getServices().iterator().next();
+        assertSame(copy, service.getProvidingOrganization());
+        assertEquals(RegistryObjectWriter.toXML(organization), RegistryObjectWriter.toXML(copy));
+    }
+
+    @Test
+    public void unresolvedReferencesAreLeftUnset() throws Exception {
+        Organization organization = (Organization) organizations.get(0);
+        Organization copy = (Organization) read(write(organization)).get(0);
+        Service service = (Service) copy.getServices().iterator().next();
+        ServiceBinding binding = (ServiceBinding) service.getServiceBindings().iterator().next();
+        SpecificationLink link = (SpecificationLink) binding.getSpecificationLinks().iterator().next();
+        assertNull(link.getSpecificationObject());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void writeAllRoundTripsQueryResults() throws Exception {
+        BulkResponse response = source.getRegistryService().getBusinessQueryManager()
+        .findOrganizations(null, Collections.singleton("Acme%"), null, null, null, null);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        RegistryObjectWriter.writeAll(response, out);
+        List read = read(out.toByteArray());
+        assertEquals(organizations.size(), read.size());
+        Set ids = new HashSet();
+        for (Iterator i = read.iterator(); i.hasNext();) {
+            ids.add(((RegistryObject) i.next()).getKey().getId());
+        }
+        for (Iterator i = organizations.iterator(); i.hasNext();) {
+            assertTrue(ids.contains(((RegistryObject) i.next()).getKey().getId()));
+        }
+    }
+
+    private static Connection connect() throws JAXRException {
+        ConnectionFactory factory = new MemoryConnectionFactory();
+        Properties properties = new Properties();
+        properties.setProperty("javax.xml.registry.queryManagerURL", "memory:" + UUID.randomUUID());
+        factory.setProperties(properties);
+        return factory.createConnection();
+    }
+
+    private static byte[] write(RegistryObject object) throws JAXRException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        RegistryObjectWriter.write(object, out);
+        return out.toByteArray();
+    }
+
+    private static byte[] writeCollection(List objects) throws Exception {
+        StringWriter out = new StringWriter();
+        XMLStreamWriter writer = XMLOutputFactory.newInstance().createXMLStreamWriter(out);
+        writer.writeStartDocument();
+        writer.setDefaultNamespace(RegistryObjectWriter.NAMESPACE);
+        writer.writeStartElement(RegistryObjectWriter.NAMESPACE, RegistryObjectWriter.COLLECTION);
+        writer.writeDefaultNamespace(RegistryObjectWriter.NAMESPACE);
+        for (Iterator i = objects.iterator(); i.hasNext();) {
+            RegistryObjectWriter.write((RegistryObject) i.next(), writer);
+        }
+        writer.writeEndElement();
+        writer.writeEndDocument();
+        writer.close();
+        return out.toString().getBytes("UTF-8");
+    }
+
+    @SuppressWarnings("unchecked")
+    private List read(byte[] xml) throws JAXRException {
+        RegistryObjectReader reader = new RegistryObjectReader(new ByteArrayInputStream(xml),
+        target.getRegistryService().getBusinessLifeCycleManager());
+        List objects = new ArrayList();
+        while (reader.hasNext()) {
+            objects.add(reader.next());
+        }
+        reader.close();
+        return objects;
+    }
+}